@@ -0,0 +1,127 @@
+package com.etalente.backend.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.Random;
+
+/**
+ * Deterministic JSON Resume profiles shaped like large LinkedIn exports, shared by the benchmarks.
+ */
+public final class BenchmarkProfiles {
+
+    private static final String[] COMPANIES = {
+            "Acme", "Globex", "Initech", "Umbrella", "Hooli", "Stark Industries", "Wayne Enterprises",
+            "Cyberdyne", "Soylent", "Vandelay Industries", "Pied Piper", "Massive Dynamic"};
+    private static final String[] POSITIONS = {
+            "Software Engineer", "Senior Software Engineer", "Staff Engineer", "Engineering Manager",
+            "Data Scientist", "Product Manager", "DevOps Engineer", "QA Analyst"};
+    private static final String[] SKILLS = {
+            "Java", "Spring Boot", "PostgreSQL", "Kotlin", "Python", "AWS", "Docker", "Kubernetes", "React",
+            "TypeScript", "Terraform", "Kafka", "Redis", "GraphQL", "Hibernate", "Go", "Rust", "Scala",
+            "Elasticsearch", "Linux", "CI/CD", "Microservices", "Machine Learning", "SQL"};
+    private static final String[] INSTITUTIONS = {
+            "University of Cape Town", "Stellenbosch University", "University of the Witwatersrand",
+            "University of Pretoria", "Rhodes University"};
+    private static final String[] CITIES = {"Cape Town", "Johannesburg", "Durban", "Pretoria", "Gqeberha"};
+
+    private BenchmarkProfiles() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Builds a profile with {@code entries} items in each array section. The same seed always yields
+     * the same profile, so two profiles built from overlapping seeds share a predictable set of items.
+     */
+    public static ObjectNode profile(ObjectMapper objectMapper, long seed, int entries) {
+        Random random = new Random(seed);
+        ObjectNode profile = objectMapper.createObjectNode();
+
+        ObjectNode basics = profile.putObject("basics");
+        basics.put("name", "Candidate " + seed);
+        basics.put("email", "candidate" + seed + "@example.com");
+        basics.put("label", pick(random, POSITIONS));
+        basics.put("summary", sentence(random, 40));
+        basics.putObject("location").put("city", pick(random, CITIES)).put("countryCode", "ZA");
+        ArrayNode profiles = basics.putArray("profiles");
+        profiles.addObject().put("network", "LinkedIn").put("username", "candidate-" + seed);
+        profiles.addObject().put("network", "GitHub").put("username", "candidate" + seed);
+
+        profile.put("experienceYears", random.nextInt(25));
+
+        ArrayNode work = profile.putArray("work");
+        for (int i = 0; i < entries; i++) {
+            ObjectNode job = work.addObject();
+            job.put("name", pick(random, COMPANIES) + " " + i);
+            job.put("position", pick(random, POSITIONS));
+            job.put("startDate", (2000 + i % 25) + "-0" + (1 + i % 9));
+            job.put("endDate", (2001 + i % 25) + "-0" + (1 + i % 9));
+            job.put("summary", sentence(random, 30));
+            ArrayNode highlights = job.putArray("highlights");
+            for (int h = 0; h < 4; h++) {
+                highlights.add(sentence(random, 12));
+            }
+        }
+
+        ArrayNode education = profile.putArray("education");
+        for (int i = 0; i < Math.max(1, entries / 4); i++) {
+            education.addObject()
+                    .put("institution", pick(random, INSTITUTIONS))
+                    .put("area", "Computer Science " + i)
+                    .put("studyType", i % 2 == 0 ? "Bachelor" : "Master")
+                    .put("startDate", (1995 + i) + "-02");
+        }
+
+        ArrayNode skills = profile.putArray("skills");
+        for (int i = 0; i < entries; i++) {
+            ObjectNode skill = skills.addObject();
+            skill.put("name", SKILLS[i % SKILLS.length] + (i >= SKILLS.length ? " " + i : ""));
+            skill.put("level", random.nextBoolean() ? "Advanced" : "Intermediate");
+            ArrayNode keywords = skill.putArray("keywords");
+            keywords.add(pick(random, SKILLS)).add(pick(random, SKILLS));
+        }
+
+        for (String section : new String[]{"projects", "certificates", "awards", "publications", "volunteer"}) {
+            ArrayNode items = profile.putArray(section);
+            for (int i = 0; i < Math.max(1, entries / 2); i++) {
+                items.addObject()
+                        .put("name", section + " " + i)
+                        .put("title", section + " " + i)
+                        .put("organization", pick(random, COMPANIES))
+                        .put("position", pick(random, POSITIONS))
+                        .put("date", (2010 + i % 15) + "-06-01")
+                        .put("summary", sentence(random, 20));
+            }
+        }
+
+        ArrayNode languages = profile.putArray("languages");
+        languages.addObject().put("language", "English").put("fluency", "Native");
+        languages.addObject().put("language", "isiXhosa").put("fluency", "Conversational");
+
+        ArrayNode interests = profile.putArray("interests");
+        for (int i = 0; i < Math.max(1, entries / 4); i++) {
+            interests.addObject().put("name", "Interest " + i);
+        }
+        return profile;
+    }
+
+    public static String city(long seed) {
+        return CITIES[(int) Math.floorMod(seed, CITIES.length)];
+    }
+
+    private static String pick(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static String sentence(Random random, int words) {
+        StringBuilder sentence = new StringBuilder(words * 8);
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                sentence.append(' ');
+            }
+            sentence.append(pick(random, SKILLS).toLowerCase());
+        }
+        return sentence.toString();
+    }
+}
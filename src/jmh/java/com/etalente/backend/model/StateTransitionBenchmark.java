@@ -0,0 +1,48 @@
+package com.etalente.backend.model;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Transition checks over every (from, to) pair, as run by bulk status updates and state machines.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class StateTransitionBenchmark {
+
+    private final JobPostStatus[] jobPostStatuses = JobPostStatus.values();
+    private final JobApplicationStatus[] applicationStatuses = JobApplicationStatus.values();
+
+    @Benchmark
+    public void jobPostIsValidTransition(Blackhole blackhole) {
+        for (JobPostStatus from : jobPostStatuses) {
+            for (JobPostStatus to : jobPostStatuses) {
+                blackhole.consume(StateTransition.isValidTransition(from, to));
+            }
+        }
+    }
+
+    @Benchmark
+    public void jobApplicationIsValidTransition(Blackhole blackhole) {
+        for (JobApplicationStatus from : applicationStatuses) {
+            for (JobApplicationStatus to : applicationStatuses) {
+                blackhole.consume(JobApplicationStateTransition.isValidTransition(from, to));
+            }
+        }
+    }
+
+    @Benchmark
+    public void jobApplicationValidTransitionsFrom(Blackhole blackhole) {
+        for (JobApplicationStatus from : applicationStatuses) {
+            blackhole.consume(JobApplicationStateTransition.getValidTransitionsFrom(from));
+        }
+    }
+}
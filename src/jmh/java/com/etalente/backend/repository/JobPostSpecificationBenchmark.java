@@ -0,0 +1,157 @@
+package com.etalente.backend.repository;
+
+import com.etalente.backend.model.JobPost;
+import jakarta.persistence.Entity;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Job search predicate construction and Criteria to SQL translation, without a database.
+ * <p>
+ * Hibernate is bootstrapped against the PostgreSQL dialect with JDBC metadata access disabled. A
+ * {@link StatementInspector} captures the rendered SQL and aborts execution before a connection is
+ * requested, so {@link #translateToSql()} measures SQM interpretation and SQL rendering only.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JobPostSpecificationBenchmark {
+
+    @Param({"none", "search", "all"})
+    public String filters;
+
+    private SessionFactory sessionFactory;
+    private Session session;
+    private Specification<JobPost> specification;
+
+    @Setup
+    public void setUp() throws ClassNotFoundException {
+        Map<String, Object> settings = new HashMap<>();
+        settings.put(AvailableSettings.DIALECT, PostgreSQLDialect.class.getName());
+        settings.put("hibernate.boot.allow_jdbc_metadata_access", false);
+        settings.put(AvailableSettings.HBM2DDL_AUTO, "none");
+        settings.put(AvailableSettings.CONNECTION_PROVIDER, new UnavailableConnectionProvider());
+        settings.put(AvailableSettings.STATEMENT_INSPECTOR, new CapturingStatementInspector());
+
+        StandardServiceRegistry registry = new StandardServiceRegistryBuilder().applySettings(settings).build();
+        MetadataSources sources = new MetadataSources(registry);
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter(new AnnotationTypeFilter(Entity.class));
+        for (BeanDefinition entity : scanner.findCandidateComponents(JobPost.class.getPackageName())) {
+            sources.addAnnotatedClass(Class.forName(entity.getBeanClassName()));
+        }
+        sessionFactory = sources.buildMetadata().buildSessionFactory();
+        session = sessionFactory.openSession();
+
+        specification = switch (filters) {
+            case "search" -> JobPostSpecification.withFilters("engineer", null, null, null, null);
+            case "all" -> JobPostSpecification.withFilters("engineer", "java",
+                    List.of("Senior", "Mid"), List.of("Full-time", "Contract"), List.of("Remote", "Hybrid"));
+            default -> JobPostSpecification.withFilters(null, null, null, null, null);
+        };
+        specification = specification.and(JobPostSpecification.isPublic());
+    }
+
+    @TearDown
+    public void tearDown() {
+        session.close();
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public CriteriaQuery<JobPost> buildPredicate() {
+        CriteriaBuilder criteriaBuilder = session.getCriteriaBuilder();
+        CriteriaQuery<JobPost> query = criteriaBuilder.createQuery(JobPost.class);
+        Root<JobPost> root = query.from(JobPost.class);
+        query.where(specification.toPredicate(root, query, criteriaBuilder));
+        return query;
+    }
+
+    @Benchmark
+    public String translateToSql() {
+        CriteriaQuery<JobPost> query = buildPredicate();
+        try {
+            session.createQuery(query).setMaxResults(20).getResultList();
+        } catch (RuntimeException e) {
+            for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+                if (cause instanceof CapturedSql captured) {
+                    return captured.sql;
+                }
+            }
+            throw e;
+        }
+        throw new IllegalStateException("Query executed without passing through the statement inspector");
+    }
+
+    private static final class CapturedSql extends RuntimeException {
+        private final String sql;
+
+        CapturedSql(String sql) {
+            super(null, null, false, false);
+            this.sql = sql;
+        }
+    }
+
+    private static final class CapturingStatementInspector implements StatementInspector {
+        @Override
+        public String inspect(String sql) {
+            throw new CapturedSql(sql);
+        }
+    }
+
+    private static final class UnavailableConnectionProvider implements ConnectionProvider {
+        @Override
+        public Connection getConnection() throws SQLException {
+            throw new SQLException("No database is available to benchmarks");
+        }
+
+        @Override
+        public void closeConnection(Connection connection) {
+        }
+
+        @Override
+        public boolean supportsAggressiveRelease() {
+            return false;
+        }
+
+        @Override
+        public boolean isUnwrappableAs(Class<?> unwrapType) {
+            return false;
+        }
+
+        @Override
+        public <T> T unwrap(Class<T> unwrapType) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
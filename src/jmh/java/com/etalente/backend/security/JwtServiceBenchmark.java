@@ -0,0 +1,53 @@
+package com.etalente.backend.security;
+
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Base64;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token issue, parse and verify costs; every authenticated request pays for at least one parse.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtServiceBenchmark {
+
+    private JwtService jwtService;
+    private String userId;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        byte[] secret = new byte[32];
+        for (int i = 0; i < secret.length; i++) {
+            secret[i] = (byte) (i * 31 + 7);
+        }
+        jwtService = new JwtService(Base64.getEncoder().encodeToString(secret), TimeUnit.HOURS.toMillis(1));
+        userId = UUID.nameUUIDFromBytes("benchmark-user".getBytes()).toString();
+        token = jwtService.generateToken(userId, "benchmark@example.com", "CANDIDATE", false, "benchmark");
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken(userId, "benchmark@example.com", "CANDIDATE", false, "benchmark");
+    }
+
+    @Benchmark
+    public Claims parseClaims() {
+        return jwtService.extractAllClaims(token);
+    }
+
+    @Benchmark
+    public boolean verifyToken() {
+        return jwtService.isTokenValid(token, userId);
+    }
+}
@@ -0,0 +1,81 @@
+package com.etalente.backend.service.impl;
+
+import com.etalente.backend.benchmark.BenchmarkProfiles;
+import com.etalente.backend.dto.ApplicantSummaryDto;
+import com.etalente.backend.model.JobApplication;
+import com.etalente.backend.model.JobApplicationStatus;
+import com.etalente.backend.model.JobPost;
+import com.etalente.backend.model.Role;
+import com.etalente.backend.model.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity-to-DTO conversion for one page of applicants whose profiles are LinkedIn-sized.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ApplicantConversionBenchmark {
+
+    private static final int PAGE_SIZE = 50;
+
+    @Param({"10", "100"})
+    public int profileEntries;
+
+    private ApplicantServiceImpl applicantService;
+    private List<JobApplication> applications;
+
+    @Setup
+    public void createApplications() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        applicantService = new ApplicantServiceImpl(null, null, null, null, null, null);
+
+        JobPost jobPost = new JobPost();
+        jobPost.setId(UUID.nameUUIDFromBytes("job".getBytes()));
+        jobPost.setTitle("Senior Software Engineer");
+        jobPost.setLocation(objectMapper.createObjectNode().put("city", "Cape Town").put("state", "Western Cape"));
+
+        applications = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            User candidate = new User();
+            candidate.setId(UUID.nameUUIDFromBytes(("candidate-" + i).getBytes()));
+            candidate.setRole(Role.CANDIDATE);
+            candidate.setFirstName("Candidate");
+            candidate.setLastName(String.valueOf(i));
+            candidate.setProfile(BenchmarkProfiles.profile(objectMapper, i, profileEntries));
+
+            JobApplication application = new JobApplication();
+            application.setId(UUID.nameUUIDFromBytes(("application-" + i).getBytes()));
+            application.setCandidate(candidate);
+            application.setJobPost(jobPost);
+            application.setStatus(JobApplicationStatus.APPLIED);
+            application.setApplicationDate(LocalDateTime.of(2025, 1, 1, 9, 0).plusHours(i));
+            applications.add(application);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PAGE_SIZE)
+    public void convertToDto(Blackhole blackhole) {
+        for (JobApplication application : applications) {
+            ApplicantSummaryDto dto = applicantService.convertToDto(application);
+            blackhole.consume(dto);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.etalente.backend.service.impl;
+
+import com.etalente.backend.benchmark.BenchmarkProfiles;
+import com.etalente.backend.dto.ApplicantSummaryDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CSV export throughput in rows per millisecond, written to a discarding stream so only formatting
+ * and encoding are measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ExportServiceBenchmark {
+
+    private static final int ROWS = 10_000;
+
+    @Param({"plain", "quoted"})
+    public String content;
+
+    private final ExportServiceImpl exportService = new ExportServiceImpl(new SimpleMeterRegistry());
+    private List<ApplicantSummaryDto> applicants;
+
+    @Setup
+    public void createApplicants() {
+        applicants = new ArrayList<>(ROWS);
+        LocalDateTime applied = LocalDateTime.of(2025, 1, 1, 9, 0);
+        for (int i = 0; i < ROWS; i++) {
+            String name = "quoted".equals(content) ? "\"Candidate\", " + i : "Candidate " + i;
+            applicants.add(new ApplicantSummaryDto(
+                    UUID.nameUUIDFromBytes(("applicant-" + i).getBytes()).toString(),
+                    name,
+                    "Senior Software Engineer",
+                    UUID.nameUUIDFromBytes(("job-" + (i % 50)).getBytes()).toString(),
+                    null,
+                    null,
+                    List.of("Java", "Spring Boot", "PostgreSQL"),
+                    i % 20,
+                    BenchmarkProfiles.city(i),
+                    applied.plusMinutes(i),
+                    "APPLIED"));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void exportToCsv() {
+        exportService.exportToCsv(applicants, OutputStream.nullOutputStream());
+    }
+}
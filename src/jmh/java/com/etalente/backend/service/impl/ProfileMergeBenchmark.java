@@ -0,0 +1,148 @@
+package com.etalente.backend.service.impl;
+
+import com.etalente.backend.benchmark.BenchmarkProfiles;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Merges a resume extraction into an existing profile where half of every section overlaps.
+ * {@code legacy} reproduces the toString/List.contains merge that ProfileServiceImpl used before
+ * {@link ProfileMergeEngine}, so both can be compared in one run.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProfileMergeBenchmark {
+
+    private static final String[] SECTIONS = {
+            "work", "education", "skills", "projects", "awards", "certificates", "interests",
+            "languages", "publications", "references", "volunteer"};
+
+    @Param({"10", "100", "500"})
+    public int entries;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ProfileMergeEngine engine = new ProfileMergeEngine();
+
+    private ObjectNode existingTemplate;
+    private ObjectNode extractedTemplate;
+    private ObjectNode existing;
+    private ObjectNode extracted;
+
+    @Setup(Level.Trial)
+    public void createProfiles() {
+        existingTemplate = BenchmarkProfiles.profile(objectMapper, 1L, entries);
+        extractedTemplate = BenchmarkProfiles.profile(objectMapper, 2L, entries / 2);
+        for (String section : SECTIONS) {
+            JsonNode current = existingTemplate.get(section);
+            if (current == null) {
+                continue;
+            }
+            ArrayNode target = (ArrayNode) extractedTemplate.get(section);
+            for (int i = 0; i < current.size(); i += 2) {
+                target.add(current.get(i).deepCopy());
+            }
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void copyProfiles() {
+        existing = existingTemplate.deepCopy();
+        extracted = extractedTemplate.deepCopy();
+    }
+
+    @Benchmark
+    public ObjectNode engine() {
+        engine.merge(existing, extracted);
+        return existing;
+    }
+
+    @Benchmark
+    public ObjectNode legacy() {
+        legacyMergeJsonNodes(existing, extracted);
+        for (String section : SECTIONS) {
+            legacyMergeArraySection(existing, extracted, section);
+        }
+        return existing;
+    }
+
+    private void legacyMergeArraySection(ObjectNode target, JsonNode source, String sectionName) {
+        JsonNode sourceArray = source.get(sectionName);
+        if (sourceArray == null || !sourceArray.isArray() || sourceArray.isEmpty()) {
+            return;
+        }
+        ArrayNode targetArray;
+        if (target.has(sectionName) && target.get(sectionName).isArray()) {
+            targetArray = (ArrayNode) target.get(sectionName);
+        } else {
+            targetArray = objectMapper.createArrayNode();
+            target.set(sectionName, targetArray);
+        }
+        List<JsonNode> uniqueItems = new ArrayList<>();
+        List<String> seenItems = new ArrayList<>();
+        for (JsonNode item : targetArray) {
+            String itemStr = item.toString();
+            if (!seenItems.contains(itemStr)) {
+                uniqueItems.add(item);
+                seenItems.add(itemStr);
+            }
+        }
+        for (JsonNode item : sourceArray) {
+            String itemStr = item.toString();
+            if (!seenItems.contains(itemStr)) {
+                uniqueItems.add(item);
+                seenItems.add(itemStr);
+            }
+        }
+        targetArray.removeAll();
+        uniqueItems.forEach(targetArray::add);
+    }
+
+    private void legacyMergeJsonNodes(ObjectNode mainNode, JsonNode updateNode) {
+        updateNode.fields().forEachRemaining(entry -> {
+            String fieldName = entry.getKey();
+            JsonNode updateValue = entry.getValue();
+            if ("name".equals(fieldName) || "email".equals(fieldName)) {
+                return;
+            }
+            if (mainNode.has(fieldName)) {
+                JsonNode mainValue = mainNode.get(fieldName);
+                if (mainValue.isObject() && updateValue.isObject()) {
+                    legacyMergeJsonNodes((ObjectNode) mainValue, updateValue);
+                } else if (mainValue.isArray() && updateValue.isArray()) {
+                    ArrayNode mainArray = (ArrayNode) mainValue;
+                    List<String> seenItems = new ArrayList<>();
+                    for (JsonNode item : mainArray) {
+                        seenItems.add(item.toString());
+                    }
+                    for (JsonNode item : updateValue) {
+                        String itemStr = item.toString();
+                        if (!seenItems.contains(itemStr)) {
+                            mainArray.add(item);
+                            seenItems.add(itemStr);
+                        }
+                    }
+                } else {
+                    mainNode.set(fieldName, updateValue);
+                }
+            } else {
+                mainNode.set(fieldName, updateValue.deepCopy());
+            }
+        });
+    }
+}
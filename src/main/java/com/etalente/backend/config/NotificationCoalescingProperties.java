@@ -0,0 +1,49 @@
+package com.etalente.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.Set;
+
+@Component
+@ConfigurationProperties(prefix = "notifications.coalescing")
+public class NotificationCoalescingProperties {
+
+    private boolean enabled = true;
+    private long windowSeconds = 300;
+    private int maxDigestItems = 10;
+    private Set<String> immediateTypes = new HashSet<>();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getWindowSeconds() {
+        return windowSeconds;
+    }
+
+    public void setWindowSeconds(long windowSeconds) {
+        this.windowSeconds = windowSeconds;
+    }
+
+    public int getMaxDigestItems() {
+        return maxDigestItems;
+    }
+
+    public void setMaxDigestItems(int maxDigestItems) {
+        this.maxDigestItems = maxDigestItems;
+    }
+
+    public Set<String> getImmediateTypes() {
+        return immediateTypes;
+    }
+
+    public void setImmediateTypes(Set<String> immediateTypes) {
+        this.immediateTypes = immediateTypes;
+    }
+}
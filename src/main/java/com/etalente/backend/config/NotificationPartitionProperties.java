@@ -0,0 +1,37 @@
+package com.etalente.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "notifications.partitions")
+public class NotificationPartitionProperties {
+
+    private int monthsAhead = 3;
+    private int retentionMonths = 12;
+    private boolean detachOnly = false;
+
+    public int getMonthsAhead() {
+        return monthsAhead;
+    }
+
+    public void setMonthsAhead(int monthsAhead) {
+        this.monthsAhead = monthsAhead;
+    }
+
+    public int getRetentionMonths() {
+        return retentionMonths;
+    }
+
+    public void setRetentionMonths(int retentionMonths) {
+        this.retentionMonths = retentionMonths;
+    }
+
+    public boolean isDetachOnly() {
+        return detachOnly;
+    }
+
+    public void setDetachOnly(boolean detachOnly) {
+        this.detachOnly = detachOnly;
+    }
+}
@@ -1,5 +1,8 @@
 package com.etalente.backend.config;
 
+import com.etalente.backend.observability.IntegrationMetricsExecutionInterceptor;
+import com.etalente.backend.observability.RequestTimingExecutionInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -8,6 +11,7 @@ import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.AwsCredentials;
 import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
@@ -26,7 +30,7 @@ public class S3Config {
     private String region;
 
     @Bean
-    public S3Client s3Client() {
+    public S3Client s3Client(MeterRegistry meterRegistry) {
         // Use IAM role credentials in production (ECS)
         // Use access keys in local development
         if (accessKeyId != null && !accessKeyId.isEmpty()
@@ -36,16 +40,23 @@ public class S3Config {
             return S3Client.builder()
                     .region(Region.of(region))
                     .credentialsProvider(StaticCredentialsProvider.create(credentials))
+                    .overrideConfiguration(c -> instrument(c, meterRegistry))
                     .build();
         } else {
             // Production with IAM role (DefaultCredentialsProvider)
             return S3Client.builder()
                     .region(Region.of(region))
                     .credentialsProvider(DefaultCredentialsProvider.create())
+                    .overrideConfiguration(c -> instrument(c, meterRegistry))
                     .build();
         }
     }
 
+    private static void instrument(ClientOverrideConfiguration.Builder config, MeterRegistry meterRegistry) {
+        config.addExecutionInterceptor(new IntegrationMetricsExecutionInterceptor("s3", meterRegistry))
+                .addExecutionInterceptor(new RequestTimingExecutionInterceptor("s3"));
+    }
+
     @Bean
     public S3Presigner s3Presigner() {
         if (accessKeyId != null && !accessKeyId.isEmpty()
@@ -65,6 +65,7 @@ public class ApplicantController {
         this.exportService = exportService;
     }
 
+    @QueryBudget(6)
     @GetMapping
     @PreAuthorize("hasAnyRole('HIRING_MANAGER', 'RECRUITER')")
     @Operation(
@@ -207,6 +208,7 @@ public class ApplicantController {
 
         return ResponseEntity.badRequest().body(errorResponse);
     }
+    @QueryBudget(120)
     @PostMapping("/bulk-update-status")
     @PreAuthorize("hasAnyRole('HIRING_MANAGER', 'RECRUITER')")
     @Operation(
@@ -227,6 +229,7 @@ public class ApplicantController {
         return ResponseEntity.ok(response);
     }
 
+    @QueryBudget(8)
     @GetMapping("/export")
     @PreAuthorize("hasAnyRole('HIRING_MANAGER', 'RECRUITER')")
     @Operation(
@@ -34,6 +34,7 @@ public class AuthenticationController {
      * Step 1: Request magic link
      * POST /api/auth/login
      */
+    @QueryBudget(5)
     @PostMapping("/login")
     public ResponseEntity<Map<String, String>> login(@Valid @RequestBody LoginRequest request) {
         logger.info("Magic link requested for email: {}", request.getEmail());
@@ -48,6 +49,7 @@ public class AuthenticationController {
      * Step 2: Verify OTT and return session JWT
      * GET /api/auth/verify?token=xxx
      */
+    @QueryBudget(6)
     @GetMapping("/verify")
     public ResponseEntity<VerifyTokenResponse> verifyToken(@RequestParam String token) {
         logger.info("Verifying OTT token");
@@ -59,6 +61,7 @@ public class AuthenticationController {
      * Check if current session is valid
      * GET /api/auth/session
      */
+    @QueryBudget(4)
     @GetMapping("/session")
     public ResponseEntity<SessionResponse> checkSession(@RequestHeader(value = "Authorization", required = false) String authHeader) {
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
@@ -96,6 +99,7 @@ public class AuthenticationController {
      * Refresh session (extend expiration)
      * POST /api/auth/refresh
      */
+    @QueryBudget(4)
     @PostMapping("/refresh")
     public ResponseEntity<Map<String, Object>> refreshToken(
             @RequestHeader("Authorization") String authHeader) {
@@ -120,6 +124,7 @@ public class AuthenticationController {
     /**
      * Logout (client-side token deletion)
      */
+    @QueryBudget(3)
     @PostMapping("/logout")
     public ResponseEntity<Map<String, String>> logout() {
         logger.info("User logged out");
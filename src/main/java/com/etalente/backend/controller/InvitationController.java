@@ -35,6 +35,7 @@ public class InvitationController {
         this.authenticationService = authenticationService;
     }
 
+    @QueryBudget(8)
     @PostMapping("/recruiter")
     @PreAuthorize("hasRole('HIRING_MANAGER')")
     public ResponseEntity<RecruiterInvitationDto> inviteRecruiter(
@@ -52,6 +53,7 @@ public class InvitationController {
         return ResponseEntity.status(HttpStatus.CREATED).body(dto);
     }
 
+    @QueryBudget(120)
     @PostMapping("/bulk-recruiter")
     @PreAuthorize("hasRole('HIRING_MANAGER')")
     public ResponseEntity<Map<String, String>> inviteRecruiterBulk(
@@ -62,12 +64,14 @@ public class InvitationController {
         return ResponseEntity.ok(Map.of("message", "Invitations processed"));
     }
 
+    @QueryBudget(3)
     @GetMapping("/validate/{token}")
     public ResponseEntity<Map<String, Object>> validateInvitation(@PathVariable String token) {
         Map<String, Object> validationResult = invitationService.validateInvitationToken(token);
         return ResponseEntity.ok(validationResult);
     }
 
+    @QueryBudget(8)
     @PostMapping("/accept/{token}")
     public ResponseEntity<Map<String, String>> acceptInvitation(
             @PathVariable String token,
@@ -77,6 +81,7 @@ public class InvitationController {
         return ResponseEntity.ok(Map.of("token", jwt, "message", "Invitation accepted successfully"));
     }
 
+    @QueryBudget(5)
     @PatchMapping("/{invitationId}/revoke")
     @PreAuthorize("hasRole('HIRING_MANAGER')")
     public ResponseEntity<Void> revokeInvitation(
@@ -87,6 +92,7 @@ public class InvitationController {
         return ResponseEntity.noContent().build();
     }
 
+    @QueryBudget(3)
     @GetMapping
     @PreAuthorize("hasRole('HIRING_MANAGER')")
     public Page<RecruiterInvitationDto> listOrganizationInvitations(
@@ -103,6 +109,7 @@ public class InvitationController {
                 ));
     }
 
+    @QueryBudget(5)
     @PostMapping("/{invitationId}/resend")
     @PreAuthorize("hasRole('HIRING_MANAGER')")
     public ResponseEntity<Void> resendInvitation(@PathVariable UUID invitationId, Authentication authentication) {
@@ -3,7 +3,9 @@ package com.etalente.backend.controller;
 import com.etalente.backend.dto.ApplicationDetailsDto;
 import com.etalente.backend.dto.ApplicationSummaryDto;
 import com.etalente.backend.dto.ApplicationTransitionRequest;
+import com.etalente.backend.dto.CursorPage;
 import com.etalente.backend.dto.EmployerApplicationSummaryDto;
+import com.etalente.backend.service.ApplicationIdempotencyCache;
 import com.etalente.backend.service.JobApplicationService;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -15,6 +17,7 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -27,6 +30,7 @@ public class JobApplicationController {
         this.jobApplicationService = jobApplicationService;
     }
 
+    @QueryBudget(5)
     @GetMapping("/applications/me")
     @PreAuthorize("hasRole('CANDIDATE')")
     public Page<ApplicationSummaryDto> getMyApplications(
@@ -36,19 +40,45 @@ public class JobApplicationController {
         return jobApplicationService.getMyApplications(pageable, search, sort);
     }
 
+    @QueryBudget(5)
+    @GetMapping("/applications/me/cursor")
+    @PreAuthorize("hasRole('CANDIDATE')")
+    public CursorPage<ApplicationSummaryDto> getMyApplicationsPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) String sort) {
+        return jobApplicationService.getMyApplications(cursor, size, search, sort);
+    }
+
+    @QueryBudget(6)
     @GetMapping("/applications/{id}")
     @PreAuthorize("hasAnyRole('CANDIDATE', 'HIRING_MANAGER', 'RECRUITER')")
     public ApplicationDetailsDto getApplicationDetails(@PathVariable UUID id) {
         return jobApplicationService.getApplicationDetails(id);
     }
 
+    @QueryBudget(6)
+    @GetMapping("/applications/{id}/history")
+    @PreAuthorize("hasAnyRole('CANDIDATE', 'HIRING_MANAGER', 'RECRUITER')")
+    public CursorPage<ApplicationDetailsDto.CommunicationHistoryDto> getApplicationHistory(
+            @PathVariable UUID id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        return jobApplicationService.getApplicationHistory(id, cursor, size);
+    }
+
+    @QueryBudget(10)
     @PostMapping("/job-posts/{id}/apply")
     @PreAuthorize("hasRole('CANDIDATE')")
-    public ResponseEntity<ApplicationSummaryDto> applyForJob(@PathVariable UUID id) {
-        ApplicationSummaryDto application = jobApplicationService.applyForJob(id);
+    public ResponseEntity<ApplicationSummaryDto> applyForJob(
+            @PathVariable UUID id,
+            @RequestHeader(value = ApplicationIdempotencyCache.HEADER, required = false) String idempotencyKey) {
+        ApplicationSummaryDto application = jobApplicationService.applyForJob(id, idempotencyKey);
         return ResponseEntity.status(HttpStatus.CREATED).body(application);
     }
 
+    @QueryBudget(8)
     @DeleteMapping("/applications/{id}")
     @PreAuthorize("hasRole('CANDIDATE')")
     @ResponseStatus(HttpStatus.NO_CONTENT)
@@ -56,6 +86,7 @@ public class JobApplicationController {
         jobApplicationService.withdrawApplication(id);
     }
 
+    @QueryBudget(6)
     @GetMapping("/job-posts/{jobId}/applications")
     @PreAuthorize("hasAnyRole('HIRING_MANAGER', 'RECRUITER')")
     public Page<EmployerApplicationSummaryDto> getApplicationsForJob(
@@ -66,6 +97,20 @@ public class JobApplicationController {
         return jobApplicationService.getApplicationsForJob(jobId, userId, pageable);
     }
 
+    @QueryBudget(6)
+    @GetMapping("/job-posts/{jobId}/applications/cursor")
+    @PreAuthorize("hasAnyRole('HIRING_MANAGER', 'RECRUITER')")
+    public CursorPage<EmployerApplicationSummaryDto> getApplicationsForJobPage(
+            @PathVariable UUID jobId,
+            @RequestParam(required = false) List<String> statuses,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            Authentication authentication) {
+        UUID userId = UUID.fromString(authentication.getName());
+        return jobApplicationService.getApplicationsForJob(jobId, userId, statuses, cursor, size);
+    }
+
+    @QueryBudget(12)
     @PostMapping("/applications/{applicationId}/transition")
     @PreAuthorize("hasAnyRole('HIRING_MANAGER', 'RECRUITER')")
     public ResponseEntity<ApplicationDetailsDto> transitionApplicationStatus(
@@ -1,5 +1,6 @@
 package com.etalente.backend.controller;
 
+import com.etalente.backend.dto.CursorPage;
 import com.etalente.backend.dto.JobPostRequest;
 import com.etalente.backend.dto.JobPostResponse;
 import com.etalente.backend.dto.StateAuditResponse;
@@ -30,6 +31,7 @@ public class JobPostController {
         this.jobPostService = jobPostService;
     }
 
+    @QueryBudget(8)
     @PostMapping
     @PreAuthorize("hasRole('HIRING_MANAGER')")
     public ResponseEntity<JobPostResponse> createJobPost(@Valid @RequestBody JobPostRequest request,
@@ -39,12 +41,14 @@ public class JobPostController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @QueryBudget(3)
     @GetMapping("/{id}")
     public ResponseEntity<JobPostResponse> getJobPost(@PathVariable UUID id) {
         JobPostResponse response = jobPostService.getJobPost(id);
         return ResponseEntity.ok(response);
     }
 
+    @QueryBudget(6)
     @GetMapping
     public Page<JobPostResponse> listJobPosts(
             @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
@@ -56,6 +60,7 @@ public class JobPostController {
         return jobPostService.listJobPosts(pageable, search, skillSearch, experienceLevels, jobTypes, workTypes);
     }
 
+    @QueryBudget(6)
     @GetMapping("/my-posts")
     @PreAuthorize("hasAnyRole('HIRING_MANAGER', 'RECRUITER')")
     public Page<JobPostResponse> listMyJobPosts(
@@ -65,6 +70,7 @@ public class JobPostController {
         return jobPostService.listJobPostsByUser(userId, pageable);
     }
 
+    @QueryBudget(8)
     @PutMapping("/{id}")
     @PreAuthorize("hasAnyRole('HIRING_MANAGER', 'RECRUITER')")
     public ResponseEntity<JobPostResponse> updateJobPost(@PathVariable UUID id,
@@ -75,6 +81,7 @@ public class JobPostController {
         return ResponseEntity.ok(response);
     }
 
+    @QueryBudget(8)
     @DeleteMapping("/{id}")
     @PreAuthorize("hasRole('HIRING_MANAGER')")
     public ResponseEntity<Void> deleteJobPost(@PathVariable UUID id, Authentication authentication) {
@@ -88,6 +95,7 @@ public class JobPostController {
     /**
      * Generic state transition endpoint with audit trail
      */
+    @QueryBudget(10)
     @PatchMapping("/{id}/transition")
     @PreAuthorize("hasAnyRole('HIRING_MANAGER', 'RECRUITER')")
     public ResponseEntity<JobPostResponse> transitionState(
@@ -102,6 +110,7 @@ public class JobPostController {
     /**
      * Convenience endpoint: Publish a job post
      */
+    @QueryBudget(10)
     @PatchMapping("/{id}/publish")
     @PreAuthorize("hasAnyRole('HIRING_MANAGER', 'RECRUITER')")
     public ResponseEntity<JobPostResponse> publishJobPost(@PathVariable UUID id,
@@ -114,6 +123,7 @@ public class JobPostController {
     /**
      * Convenience endpoint: Close a job post
      */
+    @QueryBudget(10)
     @PatchMapping("/{id}/close")
     @PreAuthorize("hasAnyRole('HIRING_MANAGER', 'RECRUITER')")
     public ResponseEntity<JobPostResponse> closeJobPost(
@@ -128,6 +138,7 @@ public class JobPostController {
     /**
      * Convenience endpoint: Reopen a closed job post
      */
+    @QueryBudget(10)
     @PatchMapping("/{id}/reopen")
     @PreAuthorize("hasAnyRole('HIRING_MANAGER', 'RECRUITER')")
     public ResponseEntity<JobPostResponse> reopenJobPost(
@@ -142,6 +153,7 @@ public class JobPostController {
     /**
      * Convenience endpoint: Archive a job post
      */
+    @QueryBudget(10)
     @PatchMapping("/{id}/archive")
     @PreAuthorize("hasAnyRole('HIRING_MANAGER', 'RECRUITER')")
     public ResponseEntity<JobPostResponse> archiveJobPost(
@@ -157,6 +169,7 @@ public class JobPostController {
      * @deprecated Use /transition endpoint instead
      */
     @Deprecated
+    @QueryBudget(10)
     @PatchMapping("/{id}/status")
     @PreAuthorize("hasAnyRole('HIRING_MANAGER', 'RECRUITER')")
     public ResponseEntity<JobPostResponse> updateJobPostStatus(@PathVariable UUID id,
@@ -171,6 +184,7 @@ public class JobPostController {
     /**
      * Get state change history for a job post
      */
+    @QueryBudget(12)
     @GetMapping("/{id}/history")
     @PreAuthorize("hasAnyRole('HIRING_MANAGER', 'RECRUITER')")
     public ResponseEntity<List<StateAuditResponse>> getStateHistory(
@@ -181,9 +195,27 @@ public class JobPostController {
         return ResponseEntity.ok(history);
     }
 
+    /**
+     * Get state change history for a job post one page at a time; pass the returned {@code nextCursor} to
+     * get the following page
+     */
+    @QueryBudget(12)
+    @GetMapping("/{id}/history/cursor")
+    @PreAuthorize("hasAnyRole('HIRING_MANAGER', 'RECRUITER')")
+    public ResponseEntity<CursorPage<StateAuditResponse>> getStateHistoryPage(
+            @PathVariable UUID id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            Authentication authentication) {
+        UUID userId = UUID.fromString(authentication.getName());
+        CursorPage<StateAuditResponse> history = jobPostService.getStateHistory(id, userId, cursor, size);
+        return ResponseEntity.ok(history);
+    }
+
     /**
      * Get available transitions for a job post based on current status
      */
+    @QueryBudget(5)
     @GetMapping("/{id}/available-transitions")
     @PreAuthorize("hasAnyRole('HIRING_MANAGER', 'RECRUITER')")
     public ResponseEntity<List<String>> getAvailableTransitions(@PathVariable UUID id) {
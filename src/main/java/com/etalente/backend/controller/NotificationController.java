@@ -19,6 +19,7 @@ public class NotificationController {
         this.notificationService = notificationService;
     }
 
+    @QueryBudget(6)
     @PostMapping
     public ResponseEntity<NotificationResponse> createNotification(
             @Valid @RequestBody NotificationRequest request) {
@@ -27,6 +28,7 @@ public class NotificationController {
         return ResponseEntity.ok(response);
     }
 
+    @QueryBudget(4)
     @GetMapping("/user/{userId}")
     public ResponseEntity<Page<NotificationResponse>> getUserNotifications(
             @PathVariable String userId,
@@ -37,18 +39,21 @@ public class NotificationController {
         return ResponseEntity.ok(notifications);
     }
 
+    @QueryBudget(3)
     @GetMapping("/user/{userId}/unread-count")
     public ResponseEntity<Long> getUnreadCount(@PathVariable String userId) {
         long count = notificationService.getUnreadCount(userId);
         return ResponseEntity.ok(count);
     }
 
+    @QueryBudget(4)
     @PatchMapping("/{notificationId}/read")
     public ResponseEntity<Void> markAsRead(@PathVariable Long notificationId) {
         notificationService.markAsRead(notificationId);
         return ResponseEntity.noContent().build();
     }
 
+    @QueryBudget(3)
     @PatchMapping("/user/{userId}/read-all")
     public ResponseEntity<Void> markAllAsRead(@PathVariable String userId) {
         notificationService.markAllAsRead(userId);
@@ -32,6 +32,7 @@ public class OrganizationController {
      * P2: Get pre-signed URL for company logo upload
      * POST /api/organization/logo/upload-url
      */
+    @QueryBudget(3)
     @PostMapping("/logo/upload-url")
     @PreAuthorize("hasRole('HIRING_MANAGER')")
     public ResponseEntity<UploadUrlResponse> getLogoUploadUrl(
@@ -50,6 +51,7 @@ public class OrganizationController {
      * P2: Update organization with logo URL
      * PUT /api/organization/logo
      */
+    @QueryBudget(4)
     @PutMapping("/logo")
     @PreAuthorize("hasRole('HIRING_MANAGER')")
     public ResponseEntity<OrganizationDto> updateLogo(
@@ -68,6 +70,7 @@ public class OrganizationController {
      * P2: Delete company logo
      * DELETE /api/organization/logo
      */
+    @QueryBudget(4)
     @DeleteMapping("/logo")
     @PreAuthorize("hasRole('HIRING_MANAGER')")
     public ResponseEntity<Void> deleteLogo() {
@@ -81,6 +84,7 @@ public class OrganizationController {
      * Get current organization
      * GET /api/organization/me
      */
+    @QueryBudget(4)
     @GetMapping("/me")
     @PreAuthorize("hasRole('HIRING_MANAGER') or hasRole('RECRUITER')")
     public ResponseEntity<OrganizationDto> getCurrentOrganization() {
@@ -94,6 +98,7 @@ public class OrganizationController {
      * Get all members of the current user's organization.
      * GET /api/organization/members
      */
+    @QueryBudget(3)
     @GetMapping("/members")
     @PreAuthorize("hasAnyRole('HIRING_MANAGER', 'RECRUITER')")
     public ResponseEntity<List<OrganizationMemberDto>> getOrganizationMembers() {
@@ -102,6 +107,7 @@ public class OrganizationController {
         return ResponseEntity.ok(members);
     }
 
+    @QueryBudget(5)
     @PutMapping("/members/{memberId}/role")
     @PreAuthorize("hasRole('HIRING_MANAGER')")
     public ResponseEntity<Void> updateMemberRole(@PathVariable UUID memberId, @Valid @RequestBody com.etalente.backend.dto.UpdateMemberRoleRequest request) {
@@ -110,6 +116,7 @@ public class OrganizationController {
         return ResponseEntity.ok().build();
     }
 
+    @QueryBudget(5)
     @DeleteMapping("/members/{memberId}")
     @PreAuthorize("hasRole('HIRING_MANAGER')")
     public ResponseEntity<Void> removeMember(@PathVariable UUID memberId) {
@@ -3,6 +3,7 @@ package com.etalente.backend.controller;
 import com.etalente.backend.dto.*;
 import com.etalente.backend.security.OrganizationContext;
 import com.etalente.backend.service.ProfileService;
+import com.etalente.backend.service.ResumeAutofillService;
 import com.etalente.backend.service.S3Service;
 import com.fasterxml.jackson.databind.JsonNode;
 import jakarta.validation.Valid;
@@ -23,13 +24,17 @@ public class ProfileController {
     private final ProfileService profileService;
     private final S3Service s3Service;
     private final OrganizationContext organizationContext;
+    private final ResumeAutofillService resumeAutofillService;
 
-    public ProfileController(ProfileService profileService, S3Service s3Service, OrganizationContext organizationContext) {
+    public ProfileController(ProfileService profileService, S3Service s3Service, OrganizationContext organizationContext,
+                             ResumeAutofillService resumeAutofillService) {
         this.profileService = profileService;
         this.s3Service = s3Service;
         this.organizationContext = organizationContext;
+        this.resumeAutofillService = resumeAutofillService;
     }
 
+    @QueryBudget(4)
     @PutMapping("/update")
     public ResponseEntity<Void> updateProfile(@RequestBody Map<String, String> profileData) {
         UUID userId = organizationContext.getCurrentUser().getId();
@@ -37,6 +42,7 @@ public class ProfileController {
         return ResponseEntity.ok().build();
     }
 
+    @QueryBudget(4)
     @PutMapping("/complete")
     public ResponseEntity<VerifyTokenResponse> completeProfile(@Valid @RequestBody CompleteProfileRequest request) {
         UUID userId = organizationContext.getCurrentUser().getId();
@@ -44,6 +50,7 @@ public class ProfileController {
         return ResponseEntity.ok(response);
     }
 
+    @QueryBudget(3)
     @PostMapping("/me/avatar/upload-url")
     public ResponseEntity<UploadUrlResponse> getAvatarUploadUrl(@Valid @RequestBody UploadUrlRequest request) {
         UploadUrlResponse response = s3Service.generatePresignedUploadUrl(
@@ -54,6 +61,7 @@ public class ProfileController {
         return ResponseEntity.ok(response);
     }
 
+    @QueryBudget(4)
     @PutMapping("/me/avatar")
     public ResponseEntity<UserDto> updateAvatar(@Valid @RequestBody UpdateAvatarRequest request) {
         String userId = organizationContext.getCurrentUser().getId().toString();
@@ -61,6 +69,7 @@ public class ProfileController {
         return ResponseEntity.ok(updatedUser);
     }
 
+    @QueryBudget(4)
     @DeleteMapping("/me/avatar")
     public ResponseEntity<Void> deleteAvatar() {
         String userId = organizationContext.getCurrentUser().getId().toString();
@@ -68,6 +77,7 @@ public class ProfileController {
         return ResponseEntity.noContent().build();
     }
 
+        @QueryBudget(3)
         @GetMapping("/me")
 
         public ResponseEntity<JsonNode> getCurrentUserProfile() {
@@ -82,6 +92,7 @@ public class ProfileController {
 
     
 
+        @QueryBudget(4)
         @PutMapping("/me")
 
         public ResponseEntity<JsonNode> updateFullProfile(@RequestBody JsonNode profile) {
@@ -94,6 +105,7 @@ public class ProfileController {
 
         }
 
+    @QueryBudget(3)
     @PostMapping("/me/resumes/upload-url")
     public ResponseEntity<UploadUrlResponse> getResumeUploadUrl(@Valid @RequestBody ResumeUploadRequest request) {
         UUID userId = organizationContext.getCurrentUser().getId();
@@ -106,6 +118,7 @@ public class ProfileController {
         return ResponseEntity.ok(response);
     }
 
+    @QueryBudget(4)
     @PostMapping("/me/resumes")
     public ResponseEntity<ResumeDto> addResumeToProfile(@Valid @RequestBody ResumeDto request) {
         UUID userId = organizationContext.getCurrentUser().getId();
@@ -117,6 +130,7 @@ public class ProfileController {
         return ResponseEntity.status(HttpStatus.CREATED).body(newResume);
     }
 
+    @QueryBudget(4)
     @DeleteMapping("/me/resumes/{resumeId}")
     public ResponseEntity<Void> deleteResume(@PathVariable UUID resumeId) {
         UUID userId = organizationContext.getCurrentUser().getId();
@@ -124,6 +138,7 @@ public class ProfileController {
         return ResponseEntity.noContent().build();
     }
 
+    @QueryBudget(3)
     @GetMapping("/me/resumes")
     public ResponseEntity<List<ResumeDto>> getResumes() {
         UUID userId = organizationContext.getCurrentUser().getId();
@@ -131,10 +146,18 @@ public class ProfileController {
         return ResponseEntity.ok(resumes);
     }
 
+    @QueryBudget(5)
     @PostMapping("/me/autofill-resume")
-    public ResponseEntity<JsonNode> autofillProfileFromResume(@Valid @RequestBody ResumeDto request) {
+    public ResponseEntity<ResumeAutofillJobDto> autofillProfileFromResume(@Valid @RequestBody ResumeDto request) {
         UUID userId = organizationContext.getCurrentUser().getId();
-        JsonNode updatedProfile = profileService.autofillProfileFromResume(userId, request.getUrl());
-        return ResponseEntity.ok(updatedProfile);
+        ResumeAutofillJobDto job = resumeAutofillService.submit(userId, request.getUrl());
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(job);
+    }
+
+    @QueryBudget(3)
+    @GetMapping("/me/autofill-resume/{jobId}")
+    public ResponseEntity<ResumeAutofillJobDto> getAutofillJob(@PathVariable UUID jobId) {
+        UUID userId = organizationContext.getCurrentUser().getId();
+        return ResponseEntity.ok(resumeAutofillService.getJob(userId, jobId));
     }
 }
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.etalente.backend.controller;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares the maximum number of SQL statements a controller endpoint may issue while handling one
+ * request, counted from handler invocation to the end of response rendering (security filters excluded).
+ * <p>
+ * Integration tests fail when an endpoint exceeds its budget, and every handler method must declare one,
+ * so a new lazy association walked per row shows up as a test failure rather than in production.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryBudget {
+
+    /** Maximum number of statements for a single request. */
+    int value();
+}
@@ -23,12 +23,14 @@ public class RegistrationController {
         this.registrationService = registrationService;
     }
 
+    @QueryBudget(6)
     @PostMapping
     public ResponseEntity<Void> initiateRegistration(@Valid @RequestBody RegistrationRequest request) {
         registrationService.initiateRegistration(request);
         return ResponseEntity.ok().build();
     }
 
+    @QueryBudget(6)
     @PostMapping("/candidate")
     public ResponseEntity<VerifyTokenResponse> completeCandidateRegistration(@RequestParam String token,
                                                                              @Valid @RequestBody CandidateRegistrationRequest request) {
@@ -36,6 +38,7 @@ public class RegistrationController {
         return ResponseEntity.ok(response);
     }
 
+    @QueryBudget(8)
     @PostMapping("/hiring-manager")
     public ResponseEntity<VerifyTokenResponse> completeHiringManagerRegistration(@RequestParam String token,
                                                                                      @Valid @RequestBody HiringManagerRegistrationRequest request) {
@@ -43,6 +46,7 @@ public class RegistrationController {
         return ResponseEntity.ok(response);
     }
 
+    @QueryBudget(3)
     @GetMapping("/validate-token")
     public ResponseEntity<Map<String, Object>> validateRegistrationToken(@RequestParam String token) {
         Map<String, Object> validationResult = registrationService.validateToken(token);
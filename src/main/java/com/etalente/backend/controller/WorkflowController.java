@@ -24,6 +24,7 @@ public class WorkflowController {
         this.novuWorkflowService = novuWorkflowService;
     }
 
+    @QueryBudget(2)
     @PostMapping("/{workflowId}/trigger")
     public ResponseEntity<WorkflowTriggerResponse> triggerWorkflow(
             @PathVariable String workflowId,
@@ -0,0 +1,80 @@
+package com.etalente.backend.dto;
+
+import com.etalente.backend.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * One page of a keyset-paginated listing ordered newest first. {@code nextCursor} is sent back as the
+ * {@code cursor} parameter to fetch the following page and is {@code null} on the last page.
+ * <p>
+ * Unlike offset pages, later pages cost the same as the first and rows inserted meanwhile do not shift
+ * entries between pages.
+ */
+public record CursorPage<T>(List<T> content, String nextCursor) {
+
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    /** Clamps a requested page size to {@code 1..MAX_SIZE}. */
+    public static int size(Integer requested) {
+        return requested == null ? DEFAULT_SIZE : Math.max(1, Math.min(requested, MAX_SIZE));
+    }
+
+    /**
+     * Builds a page from up to {@code size + 1} rows fetched past the cursor; the extra row only signals that
+     * another page exists.
+     */
+    public static <R, T> CursorPage<T> of(List<R> rows, int size, Function<R, T> mapper, Function<R, Cursor> position) {
+        boolean hasNext = rows.size() > size;
+        List<R> page = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? position.apply(page.get(page.size() - 1)).encode() : null;
+        return new CursorPage<>(page.stream().map(mapper).toList(), nextCursor);
+    }
+
+    /**
+     * Position of a row in a {@code (timestamp DESC, id DESC)} ordering, opaque to clients. Orderings that sort
+     * on another column first carry that column's value as {@code key}.
+     */
+    public record Cursor(LocalDateTime at, UUID id, String key) {
+
+        public Cursor(LocalDateTime at, UUID id) {
+            this(at, id, null);
+        }
+
+        public String encode() {
+            String value = at + "|" + id + (key != null ? "|" + key : "");
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+        }
+
+        /** The decoded cursor, or {@code null} for the first page. */
+        public static Cursor decode(String value) {
+            if (value == null || value.isBlank()) {
+                return null;
+            }
+            try {
+                String decoded = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+                // The key goes last, so it may itself contain the separator
+                String[] parts = decoded.split("\\|", 3);
+                return new Cursor(LocalDateTime.parse(parts[0]), UUID.fromString(parts[1]),
+                        parts.length > 2 ? parts[2] : null);
+            } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+                throw new BadRequestException("Invalid cursor");
+            }
+        }
+
+        /** The sort key, failing for cursors issued by an ordering that had none. */
+        public String requireKey() {
+            if (key == null) {
+                throw new BadRequestException("Invalid cursor");
+            }
+            return key;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.etalente.backend.dto;
+
+import com.etalente.backend.model.ResumeAutofillJob;
+import com.etalente.backend.model.ResumeAutofillStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record ResumeAutofillJobDto(
+        UUID jobId,
+        ResumeAutofillStatus status,
+        String resumeUrl,
+        String errorMessage,
+        LocalDateTime createdAt,
+        LocalDateTime completedAt
+) {
+    public static ResumeAutofillJobDto fromEntity(ResumeAutofillJob job) {
+        return new ResumeAutofillJobDto(
+                job.getId(),
+                job.getStatus(),
+                job.getResumeUrl(),
+                job.getErrorMessage(),
+                job.getCreatedAt(),
+                job.getCompletedAt()
+        );
+    }
+}
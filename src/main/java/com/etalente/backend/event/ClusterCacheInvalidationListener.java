@@ -0,0 +1,45 @@
+package com.etalente.backend.event;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the node-local Caffeine caches coherent by clearing them when any node
+ * publishes a {@link ClusterEventType#CACHE_INVALIDATION} event.
+ */
+@Component
+public class ClusterCacheInvalidationListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClusterCacheInvalidationListener.class);
+
+    private final CacheManager cacheManager;
+
+    public ClusterCacheInvalidationListener(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    @EventListener
+    public void onClusterEvent(ClusterEvent event) {
+        if (event.type() != ClusterEventType.CACHE_INVALIDATION) {
+            return;
+        }
+
+        if (ClusterEvent.ALL.equals(event.subject())) {
+            cacheManager.getCacheNames().forEach(this::clear);
+        } else {
+            clear(event.subject());
+        }
+    }
+
+    private void clear(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.clear();
+            logger.debug("Cleared cache {} after cluster invalidation", cacheName);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.etalente.backend.event;
+
+/**
+ * A domain event broadcast to every node in the cluster.
+ *
+ * @param id      sequence number assigned by the database, null for events not yet persisted
+ * @param type    kind of change
+ * @param subject what changed (cache name, user id, job post id, ...), {@link #ALL} for everything
+ * @param origin  id of the node that published the event
+ */
+public record ClusterEvent(
+        Long id,
+        ClusterEventType type,
+        String subject,
+        String origin
+) {
+
+    public static final String ALL = "*";
+
+    public String coalesceKey() {
+        return type + ":" + subject;
+    }
+}
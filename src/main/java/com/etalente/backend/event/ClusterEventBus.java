@@ -0,0 +1,136 @@
+package com.etalente.backend.event;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Publishes domain events to every node of the cluster.
+ * <p>
+ * Events are appended to {@code cluster_events}; a trigger turns each insert into a
+ * {@code NOTIFY} that {@link PostgresClusterEventListener} picks up on the other nodes.
+ * On the publishing node the event is dispatched locally after the surrounding
+ * transaction commits, so subscribers see each event exactly once per node.
+ * Subscribers are plain {@code @EventListener} methods taking a {@link ClusterEvent}.
+ */
+@Service
+public class ClusterEventBus {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClusterEventBus.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final ClusterEventProperties properties;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public ClusterEventBus(JdbcTemplate jdbcTemplate,
+                           ApplicationEventPublisher applicationEventPublisher,
+                           ClusterEventProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.properties = properties;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public void publish(ClusterEventType type, String subject) {
+        ClusterEvent event = new ClusterEvent(null, type, subject, nodeId);
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            broadcast(event);
+            dispatch(event);
+            return;
+        }
+
+        // Collapse repeated events raised within one transaction (e.g. a bulk update)
+        // into a single row and a single local dispatch.
+        if (pendingEvents().add(event)) {
+            broadcast(event);
+        }
+    }
+
+    public void invalidateCache(String cacheName) {
+        publish(ClusterEventType.CACHE_INVALIDATION, cacheName);
+    }
+
+    /**
+     * Hand a batch of events to local subscribers, isolating failures per subscriber call.
+     */
+    public void dispatch(Collection<ClusterEvent> events) {
+        events.forEach(this::dispatch);
+    }
+
+    public void dispatch(ClusterEvent event) {
+        try {
+            applicationEventPublisher.publishEvent(event);
+        } catch (Exception e) {
+            logger.error("Cluster event subscriber failed for {} {}", event.type(), event.subject(), e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${cluster.events.purge-interval-ms:300000}")
+    public void purgeExpiredEvents() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        int deleted = jdbcTemplate.update(
+                "DELETE FROM cluster_events WHERE created_at < CURRENT_TIMESTAMP - make_interval(mins => ?)",
+                properties.getRetentionMinutes());
+        if (deleted > 0) {
+            logger.debug("Purged {} expired cluster events", deleted);
+        }
+    }
+
+    private PendingEvents pendingEvents() {
+        PendingEvents pending = (PendingEvents) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingEvents();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        return pending;
+    }
+
+    private void broadcast(ClusterEvent event) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        jdbcTemplate.update(
+                "INSERT INTO cluster_events (event_type, subject, origin_node) VALUES (?, ?, ?)",
+                event.type().name(), event.subject(), event.origin());
+    }
+
+    /**
+     * Events raised in the current transaction, dispatched locally once it commits.
+     */
+    private final class PendingEvents implements TransactionSynchronization {
+
+        private final Map<String, ClusterEvent> events = new LinkedHashMap<>();
+
+        boolean add(ClusterEvent event) {
+            return events.putIfAbsent(event.coalesceKey(), event) == null;
+        }
+
+        @Override
+        public void afterCommit() {
+            dispatch(events.values());
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(ClusterEventBus.this);
+        }
+    }
+}
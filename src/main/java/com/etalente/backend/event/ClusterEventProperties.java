@@ -0,0 +1,64 @@
+package com.etalente.backend.event;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "cluster.events")
+public class ClusterEventProperties {
+
+    private boolean enabled = true;
+    private int pollTimeoutMs = 5000;
+    private int coalesceWindowMs = 50;
+    private long reconnectDelayMs = 2000;
+    private int retentionMinutes = 60;
+    private int reorderWindow = 1000;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getPollTimeoutMs() {
+        return pollTimeoutMs;
+    }
+
+    public void setPollTimeoutMs(int pollTimeoutMs) {
+        this.pollTimeoutMs = pollTimeoutMs;
+    }
+
+    public int getCoalesceWindowMs() {
+        return coalesceWindowMs;
+    }
+
+    public void setCoalesceWindowMs(int coalesceWindowMs) {
+        this.coalesceWindowMs = coalesceWindowMs;
+    }
+
+    public long getReconnectDelayMs() {
+        return reconnectDelayMs;
+    }
+
+    public void setReconnectDelayMs(long reconnectDelayMs) {
+        this.reconnectDelayMs = reconnectDelayMs;
+    }
+
+    public int getRetentionMinutes() {
+        return retentionMinutes;
+    }
+
+    public void setRetentionMinutes(int retentionMinutes) {
+        this.retentionMinutes = retentionMinutes;
+    }
+
+    public int getReorderWindow() {
+        return reorderWindow;
+    }
+
+    public void setReorderWindow(int reorderWindow) {
+        this.reorderWindow = reorderWindow;
+    }
+}
@@ -0,0 +1,6 @@
+package com.etalente.backend.event;
+
+public enum ClusterEventType {
+    CACHE_INVALIDATION,
+    USER_CHANGED
+}
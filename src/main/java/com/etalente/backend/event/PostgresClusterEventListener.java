@@ -0,0 +1,252 @@
+package com.etalente.backend.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Holds one dedicated connection per node that {@code LISTEN}s on the cluster channel
+ * and hands remote events to local subscribers through {@link ClusterEventBus}.
+ * <p>
+ * Notifications arriving within the coalesce window are merged by type and subject so
+ * a burst of identical invalidations results in a single dispatch. After a reconnect
+ * the listener replays anything it missed from {@code cluster_events}; if it was away
+ * longer than the retention window it dispatches a full cache reset instead.
+ * <p>
+ * Event ids are not in commit order, so deduplication goes through {@link SeenEventIds}
+ * and catch-up re-scans the last {@code reorder-window} ids rather than starting strictly
+ * after the newest one.
+ */
+@Component
+public class PostgresClusterEventListener implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(PostgresClusterEventListener.class);
+
+    static final String CHANNEL = "etalente_cluster_events";
+    private static final int MAX_CATCH_UP_EVENTS = 10000;
+
+    private final DataSource dataSource;
+    private final ClusterEventBus eventBus;
+    private final ClusterEventProperties properties;
+    private final ObjectMapper objectMapper;
+
+    private volatile boolean running;
+    private volatile Thread listenerThread;
+    private final SeenEventIds seenIds;
+    private long lastContactMillis;
+
+    public PostgresClusterEventListener(DataSource dataSource,
+                                        ClusterEventBus eventBus,
+                                        ClusterEventProperties properties,
+                                        ObjectMapper objectMapper) {
+        this.dataSource = dataSource;
+        this.eventBus = eventBus;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.seenIds = new SeenEventIds(properties.getReorderWindow());
+    }
+
+    @Override
+    public void start() {
+        if (!properties.isEnabled() || running) {
+            return;
+        }
+        running = true;
+        listenerThread = new Thread(this::listenLoop, "cluster-event-listener");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+        logger.info("Cluster event listener started on node {}", eventBus.getNodeId());
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread thread = listenerThread;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void listenLoop() {
+        while (running) {
+            try (Connection connection = dataSource.getConnection()) {
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                catchUp(connection);
+
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(properties.getPollTimeoutMs());
+                    lastContactMillis = System.currentTimeMillis();
+                    if (notifications == null || notifications.length == 0) {
+                        continue;
+                    }
+
+                    Map<String, ClusterEvent> batch = new LinkedHashMap<>();
+                    collect(notifications, batch);
+
+                    long deadline = System.currentTimeMillis() + properties.getCoalesceWindowMs();
+                    long remaining;
+                    while ((remaining = deadline - System.currentTimeMillis()) > 0) {
+                        PGNotification[] more = pgConnection.getNotifications((int) Math.max(1, remaining));
+                        if (more == null || more.length == 0) {
+                            break;
+                        }
+                        collect(more, batch);
+                    }
+
+                    eventBus.dispatch(batch.values());
+                }
+            } catch (Exception e) {
+                if (!running) {
+                    break;
+                }
+                logger.warn("Cluster event listener lost its connection, reconnecting in {} ms: {}",
+                        properties.getReconnectDelayMs(), e.getMessage());
+                sleepBeforeReconnect();
+            }
+        }
+        logger.info("Cluster event listener stopped");
+    }
+
+    private void collect(PGNotification[] notifications, Map<String, ClusterEvent> batch) {
+        for (PGNotification notification : notifications) {
+            if (!CHANNEL.equals(notification.getName())) {
+                continue;
+            }
+            try {
+                accept(objectMapper.readValue(notification.getParameter(), ClusterEvent.class), batch);
+            } catch (Exception e) {
+                logger.warn("Ignoring malformed cluster event payload: {}", notification.getParameter());
+            }
+        }
+    }
+
+    private void accept(ClusterEvent event, Map<String, ClusterEvent> batch) {
+        if (event.id() != null) {
+            // Events replayed during catch-up may also arrive as notifications
+            if (!seenIds.markSeen(event.id())) {
+                return;
+            }
+        }
+        // The publishing node already dispatched its own events after commit
+        if (eventBus.getNodeId().equals(event.origin())) {
+            return;
+        }
+        batch.remove(event.coalesceKey());
+        batch.put(event.coalesceKey(), event);
+    }
+
+    private static ClusterEventType knownType(String name) {
+        for (ClusterEventType type : ClusterEventType.values()) {
+            if (type.name().equals(name)) {
+                return type;
+            }
+        }
+        return null;
+    }
+
+    private void catchUp(Connection connection) throws SQLException {
+        if (!seenIds.isInitialized()) {
+            // First connection: nothing to replay, start from the current head
+            resetToHead(connection);
+            lastContactMillis = System.currentTimeMillis();
+            return;
+        }
+
+        long awayMillis = System.currentTimeMillis() - lastContactMillis;
+        if (awayMillis > properties.getRetentionMinutes() * 60_000L) {
+            logger.warn("Cluster event listener was disconnected for {} ms, resetting all caches", awayMillis);
+            dispatchFullReset();
+        }
+
+        Map<String, ClusterEvent> batch = new LinkedHashMap<>();
+        int rows = 0;
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT id, event_type, subject, origin_node FROM cluster_events WHERE id > ? ORDER BY id LIMIT ?")) {
+            statement.setLong(1, seenIds.floor());
+            statement.setInt(2, MAX_CATCH_UP_EVENTS);
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    rows++;
+                    ClusterEventType type = knownType(rs.getString("event_type"));
+                    if (type == null) {
+                        // Published by a node running an older version; nothing here subscribes to it
+                        seenIds.markSeen(rs.getLong("id"));
+                        continue;
+                    }
+                    accept(new ClusterEvent(
+                            rs.getLong("id"),
+                            type,
+                            rs.getString("subject"),
+                            rs.getString("origin_node")
+                    ), batch);
+                }
+            }
+        }
+        lastContactMillis = System.currentTimeMillis();
+
+        if (rows == MAX_CATCH_UP_EVENTS) {
+            // Too far behind to replay event by event
+            logger.warn("More than {} cluster events missed, resetting all caches", MAX_CATCH_UP_EVENTS);
+            resetToHead(connection);
+            dispatchFullReset();
+            return;
+        }
+
+        if (!batch.isEmpty()) {
+            logger.info("Replaying {} cluster events missed while disconnected", batch.size());
+            eventBus.dispatch(batch.values());
+        }
+    }
+
+    private void resetToHead(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT COALESCE(MAX(id), 0) FROM cluster_events")) {
+            rs.next();
+            seenIds.reset(rs.getLong(1));
+        }
+        // Already committed ids inside the window predate this node and must not be replayed later
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT id FROM cluster_events WHERE id > ?")) {
+            statement.setLong(1, seenIds.floor());
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    seenIds.markSeen(rs.getLong(1));
+                }
+            }
+        }
+    }
+
+    private void dispatchFullReset() {
+        eventBus.dispatch(new ClusterEvent(null, ClusterEventType.CACHE_INVALIDATION, ClusterEvent.ALL, null));
+    }
+
+    private void sleepBeforeReconnect() {
+        try {
+            Thread.sleep(properties.getReconnectDelayMs());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
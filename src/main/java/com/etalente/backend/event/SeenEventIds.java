@@ -0,0 +1,56 @@
+package com.etalente.backend.event;
+
+import java.util.TreeSet;
+
+/**
+ * Tracks which {@code cluster_events} ids this node has already handled.
+ * <p>
+ * Ids come from a sequence and are assigned at insert time, so a transaction that
+ * commits late can make a lower id visible after a higher one. Instead of a single
+ * high-water mark, every id within {@code window} of the highest id seen is remembered
+ * individually; only ids at or below that floor are assumed settled. Catch-up re-scans
+ * from the floor and relies on this set to skip what was already dispatched.
+ */
+final class SeenEventIds {
+
+    private final int window;
+    private final TreeSet<Long> seen = new TreeSet<>();
+    private long highest = -1;
+
+    SeenEventIds(int window) {
+        this.window = Math.max(0, window);
+    }
+
+    boolean isInitialized() {
+        return highest >= 0;
+    }
+
+    /**
+     * Forgets everything and treats {@code head} as the newest id; ids inside the window
+     * below it are still accepted when they show up.
+     */
+    void reset(long head) {
+        seen.clear();
+        highest = Math.max(0, head);
+    }
+
+    /**
+     * Records the id and returns {@code true} if it had not been seen before and is still
+     * inside the window.
+     */
+    boolean markSeen(long id) {
+        if (id <= floor() || !seen.add(id)) {
+            return false;
+        }
+        if (id > highest) {
+            highest = id;
+            seen.headSet(floor(), true).clear();
+        }
+        return true;
+    }
+
+    /** Ids above this value may still appear and are re-scanned on catch-up. */
+    long floor() {
+        return Math.max(0, highest - window);
+    }
+}
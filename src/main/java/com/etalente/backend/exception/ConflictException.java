@@ -0,0 +1,15 @@
+package com.etalente.backend.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Thrown when a write lost a race with a concurrent change to the same record, e.g. two users moving a job
+ * post out of the same state at once. Retrying after reloading the record may succeed.
+ */
+@ResponseStatus(HttpStatus.CONFLICT)
+public class ConflictException extends RuntimeException {
+    public ConflictException(String message) {
+        super(message);
+    }
+}
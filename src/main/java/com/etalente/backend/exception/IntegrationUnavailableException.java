@@ -0,0 +1,11 @@
+package com.etalente.backend.exception;
+
+/**
+ * Thrown without contacting a downstream integration because its circuit breaker is
+ * open or its bulkhead is saturated.
+ */
+public class IntegrationUnavailableException extends ServiceException {
+    public IntegrationUnavailableException(String message) {
+        super(message);
+    }
+}
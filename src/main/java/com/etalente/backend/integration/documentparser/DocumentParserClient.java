@@ -1,104 +1,171 @@
 package com.etalente.backend.integration.documentparser;
 
+import com.etalente.backend.exception.IntegrationUnavailableException;
+import com.etalente.backend.integration.http.HttpIntegrations;
+import com.etalente.backend.integration.http.ResilientCallExecutor;
 import com.etalente.backend.service.S3Service;
 import com.etalente.backend.exception.ServiceException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.InputStreamResource;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.web.client.RestClient;
-import org.springframework.web.client.RestTemplate;
 
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+
+import java.io.InputStream;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Slf4j
 @Service
 public class DocumentParserClient {
 
     private final RestClient restClient;
-    private final RestTemplate restTemplate;
+    private final ResilientCallExecutor executor;
     private final ObjectMapper objectMapper;
     private final S3Service s3Service;
-    private final String baseUrl;
+    private final ParseResultCache parseResultCache;
 
     public DocumentParserClient(@Value("${document-parser.base-url}") String baseUrl,
                                 ObjectMapper objectMapper,
-                                S3Service s3Service) {
-        this.baseUrl = baseUrl;
-        this.restClient = RestClient.builder()
+                                S3Service s3Service,
+                                HttpIntegrations httpIntegrations,
+                                ParseResultCache parseResultCache) {
+        this.restClient = httpIntegrations.restClientBuilder(HttpIntegrations.DOCUMENT_PARSER)
                 .baseUrl(baseUrl)
                 .build();
-        this.restTemplate = new RestTemplate();
+        this.executor = httpIntegrations.executor(HttpIntegrations.DOCUMENT_PARSER);
         this.objectMapper = objectMapper;
         this.s3Service = s3Service;
+        this.parseResultCache = parseResultCache;
     }
 
+    /**
+     * Parse a resume stored in S3. The object is streamed straight from S3 into the
+     * multipart request body, so the file is never held in memory as a whole; each
+     * (retried) attempt opens a fresh S3 stream. Files that were parsed before (same
+     * ETag on the GET response) are answered from {@link ParseResultCache}, and the
+     * result is stored under the ETag of the bytes that were actually parsed.
+     */
     public JsonNode extractResume(String resumeS3Url) {
         log.info("Calling document parser to extract resume from: {}", resumeS3Url);
+        AtomicReference<ResponseInputStream<GetObjectResponse>> opened = new AtomicReference<>();
+        AtomicReference<String> parsedHash = new AtomicReference<>();
         try {
-            // 1. Download the file from S3
-            byte[] fileContent = s3Service.downloadFile(resumeS3Url);
-            log.info("Downloaded file content size: {} bytes", fileContent.length);
-
-            // 2. Create a Multipart request body
-            LinkedMultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
-
-            ByteArrayResource resource = new ByteArrayResource(fileContent) {
-                @Override
-                public String getFilename() {
-                    String[] parts = resumeS3Url.split("/");
-                    String filename = parts[parts.length - 1];
-                    log.info("Multipart filename: {}", filename);
-                    return filename;
+            opened.set(s3Service.openStream(resumeS3Url));
+            String contentHash = contentHash(opened.get().response());
+            Optional<JsonNode> cached = parseResultCache.get(ParseResultCache.DocumentKind.RESUME, contentHash);
+            if (cached.isPresent()) {
+                log.info("Using cached parse result for resume {} ({})", resumeS3Url, contentHash);
+                return cached.get();
+            }
+
+            String[] parts = resumeS3Url.split("/");
+            String filename = parts[parts.length - 1];
+
+            // Parsing is side-effect free, so it may be retried; the first attempt sends the stream opened above
+            ResponseEntity<JsonNode> response = executor.execute("extract-resume", true, () -> {
+                ResponseInputStream<GetObjectResponse> next = opened.getAndSet(null);
+                try (ResponseInputStream<GetObjectResponse> s3Stream =
+                             next != null ? next : s3Service.openStream(resumeS3Url)) {
+                    parsedHash.set(contentHash(s3Stream.response()));
+                    Long contentLength = s3Stream.response().contentLength();
+                    log.info("Streaming {} ({} bytes) to document parser", filename, contentLength);
+
+                    LinkedMultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
+                    body.add("file", new StreamedFileResource(s3Stream, filename, contentLength)); // lowercase "file"
+
+                    return restClient.post()
+                            .uri("/extract/")
+                            .contentType(MediaType.MULTIPART_FORM_DATA)
+                            .body(body)
+                            .retrieve()
+                            .toEntity(JsonNode.class);
                 }
-            };
-
-            body.add("file", resource); // lowercase "file"
-
-            // 3. Set headers
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.MULTIPART_FORM_DATA);
-
-            HttpEntity<LinkedMultiValueMap<String, Object>> requestEntity =
-                new HttpEntity<>(body, headers);
-
-            // 4. Send the multipart request using RestTemplate
-            log.info("Sending multipart request to document parser");
-            ResponseEntity<JsonNode> response = restTemplate.postForEntity(
-                baseUrl + "/extract/",
-                requestEntity,
-                JsonNode.class
-            );
+            });
 
             log.info("Successfully extracted resume from document parser. Status: {}", response.getStatusCode());
+            parseResultCache.put(ParseResultCache.DocumentKind.RESUME, parsedHash.get(), response.getBody());
             return response.getBody();
 
+        } catch (IntegrationUnavailableException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Failed to extract resume from document parser for URL: {}", resumeS3Url, e);
             throw new ServiceException("Failed to extract resume data", e);
+        } finally {
+            // Cache hit, or the call was rejected before the first attempt: drop the connection unread
+            ResponseInputStream<GetObjectResponse> unread = opened.getAndSet(null);
+            if (unread != null) {
+                unread.abort();
+            }
         }
     }
 
+    private static String contentHash(GetObjectResponse object) {
+        String eTag = object.eTag();
+        return eTag != null ? eTag.replace("\"", "") : null;
+    }
+
     public JsonNode extractJobPost(String jobS3Url) {
         log.info("Calling document parser to extract job post from: {}", jobS3Url);
+        String contentHash = s3Service.getContentHash(jobS3Url);
+        Optional<JsonNode> cached = parseResultCache.get(ParseResultCache.DocumentKind.JOB_POST, contentHash);
+        if (cached.isPresent()) {
+            log.info("Using cached parse result for job post {} ({})", jobS3Url, contentHash);
+            return cached.get();
+        }
+
         try {
             Map<String, String> requestBody = Map.of("s3_url", jobS3Url);
-            JsonNode response = restClient.post()
-                    .uri("/job-post-extract")
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .body(requestBody)
-                    .retrieve()
-                    .body(JsonNode.class);
+            JsonNode response = executor.execute("extract-job-post", true, () ->
+                    restClient.post()
+                            .uri("/job-post-extract")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .body(requestBody)
+                            .retrieve()
+                            .body(JsonNode.class));
             log.info("Successfully extracted job post from document parser.");
+            parseResultCache.put(ParseResultCache.DocumentKind.JOB_POST, contentHash, response);
             return response;
+        } catch (IntegrationUnavailableException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Failed to extract job post from document parser for URL: {}", jobS3Url, e);
             throw new ServiceException("Failed to extract job post data", e);
         }
     }
-}
 
+    /**
+     * Multipart part backed by a single-use stream, with the filename and length taken
+     * from S3 so the converter never has to read the stream to size it.
+     */
+    private static class StreamedFileResource extends InputStreamResource {
+
+        private final String filename;
+        private final Long contentLength;
+
+        StreamedFileResource(InputStream inputStream, String filename, Long contentLength) {
+            super(inputStream);
+            this.filename = filename;
+            this.contentLength = contentLength;
+        }
+
+        @Override
+        public String getFilename() {
+            return filename;
+        }
+
+        @Override
+        public long contentLength() {
+            return contentLength != null ? contentLength : -1;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.etalente.backend.integration.documentparser;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Document parser results keyed by the content hash of the parsed file.
+ * <p>
+ * Lookups go to a size-bounded in-memory cache first and fall back to the
+ * {@code document_parse_results} table, which is shared by all nodes and survives
+ * restarts. Entries are scoped by parser version, so bumping
+ * {@code document-parser.cache.parser-version} invalidates everything parsed before.
+ */
+@Component
+public class ParseResultCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(ParseResultCache.class);
+
+    public enum DocumentKind {
+        RESUME, JOB_POST
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final String parserVersion;
+    private final int retentionDays;
+    private final Cache<String, JsonNode> memory;
+
+    public ParseResultCache(JdbcTemplate jdbcTemplate,
+                            ObjectMapper objectMapper,
+                            @Value("${document-parser.cache.parser-version:1}") String parserVersion,
+                            @Value("${document-parser.cache.max-entries:500}") long maxEntries,
+                            @Value("${document-parser.cache.retention-days:90}") int retentionDays) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.parserVersion = parserVersion;
+        this.retentionDays = retentionDays;
+        this.memory = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .recordStats()
+                .build();
+    }
+
+    public Optional<JsonNode> get(DocumentKind kind, String contentHash) {
+        if (contentHash == null) {
+            return Optional.empty();
+        }
+        String key = key(kind, contentHash);
+        JsonNode cached = memory.getIfPresent(key);
+        if (cached != null) {
+            return Optional.of(cached.deepCopy());
+        }
+
+        try {
+            List<String> rows = jdbcTemplate.queryForList(
+                    "SELECT result::text FROM document_parse_results " +
+                    "WHERE content_hash = ? AND document_kind = ? AND parser_version = ?",
+                    String.class, contentHash, kind.name(), parserVersion);
+            if (rows.isEmpty()) {
+                return Optional.empty();
+            }
+            JsonNode result = objectMapper.readTree(rows.get(0));
+            memory.put(key, result);
+            return Optional.of(result.deepCopy());
+        } catch (Exception e) {
+            // A cache failure must never fail the parse itself
+            logger.warn("Failed to read parse result cache for {} {}", kind, contentHash, e);
+            return Optional.empty();
+        }
+    }
+
+    public void put(DocumentKind kind, String contentHash, JsonNode result) {
+        if (contentHash == null || result == null || result.isNull() || result.isEmpty()) {
+            return;
+        }
+        memory.put(key(kind, contentHash), result.deepCopy());
+        try {
+            jdbcTemplate.update(
+                    "INSERT INTO document_parse_results (content_hash, document_kind, parser_version, result) " +
+                    "VALUES (?, ?, ?, ?::jsonb) " +
+                    "ON CONFLICT (content_hash, document_kind, parser_version) DO UPDATE SET result = EXCLUDED.result",
+                    contentHash, kind.name(), parserVersion, objectMapper.writeValueAsString(result));
+        } catch (Exception e) {
+            logger.warn("Failed to store parse result for {} {}", kind, contentHash, e);
+        }
+    }
+
+    public Cache<String, JsonNode> getNativeCache() {
+        return memory;
+    }
+
+    @Scheduled(cron = "${document-parser.cache.purge-cron:0 45 3 * * *}")
+    public void purgeExpired() {
+        int purged = jdbcTemplate.update(
+                "DELETE FROM document_parse_results WHERE created_at < now() - make_interval(days => ?)",
+                retentionDays);
+        if (purged > 0) {
+            logger.info("Purged {} expired document parse results", purged);
+        }
+    }
+
+    private String key(DocumentKind kind, String contentHash) {
+        return kind.name() + ":" + contentHash;
+    }
+}
@@ -0,0 +1,120 @@
+package com.etalente.backend.integration.http;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Count-based circuit breaker.
+ * <p>
+ * While CLOSED the outcome of the last {@code slidingWindowSize} calls is tracked; once at
+ * least {@code minimumCalls} are recorded and the failure rate reaches the threshold the
+ * breaker OPENs and rejects calls for {@code openStateMs}. It then lets a few trial calls
+ * through (HALF_OPEN): if they all succeed it closes again, any failure re-opens it.
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int slidingWindowSize;
+    private final int minimumCalls;
+    private final int failureRateThreshold;
+    private final long openStateMs;
+    private final int halfOpenCalls;
+    private final LongSupplier clock;
+
+    private final boolean[] window;
+    private int windowIndex;
+    private int recordedCalls;
+    private int failedCalls;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int halfOpenPermits;
+    private int halfOpenSuccesses;
+
+    public CircuitBreaker(HttpIntegrationProperties.Settings settings) {
+        this(settings, System::currentTimeMillis);
+    }
+
+    CircuitBreaker(HttpIntegrationProperties.Settings settings, LongSupplier clock) {
+        this.slidingWindowSize = settings.getSlidingWindowSize();
+        this.minimumCalls = settings.getMinimumCalls();
+        this.failureRateThreshold = settings.getFailureRateThreshold();
+        this.openStateMs = settings.getOpenStateMs();
+        this.halfOpenCalls = settings.getHalfOpenCalls();
+        this.clock = clock;
+        this.window = new boolean[slidingWindowSize];
+    }
+
+    public synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN) {
+            if (clock.getAsLong() - openedAt < openStateMs) {
+                return false;
+            }
+            state = State.HALF_OPEN;
+            halfOpenPermits = 0;
+            halfOpenSuccesses = 0;
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenPermits >= halfOpenCalls) {
+                return false;
+            }
+            halfOpenPermits++;
+        }
+        return true;
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            if (++halfOpenSuccesses >= halfOpenCalls) {
+                close();
+            }
+            return;
+        }
+        record(false);
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            open();
+            return;
+        }
+        record(true);
+        if (recordedCalls >= minimumCalls && failedCalls * 100 >= failureRateThreshold * recordedCalls) {
+            open();
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    private void record(boolean failed) {
+        if (recordedCalls == slidingWindowSize) {
+            // Overwrite the oldest outcome
+            if (window[windowIndex]) {
+                failedCalls--;
+            }
+        } else {
+            recordedCalls++;
+        }
+        window[windowIndex] = failed;
+        if (failed) {
+            failedCalls++;
+        }
+        windowIndex = (windowIndex + 1) % slidingWindowSize;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = clock.getAsLong();
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        windowIndex = 0;
+        recordedCalls = 0;
+        failedCalls = 0;
+    }
+}
@@ -0,0 +1,148 @@
+package com.etalente.backend.integration.http;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Per-integration settings for outbound HTTP calls, keyed by integration name
+ * ({@code integrations.clients.<name>.*}). Integrations without an entry use the defaults.
+ */
+@Component
+@ConfigurationProperties(prefix = "integrations")
+public class HttpIntegrationProperties {
+
+    private Map<String, Settings> clients = new HashMap<>();
+
+    public Map<String, Settings> getClients() {
+        return clients;
+    }
+
+    public void setClients(Map<String, Settings> clients) {
+        this.clients = clients;
+    }
+
+    public Settings forIntegration(String name) {
+        return clients.getOrDefault(name, new Settings());
+    }
+
+    public static class Settings {
+
+        private long connectTimeoutMs = 2000;
+        private long readTimeoutMs = 30000;
+
+        // Bulkhead
+        private int maxConcurrentCalls = 20;
+        private long maxWaitMs = 100;
+
+        // Circuit breaker
+        private int slidingWindowSize = 20;
+        private int minimumCalls = 10;
+        private int failureRateThreshold = 50;
+        private long openStateMs = 30000;
+        private int halfOpenCalls = 3;
+
+        // Retry (idempotent calls only)
+        private int maxRetries = 2;
+        private long retryBaseDelayMs = 200;
+        private long retryMaxDelayMs = 2000;
+
+        public long getConnectTimeoutMs() {
+            return connectTimeoutMs;
+        }
+
+        public void setConnectTimeoutMs(long connectTimeoutMs) {
+            this.connectTimeoutMs = connectTimeoutMs;
+        }
+
+        public long getReadTimeoutMs() {
+            return readTimeoutMs;
+        }
+
+        public void setReadTimeoutMs(long readTimeoutMs) {
+            this.readTimeoutMs = readTimeoutMs;
+        }
+
+        public int getMaxConcurrentCalls() {
+            return maxConcurrentCalls;
+        }
+
+        public void setMaxConcurrentCalls(int maxConcurrentCalls) {
+            this.maxConcurrentCalls = maxConcurrentCalls;
+        }
+
+        public long getMaxWaitMs() {
+            return maxWaitMs;
+        }
+
+        public void setMaxWaitMs(long maxWaitMs) {
+            this.maxWaitMs = maxWaitMs;
+        }
+
+        public int getSlidingWindowSize() {
+            return slidingWindowSize;
+        }
+
+        public void setSlidingWindowSize(int slidingWindowSize) {
+            this.slidingWindowSize = slidingWindowSize;
+        }
+
+        public int getMinimumCalls() {
+            return minimumCalls;
+        }
+
+        public void setMinimumCalls(int minimumCalls) {
+            this.minimumCalls = minimumCalls;
+        }
+
+        public int getFailureRateThreshold() {
+            return failureRateThreshold;
+        }
+
+        public void setFailureRateThreshold(int failureRateThreshold) {
+            this.failureRateThreshold = failureRateThreshold;
+        }
+
+        public long getOpenStateMs() {
+            return openStateMs;
+        }
+
+        public void setOpenStateMs(long openStateMs) {
+            this.openStateMs = openStateMs;
+        }
+
+        public int getHalfOpenCalls() {
+            return halfOpenCalls;
+        }
+
+        public void setHalfOpenCalls(int halfOpenCalls) {
+            this.halfOpenCalls = halfOpenCalls;
+        }
+
+        public int getMaxRetries() {
+            return maxRetries;
+        }
+
+        public void setMaxRetries(int maxRetries) {
+            this.maxRetries = maxRetries;
+        }
+
+        public long getRetryBaseDelayMs() {
+            return retryBaseDelayMs;
+        }
+
+        public void setRetryBaseDelayMs(long retryBaseDelayMs) {
+            this.retryBaseDelayMs = retryBaseDelayMs;
+        }
+
+        public long getRetryMaxDelayMs() {
+            return retryMaxDelayMs;
+        }
+
+        public void setRetryMaxDelayMs(long retryMaxDelayMs) {
+            this.retryMaxDelayMs = retryMaxDelayMs;
+        }
+    }
+}
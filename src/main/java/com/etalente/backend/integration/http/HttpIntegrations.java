@@ -0,0 +1,57 @@
+package com.etalente.backend.integration.http;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Single entry point for outbound HTTP. Each named integration gets one pooled,
+ * keep-alive {@link HttpClient} with its own connect and read timeouts, and one
+ * {@link ResilientCallExecutor} that every call to it must go through.
+ */
+@Component
+public class HttpIntegrations {
+
+    public static final String DOCUMENT_PARSER = "document-parser";
+    public static final String NOVU = "novu";
+
+    private final HttpIntegrationProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, HttpClient> clients = new ConcurrentHashMap<>();
+    private final Map<String, ResilientCallExecutor> executors = new ConcurrentHashMap<>();
+
+    public HttpIntegrations(HttpIntegrationProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * A {@link RestClient.Builder} backed by the integration's shared connection pool.
+     */
+    public RestClient.Builder restClientBuilder(String integration) {
+        HttpIntegrationProperties.Settings settings = properties.forIntegration(integration);
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient(integration));
+        requestFactory.setReadTimeout(Duration.ofMillis(settings.getReadTimeoutMs()));
+        return RestClient.builder().requestFactory(requestFactory);
+    }
+
+    public ResilientCallExecutor executor(String integration) {
+        return executors.computeIfAbsent(integration,
+                name -> new ResilientCallExecutor(name, properties.forIntegration(name), meterRegistry));
+    }
+
+    private HttpClient httpClient(String integration) {
+        return clients.computeIfAbsent(integration, name -> HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(properties.forIntegration(name).getConnectTimeoutMs()))
+                // Plain HTTP/1.1 keep-alive; avoids h2c upgrade attempts against the parser
+                .version(HttpClient.Version.HTTP_1_1)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build());
+    }
+}
@@ -0,0 +1,6 @@
+package com.etalente.backend.integration.http;
+
+@FunctionalInterface
+public interface IntegrationCall<T> {
+    T call() throws Exception;
+}
@@ -0,0 +1,218 @@
+package com.etalente.backend.integration.http;
+
+import co.novu.common.rest.NovuNetworkException;
+import com.etalente.backend.exception.IntegrationUnavailableException;
+import com.etalente.backend.exception.ServiceException;
+import com.etalente.backend.observability.RequestTimings;
+import com.etalente.backend.observability.jfr.IntegrationCallEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter.MeterProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientResponseException;
+
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Guards every outbound call of one integration with a bulkhead (bounded concurrent
+ * calls), a {@link CircuitBreaker} and, for idempotent calls, retries with exponential
+ * backoff and full jitter.
+ * <p>
+ * Transport errors, 5xx and 429 responses count as failures; other 4xx responses mean the
+ * integration is healthy and are passed straight back to the caller. The Novu SDK reports
+ * error responses as {@link NovuNetworkException} carrying the response body, so its status
+ * is read from there. Calls rejected by
+ * the bulkhead or an open breaker fail fast with {@link IntegrationUnavailableException}.
+ */
+public class ResilientCallExecutor {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResilientCallExecutor.class);
+
+    // Novu error bodies look like {"statusCode":400,"message":...}
+    private static final Pattern NOVU_STATUS = Pattern.compile("\"statusCode\"\\s*:\\s*(\\d{3})");
+
+    private final String integration;
+    private final HttpIntegrationProperties.Settings settings;
+    private final CircuitBreaker circuitBreaker;
+    private final Semaphore bulkhead;
+    private final Counter retryCounter;
+    private final MeterProvider<Timer> callTimer;
+
+    public ResilientCallExecutor(String integration, HttpIntegrationProperties.Settings settings,
+                                 MeterRegistry meterRegistry) {
+        this(integration, settings, new CircuitBreaker(settings), meterRegistry);
+    }
+
+    ResilientCallExecutor(String integration, HttpIntegrationProperties.Settings settings,
+                          CircuitBreaker circuitBreaker, MeterRegistry meterRegistry) {
+        this.integration = integration;
+        this.settings = settings;
+        this.circuitBreaker = circuitBreaker;
+        this.bulkhead = new Semaphore(settings.getMaxConcurrentCalls(), true);
+        this.callTimer = Timer.builder("integration.http.calls")
+                .tag("integration", integration)
+                .withRegistry(meterRegistry);
+        this.retryCounter = Counter.builder("integration.http.retries")
+                .tag("integration", integration)
+                .register(meterRegistry);
+        Gauge.builder("integration.http.bulkhead.available", bulkhead, Semaphore::availablePermits)
+                .tag("integration", integration)
+                .register(meterRegistry);
+        Gauge.builder("integration.http.circuit.state", circuitBreaker, cb -> cb.getState().ordinal())
+                .tag("integration", integration)
+                .description("0 = closed, 1 = open, 2 = half-open")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Run {@code call} under the bulkhead and circuit breaker.
+     *
+     * @param idempotent whether the call may safely be repeated after a transient failure
+     */
+    public <T> T execute(String operation, boolean idempotent, IntegrationCall<T> call) {
+        IntegrationCallEvent event = new IntegrationCallEvent();
+        event.begin();
+        String outcome = "success";
+        try (RequestTimings.Span ignored = RequestTimings.start(integration)) {
+            return executeWithRetries(operation, idempotent, call);
+        } catch (RuntimeException e) {
+            outcome = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.integration = integration;
+                event.operation = operation;
+                event.outcome = outcome;
+                event.commit();
+            }
+        }
+    }
+
+    private <T> T executeWithRetries(String operation, boolean idempotent, IntegrationCall<T> call) {
+        int maxAttempts = idempotent ? settings.getMaxRetries() + 1 : 1;
+
+        for (int attempt = 1; ; attempt++) {
+            acquireBulkhead(operation);
+            Exception failure;
+            try {
+                if (!circuitBreaker.tryAcquirePermission()) {
+                    record(operation, "short_circuited", 0);
+                    throw new IntegrationUnavailableException(integration + " is unavailable (circuit open)");
+                }
+
+                long start = System.nanoTime();
+                try {
+                    T result = call.call();
+                    circuitBreaker.onSuccess();
+                    record(operation, "success", System.nanoTime() - start);
+                    return result;
+                } catch (Exception e) {
+                    if (!isFailure(e)) {
+                        circuitBreaker.onSuccess();
+                        record(operation, "client_error", System.nanoTime() - start);
+                        throw propagate(e);
+                    }
+                    circuitBreaker.onFailure();
+                    record(operation, "failure", System.nanoTime() - start);
+                    if (attempt >= maxAttempts || !isRetryable(e)) {
+                        throw propagate(e);
+                    }
+                    failure = e;
+                }
+            } finally {
+                bulkhead.release();
+            }
+
+            // Back off outside the bulkhead so waiting retries do not hold permits
+            retryCounter.increment();
+            long delay = backoffMillis(attempt);
+            logger.warn("{} {} failed (attempt {}/{}), retrying in {} ms: {}",
+                    integration, operation, attempt, maxAttempts, delay, failure.toString());
+            sleep(delay);
+        }
+    }
+
+    public CircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    private void acquireBulkhead(String operation) {
+        boolean acquired;
+        try {
+            acquired = bulkhead.tryAcquire(settings.getMaxWaitMs(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            record(operation, "rejected", 0);
+            throw new IntegrationUnavailableException(integration + " is unavailable (too many concurrent calls)");
+        }
+    }
+
+    private long backoffMillis(int attempt) {
+        long ceiling = Math.min(settings.getRetryMaxDelayMs(), settings.getRetryBaseDelayMs() << (attempt - 1));
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceException(integration + " call interrupted", e);
+        }
+    }
+
+    private void record(String operation, String outcome, long nanos) {
+        callTimer.withTags("operation", operation, "outcome", outcome).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    static boolean isFailure(Exception e) {
+        int status = responseStatus(e);
+        if (status > 0) {
+            return HttpStatusCode.valueOf(status).is5xxServerError() || status == 429;
+        }
+        return true;
+    }
+
+    static boolean isRetryable(Exception e) {
+        int status = responseStatus(e);
+        if (status > 0) {
+            return status == 429 || status == 502 || status == 503 || status == 504;
+        }
+        return e instanceof ResourceAccessException || e instanceof IOException;
+    }
+
+    /** HTTP status of an error response, or -1 if {@code e} is not one or the status is unknown. */
+    private static int responseStatus(Exception e) {
+        if (e instanceof RestClientResponseException response) {
+            return response.getStatusCode().value();
+        }
+        if (e instanceof NovuNetworkException && e.getMessage() != null) {
+            Matcher matcher = NOVU_STATUS.matcher(e.getMessage());
+            if (matcher.find()) {
+                return Integer.parseInt(matcher.group(1));
+            }
+        }
+        return -1;
+    }
+
+    private RuntimeException propagate(Exception e) {
+        if (e instanceof RuntimeException runtime) {
+            return runtime;
+        }
+        return new ServiceException(integration + " call failed", e);
+    }
+}
@@ -3,6 +3,8 @@ package com.etalente.backend.integration.novu;
 import co.novu.api.common.SubscriberRequest;
 import co.novu.api.subscribers.responses.CreateSubscriberResponse;
 import co.novu.common.base.Novu;
+import com.etalente.backend.integration.http.HttpIntegrations;
+import com.etalente.backend.integration.http.ResilientCallExecutor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
@@ -15,9 +17,11 @@ public class NovuSubscriberService {
     private static final Logger logger = LoggerFactory.getLogger(NovuSubscriberService.class);
 
     private final Novu novuClient;
+    private final ResilientCallExecutor executor;
 
-    public NovuSubscriberService(Novu novuClient) {
+    public NovuSubscriberService(Novu novuClient, HttpIntegrations httpIntegrations) {
         this.novuClient = novuClient;
+        this.executor = httpIntegrations.executor(HttpIntegrations.NOVU);
     }
 
     public void createOrUpdateSubscriber(String subscriberId, String email,
@@ -31,7 +35,9 @@ public class NovuSubscriberService {
             request.setFirstName(firstName);
             request.setLastName(lastName);
 
-            CreateSubscriberResponse response = novuClient.createSubscriber(request);
+            // Create-or-update by subscriber id is idempotent
+            CreateSubscriberResponse response = executor.execute("create-subscriber", true,
+                    () -> novuClient.createSubscriber(request));
             logger.info("Subscriber created/updated successfully: {}", subscriberId);
 
         } catch (Exception e) {
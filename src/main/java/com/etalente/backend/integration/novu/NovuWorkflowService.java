@@ -6,6 +6,10 @@ import co.novu.api.events.responses.TriggerEventResponse;
 import co.novu.common.base.Novu;
 import com.etalente.backend.dto.WorkflowTriggerRequest;
 import com.etalente.backend.dto.WorkflowTriggerResponse;
+import com.etalente.backend.integration.http.HttpIntegrations;
+import com.etalente.backend.integration.http.ResilientCallExecutor;
+import com.etalente.backend.model.NotificationStatus;
+import com.etalente.backend.service.NotificationDeliveryLogWriter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.scheduling.annotation.Async;
@@ -18,10 +22,18 @@ public class NovuWorkflowService {
 
     private static final Logger logger = LoggerFactory.getLogger(NovuWorkflowService.class);
 
+    static final String CHANNEL = "WORKFLOW";
+    static final String PROVIDER = "novu";
+
     private final Novu novuClient;
+    private final ResilientCallExecutor executor;
+    private final NotificationDeliveryLogWriter deliveryLogWriter;
 
-    public NovuWorkflowService(Novu novuClient) {
+    public NovuWorkflowService(Novu novuClient, HttpIntegrations httpIntegrations,
+                               NotificationDeliveryLogWriter deliveryLogWriter) {
         this.novuClient = novuClient;
+        this.executor = httpIntegrations.executor(HttpIntegrations.NOVU);
+        this.deliveryLogWriter = deliveryLogWriter;
     }
 
     @Async
@@ -40,10 +52,14 @@ public class NovuWorkflowService {
             triggerEvent.setTo(subscriberRequest);
             triggerEvent.setPayload(request.getPayload());
 
-            TriggerEventResponse response = novuClient.triggerEvent(triggerEvent);
+            // Triggers are not idempotent, so no retries; the breaker still fails fast during outages
+            TriggerEventResponse response = executor.execute("trigger-event", false,
+                    () -> novuClient.triggerEvent(triggerEvent));
 
             logger.info("Workflow triggered successfully. Transaction ID: {}",
                     response.getData().getTransactionId());
+            deliveryLogWriter.record(NotificationDeliveryLogWriter.outcome(null, CHANNEL, PROVIDER,
+                    NotificationStatus.SENT.name(), null, response.getData().getTransactionId()));
 
             WorkflowTriggerResponse workflowTriggerResponse = new WorkflowTriggerResponse();
             workflowTriggerResponse.setTransactionId(response.getData().getTransactionId());
@@ -53,6 +69,8 @@ public class NovuWorkflowService {
 
         } catch (Exception e) {
             logger.error("Failed to trigger Novu workflow: {}", workflowId, e);
+            deliveryLogWriter.record(NotificationDeliveryLogWriter.outcome(null, CHANNEL, PROVIDER,
+                    NotificationStatus.FAILED.name(), workflowId + ": " + e.getMessage(), null));
 
             WorkflowTriggerResponse workflowTriggerResponse = new WorkflowTriggerResponse();
             workflowTriggerResponse.setAcknowledged(false);
@@ -35,6 +35,9 @@ public class JobApplication {
     @Column(name = "viewed_by_employer", nullable = false)
     private boolean viewedByEmployer = false;
 
+    @Column(name = "idempotency_key", updatable = false)
+    private String idempotencyKey;
+
     // Getters and Setters
 
     public UUID getId() {
@@ -77,6 +80,14 @@ public class JobApplication {
         this.applicationDate = applicationDate;
     }
 
+    public String getIdempotencyKey() {
+        return idempotencyKey;
+    }
+
+    public void setIdempotencyKey(String idempotencyKey) {
+        this.idempotencyKey = idempotencyKey;
+    }
+
     public boolean isViewedByEmployer() {
         return viewedByEmployer;
     }
@@ -1,10 +1,8 @@
 package com.etalente.backend.model;
 
-import java.util.Arrays;
 import java.util.Set;
-import java.util.stream.Collectors;
 
-public enum JobApplicationStateTransition {
+public enum JobApplicationStateTransition implements Transition<JobApplicationStatus> {
     // From APPLIED
     APPLIED_TO_UNDER_REVIEW(JobApplicationStatus.APPLIED, JobApplicationStatus.UNDER_REVIEW, "Application moved to under review"),
     APPLIED_TO_REJECTED(JobApplicationStatus.APPLIED, JobApplicationStatus.REJECTED, "Application rejected"),
@@ -27,6 +25,9 @@ public enum JobApplicationStateTransition {
 
     // HIRED, REJECTED, WITHDRAWN are terminal states - no transitions from them
 
+    private static final TransitionTable<JobApplicationStatus, JobApplicationStateTransition> TABLE =
+            TransitionTable.of(JobApplicationStatus.class, JobApplicationStateTransition.class, values());
+
     private final JobApplicationStatus fromStatus;
     private final JobApplicationStatus toStatus;
     private final String description;
@@ -37,14 +38,17 @@ public enum JobApplicationStateTransition {
         this.description = description;
     }
 
+    @Override
     public JobApplicationStatus getFromStatus() {
         return fromStatus;
     }
 
+    @Override
     public JobApplicationStatus getToStatus() {
         return toStatus;
     }
 
+    @Override
     public String getDescription() {
         return description;
     }
@@ -53,26 +57,20 @@ public enum JobApplicationStateTransition {
      * Check if a transition from one status to another is valid
      */
     public static boolean isValidTransition(JobApplicationStatus from, JobApplicationStatus to) {
-        return Arrays.stream(values())
-                .anyMatch(t -> t.fromStatus == from && t.toStatus == to);
+        return TABLE.isValid(from, to);
     }
 
     /**
-     * Get all valid transitions from a given status
+     * Get all valid transitions from a given status. The returned set is shared and unmodifiable.
      */
     public static Set<JobApplicationStateTransition> getValidTransitionsFrom(JobApplicationStatus status) {
-        return Arrays.stream(values())
-                .filter(t -> t.fromStatus == status)
-                .collect(Collectors.toSet());
+        return TABLE.transitionsFrom(status);
     }
 
     /**
      * Get the transition between two statuses
      */
     public static JobApplicationStateTransition getTransition(JobApplicationStatus from, JobApplicationStatus to) {
-        return Arrays.stream(values())
-                .filter(t -> t.fromStatus == from && t.toStatus == to)
-                .findFirst()
-                .orElse(null);
+        return TABLE.transition(from, to);
     }
 }
@@ -49,7 +49,7 @@ public class JobPost {
     @Enumerated(EnumType.STRING)
     private JobPostStatus status = JobPostStatus.DRAFT;;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "created_by_id")
     private User createdBy;
 
@@ -12,7 +12,8 @@ public class NotificationDeliveryLog {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(name = "notification_id", nullable = false)
+    // Empty for workflow dispatches, which have no in-app notification
+    @Column(name = "notification_id")
     private Long notificationId;
 
     @Column(nullable = false, length = 50)
@@ -25,7 +25,7 @@ public class Organization {
     private String description;
     private String website;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "created_by_id")
     private User createdBy; // The first hiring manager
 
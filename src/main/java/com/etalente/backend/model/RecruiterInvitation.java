@@ -21,11 +21,11 @@ public class RecruiterInvitation {
     @Column(nullable = false, unique = true)
     private String token;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "organization_id", nullable = false)
     private Organization organization;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "invited_by_id", nullable = false)
     private User invitedBy;
 
@@ -0,0 +1,8 @@
+package com.etalente.backend.model;
+
+public enum ResumeAutofillStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -1,10 +1,8 @@
 package com.etalente.backend.model;
 
-import java.util.Arrays;
 import java.util.Set;
-import java.util.stream.Collectors;
 
-public enum StateTransition {
+public enum StateTransition implements Transition<JobPostStatus> {
     // From DRAFT
     DRAFT_TO_OPEN(JobPostStatus.DRAFT, JobPostStatus.OPEN, "Publish job post"),
     DRAFT_TO_ARCHIVED(JobPostStatus.DRAFT, JobPostStatus.ARCHIVED, "Cancel draft without publishing"),
@@ -20,6 +18,9 @@ public enum StateTransition {
 
     // ARCHIVED is a terminal state - no transitions from it
 
+    private static final TransitionTable<JobPostStatus, StateTransition> TABLE =
+            TransitionTable.of(JobPostStatus.class, StateTransition.class, values());
+
     private final JobPostStatus fromStatus;
     private final JobPostStatus toStatus;
     private final String description;
@@ -30,14 +31,17 @@ public enum StateTransition {
         this.description = description;
     }
 
+    @Override
     public JobPostStatus getFromStatus() {
         return fromStatus;
     }
 
+    @Override
     public JobPostStatus getToStatus() {
         return toStatus;
     }
 
+    @Override
     public String getDescription() {
         return description;
     }
@@ -46,26 +50,20 @@ public enum StateTransition {
      * Check if a transition from one status to another is valid
      */
     public static boolean isValidTransition(JobPostStatus from, JobPostStatus to) {
-        return Arrays.stream(values())
-                .anyMatch(t -> t.fromStatus == from && t.toStatus == to);
+        return TABLE.isValid(from, to);
     }
 
     /**
-     * Get all valid transitions from a given status
+     * Get all valid transitions from a given status. The returned set is shared and unmodifiable.
      */
     public static Set<StateTransition> getValidTransitionsFrom(JobPostStatus status) {
-        return Arrays.stream(values())
-                .filter(t -> t.fromStatus == status)
-                .collect(Collectors.toSet());
+        return TABLE.transitionsFrom(status);
     }
 
     /**
      * Get the transition between two statuses
      */
     public static StateTransition getTransition(JobPostStatus from, JobPostStatus to) {
-        return Arrays.stream(values())
-                .filter(t -> t.fromStatus == from && t.toStatus == to)
-                .findFirst()
-                .orElse(null);
+        return TABLE.transition(from, to);
     }
 }
\ No newline at end of file
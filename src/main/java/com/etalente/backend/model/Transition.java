@@ -0,0 +1,14 @@
+package com.etalente.backend.model;
+
+/**
+ * An allowed move between two states of an entity, implemented by the enums that list a state machine's
+ * transitions.
+ */
+public interface Transition<S extends Enum<S>> {
+
+    S getFromStatus();
+
+    S getToStatus();
+
+    String getDescription();
+}
@@ -0,0 +1,68 @@
+package com.etalente.backend.model;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Lookup tables for a state machine, built once from its transition enum so that checking a move is a map
+ * lookup and a bit test rather than a scan of every transition.
+ * <p>
+ * Sets handed out are unmodifiable views shared between callers.
+ */
+public final class TransitionTable<S extends Enum<S>, T extends Enum<T> & Transition<S>> {
+
+    private final Map<S, Set<S>> targets;
+    private final Map<S, Set<T>> transitionsFrom;
+    private final Map<S, Map<S, T>> transitions;
+    private final Set<S> noTargets;
+    private final Set<T> noTransitions;
+
+    private TransitionTable(Class<S> stateType, Class<T> transitionType, T[] allTransitions) {
+        Map<S, EnumSet<S>> targetsByState = new EnumMap<>(stateType);
+        Map<S, EnumSet<T>> transitionsByState = new EnumMap<>(stateType);
+        Map<S, Map<S, T>> byPair = new EnumMap<>(stateType);
+        for (T transition : allTransitions) {
+            S from = transition.getFromStatus();
+            S to = transition.getToStatus();
+            targetsByState.computeIfAbsent(from, state -> EnumSet.noneOf(stateType)).add(to);
+            transitionsByState.computeIfAbsent(from, state -> EnumSet.noneOf(transitionType)).add(transition);
+            byPair.computeIfAbsent(from, state -> new EnumMap<>(stateType)).put(to, transition);
+        }
+        this.targets = new EnumMap<>(stateType);
+        targetsByState.forEach((state, set) -> targets.put(state, Collections.unmodifiableSet(set)));
+        this.transitionsFrom = new EnumMap<>(stateType);
+        transitionsByState.forEach((state, set) -> transitionsFrom.put(state, Collections.unmodifiableSet(set)));
+        this.transitions = byPair;
+        this.noTargets = Collections.unmodifiableSet(EnumSet.noneOf(stateType));
+        this.noTransitions = Collections.unmodifiableSet(EnumSet.noneOf(transitionType));
+    }
+
+    public static <S extends Enum<S>, T extends Enum<T> & Transition<S>> TransitionTable<S, T> of(
+            Class<S> stateType, Class<T> transitionType, T[] allTransitions) {
+        return new TransitionTable<>(stateType, transitionType, allTransitions);
+    }
+
+    public boolean isValid(S from, S to) {
+        return targetsFrom(from).contains(to);
+    }
+
+    /** States reachable from {@code from} in one step; empty for terminal states. */
+    public Set<S> targetsFrom(S from) {
+        Set<S> reachable = from == null ? null : targets.get(from);
+        return reachable != null ? reachable : noTargets;
+    }
+
+    public Set<T> transitionsFrom(S from) {
+        Set<T> outgoing = from == null ? null : transitionsFrom.get(from);
+        return outgoing != null ? outgoing : noTransitions;
+    }
+
+    /** The transition from {@code from} to {@code to}, or {@code null} if the move is not allowed. */
+    public T transition(S from, S to) {
+        Map<S, T> outgoing = from == null ? null : transitions.get(from);
+        return outgoing != null && to != null ? outgoing.get(to) : null;
+    }
+}
@@ -72,12 +72,12 @@ public class User {
     @Enumerated(EnumType.STRING)
     private UserAccountStatus accountStatus = UserAccountStatus.ACTIVE;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "organization_id")
     private Organization organization;
 
     // For tracking who invited them
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "invited_by_id")
     private User invitedBy;
 
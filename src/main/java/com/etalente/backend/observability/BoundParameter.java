@@ -0,0 +1,38 @@
+package com.etalente.backend.observability;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * A {@code PreparedStatement.setXxx} call as the application made it, replayable on another statement
+ * with the same SQL shape.
+ */
+record BoundParameter(Method setter, Object[] args) {
+
+    /** Streams and readers are consumed by the first execution and cannot be bound twice. */
+    boolean isReplayable() {
+        for (Object arg : args) {
+            if (arg instanceof InputStream || arg instanceof Reader) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    void applyTo(PreparedStatement statement) throws SQLException {
+        try {
+            setter.invoke(statement, args);
+        } catch (IllegalAccessException e) {
+            throw new SQLException("Cannot replay " + setter.getName(), e);
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof SQLException sqlException) {
+                throw sqlException;
+            }
+            throw new SQLException("Cannot replay " + setter.getName(), e.getCause());
+        }
+    }
+}
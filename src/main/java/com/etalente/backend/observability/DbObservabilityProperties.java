@@ -0,0 +1,161 @@
+package com.etalente.backend.observability;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Per-request database instrumentation ({@code observability.db.*}). A request is logged as slow when it
+ * crosses any one of the slow-request thresholds; a single statement slower than the slow-query threshold
+ * may be sampled and explained by {@link SlowQuerySampler}.
+ */
+@Component
+@ConfigurationProperties(prefix = "observability.db")
+public class DbObservabilityProperties {
+
+    private boolean enabled = true;
+    private int maxTrackedStatements = 50;
+    private int loggedStatements = 10;
+    private SlowRequest slowRequest = new SlowRequest();
+    private SlowQuery slowQuery = new SlowQuery();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getMaxTrackedStatements() {
+        return maxTrackedStatements;
+    }
+
+    public void setMaxTrackedStatements(int maxTrackedStatements) {
+        this.maxTrackedStatements = maxTrackedStatements;
+    }
+
+    public int getLoggedStatements() {
+        return loggedStatements;
+    }
+
+    public void setLoggedStatements(int loggedStatements) {
+        this.loggedStatements = loggedStatements;
+    }
+
+    public SlowRequest getSlowRequest() {
+        return slowRequest;
+    }
+
+    public void setSlowRequest(SlowRequest slowRequest) {
+        this.slowRequest = slowRequest;
+    }
+
+    public SlowQuery getSlowQuery() {
+        return slowQuery;
+    }
+
+    public void setSlowQuery(SlowQuery slowQuery) {
+        this.slowQuery = slowQuery;
+    }
+
+    public static class SlowRequest {
+
+        private int statements = 50;
+        private long dbTimeMs = 500;
+        private long rows = 10000;
+
+        public int getStatements() {
+            return statements;
+        }
+
+        public void setStatements(int statements) {
+            this.statements = statements;
+        }
+
+        public long getDbTimeMs() {
+            return dbTimeMs;
+        }
+
+        public void setDbTimeMs(long dbTimeMs) {
+            this.dbTimeMs = dbTimeMs;
+        }
+
+        public long getRows() {
+            return rows;
+        }
+
+        public void setRows(long rows) {
+            this.rows = rows;
+        }
+    }
+
+    public static class SlowQuery {
+
+        private boolean enabled = true;
+        private long thresholdMs = 200;
+        // Fraction of slow SELECTs that are explained
+        private double sampleRate = 0.1;
+        // EXPLAIN ANALYZE runs the query again, inside a read-only transaction that is rolled back, so it is
+        // opt-in: a sampled slow query costs the database a second full execution
+        private boolean analyze = false;
+        private long explainTimeoutMs = 5000;
+        private int retainedPlans = 100;
+        private int trackedQueries = 500;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public long getThresholdMs() {
+            return thresholdMs;
+        }
+
+        public void setThresholdMs(long thresholdMs) {
+            this.thresholdMs = thresholdMs;
+        }
+
+        public double getSampleRate() {
+            return sampleRate;
+        }
+
+        public void setSampleRate(double sampleRate) {
+            this.sampleRate = sampleRate;
+        }
+
+        public boolean isAnalyze() {
+            return analyze;
+        }
+
+        public void setAnalyze(boolean analyze) {
+            this.analyze = analyze;
+        }
+
+        public long getExplainTimeoutMs() {
+            return explainTimeoutMs;
+        }
+
+        public void setExplainTimeoutMs(long explainTimeoutMs) {
+            this.explainTimeoutMs = explainTimeoutMs;
+        }
+
+        public int getRetainedPlans() {
+            return retainedPlans;
+        }
+
+        public void setRetainedPlans(int retainedPlans) {
+            this.retainedPlans = retainedPlans;
+        }
+
+        public int getTrackedQueries() {
+            return trackedQueries;
+        }
+
+        public void setTrackedQueries(int trackedQueries) {
+            this.trackedQueries = trackedQueries;
+        }
+    }
+}
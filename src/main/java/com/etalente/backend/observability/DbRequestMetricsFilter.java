@@ -0,0 +1,145 @@
+package com.etalente.backend.observability;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collects {@link DbRequestStats} for each HTTP request and publishes them tagged with the request method
+ * and matched URI pattern, each with a small fixed set of histogram buckets:
+ * <ul>
+ *     <li>{@code db.request.statements} - statements executed</li>
+ *     <li>{@code db.request.rows} - rows read from result sets</li>
+ *     <li>{@code db.request.time} - time spent waiting on the database</li>
+ * </ul>
+ * Requests crossing a threshold in {@link DbObservabilityProperties} are logged with their slowest SQL
+ * fingerprints. Ordered ahead of Spring Security, so user lookups made while authenticating are included.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@ConditionalOnProperty(prefix = "observability.db", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class DbRequestMetricsFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(DbRequestMetricsFilter.class);
+    private static final String UNMATCHED_URI = "UNKNOWN";
+
+    private final DbObservabilityProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final SlowQuerySampler slowQuerySampler;
+    private final Map<String, RequestMeters> meters = new ConcurrentHashMap<>();
+
+    public DbRequestMetricsFilter(DbObservabilityProperties properties, MeterRegistry meterRegistry,
+                                  SlowQuerySampler slowQuerySampler) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.slowQuerySampler = slowQuerySampler;
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        DbRequestStats stats = DbRequestStats.begin(properties.getMaxTrackedStatements(),
+                slowQuerySampler.isEnabled() ? slowQuerySampler : null);
+        long started = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            DbRequestStats.end();
+            record(request, response, stats, System.nanoTime() - started);
+        }
+    }
+
+    private void record(HttpServletRequest request, HttpServletResponse response, DbRequestStats stats, long requestNanos) {
+        String uri = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE) instanceof String pattern
+                ? pattern : UNMATCHED_URI;
+        String method = request.getMethod();
+        RequestMeters requestMeters = meters.computeIfAbsent(method + ' ' + uri, key -> new RequestMeters(meterRegistry, method, uri));
+        requestMeters.statements.record(stats.statements());
+        requestMeters.rows.record(stats.rowsFetched());
+        requestMeters.dbTime.record(stats.dbTimeNanos(), TimeUnit.NANOSECONDS);
+
+        if (isSlow(stats)) {
+            logSlowRequest(method, request.getRequestURI(), response.getStatus(), stats, requestNanos);
+        }
+    }
+
+    private boolean isSlow(DbRequestStats stats) {
+        DbObservabilityProperties.SlowRequest slow = properties.getSlowRequest();
+        return stats.statements() >= slow.getStatements()
+                || stats.rowsFetched() >= slow.getRows()
+                || TimeUnit.NANOSECONDS.toMillis(stats.dbTimeNanos()) >= slow.getDbTimeMs();
+    }
+
+    private void logSlowRequest(String method, String path, int status, DbRequestStats stats, long requestNanos) {
+        StringBuilder message = new StringBuilder()
+                .append("Slow DB request ").append(method).append(' ').append(path).append(" (").append(status).append("): ")
+                .append(stats.statements()).append(" statements, ")
+                .append(stats.rowsFetched()).append(" rows, ")
+                .append(Duration.ofNanos(stats.dbTimeNanos()).toMillis()).append(" ms in database of ")
+                .append(Duration.ofNanos(requestNanos).toMillis()).append(" ms");
+        for (DbRequestStats.StatementStats statement : stats.slowestStatements(properties.getLoggedStatements())) {
+            message.append(System.lineSeparator())
+                    .append("  ").append(statement.executions()).append("x ")
+                    .append(Duration.ofNanos(statement.nanos()).toMillis()).append(" ms  ")
+                    .append(statement.fingerprint());
+        }
+        log.warn(message.toString());
+    }
+
+    private static final class RequestMeters {
+
+        // A handful of fixed buckets per route keeps the series count bounded; the full percentile histogram
+        // would add dozens of buckets to every method and URI pair
+        private static final double[] STATEMENT_BUCKETS = {5, 10, 25, 50, 100};
+        private static final double[] ROW_BUCKETS = {10, 100, 1_000, 10_000};
+        private static final Duration[] DB_TIME_BUCKETS = {
+                Duration.ofMillis(10), Duration.ofMillis(50), Duration.ofMillis(100),
+                Duration.ofMillis(250), Duration.ofSeconds(1)};
+
+        private final DistributionSummary statements;
+        private final DistributionSummary rows;
+        private final Timer dbTime;
+
+        RequestMeters(MeterRegistry registry, String method, String uri) {
+            Tags tags = Tags.of("method", method, "uri", uri);
+            this.statements = DistributionSummary.builder("db.request.statements")
+                    .description("SQL statements executed per HTTP request")
+                    .baseUnit("statements")
+                    .tags(tags)
+                    .serviceLevelObjectives(STATEMENT_BUCKETS)
+                    .register(registry);
+            this.rows = DistributionSummary.builder("db.request.rows")
+                    .description("Rows read from result sets per HTTP request")
+                    .baseUnit("rows")
+                    .tags(tags)
+                    .serviceLevelObjectives(ROW_BUCKETS)
+                    .register(registry);
+            this.dbTime = Timer.builder("db.request.time")
+                    .description("Time spent executing SQL per HTTP request")
+                    .tags(tags)
+                    .serviceLevelObjectives(DB_TIME_BUCKETS)
+                    .register(registry);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.etalente.backend.observability;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Database work done on behalf of one HTTP request: statements executed, rows read and time spent waiting on
+ * the database, with a per-SQL breakdown for slow-request logs.
+ * <p>
+ * Bound to the request thread by {@link DbRequestMetricsFilter} and fed by {@link InstrumentedDataSource}.
+ * Work handed to other threads, such as async executors or the delivery log writer, is not attributed to the
+ * request. Instances are confined to one thread and are not thread-safe.
+ */
+public final class DbRequestStats {
+
+    private static final ThreadLocal<DbRequestStats> CURRENT = new ThreadLocal<>();
+
+    private final int maxTrackedStatements;
+    private final SlowQuerySampler slowQuerySampler;
+    private final Map<String, StatementStats> bySql = new HashMap<>();
+    private int statements;
+    private long rowsFetched;
+    private long dbTimeNanos;
+    private String queryContext;
+
+    private DbRequestStats(int maxTrackedStatements, SlowQuerySampler slowQuerySampler) {
+        this.maxTrackedStatements = maxTrackedStatements;
+        this.slowQuerySampler = slowQuerySampler;
+    }
+
+    /**
+     * Starts collecting on the current thread. Statements beyond {@code maxTrackedStatements} distinct SQL
+     * strings still count towards the totals but are not itemised. Executions are also offered to
+     * {@code slowQuerySampler} when it is not {@code null}.
+     */
+    static DbRequestStats begin(int maxTrackedStatements, SlowQuerySampler slowQuerySampler) {
+        DbRequestStats stats = new DbRequestStats(maxTrackedStatements, slowQuerySampler);
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    /** The stats of the request being handled on this thread, or {@code null} outside a request. */
+    public static DbRequestStats current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Labels the statements the current request runs from here on, e.g. with the filter combination of a
+     * search, so slow-query samples can be told apart beyond their SQL. No-op outside a request.
+     */
+    public static void describeQueries(String context) {
+        DbRequestStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.queryContext = context;
+        }
+    }
+
+    /** Whether statements should keep their bind parameters so a slow one can be explained. */
+    boolean capturesParameters() {
+        return slowQuerySampler != null;
+    }
+
+    void recordExecution(String sql, long nanos, Collection<BoundParameter> parameters) {
+        statements++;
+        dbTimeNanos += nanos;
+        if (sql == null) {
+            return;
+        }
+        if (slowQuerySampler != null) {
+            slowQuerySampler.offer(sql, parameters, nanos, queryContext);
+        }
+        StatementStats perSql = bySql.get(sql);
+        if (perSql == null && bySql.size() < maxTrackedStatements) {
+            perSql = new StatementStats(sql);
+            bySql.put(sql, perSql);
+        }
+        if (perSql != null) {
+            perSql.executions++;
+            perSql.nanos += nanos;
+        }
+    }
+
+    void recordRow() {
+        rowsFetched++;
+    }
+
+    public int statements() {
+        return statements;
+    }
+
+    public long rowsFetched() {
+        return rowsFetched;
+    }
+
+    public long dbTimeNanos() {
+        return dbTimeNanos;
+    }
+
+    /** Tracked statements ordered by total time, slowest first. */
+    public List<StatementStats> slowestStatements(int limit) {
+        List<StatementStats> sorted = new ArrayList<>(bySql.values());
+        sorted.sort(Comparator.comparingLong(StatementStats::nanos).reversed());
+        return sorted.size() > limit ? sorted.subList(0, limit) : sorted;
+    }
+
+    public static final class StatementStats {
+
+        private final String sql;
+        private int executions;
+        private long nanos;
+
+        private StatementStats(String sql) {
+            this.sql = sql;
+        }
+
+        public String sql() {
+            return sql;
+        }
+
+        public int executions() {
+            return executions;
+        }
+
+        public long nanos() {
+            return nanos;
+        }
+
+        public String fingerprint() {
+            return SqlFingerprint.of(sql);
+        }
+    }
+}
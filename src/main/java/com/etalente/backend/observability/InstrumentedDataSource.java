@@ -0,0 +1,180 @@
+package com.etalente.backend.observability;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Wraps the pool so statements created while a request is being handled report their execution time and
+ * the rows read through them to the thread's {@link DbRequestStats}.
+ * <p>
+ * Statements created outside a request, e.g. by schedulers or background jobs, are returned unwrapped, so the
+ * only cost there is one thread-local lookup per statement. {@code unwrap} reaches the driver's own objects,
+ * which is what COPY and other driver-specific APIs use.
+ */
+public class InstrumentedDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    public InstrumentedDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return proxy(Connection.class, new ConnectionHandler(super.getConnection()));
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return proxy(Connection.class, new ConnectionHandler(super.getConnection(username, password)));
+    }
+
+    /** Lets the container's inferred destroy method still shut the wrapped pool down. */
+    @Override
+    public void close() throws Exception {
+        if (getTargetDataSource() instanceof AutoCloseable pool) {
+            pool.close();
+        }
+    }
+
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(InstrumentedDataSource.class.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+
+    private abstract static class DelegatingHandler implements InvocationHandler {
+
+        protected final Object target;
+
+        DelegatingHandler(Object target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Instrumented[" + target + "]";
+                case "unwrap":
+                    return ((Class<?>) args[0]).isInstance(proxy) ? proxy : invokeTarget(method, args);
+                case "isWrapperFor":
+                    return ((Class<?>) args[0]).isInstance(proxy) || (Boolean) invokeTarget(method, args);
+                default:
+                    return handle(proxy, method, args);
+            }
+        }
+
+        protected abstract Object handle(Object proxy, Method method, Object[] args) throws Throwable;
+
+        protected Object invokeTarget(Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+    private static final class ConnectionHandler extends DelegatingHandler {
+
+        ConnectionHandler(Connection target) {
+            super(target);
+        }
+
+        @Override
+        protected Object handle(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = invokeTarget(method, args);
+            if (!(result instanceof Statement statement)) {
+                return result;
+            }
+            DbRequestStats stats = DbRequestStats.current();
+            if (stats == null) {
+                return result;
+            }
+            // prepareStatement and prepareCall take the SQL up front; plain statements pass it to execute
+            String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : null;
+            return proxy(method.getReturnType().asSubclass(Statement.class), new StatementHandler(statement, sql, stats));
+        }
+    }
+
+    private static final class StatementHandler extends DelegatingHandler {
+
+        private final String preparedSql;
+        private final DbRequestStats stats;
+        // Bind parameters by index, kept only while a slow-query sampler is listening
+        private final Map<Integer, BoundParameter> parameters;
+
+        StatementHandler(Statement target, String preparedSql, DbRequestStats stats) {
+            super(target);
+            this.preparedSql = preparedSql;
+            this.stats = stats;
+            this.parameters = preparedSql != null && stats.capturesParameters() ? new TreeMap<>() : null;
+        }
+
+        @Override
+        protected Object handle(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (parameters != null) {
+                if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                    parameters.put(index, new BoundParameter(method, args.clone()));
+                } else if (name.equals("clearParameters")) {
+                    parameters.clear();
+                }
+            }
+            if (name.startsWith("execute")) {
+                long started = System.nanoTime();
+                Object result;
+                try {
+                    result = invokeTarget(method, args);
+                } finally {
+                    String sql = preparedSql != null ? preparedSql
+                            : args != null && args.length > 0 && args[0] instanceof String text ? text : null;
+                    stats.recordExecution(sql, System.nanoTime() - started,
+                            parameters != null ? parameters.values() : null);
+                }
+                return wrapResultSet(result);
+            }
+            if (name.equals("getResultSet") || name.equals("getGeneratedKeys")) {
+                return wrapResultSet(invokeTarget(method, args));
+            }
+            return invokeTarget(method, args);
+        }
+
+        private Object wrapResultSet(Object result) {
+            return result instanceof ResultSet resultSet
+                    ? proxy(ResultSet.class, new ResultSetHandler(resultSet, stats))
+                    : result;
+        }
+    }
+
+    private static final class ResultSetHandler extends DelegatingHandler {
+
+        private final DbRequestStats stats;
+
+        ResultSetHandler(ResultSet target, DbRequestStats stats) {
+            super(target);
+            this.stats = stats;
+        }
+
+        @Override
+        protected Object handle(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = invokeTarget(method, args);
+            if (Boolean.TRUE.equals(result) && method.getName().equals("next")) {
+                stats.recordRow();
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.etalente.backend.observability;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * Puts {@link InstrumentedDataSource} in front of every data source bean, so JPA, JdbcTemplate and Flyway
+ * all go through it.
+ */
+@Component
+@ConditionalOnProperty(prefix = "observability.db", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class InstrumentedDataSourcePostProcessor implements BeanPostProcessor {
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof InstrumentedDataSource)) {
+            return new InstrumentedDataSource(dataSource);
+        }
+        return bean;
+    }
+}
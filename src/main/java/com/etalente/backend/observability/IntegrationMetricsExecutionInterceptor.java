@@ -0,0 +1,54 @@
+package com.etalente.backend.observability;
+
+import io.micrometer.core.instrument.Meter.MeterProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+
+/**
+ * Publishes AWS SDK calls as {@code integration.http.calls}, the timer the HTTP integrations already use,
+ * tagged with the integration, the SDK operation name (e.g. {@code PutObject}) and {@code success} or
+ * {@code failure}. Retries made by the SDK are included in the call's time.
+ */
+public class IntegrationMetricsExecutionInterceptor implements ExecutionInterceptor {
+
+    private static final ExecutionAttribute<Timer.Sample> SAMPLE = new ExecutionAttribute<>("IntegrationMetricsSample");
+
+    private final MeterRegistry meterRegistry;
+    private final MeterProvider<Timer> callTimer;
+
+    public IntegrationMetricsExecutionInterceptor(String integration, MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.callTimer = Timer.builder("integration.http.calls")
+                .tag("integration", integration)
+                .withRegistry(meterRegistry);
+    }
+
+    @Override
+    public void beforeExecution(Context.BeforeExecution context, ExecutionAttributes executionAttributes) {
+        executionAttributes.putAttribute(SAMPLE, Timer.start(meterRegistry));
+    }
+
+    @Override
+    public void afterExecution(Context.AfterExecution context, ExecutionAttributes executionAttributes) {
+        record(executionAttributes, "success");
+    }
+
+    @Override
+    public void onExecutionFailure(Context.FailedExecution context, ExecutionAttributes executionAttributes) {
+        record(executionAttributes, "failure");
+    }
+
+    private void record(ExecutionAttributes executionAttributes, String outcome) {
+        Timer.Sample sample = executionAttributes.getAttribute(SAMPLE);
+        if (sample == null) {
+            return;
+        }
+        String operation = executionAttributes.getAttribute(SdkExecutionAttribute.OPERATION_NAME);
+        sample.stop(callTimer.withTags("operation", operation != null ? operation : "unknown", "outcome", outcome));
+    }
+}
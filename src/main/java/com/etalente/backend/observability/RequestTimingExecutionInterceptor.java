@@ -0,0 +1,46 @@
+package com.etalente.backend.observability;
+
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+
+/**
+ * Records AWS SDK calls made on a sampled request's thread as a {@link RequestTimings} phase. Synchronous
+ * clients run interceptors on the calling thread, so the recorder bound there is the request's.
+ */
+public class RequestTimingExecutionInterceptor implements ExecutionInterceptor {
+
+    private static final ExecutionAttribute<Long> STARTED_AT = new ExecutionAttribute<>("RequestTimingStartedAt");
+
+    private final String phase;
+
+    public RequestTimingExecutionInterceptor(String phase) {
+        this.phase = phase;
+    }
+
+    @Override
+    public void beforeExecution(Context.BeforeExecution context, ExecutionAttributes executionAttributes) {
+        if (RequestTimings.current() != null) {
+            executionAttributes.putAttribute(STARTED_AT, System.nanoTime());
+        }
+    }
+
+    @Override
+    public void afterExecution(Context.AfterExecution context, ExecutionAttributes executionAttributes) {
+        record(executionAttributes);
+    }
+
+    @Override
+    public void onExecutionFailure(Context.FailedExecution context, ExecutionAttributes executionAttributes) {
+        record(executionAttributes);
+    }
+
+    private void record(ExecutionAttributes executionAttributes) {
+        Long startedAt = executionAttributes.getAttribute(STARTED_AT);
+        RequestTimings timings = RequestTimings.current();
+        if (startedAt != null && timings != null) {
+            timings.record(phase, System.nanoTime() - startedAt);
+        }
+    }
+}
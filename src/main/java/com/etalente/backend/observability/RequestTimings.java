@@ -0,0 +1,123 @@
+package com.etalente.backend.observability;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-phase latency breakdown of one sampled HTTP request, emitted by {@link ServerTimingFilter} as a
+ * {@code Server-Timing} header.
+ * <p>
+ * Code on the request path wraps a phase in {@link #start(String)}. On requests that are not sampled there
+ * is no recorder bound to the thread and {@code start} returns a shared no-op span, so instrumented code costs
+ * one thread-local lookup. Phases may overlap, e.g. {@code mapping} includes lazy loads also counted in
+ * {@code db}, and a phase entered several times is reported once with its total duration.
+ */
+public final class RequestTimings {
+
+    private static final ThreadLocal<RequestTimings> CURRENT = new ThreadLocal<>();
+    private static final Span NOOP = () -> {
+    };
+
+    private final Map<String, Phase> phases = new LinkedHashMap<>();
+    private long serializationStartedAt;
+    private boolean authenticated;
+
+    private RequestTimings() {
+    }
+
+    static RequestTimings begin() {
+        RequestTimings timings = new RequestTimings();
+        CURRENT.set(timings);
+        return timings;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    /** The recorder of the sampled request on this thread, or {@code null}. */
+    public static RequestTimings current() {
+        return CURRENT.get();
+    }
+
+    /** Times {@code phase} until the returned span is closed. Phase names must be valid header tokens. */
+    public static Span start(String phase) {
+        RequestTimings timings = CURRENT.get();
+        if (timings == null) {
+            return NOOP;
+        }
+        long started = System.nanoTime();
+        return () -> timings.record(phase, System.nanoTime() - started);
+    }
+
+    /** Marks the sampled request as coming from an authenticated user; a no-op on requests that are not sampled. */
+    public static void markAuthenticated() {
+        RequestTimings timings = CURRENT.get();
+        if (timings != null) {
+            timings.authenticated = true;
+        }
+    }
+
+    boolean isAuthenticated() {
+        return authenticated;
+    }
+
+    public void record(String phase, long nanos) {
+        Phase totals = phases.computeIfAbsent(phase, name -> new Phase());
+        totals.count++;
+        totals.nanos += nanos;
+    }
+
+    /** Called just before the response body is handed to the message converter. */
+    void serializationStarted() {
+        serializationStartedAt = System.nanoTime();
+    }
+
+    void serializationFinished() {
+        if (serializationStartedAt != 0) {
+            record("serialize", System.nanoTime() - serializationStartedAt);
+            serializationStartedAt = 0;
+        }
+    }
+
+    /** Formats the recorded phases, the request's database work and the total as a {@code Server-Timing} value. */
+    String toHeaderValue(DbRequestStats db, long totalNanos) {
+        StringBuilder header = new StringBuilder();
+        phases.forEach((name, phase) -> {
+            append(header, name, phase.nanos);
+            if (phase.count > 1) {
+                header.append(";desc=\"").append(phase.count).append(" calls\"");
+            }
+        });
+        if (db != null && db.statements() > 0) {
+            append(header, "db", db.dbTimeNanos());
+            header.append(";desc=\"").append(db.statements()).append(" statements, ")
+                    .append(db.rowsFetched()).append(" rows\"");
+        }
+        append(header, "total", totalNanos);
+        return header.toString();
+    }
+
+    private static void append(StringBuilder header, String name, long nanos) {
+        if (!header.isEmpty()) {
+            header.append(", ");
+        }
+        double millis = nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+        header.append(name).append(";dur=").append(String.format(Locale.ROOT, "%.1f", millis));
+    }
+
+    /** A timed phase; closing it records the elapsed time. */
+    @FunctionalInterface
+    public interface Span extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+
+    private static final class Phase {
+        private int count;
+        private long nanos;
+    }
+}
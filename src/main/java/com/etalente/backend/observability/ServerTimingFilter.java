@@ -0,0 +1,77 @@
+package com.etalente.backend.observability;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.server.PathContainer;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Adds a {@code Server-Timing} header with the {@link RequestTimings} breakdown to a sample of requests on
+ * allowlisted paths. The breakdown reveals internal phases and query counts, so it is only sent to
+ * authenticated users; anonymous requests to public routes are timed but get no header. Runs inside {@link DbRequestMetricsFilter}, so the request's database totals are still
+ * available when the header is written, and ahead of Spring Security, so authentication is timed.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 20)
+@ConditionalOnProperty(prefix = "observability.server-timing", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    static final String SERVER_TIMING_HEADER = "Server-Timing";
+
+    private final ServerTimingProperties properties;
+    private final List<PathPattern> allowlist;
+
+    public ServerTimingFilter(ServerTimingProperties properties) {
+        this.properties = properties;
+        this.allowlist = properties.getPaths().stream()
+                .map(PathPatternParser.defaultInstance::parse)
+                .toList();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        if (allowlist.isEmpty()) {
+            return true;
+        }
+        PathContainer path = PathContainer.parsePath(request.getRequestURI().substring(request.getContextPath().length()));
+        return allowlist.stream().noneMatch(pattern -> pattern.matches(path));
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        if (ThreadLocalRandom.current().nextDouble() >= properties.getSampleRate()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        ContentCachingResponseWrapper buffered = new ContentCachingResponseWrapper(response);
+        RequestTimings timings = RequestTimings.begin();
+        long started = System.nanoTime();
+        try {
+            filterChain.doFilter(request, buffered);
+        } finally {
+            timings.serializationFinished();
+            RequestTimings.end();
+            if (timings.isAuthenticated()) {
+                buffered.setHeader(SERVER_TIMING_HEADER,
+                        timings.toHeaderValue(DbRequestStats.current(), System.nanoTime() - started));
+            }
+            buffered.copyBodyToResponse();
+        }
+    }
+}
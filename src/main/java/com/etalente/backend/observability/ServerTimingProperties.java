@@ -0,0 +1,45 @@
+package com.etalente.backend.observability;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@code Server-Timing} headers ({@code observability.server-timing.*}). Only requests whose path matches one
+ * of {@code paths} are considered, and of those a {@code sample-rate} fraction is timed. Sampled responses
+ * are buffered until the header is written, so streaming endpoints should stay off the allowlist.
+ */
+@Component
+@ConfigurationProperties(prefix = "observability.server-timing")
+public class ServerTimingProperties {
+
+    private boolean enabled = true;
+    private double sampleRate = 0.05;
+    private List<String> paths = new ArrayList<>();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public double getSampleRate() {
+        return sampleRate;
+    }
+
+    public void setSampleRate(double sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    public List<String> getPaths() {
+        return paths;
+    }
+
+    public void setPaths(List<String> paths) {
+        this.paths = paths;
+    }
+}
@@ -0,0 +1,44 @@
+package com.etalente.backend.observability;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * {@code /actuator/slowqueries}: the worst queries over the slow-query threshold by total time, each keyed by
+ * SQL fingerprint and query context (e.g. {@code applicants:search,status}), plus the most recent sampled
+ * plans. {@code DELETE} resets both, e.g. after adding an index. Plans can show bound values, so the
+ * endpoint is restricted to admins.
+ */
+@Component
+@Endpoint(id = "slowqueries")
+@ConditionalOnProperty(prefix = "observability.db", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SlowQueryEndpoint {
+
+    private static final int DEFAULT_LIMIT = 20;
+
+    private final SlowQuerySampler sampler;
+
+    public SlowQueryEndpoint(SlowQuerySampler sampler) {
+        this.sampler = sampler;
+    }
+
+    @ReadOperation
+    public Map<String, Object> slowQueries(@Nullable Integer limit) {
+        SlowQueryLog slowQueries = sampler.slowQueries();
+        return Map.of(
+                "topOffenders", slowQueries.topOffenders(limit != null ? limit : DEFAULT_LIMIT),
+                "untrackedOccurrences", slowQueries.untracked(),
+                "samples", slowQueries.samples());
+    }
+
+    @DeleteOperation
+    public void clear() {
+        sampler.slowQueries().clear();
+    }
+}
@@ -0,0 +1,111 @@
+package com.etalente.backend.observability;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * What {@link SlowQuerySampler} has seen: a ring buffer of the most recent explained statements, and
+ * running totals per SQL fingerprint and query context for every statement over the threshold, sampled or
+ * not. Totals are kept for a bounded number of distinct queries; later ones are counted as untracked.
+ */
+public class SlowQueryLog {
+
+    private final Sample[] samples;
+    private final int trackedQueries;
+    private final Map<OffenderKey, OffenderTotals> offenders = new HashMap<>();
+    private int next;
+    private int size;
+    private long untracked;
+
+    public SlowQueryLog(int retainedPlans, int trackedQueries) {
+        this.samples = new Sample[Math.max(1, retainedPlans)];
+        this.trackedQueries = trackedQueries;
+    }
+
+    synchronized void recordOccurrence(String fingerprint, String context, long nanos) {
+        OffenderKey key = new OffenderKey(fingerprint, context);
+        OffenderTotals totals = offenders.get(key);
+        if (totals == null) {
+            if (offenders.size() >= trackedQueries) {
+                untracked++;
+                return;
+            }
+            totals = new OffenderTotals();
+            offenders.put(key, totals);
+        }
+        totals.count++;
+        totals.totalNanos += nanos;
+        totals.maxNanos = Math.max(totals.maxNanos, nanos);
+        totals.lastSeen = Instant.now();
+    }
+
+    synchronized void add(Sample sample) {
+        samples[next] = sample;
+        next = (next + 1) % samples.length;
+        size = Math.min(size + 1, samples.length);
+    }
+
+    /** Explained statements, newest first. */
+    public synchronized List<Sample> samples() {
+        List<Sample> newestFirst = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            newestFirst.add(samples[Math.floorMod(next - i, samples.length)]);
+        }
+        return newestFirst;
+    }
+
+    /** Queries ordered by total time spent over the threshold, worst first. */
+    public synchronized List<Offender> topOffenders(int limit) {
+        return offenders.entrySet().stream()
+                .map(entry -> new Offender(entry.getKey().fingerprint(), entry.getKey().context(),
+                        entry.getValue().count,
+                        TimeUnit.NANOSECONDS.toMillis(entry.getValue().totalNanos),
+                        TimeUnit.NANOSECONDS.toMillis(entry.getValue().maxNanos),
+                        entry.getValue().lastSeen))
+                .sorted(Comparator.comparingLong(Offender::totalMs).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    public synchronized long untracked() {
+        return untracked;
+    }
+
+    public synchronized void clear() {
+        Arrays.fill(samples, null);
+        next = 0;
+        size = 0;
+        offenders.clear();
+        untracked = 0;
+    }
+
+    /**
+     * One explained statement. {@code plan} is PostgreSQL's JSON plan, or {@code null} with {@code error}
+     * set when the EXPLAIN failed.
+     */
+    public record Sample(Instant capturedAt, String fingerprint, String context, long durationMs,
+                         JsonNode plan, String error) {
+    }
+
+    public record Offender(String fingerprint, String context, long count, long totalMs, long maxMs,
+                           Instant lastSeen) {
+    }
+
+    private record OffenderKey(String fingerprint, String context) {
+    }
+
+    private static final class OffenderTotals {
+        private long count;
+        private long totalNanos;
+        private long maxNanos;
+        private Instant lastSeen;
+    }
+}
@@ -0,0 +1,147 @@
+package com.etalente.backend.observability;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Explains a sample of the slow statements run on behalf of HTTP requests, so the filter combinations
+ * that need an index show up with their plans.
+ * <p>
+ * Every statement over {@code observability.db.slow-query.threshold-ms} is counted in the {@link SlowQueryLog}
+ * under its SQL fingerprint and the query context set through {@link DbRequestStats#describeQueries}. A
+ * {@code sample-rate} fraction of slow SELECTs is then re-run as {@code EXPLAIN (ANALYZE, BUFFERS, FORMAT
+ * JSON)} with the original bind parameters, on a background thread and a read-only transaction that is
+ * rolled back. At most one EXPLAIN runs at a time; samples arriving while the small queue is full are
+ * dropped rather than adding load to a database that is already slow.
+ */
+@Component
+@ConditionalOnProperty(prefix = "observability.db", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SlowQuerySampler {
+
+    private static final Logger log = LoggerFactory.getLogger(SlowQuerySampler.class);
+    private static final Pattern WRITE_KEYWORD =
+            Pattern.compile("\\b(insert|update|delete|merge|share)\\b", Pattern.CASE_INSENSITIVE);
+
+    private final DbObservabilityProperties.SlowQuery settings;
+    private final DataSource dataSource;
+    private final ObjectMapper objectMapper;
+    private final SlowQueryLog slowQueries;
+    private final ThreadPoolExecutor explainer;
+
+    public SlowQuerySampler(DbObservabilityProperties properties, DataSource dataSource, ObjectMapper objectMapper) {
+        this.settings = properties.getSlowQuery();
+        this.dataSource = dataSource;
+        this.objectMapper = objectMapper;
+        this.slowQueries = new SlowQueryLog(settings.getRetainedPlans(), settings.getTrackedQueries());
+        this.explainer = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(8),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "slow-query-explain");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    public boolean isEnabled() {
+        return settings.isEnabled();
+    }
+
+    public SlowQueryLog slowQueries() {
+        return slowQueries;
+    }
+
+    /** Called on the request thread for every statement execution; cheap unless the statement was slow. */
+    void offer(String sql, Collection<BoundParameter> parameters, long nanos, String context) {
+        if (nanos < TimeUnit.MILLISECONDS.toNanos(settings.getThresholdMs())) {
+            return;
+        }
+        String fingerprint = SqlFingerprint.of(sql);
+        slowQueries.recordOccurrence(fingerprint, context, nanos);
+        if (!isQuery(sql) || ThreadLocalRandom.current().nextDouble() >= settings.getSampleRate()) {
+            return;
+        }
+        List<BoundParameter> bound = parameters != null ? List.copyOf(parameters) : List.of();
+        if (!bound.stream().allMatch(BoundParameter::isReplayable)) {
+            return;
+        }
+        try {
+            explainer.execute(() -> explain(sql, bound, fingerprint, context, nanos));
+        } catch (RejectedExecutionException e) {
+            log.debug("Skipping EXPLAIN of slow query, explainer is busy: {}", fingerprint);
+        }
+    }
+
+    private void explain(String sql, List<BoundParameter> parameters, String fingerprint, String context, long nanos) {
+        JsonNode plan = null;
+        String error = null;
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setReadOnly(true);
+            connection.setAutoCommit(false);
+            try {
+                try (Statement timeout = connection.createStatement()) {
+                    timeout.execute("SET LOCAL statement_timeout = " + settings.getExplainTimeoutMs());
+                }
+                try (PreparedStatement statement = connection.prepareStatement(explainCommand() + sql)) {
+                    for (BoundParameter parameter : parameters) {
+                        parameter.applyTo(statement);
+                    }
+                    try (ResultSet resultSet = statement.executeQuery()) {
+                        if (resultSet.next()) {
+                            plan = objectMapper.readTree(resultSet.getString(1));
+                        }
+                    }
+                }
+            } finally {
+                connection.rollback();
+            }
+        } catch (SQLException | JsonProcessingException e) {
+            error = e.getMessage();
+            log.debug("EXPLAIN of slow query failed: {}", fingerprint, e);
+        }
+        slowQueries.add(new SlowQueryLog.Sample(Instant.now(), fingerprint, context,
+                TimeUnit.NANOSECONDS.toMillis(nanos), plan, error));
+    }
+
+    private String explainCommand() {
+        return settings.isAnalyze() ? "EXPLAIN (ANALYZE, BUFFERS, FORMAT JSON) " : "EXPLAIN (FORMAT JSON) ";
+    }
+
+    /**
+     * Only plain queries are explained. A WITH statement can carry a data-modifying CTE and a SELECT can lock
+     * rows, and EXPLAIN ANALYZE would execute either, so any write or locking keyword rules the statement out.
+     */
+    static boolean isQuery(String sql) {
+        String statement = sql.stripLeading();
+        boolean read = statement.regionMatches(true, 0, "select", 0, 6)
+                || statement.regionMatches(true, 0, "with", 0, 4);
+        return read && !WRITE_KEYWORD.matcher(statement).find();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        explainer.shutdownNow();
+    }
+}
@@ -0,0 +1,29 @@
+package com.etalente.backend.observability;
+
+import java.util.regex.Pattern;
+
+/**
+ * Reduces SQL to a fingerprint that is the same for every execution of a query shape: literals become
+ * {@code ?}, IN lists collapse to a single placeholder and whitespace is normalised. Hibernate already binds
+ * most values as parameters, so this mostly matters for native and JdbcTemplate queries.
+ */
+public final class SqlFingerprint {
+
+    private static final int MAX_LENGTH = 400;
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private SqlFingerprint() {
+    }
+
+    public static String of(String sql) {
+        String fingerprint = STRING_LITERAL.matcher(sql).replaceAll("?");
+        fingerprint = NUMBER_LITERAL.matcher(fingerprint).replaceAll("?");
+        fingerprint = IN_LIST.matcher(fingerprint).replaceAll("(?)");
+        fingerprint = WHITESPACE.matcher(fingerprint).replaceAll(" ").trim();
+        return fingerprint.length() > MAX_LENGTH ? fingerprint.substring(0, MAX_LENGTH) + "..." : fingerprint;
+    }
+}
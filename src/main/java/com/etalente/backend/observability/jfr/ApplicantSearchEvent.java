@@ -0,0 +1,30 @@
+package com.etalente.backend.observability.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("etalente.ApplicantSearch")
+@Label("Applicant Search")
+@Category({"Etalente", "Applicants"})
+@Description("Applicant search that missed the search cache")
+@StackTrace(false)
+public class ApplicantSearchEvent extends jdk.jfr.Event {
+
+    @Label("Organization")
+    public String organizationId;
+
+    @Label("Filters")
+    @Description("Filters used, e.g. search,status")
+    public String filters;
+
+    @Label("Rows")
+    @Description("Applicants on the returned page")
+    public int rows;
+
+    @Label("Total")
+    @Description("Applicants matching the filters")
+    public long total;
+}
@@ -0,0 +1,22 @@
+package com.etalente.backend.observability.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("etalente.ApplicationTransition")
+@Label("Application Transition")
+@Category({"Etalente", "Applications"})
+@StackTrace(false)
+public class ApplicationTransitionEvent extends jdk.jfr.Event {
+
+    @Label("Application")
+    public String applicationId;
+
+    @Label("From")
+    public String fromStatus;
+
+    @Label("To")
+    public String toStatus;
+}
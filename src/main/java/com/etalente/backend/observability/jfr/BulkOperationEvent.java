@@ -0,0 +1,25 @@
+package com.etalente.backend.observability.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("etalente.BulkOperation")
+@Label("Bulk Operation")
+@Category({"Etalente", "Applicants"})
+@StackTrace(false)
+public class BulkOperationEvent extends jdk.jfr.Event {
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Requested")
+    public int requested;
+
+    @Label("Succeeded")
+    public int succeeded;
+
+    @Label("Failed")
+    public int failed;
+}
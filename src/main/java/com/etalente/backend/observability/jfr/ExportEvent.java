@@ -0,0 +1,24 @@
+package com.etalente.backend.observability.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("etalente.Export")
+@Label("Applicant Export")
+@Category({"Etalente", "Applicants"})
+@StackTrace(false)
+public class ExportEvent extends jdk.jfr.Event {
+
+    @Label("Format")
+    public String format;
+
+    @Label("Rows")
+    public int rows;
+
+    @Label("Bytes Written")
+    @DataAmount
+    public long bytes;
+}
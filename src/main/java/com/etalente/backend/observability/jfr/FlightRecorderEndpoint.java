@@ -0,0 +1,143 @@
+package com.etalente.backend.observability.jfr;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.text.ParseException;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@code /actuator/flightrecorder}: starts, lists, dumps and stops a continuous JDK Flight Recorder
+ * recording, so production can be profiled without attaching an agent. The recording carries the JVM's
+ * GC, allocation and lock events alongside the application events in this package, e.g.
+ * {@link ApplicantSearchEvent} and {@link IntegrationCallEvent}.
+ * <ul>
+ *     <li>{@code GET /actuator/flightrecorder} - recordings in this JVM</li>
+ *     <li>{@code POST /actuator/flightrecorder} - start the continuous recording if it is not running</li>
+ *     <li>{@code GET /actuator/flightrecorder/{name}} - download a {@code .jfr} snapshot of a recording</li>
+ *     <li>{@code DELETE /actuator/flightrecorder} - stop and discard the continuous recording</li>
+ * </ul>
+ * Snapshots expose detailed runtime data, so the endpoint is restricted to admins.
+ */
+@Component
+@Endpoint(id = "flightrecorder")
+public class FlightRecorderEndpoint {
+
+    static final String RECORDING_NAME = "etalente-continuous";
+
+    private static final Logger log = LoggerFactory.getLogger(FlightRecorderEndpoint.class);
+
+    private final FlightRecorderProperties properties;
+    private Recording recording;
+
+    public FlightRecorderEndpoint(FlightRecorderProperties properties) {
+        this.properties = properties;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startOnStartup() {
+        if (properties.isStartOnStartup() && FlightRecorder.isAvailable()) {
+            start(null);
+        }
+    }
+
+    @ReadOperation
+    public List<Map<String, Object>> recordings() {
+        if (!FlightRecorder.isAvailable()) {
+            return List.of();
+        }
+        return FlightRecorder.getFlightRecorder().getRecordings().stream()
+                .map(FlightRecorderEndpoint::describe)
+                .toList();
+    }
+
+    @WriteOperation
+    public synchronized Map<String, Object> start(@Nullable String settings) {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            return describe(recording);
+        }
+        String settingsName = settings != null ? settings : properties.getSettings();
+        Configuration configuration;
+        try {
+            configuration = Configuration.getConfiguration(settingsName);
+        } catch (IOException | ParseException e) {
+            throw new IllegalArgumentException("Unknown JFR settings: " + settingsName, e);
+        }
+        Recording started = new Recording(configuration);
+        started.setName(RECORDING_NAME);
+        started.setToDisk(true);
+        started.setMaxAge(properties.getMaxAge());
+        started.setMaxSize(properties.getMaxSize().toBytes());
+        started.start();
+        recording = started;
+        log.info("Started JFR recording {} with '{}' settings (max age {}, max size {})",
+                RECORDING_NAME, settingsName, properties.getMaxAge(), properties.getMaxSize());
+        return describe(started);
+    }
+
+    @ReadOperation(produces = "application/octet-stream")
+    public WebEndpointResponse<Resource> dump(@Selector String name) {
+        Recording source = FlightRecorder.isAvailable()
+                ? FlightRecorder.getFlightRecorder().getRecordings().stream()
+                        .filter(candidate -> candidate.getName().equals(name))
+                        .findFirst()
+                        .orElse(null)
+                : null;
+        if (source == null || source.getState() == RecordingState.NEW) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        try {
+            Path file = Files.createTempFile(name + "-", ".jfr");
+            // A stopped copy captures the running recording's buffers up to now without stopping it
+            try (Recording snapshot = source.copy(true)) {
+                snapshot.dump(file);
+            }
+            return new WebEndpointResponse<>(new InputStreamResource(
+                    Files.newInputStream(file, StandardOpenOption.DELETE_ON_CLOSE)));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to dump JFR recording " + name, e);
+        }
+    }
+
+    @DeleteOperation
+    public synchronized void stop() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+            log.info("Stopped JFR recording {}", RECORDING_NAME);
+        }
+    }
+
+    private static Map<String, Object> describe(Recording recording) {
+        Instant startTime = recording.getStartTime();
+        return Map.of(
+                "id", recording.getId(),
+                "name", recording.getName(),
+                "state", recording.getState().name(),
+                "startTime", startTime != null ? startTime.toString() : "",
+                "size", recording.getSize());
+    }
+}
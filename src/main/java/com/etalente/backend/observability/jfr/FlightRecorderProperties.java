@@ -0,0 +1,58 @@
+package com.etalente.backend.observability.jfr;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Continuous JDK Flight Recorder recording managed by {@link FlightRecorderEndpoint}
+ * ({@code observability.jfr.*}). The recording keeps a rolling window on disk bounded by {@code max-age}
+ * and {@code max-size}, and is dumped on demand.
+ */
+@Component
+@ConfigurationProperties(prefix = "observability.jfr")
+public class FlightRecorderProperties {
+
+    /** Start the recording when the application is ready rather than waiting for the endpoint. */
+    private boolean startOnStartup = false;
+
+    /** Name of a JDK settings file: {@code default} (about 1% overhead) or {@code profile}. */
+    private String settings = "default";
+
+    private Duration maxAge = Duration.ofHours(6);
+    private DataSize maxSize = DataSize.ofMegabytes(256);
+
+    public boolean isStartOnStartup() {
+        return startOnStartup;
+    }
+
+    public void setStartOnStartup(boolean startOnStartup) {
+        this.startOnStartup = startOnStartup;
+    }
+
+    public String getSettings() {
+        return settings;
+    }
+
+    public void setSettings(String settings) {
+        this.settings = settings;
+    }
+
+    public Duration getMaxAge() {
+        return maxAge;
+    }
+
+    public void setMaxAge(Duration maxAge) {
+        this.maxAge = maxAge;
+    }
+
+    public DataSize getMaxSize() {
+        return maxSize;
+    }
+
+    public void setMaxSize(DataSize maxSize) {
+        this.maxSize = maxSize;
+    }
+}
@@ -0,0 +1,25 @@
+package com.etalente.backend.observability.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("etalente.IntegrationCall")
+@Label("Integration Call")
+@Category({"Etalente", "Integrations"})
+@Description("Outbound call to an integration, including retries and backoff")
+@StackTrace(false)
+public class IntegrationCallEvent extends jdk.jfr.Event {
+
+    @Label("Integration")
+    public String integration;
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Outcome")
+    @Description("success, or the exception the caller received")
+    public String outcome;
+}
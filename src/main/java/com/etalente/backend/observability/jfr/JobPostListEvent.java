@@ -0,0 +1,22 @@
+package com.etalente.backend.observability.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("etalente.JobPostList")
+@Label("Job Post Listing")
+@Category({"Etalente", "Job Posts"})
+@StackTrace(false)
+public class JobPostListEvent extends jdk.jfr.Event {
+
+    @Label("Scope")
+    public String scope;
+
+    @Label("Rows")
+    public int rows;
+
+    @Label("Total")
+    public long total;
+}
@@ -0,0 +1,26 @@
+package com.etalente.backend.observability.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("etalente.ProfileMerge")
+@Label("Profile Merge")
+@Category({"Etalente", "Profiles"})
+@Description("Merge of a resume extraction into a candidate profile")
+@StackTrace(false)
+public class ProfileMergeEvent extends jdk.jfr.Event {
+
+    @Label("User")
+    public String userId;
+
+    @Label("Extracted Fields")
+    @Description("Top-level fields in the extraction")
+    public int extractedFields;
+
+    @Label("Profile Fields")
+    @Description("Top-level fields in the merged profile")
+    public int profileFields;
+}
@@ -2,8 +2,11 @@ package com.etalente.backend.repository;
 
 import com.etalente.backend.model.JobApplicationAudit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -11,4 +14,18 @@ import java.util.UUID;
 public interface JobApplicationAuditRepository extends JpaRepository<JobApplicationAudit, UUID> {
 
     List<JobApplicationAudit> findByJobApplicationId(UUID jobApplicationId);
+
+    // Keyset pages of an application's history, newest first, read straight off idx_job_application_audit_application_date
+    @Query(value = "SELECT * FROM job_application_audit WHERE job_application_id = :applicationId " +
+            "ORDER BY date DESC, id DESC LIMIT :limit", nativeQuery = true)
+    List<JobApplicationAudit> findHistory(@Param("applicationId") UUID applicationId,
+                                          @Param("limit") int limit);
+
+    @Query(value = "SELECT * FROM job_application_audit WHERE job_application_id = :applicationId " +
+            "AND (date, id) < (:beforeDate, :beforeId) " +
+            "ORDER BY date DESC, id DESC LIMIT :limit", nativeQuery = true)
+    List<JobApplicationAudit> findHistoryBefore(@Param("applicationId") UUID applicationId,
+                                                @Param("beforeDate") LocalDateTime beforeDate,
+                                                @Param("beforeId") UUID beforeId,
+                                                @Param("limit") int limit);
 }
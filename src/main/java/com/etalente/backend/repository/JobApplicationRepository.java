@@ -1,12 +1,21 @@
 package com.etalente.backend.repository;
 
 import com.etalente.backend.model.JobApplication;
+import com.etalente.backend.model.JobApplicationStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
@@ -14,7 +23,111 @@ public interface JobApplicationRepository extends JpaRepository<JobApplication,
 
     Page<JobApplication> findByCandidateId(UUID candidateId, Pageable pageable);
 
-    boolean existsByCandidateIdAndJobPostId(UUID candidateId, UUID jobPostId);
+    /**
+     * Offset-paged candidate dashboard for clients of the original {@code /applications/me} contract; the
+     * order comes from the {@link Pageable}. Same rows and filter as {@link #CANDIDATE_SUMMARIES}.
+     */
+    @Query(value = "SELECT ja.id AS id, ja.applicationDate AS applicationDate, ja.status AS status, " +
+            "jp.id AS jobId, jp.title AS jobTitle, jp.company AS jobCompany " +
+            "FROM JobApplication ja JOIN ja.jobPost jp " +
+            "WHERE ja.candidate.id = :candidateId " +
+            "AND (LOWER(COALESCE(jp.title, '')) LIKE :pattern OR LOWER(COALESCE(jp.company, '')) LIKE :pattern)",
+            countQuery = "SELECT count(ja) FROM JobApplication ja JOIN ja.jobPost jp " +
+            "WHERE ja.candidate.id = :candidateId " +
+            "AND (LOWER(COALESCE(jp.title, '')) LIKE :pattern OR LOWER(COALESCE(jp.company, '')) LIKE :pattern)")
+    Page<CandidateApplicationSummary> findCandidateSummaries(@Param("candidateId") UUID candidateId,
+                                                             @Param("pattern") String pattern,
+                                                             Pageable pageable);
+
+    // Candidate dashboard: one row per application with its job's title and company, matched against a
+    // lower-case LIKE pattern ('%' when not searching). Each ordering has a first-page and a keyset query
+    // so the cursor comparison can seek into idx_job_applications_candidate_date / _candidate_status
+    String CANDIDATE_SUMMARIES = "SELECT ja.id AS id, ja.application_date AS applicationDate, ja.status AS status, " +
+            "jp.id AS jobId, jp.title AS jobTitle, jp.company AS jobCompany " +
+            "FROM job_applications ja JOIN job_posts jp ON jp.id = ja.job_post_id " +
+            "WHERE ja.candidate_id = :candidateId " +
+            "AND (LOWER(COALESCE(jp.title, '')) LIKE :pattern OR LOWER(COALESCE(jp.company, '')) LIKE :pattern) ";
+
+    @Query(value = CANDIDATE_SUMMARIES +
+            "ORDER BY ja.application_date DESC, ja.id DESC LIMIT :limit", nativeQuery = true)
+    List<CandidateApplicationSummary> findCandidateSummariesByDate(@Param("candidateId") UUID candidateId,
+                                                                   @Param("pattern") String pattern,
+                                                                   @Param("limit") int limit);
+
+    @Query(value = CANDIDATE_SUMMARIES +
+            "AND (ja.application_date, ja.id) < (:beforeDate, :beforeId) " +
+            "ORDER BY ja.application_date DESC, ja.id DESC LIMIT :limit", nativeQuery = true)
+    List<CandidateApplicationSummary> findCandidateSummariesByDateBefore(@Param("candidateId") UUID candidateId,
+                                                                         @Param("pattern") String pattern,
+                                                                         @Param("beforeDate") LocalDateTime beforeDate,
+                                                                         @Param("beforeId") UUID beforeId,
+                                                                         @Param("limit") int limit);
+
+    @Query(value = CANDIDATE_SUMMARIES +
+            "ORDER BY ja.status, ja.application_date DESC, ja.id DESC LIMIT :limit", nativeQuery = true)
+    List<CandidateApplicationSummary> findCandidateSummariesByStatus(@Param("candidateId") UUID candidateId,
+                                                                     @Param("pattern") String pattern,
+                                                                     @Param("limit") int limit);
+
+    @Query(value = CANDIDATE_SUMMARIES +
+            "AND (ja.status > :afterStatus OR (ja.status = :afterStatus " +
+            "AND (ja.application_date, ja.id) < (:beforeDate, :beforeId))) " +
+            "ORDER BY ja.status, ja.application_date DESC, ja.id DESC LIMIT :limit", nativeQuery = true)
+    List<CandidateApplicationSummary> findCandidateSummariesByStatusAfter(@Param("candidateId") UUID candidateId,
+                                                                          @Param("pattern") String pattern,
+                                                                          @Param("afterStatus") String afterStatus,
+                                                                          @Param("beforeDate") LocalDateTime beforeDate,
+                                                                          @Param("beforeId") UUID beforeId,
+                                                                          @Param("limit") int limit);
+
+    @Query(value = CANDIDATE_SUMMARIES +
+            "ORDER BY COALESCE(jp.company, ''), ja.application_date DESC, ja.id DESC LIMIT :limit", nativeQuery = true)
+    List<CandidateApplicationSummary> findCandidateSummariesByCompany(@Param("candidateId") UUID candidateId,
+                                                                      @Param("pattern") String pattern,
+                                                                      @Param("limit") int limit);
+
+    @Query(value = CANDIDATE_SUMMARIES +
+            "AND (COALESCE(jp.company, '') > :afterCompany OR (COALESCE(jp.company, '') = :afterCompany " +
+            "AND (ja.application_date, ja.id) < (:beforeDate, :beforeId))) " +
+            "ORDER BY COALESCE(jp.company, ''), ja.application_date DESC, ja.id DESC LIMIT :limit", nativeQuery = true)
+    List<CandidateApplicationSummary> findCandidateSummariesByCompanyAfter(@Param("candidateId") UUID candidateId,
+                                                                           @Param("pattern") String pattern,
+                                                                           @Param("afterCompany") String afterCompany,
+                                                                           @Param("beforeDate") LocalDateTime beforeDate,
+                                                                           @Param("beforeId") UUID beforeId,
+                                                                           @Param("limit") int limit);
+
+    Optional<JobApplication> findByCandidateIdAndJobPostId(UUID candidateId, UUID jobPostId);
+
+    // Everything the details screen and the authorization checks read, fetched in one joined SELECT
+    @EntityGraph(attributePaths = {"jobPost", "jobPost.createdBy", "jobPost.organization", "candidate"})
+    @Query("SELECT ja FROM JobApplication ja WHERE ja.id = :id")
+    Optional<JobApplication> findDetailsById(@Param("id") UUID id);
+
+    /**
+     * Stores a new APPLIED application and its first audit entry in one round trip. The unique index on
+     * (candidate_id, job_post_id) settles concurrent submissions: the loser inserts nothing and gets an
+     * empty result. The Idempotency-Key, if any, is stored with the application so retries can be matched to it.
+     *
+     * @return the id of the stored application, or empty if the candidate had already applied
+     */
+    @Query(value = "WITH inserted AS (" +
+            "  INSERT INTO job_applications (id, job_post_id, candidate_id, status, application_date, viewed_by_employer," +
+            "    idempotency_key)" +
+            "  VALUES (:id, :jobPostId, :candidateId, 'APPLIED', :appliedAt, false, CAST(:idempotencyKey AS VARCHAR))" +
+            "  ON CONFLICT (candidate_id, job_post_id) DO NOTHING" +
+            "  RETURNING id" +
+            "), audit AS (" +
+            "  INSERT INTO job_application_audit (id, job_application_id, status, date, message)" +
+            "  SELECT :auditId, id, 'APPLIED', :appliedAt, :auditMessage FROM inserted" +
+            ") SELECT id FROM inserted", nativeQuery = true)
+    Optional<UUID> insertIfAbsent(@Param("id") UUID id,
+                                  @Param("auditId") UUID auditId,
+                                  @Param("jobPostId") UUID jobPostId,
+                                  @Param("candidateId") UUID candidateId,
+                                  @Param("appliedAt") LocalDateTime appliedAt,
+                                  @Param("idempotencyKey") String idempotencyKey,
+                                  @Param("auditMessage") String auditMessage);
 
         int countByJobPostId(UUID jobPostId);
 
@@ -22,4 +135,88 @@ public interface JobApplicationRepository extends JpaRepository<JobApplication,
 
         Page<JobApplication> findByJobPostId(UUID jobPostId, Pageable pageable);
 
+    // Recruiter listing of a job's applicants, newest first. Reads only the candidate columns shown, so the
+    // profile and resume JSONB are never fetched, and seeks idx_job_applications_job_date by keyset
+    String JOB_APPLICANT_SUMMARIES = "SELECT ja.id AS id, ja.application_date AS applicationDate, ja.status AS status, " +
+            "u.id AS candidateId, u.first_name AS candidateFirstName, u.last_name AS candidateLastName, " +
+            "u.email AS candidateEmail, u.profile_image_url AS candidateProfileImageUrl " +
+            "FROM job_applications ja JOIN users u ON u.id = ja.candidate_id " +
+            "WHERE ja.job_post_id = :jobPostId AND ja.status IN (:statuses) ";
+
+    // Offset-paged variant of the same columns for clients of the original applicants listing; the order
+    // comes from the Pageable
+    @Query(value = "SELECT ja.id AS id, ja.applicationDate AS applicationDate, ja.status AS status, " +
+            "c.id AS candidateId, c.firstName AS candidateFirstName, c.lastName AS candidateLastName, " +
+            "c.email AS candidateEmail, c.profileImageUrl AS candidateProfileImageUrl " +
+            "FROM JobApplication ja JOIN ja.candidate c WHERE ja.jobPost.id = :jobPostId",
+            countQuery = "SELECT count(ja) FROM JobApplication ja WHERE ja.jobPost.id = :jobPostId")
+    Page<JobApplicantSummary> findApplicantSummaries(@Param("jobPostId") UUID jobPostId, Pageable pageable);
+
+    @Query(value = JOB_APPLICANT_SUMMARIES +
+            "ORDER BY ja.application_date DESC, ja.id DESC LIMIT :limit", nativeQuery = true)
+    List<JobApplicantSummary> findApplicantSummaries(@Param("jobPostId") UUID jobPostId,
+                                                     @Param("statuses") Collection<String> statuses,
+                                                     @Param("limit") int limit);
+
+    @Query(value = JOB_APPLICANT_SUMMARIES +
+            "AND (ja.application_date, ja.id) < (:beforeDate, :beforeId) " +
+            "ORDER BY ja.application_date DESC, ja.id DESC LIMIT :limit", nativeQuery = true)
+    List<JobApplicantSummary> findApplicantSummariesBefore(@Param("jobPostId") UUID jobPostId,
+                                                           @Param("statuses") Collection<String> statuses,
+                                                           @Param("beforeDate") LocalDateTime beforeDate,
+                                                           @Param("beforeId") UUID beforeId,
+                                                           @Param("limit") int limit);
+
+    // Compare-and-set for state transitions: 0 rows means the application is no longer in the expected status
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE JobApplication ja SET ja.status = :to WHERE ja.id = :id AND ja.status = :from")
+    int compareAndSetStatus(@Param("id") UUID id,
+                            @Param("from") JobApplicationStatus from,
+                            @Param("to") JobApplicationStatus to);
+
+    // Applicant counts for a page of job posts in one round trip; posts without applications are absent
+    @Query("SELECT ja.jobPost.id AS jobPostId, COUNT(ja) AS total, " +
+            "SUM(CASE WHEN ja.viewedByEmployer = false THEN 1 ELSE 0 END) AS unviewed " +
+            "FROM JobApplication ja WHERE ja.jobPost.id IN :jobPostIds GROUP BY ja.jobPost.id")
+    List<ApplicationCounts> countByJobPostIds(@Param("jobPostIds") Collection<UUID> jobPostIds);
+
+    interface CandidateApplicationSummary {
+        UUID getId();
+
+        LocalDateTime getApplicationDate();
+
+        JobApplicationStatus getStatus();
+
+        UUID getJobId();
+
+        String getJobTitle();
+
+        String getJobCompany();
+    }
+
+    interface JobApplicantSummary {
+        UUID getId();
+
+        LocalDateTime getApplicationDate();
+
+        JobApplicationStatus getStatus();
+
+        UUID getCandidateId();
+
+        String getCandidateFirstName();
+
+        String getCandidateLastName();
+
+        String getCandidateEmail();
+
+        String getCandidateProfileImageUrl();
+    }
+
+    interface ApplicationCounts {
+        UUID getJobPostId();
+
+        long getTotal();
+
+        long getUnviewed();
     }
+}
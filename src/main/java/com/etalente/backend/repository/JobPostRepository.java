@@ -5,25 +5,48 @@ import com.etalente.backend.model.JobPostStatus;
 import com.etalente.backend.model.Organization;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface JobPostRepository extends JpaRepository<JobPost, UUID>, JpaSpecificationExecutor<JobPost> {
 
+    // Listing pages render the creator's email and the organization's logo for every row
+    @Override
+    @EntityGraph(attributePaths = {"createdBy", "organization"})
+    Page<JobPost> findAll(Specification<JobPost> spec, Pageable pageable);
+
+    // Compare-and-set for state transitions: 0 rows means the post is no longer in the expected status
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE JobPost jp SET jp.status = :to, jp.updatedAt = :now WHERE jp.id = :id AND jp.status = :from")
+    int compareAndSetStatus(@Param("id") UUID id,
+                            @Param("from") JobPostStatus from,
+                            @Param("to") JobPostStatus to,
+                            @Param("now") LocalDateTime now);
+
     // Organization-filtered queries
     Page<JobPost> findByOrganization(Organization organization, Pageable pageable);
 
     Page<JobPost> findByOrganizationAndStatus(Organization organization, JobPostStatus status, Pageable pageable);
 
+    // Single-post responses render the same creator email and organization logo as listing rows
+    @EntityGraph(attributePaths = {"createdBy", "organization"})
     Optional<JobPost> findByIdAndOrganization(UUID id, Organization organization);
 
+    @EntityGraph(attributePaths = {"createdBy", "organization"})
+    @Query("SELECT jp FROM JobPost jp WHERE jp.id = :id")
+    Optional<JobPost> findDetailsById(@Param("id") UUID id);
+
     // User-specific queries (within organization)
     @Deprecated
     @Query("SELECT jp FROM JobPost jp WHERE jp.createdBy.email = :email AND jp.organization = :organization")
@@ -32,6 +55,7 @@ public interface JobPostRepository extends JpaRepository<JobPost, UUID>, JpaSpec
             @Param("organization") Organization organization,
             Pageable pageable);
 
+    @EntityGraph(attributePaths = {"createdBy", "organization"})
     @Query("SELECT jp FROM JobPost jp WHERE jp.createdBy.id = :userId AND jp.organization = :organization")
     Page<JobPost> findByCreatedByIdAndOrganization(
             @Param("userId") UUID userId,
@@ -1,29 +1,52 @@
 package com.etalente.backend.repository;
 
+import com.etalente.backend.dto.StateAuditResponse;
 import com.etalente.backend.model.JobPost;
 import com.etalente.backend.model.JobPostStateAudit;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface JobPostStateAuditRepository extends JpaRepository<JobPostStateAudit, UUID> {
 
-    /**
-     * Get all state changes for a job post, ordered by most recent first
-     */
-    List<JobPostStateAudit> findByJobPostOrderByChangedAtDesc(JobPost jobPost);
-
     /**
      * Get state change history for a job post by ID
      */
     @Query("SELECT sa FROM JobPostStateAudit sa WHERE sa.jobPost.id = :jobPostId ORDER BY sa.changedAt DESC")
     List<JobPostStateAudit> findByJobPostId(@Param("jobPostId") UUID jobPostId);
 
+    /**
+     * First page of a job post's state history, newest first, with the actor's email joined in rather than
+     * loaded per row
+     */
+    @Query("SELECT new com.etalente.backend.dto.StateAuditResponse(" +
+            "sa.id, sa.fromStatus, sa.toStatus, u.email, sa.reason, sa.changedAt) " +
+            "FROM JobPostStateAudit sa JOIN sa.changedBy u " +
+            "WHERE sa.jobPost.id = :jobPostId " +
+            "ORDER BY sa.changedAt DESC, sa.id DESC")
+    List<StateAuditResponse> findHistory(@Param("jobPostId") UUID jobPostId, Limit limit);
+
+    /**
+     * Page of a job post's state history following the entry at {@code (beforeChangedAt, beforeId)}
+     */
+    @Query("SELECT new com.etalente.backend.dto.StateAuditResponse(" +
+            "sa.id, sa.fromStatus, sa.toStatus, u.email, sa.reason, sa.changedAt) " +
+            "FROM JobPostStateAudit sa JOIN sa.changedBy u " +
+            "WHERE sa.jobPost.id = :jobPostId " +
+            "AND (sa.changedAt < :beforeChangedAt OR (sa.changedAt = :beforeChangedAt AND sa.id < :beforeId)) " +
+            "ORDER BY sa.changedAt DESC, sa.id DESC")
+    List<StateAuditResponse> findHistoryBefore(@Param("jobPostId") UUID jobPostId,
+                                               @Param("beforeChangedAt") LocalDateTime beforeChangedAt,
+                                               @Param("beforeId") UUID beforeId,
+                                               Limit limit);
+
     /**
      * Count state changes for a job post
      */
@@ -4,6 +4,7 @@ import com.etalente.backend.model.NotificationPreference;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,4 +14,6 @@ public interface NotificationPreferenceRepository extends JpaRepository<Notifica
     Optional<NotificationPreference> findByUserIdAndNotificationType(String userId, String notificationType);
 
     List<NotificationPreference> findByUserId(String userId);
+
+    List<NotificationPreference> findByUserIdIn(Collection<String> userIds);
 }
@@ -5,22 +5,46 @@ import com.etalente.backend.model.NotificationStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
+/**
+ * {@code notifications} is range-partitioned by month on {@code created_at}. Inbox listings
+ * carry a {@code createdAt} bound so Postgres only touches the partitions in range; unread
+ * state covers every retained notification and reaches all partitions through the
+ * {@code (recipient_id, status, created_at)} index.
+ */
 @Repository
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
 
-    Page<Notification> findByRecipientIdOrderByCreatedAtDesc(String recipientId, Pageable pageable);
+    @Query(value = "SELECT n FROM Notification n WHERE n.recipientId = :recipientId " +
+                   "AND n.createdAt >= :since ORDER BY n.createdAt DESC",
+           countQuery = "SELECT count(n) FROM Notification n WHERE n.recipientId = :recipientId " +
+                        "AND n.createdAt >= :since")
+    Page<Notification> findRecentByRecipient(String recipientId, LocalDateTime since, Pageable pageable);
 
-    List<Notification> findByRecipientIdAndStatus(String recipientId, NotificationStatus status);
+    @Query("SELECT count(n) FROM Notification n WHERE n.recipientId = :recipientId AND n.status = :status")
+    long countByRecipientAndStatus(String recipientId, NotificationStatus status);
 
-    long countByRecipientIdAndStatus(String recipientId, NotificationStatus status);
+    /**
+     * The {@code createdAt} bound keeps the lookup by id to the partitions of the inbox window instead of
+     * probing every month's primary key index.
+     */
+    @Modifying
+    @Query("UPDATE Notification n SET n.status = :read, n.readAt = :readAt " +
+           "WHERE n.id = :id AND n.createdAt >= :since AND n.status <> :read")
+    int markAsRead(Long id, LocalDateTime since, LocalDateTime readAt, NotificationStatus read);
+
+    @Modifying
+    @Query("UPDATE Notification n SET n.status = :read, n.readAt = :readAt " +
+           "WHERE n.recipientId = :recipientId AND n.status = :pending")
+    int markAllAsRead(String recipientId, LocalDateTime readAt, NotificationStatus pending, NotificationStatus read);
 
     @Query("SELECT n FROM Notification n WHERE n.recipientId = :recipientId " +
-           "AND n.status = 'PENDING' AND n.createdAt < :before")
-    List<Notification> findStaleNotifications(String recipientId, LocalDateTime before);
+           "AND n.status = 'PENDING' AND n.createdAt >= :after AND n.createdAt < :before")
+    List<Notification> findStaleNotifications(String recipientId, LocalDateTime after, LocalDateTime before);
 }
@@ -5,6 +5,7 @@ import com.etalente.backend.model.Organization;
 import com.etalente.backend.model.RecruiterInvitation;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
@@ -16,6 +17,8 @@ import java.util.UUID;
 
 @Repository
 public interface RecruiterInvitationRepository extends JpaRepository<RecruiterInvitation, UUID> {
+    // Validating and accepting an invitation show its organization and inviter
+    @EntityGraph(attributePaths = {"organization", "invitedBy"})
     Optional<RecruiterInvitation> findByToken(String token);
     
     List<RecruiterInvitation> findByEmail(String email);
@@ -0,0 +1,54 @@
+package com.etalente.backend.repository;
+
+import com.etalente.backend.model.ResumeAutofillJob;
+import com.etalente.backend.model.ResumeAutofillStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface ResumeAutofillJobRepository extends JpaRepository<ResumeAutofillJob, UUID> {
+
+    Optional<ResumeAutofillJob> findByIdAndUserId(UUID id, UUID userId);
+
+    // Status changes are compare-and-set so the worker and the stale-job sweeper never overwrite each other:
+    // 0 rows means the job is no longer in the expected status
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE ResumeAutofillJob j SET j.status = :running, j.startedAt = :now " +
+           "WHERE j.id = :id AND j.status = :queued")
+    int markRunning(@Param("id") UUID id,
+                    @Param("now") LocalDateTime now,
+                    @Param("queued") ResumeAutofillStatus queued,
+                    @Param("running") ResumeAutofillStatus running);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE ResumeAutofillJob j SET j.status = :outcome, j.errorMessage = :message, j.completedAt = :now " +
+           "WHERE j.id = :id AND j.status = :running")
+    int finishRunning(@Param("id") UUID id,
+                      @Param("outcome") ResumeAutofillStatus outcome,
+                      @Param("message") String message,
+                      @Param("now") LocalDateTime now,
+                      @Param("running") ResumeAutofillStatus running);
+
+    // Running jobs are timed from when a worker picked them up, queued ones from submission
+    @Modifying
+    @Query("UPDATE ResumeAutofillJob j SET j.status = :failed, j.errorMessage = :message, j.completedAt = :now " +
+           "WHERE (j.status = :running AND j.startedAt < :before) " +
+           "OR (j.status = :queued AND j.createdAt < :before)")
+    int failStaleJobs(@Param("before") LocalDateTime before,
+                      @Param("now") LocalDateTime now,
+                      @Param("message") String message,
+                      @Param("failed") ResumeAutofillStatus failed,
+                      @Param("queued") ResumeAutofillStatus queued,
+                      @Param("running") ResumeAutofillStatus running);
+}
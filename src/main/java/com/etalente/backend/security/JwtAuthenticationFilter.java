@@ -1,5 +1,6 @@
 package com.etalente.backend.security;
 
+import com.etalente.backend.observability.RequestTimings;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -37,7 +38,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             @NonNull FilterChain filterChain
     ) throws ServletException, IOException {
 
-        try {
+        try (RequestTimings.Span ignored = RequestTimings.start("auth")) {
             String jwt = extractJwtFromRequest(request);
 
             if (jwt != null && SecurityContextHolder.getContext().getAuthentication() == null) {
@@ -71,6 +72,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             );
             authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
             SecurityContextHolder.getContext().setAuthentication(authToken);
+            RequestTimings.markAuthenticated();
             logger.debug("Authenticated user: {} with role: {}", userId, role);
         }
     }
@@ -4,6 +4,7 @@ import com.etalente.backend.exception.UnauthorizedException;
 import com.etalente.backend.model.Organization;
 import com.etalente.backend.model.Role;
 import com.etalente.backend.model.User;
+import com.etalente.backend.observability.RequestTimings;
 import com.etalente.backend.repository.UserRepository;
 import org.springframework.security.authentication.AnonymousAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -114,8 +115,10 @@ public class OrganizationContext {
         }
 
         UUID userId = UUID.fromString((String) principal);
-        return userRepository.findById(userId)
-                .orElseThrow(() -> new UnauthorizedException("User not found"));
+        try (RequestTimings.Span ignored = RequestTimings.start("org")) {
+            return userRepository.findById(userId)
+                    .orElseThrow(() -> new UnauthorizedException("User not found"));
+        }
     }
 //...
     public User getCurrentUserOrNull() {
@@ -41,6 +41,10 @@ public class SecurityConfig {
                 .csrf(csrf -> csrf.disable())
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
+                        // Operational endpoints expose URIs, volumes and timings; only health and info are public
+                        .requestMatchers("/actuator/prometheus", "/actuator/flightrecorder", "/actuator/flightrecorder/**",
+                                "/actuator/slowqueries")
+                        .hasRole("ADMIN")
                         .requestMatchers(
                                 "/api/auth/**",
                                 "/api/register/**",
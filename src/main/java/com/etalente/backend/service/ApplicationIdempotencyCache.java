@@ -0,0 +1,47 @@
+package com.etalente.backend.service;
+
+import com.etalente.backend.dto.ApplicationSummaryDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Responses to job applications submitted with an {@code Idempotency-Key} header, so a retried POST is
+ * answered from memory without touching the database.
+ * <p>
+ * Keys are scoped to the candidate. Entries are held per node; a retry that reaches another node, or
+ * arrives after its entry expired, finds the stored application instead and is answered from it when the
+ * application was submitted with the same key.
+ */
+@Component
+public class ApplicationIdempotencyCache {
+
+    public static final String HEADER = "Idempotency-Key";
+
+    private final Cache<String, ApplicationSummaryDto> cache;
+
+    public ApplicationIdempotencyCache(@Value("${applications.idempotency.max-keys:100000}") long maxKeys,
+                                       @Value("${applications.idempotency.ttl-minutes:60}") long ttlMinutes) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterWrite(ttlMinutes, TimeUnit.MINUTES)
+                .build();
+    }
+
+    /** The response recorded for {@code key}, or {@code null} if none is held. */
+    public ApplicationSummaryDto get(UUID candidateId, String key) {
+        return cache.getIfPresent(cacheKey(candidateId, key));
+    }
+
+    public void put(UUID candidateId, String key, ApplicationSummaryDto response) {
+        cache.put(cacheKey(candidateId, key), response);
+    }
+
+    private static String cacheKey(UUID candidateId, String key) {
+        return candidateId + ":" + key;
+    }
+}
@@ -2,24 +2,74 @@ package com.etalente.backend.service;
 
 import com.etalente.backend.dto.ApplicationDetailsDto;
 import com.etalente.backend.dto.ApplicationSummaryDto;
+import com.etalente.backend.dto.CursorPage;
 import com.etalente.backend.dto.EmployerApplicationSummaryDto;
+
+import com.etalente.backend.model.JobApplicationAudit;
+import com.etalente.backend.model.JobApplicationStatus;
+import com.etalente.backend.model.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
-import com.etalente.backend.model.JobApplicationStatus;
+import java.util.List;
 import java.util.UUID;
 
 public interface JobApplicationService {
 
+    /**
+     * The current candidate's applications as an offset page, for clients of the original
+     * {@code /applications/me} contract. Only the page number and size of {@code pageable} are used.
+     *
+     * @param sort {@code date} (newest first, the default), {@code company} or {@code status}
+     */
     Page<ApplicationSummaryDto> getMyApplications(Pageable pageable, String search, String sort);
 
+    /**
+     * The current candidate's applications with their job's title and company, one keyset page at a time.
+     *
+     * @param cursor {@code nextCursor} of the previous page, or {@code null} for the first page
+     * @param sort   {@code date} (newest first, the default), {@code company} or {@code status}
+     */
+    CursorPage<ApplicationSummaryDto> getMyApplications(String cursor, Integer size, String search, String sort);
+
     ApplicationDetailsDto getApplicationDetails(UUID applicationId);
 
-    ApplicationSummaryDto applyForJob(UUID jobId);
+    /**
+     * An application's audit trail, newest first, one keyset page at a time.
+     *
+     * @param cursor {@code nextCursor} of the previous page, or {@code null} for the first page
+     */
+    CursorPage<ApplicationDetailsDto.CommunicationHistoryDto> getApplicationHistory(UUID applicationId, String cursor, Integer size);
+
+    /**
+     * @param idempotencyKey client-chosen key of the submission; a retry with the same key is answered with
+     *                       the original response instead of failing as a duplicate. May be {@code null}.
+     */
+    ApplicationSummaryDto applyForJob(UUID jobId, String idempotencyKey);
 
     void withdrawApplication(UUID applicationId);
 
+    /**
+     * Applications to a job post as an offset page, for clients of the original applicants listing.
+     */
     Page<EmployerApplicationSummaryDto> getApplicationsForJob(UUID jobId, UUID userId, Pageable pageable);
 
+    /**
+     * Applications to a job post, newest first, one keyset page at a time.
+     *
+     * @param statuses application status names to include, or {@code null}/empty for all; unknown names are a
+     *                 {@link com.etalente.backend.exception.BadRequestException}
+     * @param cursor   {@code nextCursor} of the previous page, or {@code null} for the first page
+     */
+    CursorPage<EmployerApplicationSummaryDto> getApplicationsForJob(UUID jobId, UUID userId, List<String> statuses,
+                                                                  String cursor, Integer size);
+
     ApplicationDetailsDto transitionApplicationStatus(UUID applicationId, JobApplicationStatus targetStatus, UUID userId);
+
+    /**
+     * Checks and applies a transition like {@link #transitionApplicationStatus} without building the details
+     * view. The audit entry is returned unsaved, so bulk callers can insert the entries of all their
+     * transitions in one batch.
+     */
+    JobApplicationAudit applyStatusTransition(UUID applicationId, JobApplicationStatus targetStatus, User actor);
 }
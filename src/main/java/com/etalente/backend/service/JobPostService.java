@@ -1,5 +1,6 @@
 package com.etalente.backend.service;
 
+import com.etalente.backend.dto.CursorPage;
 import com.etalente.backend.dto.JobPostRequest;
 import com.etalente.backend.dto.JobPostResponse;
 import com.etalente.backend.dto.StateAuditResponse;
@@ -35,7 +36,18 @@ public interface JobPostService {
     @Deprecated
     JobPostResponse updateJobPostStatus(UUID id, JobPostStatus newStatus, UUID userId);
 
-    // Add these method signatures for state history
+    /**
+     * A job post's whole state history, newest first. Kept for clients of the unpaged {@code /history}
+     * endpoint; new callers page with {@link #getStateHistory(UUID, UUID, String, Integer)}.
+     */
     List<StateAuditResponse> getStateHistory(UUID jobPostId, UUID userId);
+
+    /**
+     * A job post's state changes, newest first, one keyset page at a time.
+     *
+     * @param cursor {@code nextCursor} of the previous page, or {@code null} for the first page
+     */
+    CursorPage<StateAuditResponse> getStateHistory(UUID jobPostId, UUID userId, String cursor, Integer size);
+
     List<String> getAvailableTransitions(UUID jobPostId);
 }
\ No newline at end of file
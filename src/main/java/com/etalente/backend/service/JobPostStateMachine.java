@@ -1,7 +1,6 @@
 package com.etalente.backend.service;
 
 import com.etalente.backend.model.JobPost;
-import com.etalente.backend.model.JobPostStateAudit;
 import com.etalente.backend.model.JobPostStatus;
 import com.etalente.backend.model.User;
 
@@ -19,11 +18,6 @@ public interface JobPostStateMachine {
      */
     JobPost transitionState(JobPost jobPost, JobPostStatus targetStatus, User user, String reason);
 
-    /**
-     * Get the state change history for a job post
-     */
-    List<JobPostStateAudit> getStateHistory(JobPost jobPost);
-
     /**
      * Check if a job post can be published (has all required fields)
      */
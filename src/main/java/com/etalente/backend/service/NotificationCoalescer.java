@@ -0,0 +1,219 @@
+package com.etalente.backend.service;
+
+import com.etalente.backend.config.NotificationCoalescingProperties;
+import com.etalente.backend.dto.NotificationRequest;
+import com.etalente.backend.dto.WorkflowTriggerRequest;
+import com.etalente.backend.integration.novu.NovuWorkflowService;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.IntFunction;
+
+/**
+ * Coalescing stage in front of {@link NovuWorkflowService} and {@link NotificationService}.
+ * <p>
+ * Events are grouped by recipient, type and an optional group key (e.g. the job post).
+ * The first event of a group is delivered immediately and opens a window; events arriving
+ * while the window is open are only counted, and when it closes a single digest
+ * ("37 new applicants for Backend Engineer") is emitted for them. Types listed in
+ * {@code notifications.coalescing.immediate-types} always bypass the window.
+ * <p>
+ * Windows are held per node and in memory; pending digests are flushed on shutdown.
+ */
+@Component
+public class NotificationCoalescer {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationCoalescer.class);
+
+    public static final String DIGEST_COUNT = "digestCount";
+    public static final String DIGEST_SUMMARY = "digestSummary";
+    public static final String DIGEST_ITEMS = "digestItems";
+
+    private final NovuWorkflowService novuWorkflowService;
+    private final NotificationService notificationService;
+    private final NotificationCoalescingProperties properties;
+    private final Clock clock;
+    private final Map<GroupKey, Window> windows = new ConcurrentHashMap<>();
+
+    public NotificationCoalescer(NovuWorkflowService novuWorkflowService,
+                                 NotificationService notificationService,
+                                 NotificationCoalescingProperties properties) {
+        this(novuWorkflowService, notificationService, properties, Clock.systemUTC());
+    }
+
+    NotificationCoalescer(NovuWorkflowService novuWorkflowService,
+                          NotificationService notificationService,
+                          NotificationCoalescingProperties properties,
+                          Clock clock) {
+        this.novuWorkflowService = novuWorkflowService;
+        this.notificationService = notificationService;
+        this.properties = properties;
+        this.clock = clock;
+    }
+
+    /**
+     * Trigger a Novu workflow, or fold it into the open digest for the same subscriber,
+     * workflow and group. Digests are sent to {@code digestWorkflowId}, whose template renders
+     * {@value #DIGEST_SUMMARY} and {@value #DIGEST_ITEMS} instead of a single event's payload.
+     *
+     * @param digestSummary builds the digest headline from the number of coalesced events
+     */
+    public void submitWorkflow(String workflowId, String digestWorkflowId, String groupKey,
+                               WorkflowTriggerRequest request, IntFunction<String> digestSummary) {
+        GroupKey key = new GroupKey(request.getSubscriberId(), workflowId, groupKey);
+        submit(key, request.getPayload(),
+                () -> novuWorkflowService.triggerWorkflow(workflowId, request),
+                (count, items) -> novuWorkflowService.triggerWorkflow(digestWorkflowId,
+                        digestWorkflowRequest(request, digestPayload(request.getPayload(), count, digestSummary, items))));
+    }
+
+    /**
+     * Create an in-app notification, or fold it into the open digest for the same
+     * recipient, type and group.
+     */
+    public void submitNotification(NotificationRequest request, String groupKey, IntFunction<String> digestSummary) {
+        GroupKey key = new GroupKey(request.getRecipientId(), request.getType(), groupKey);
+        submit(key, request.getMetadata(),
+                () -> notificationService.createNotification(request),
+                (count, items) -> notificationService.createNotification(
+                        digestNotificationRequest(request, digestPayload(request.getMetadata(), count, digestSummary, items))));
+    }
+
+    /** Emit digests for every window that has closed. */
+    @Scheduled(fixedDelayString = "${notifications.coalescing.flush-interval-ms:5000}")
+    public void flushExpired() {
+        flush(false);
+    }
+
+    @PreDestroy
+    public void flushAll() {
+        flush(true);
+    }
+
+    int openWindowCount() {
+        return windows.size();
+    }
+
+    private void submit(GroupKey key, Map<String, Object> payload, Runnable deliverNow, BiConsumer<Integer, List<Map<String, Object>>> digest) {
+        if (!properties.isEnabled() || properties.getImmediateTypes().contains(key.type())) {
+            deliverNow.run();
+            return;
+        }
+
+        long now = clock.millis();
+        boolean[] opened = new boolean[1];
+        Window[] expired = new Window[1];
+        windows.compute(key, (k, window) -> {
+            if (window == null || window.expiresAt <= now) {
+                expired[0] = window;
+                opened[0] = true;
+                return new Window(now + properties.getWindowSeconds() * 1000);
+            }
+            window.add(payload, digest, properties.getMaxDigestItems());
+            return window;
+        });
+
+        // An expired window that was not flushed yet still owes its digest
+        if (expired[0] != null && expired[0].count > 0) {
+            emit(key, expired[0]);
+        }
+        if (opened[0]) {
+            deliverNow.run();
+        } else {
+            logger.debug("Coalesced {} for {} into open digest", key.type(), key.recipientId());
+        }
+    }
+
+    private void flush(boolean all) {
+        long now = clock.millis();
+        for (GroupKey key : new ArrayList<>(windows.keySet())) {
+            Window[] closed = new Window[1];
+            windows.computeIfPresent(key, (k, window) -> {
+                if (all || window.expiresAt <= now) {
+                    closed[0] = window;
+                    return null;
+                }
+                return window;
+            });
+            if (closed[0] != null && closed[0].count > 0) {
+                emit(key, closed[0]);
+            }
+        }
+    }
+
+    private void emit(GroupKey key, Window window) {
+        try {
+            window.digest.accept(window.count, List.copyOf(window.items));
+            logger.info("Emitted digest of {} {} events for {}", window.count, key.type(), key.recipientId());
+        } catch (Exception e) {
+            logger.error("Failed to emit {} digest for {}", key.type(), key.recipientId(), e);
+        }
+    }
+
+    private static Map<String, Object> digestPayload(Map<String, Object> latest, int count,
+                                                     IntFunction<String> digestSummary,
+                                                     List<Map<String, Object>> items) {
+        Map<String, Object> payload = latest != null ? new HashMap<>(latest) : new HashMap<>();
+        payload.put(DIGEST_COUNT, count);
+        payload.put(DIGEST_SUMMARY, digestSummary.apply(count));
+        payload.put(DIGEST_ITEMS, items);
+        return payload;
+    }
+
+    private static WorkflowTriggerRequest digestWorkflowRequest(WorkflowTriggerRequest source,
+                                                                Map<String, Object> payload) {
+        WorkflowTriggerRequest digest = new WorkflowTriggerRequest();
+        digest.setSubscriberId(source.getSubscriberId());
+        digest.setEmail(source.getEmail());
+        digest.setFirstName(source.getFirstName());
+        digest.setLastName(source.getLastName());
+        digest.setPayload(payload);
+        return digest;
+    }
+
+    private static NotificationRequest digestNotificationRequest(NotificationRequest source,
+                                                                 Map<String, Object> metadata) {
+        NotificationRequest digest = new NotificationRequest();
+        digest.setType(source.getType());
+        digest.setRecipientId(source.getRecipientId());
+        digest.setTitle((String) metadata.get(DIGEST_SUMMARY));
+        digest.setContent(source.getContent());
+        digest.setMetadata(metadata);
+        return digest;
+    }
+
+    private record GroupKey(String recipientId, String type, String group) {
+    }
+
+    private static final class Window {
+
+        private final long expiresAt;
+        private final List<Map<String, Object>> items = new ArrayList<>();
+        private int count;
+        private BiConsumer<Integer, List<Map<String, Object>>> digest;
+
+        private Window(long expiresAt) {
+            this.expiresAt = expiresAt;
+        }
+
+        private void add(Map<String, Object> payload, BiConsumer<Integer, List<Map<String, Object>>> digest,
+                         int maxItems) {
+            count++;
+            // The latest submission decides how the digest is rendered
+            this.digest = digest;
+            if (payload != null && items.size() < maxItems) {
+                items.add(payload);
+            }
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package com.etalente.backend.service;
+
+import com.etalente.backend.config.NotificationDeliveryLogProperties;
+import com.etalente.backend.model.NotificationDeliveryLog;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Write-behind logger for {@link NotificationDeliveryLog} rows.
+ * <p>
+ * Callers on the delivery path only enqueue the outcome; a single writer thread drains
+ * the queue and persists rows with JDBC batch inserts whenever a batch fills up or the
+ * flush interval elapses. The queue is bounded: when it is full new records are dropped
+ * and counted rather than blocking delivery. Pending rows are flushed on shutdown.
+ */
+@Component
+public class NotificationDeliveryLogWriter implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationDeliveryLogWriter.class);
+
+    static final String INSERT_SQL = "INSERT INTO notification_delivery_logs " +
+            "(notification_id, channel, provider, status, sent_at, error_message, external_id) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NotificationDeliveryLogProperties properties;
+
+    // ConcurrentLinkedQueue is unbounded and lock-free; the size counter enforces the bound
+    private final Queue<NotificationDeliveryLog> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queueSize = new AtomicInteger();
+
+    private final Counter enqueuedCounter;
+    private final Counter droppedCounter;
+    private final Counter writtenCounter;
+    private final Counter failedCounter;
+
+    private volatile boolean running;
+    private volatile Thread writerThread;
+
+    public NotificationDeliveryLogWriter(JdbcTemplate jdbcTemplate,
+                                         NotificationDeliveryLogProperties properties,
+                                         MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+
+        Gauge.builder("notifications.delivery_log.queue.depth", queueSize, AtomicInteger::get)
+                .description("Delivery log records waiting to be written")
+                .register(meterRegistry);
+        this.enqueuedCounter = Counter.builder("notifications.delivery_log.enqueued").register(meterRegistry);
+        this.droppedCounter = Counter.builder("notifications.delivery_log.dropped")
+                .description("Delivery log records dropped because the queue was full")
+                .register(meterRegistry);
+        this.writtenCounter = Counter.builder("notifications.delivery_log.written").register(meterRegistry);
+        this.failedCounter = Counter.builder("notifications.delivery_log.failed")
+                .description("Delivery log records lost to failed batch inserts")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Enqueue a delivery outcome. Never blocks.
+     *
+     * @return {@code false} if the queue was full and the record was dropped
+     */
+    public boolean record(NotificationDeliveryLog log) {
+        if (log.getSentAt() == null) {
+            log.setSentAt(LocalDateTime.now());
+        }
+        if (queueSize.incrementAndGet() > properties.getQueueCapacity()) {
+            queueSize.decrementAndGet();
+            droppedCounter.increment();
+            return false;
+        }
+        queue.offer(log);
+        enqueuedCounter.increment();
+
+        Thread writer = writerThread;
+        if (writer != null && queueSize.get() >= properties.getBatchSize()) {
+            LockSupport.unpark(writer);
+        }
+        return true;
+    }
+
+    public static NotificationDeliveryLog outcome(Long notificationId, String channel, String provider,
+                                                 String status, String errorMessage, String externalId) {
+        NotificationDeliveryLog log = new NotificationDeliveryLog();
+        log.setNotificationId(notificationId);
+        log.setChannel(channel);
+        log.setProvider(provider);
+        log.setStatus(status);
+        log.setErrorMessage(errorMessage);
+        log.setExternalId(externalId);
+        return log;
+    }
+
+    /**
+     * Enqueue once the surrounding transaction commits, so rolled back deliveries are
+     * not logged. Outside a transaction the record is enqueued straight away.
+     */
+    public void recordAfterCommit(NotificationDeliveryLog log) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            record(log);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                record(log);
+            }
+        });
+    }
+
+    public int getQueueDepth() {
+        return queueSize.get();
+    }
+
+    @Override
+    public void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        writerThread = new Thread(this::writeLoop, "delivery-log-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread writer = writerThread;
+        if (writer != null) {
+            LockSupport.unpark(writer);
+            try {
+                writer.join(properties.getShutdownTimeoutMs());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            writerThread = null;
+        }
+        // Whatever the writer did not get to before the timeout
+        int remaining = flushAll();
+        if (remaining > 0) {
+            logger.info("Flushed {} delivery log records on shutdown", remaining);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void writeLoop() {
+        long flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(properties.getFlushIntervalMs());
+        while (running) {
+            if (queueSize.get() < properties.getBatchSize()) {
+                LockSupport.parkNanos(this, flushIntervalNanos);
+            }
+            flushAll();
+        }
+    }
+
+    /** Drain the queue in batches. Returns the number of records taken off the queue. */
+    int flushAll() {
+        int total = 0;
+        int drained;
+        do {
+            drained = flushBatch();
+            total += drained;
+        } while (drained == properties.getBatchSize());
+        return total;
+    }
+
+    private int flushBatch() {
+        List<NotificationDeliveryLog> batch = new ArrayList<>(Math.min(queueSize.get(), properties.getBatchSize()));
+        NotificationDeliveryLog log;
+        while (batch.size() < properties.getBatchSize() && (log = queue.poll()) != null) {
+            queueSize.decrementAndGet();
+            batch.add(log);
+        }
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, row) -> {
+                ps.setObject(1, row.getNotificationId(), Types.BIGINT);
+                ps.setString(2, row.getChannel());
+                ps.setString(3, row.getProvider());
+                ps.setString(4, row.getStatus());
+                ps.setTimestamp(5, Timestamp.valueOf(row.getSentAt()));
+                ps.setString(6, row.getErrorMessage());
+                ps.setString(7, row.getExternalId());
+            });
+            writtenCounter.increment(batch.size());
+        } catch (Exception e) {
+            failedCounter.increment(batch.size());
+            logger.error("Failed to write {} delivery log records", batch.size(), e);
+        }
+        return batch.size();
+    }
+}
@@ -0,0 +1,79 @@
+package com.etalente.backend.service;
+
+import com.etalente.backend.config.NotificationPartitionProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps the monthly partitions of the notification tables ahead of time and retires
+ * partitions past the retention horizon by detaching (and optionally dropping) them,
+ * so old rows never have to be removed with {@code DELETE}.
+ */
+@Component
+public class NotificationPartitionMaintenance {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationPartitionMaintenance.class);
+
+    static final List<String> PARTITIONED_TABLES = List.of("notifications", "notification_delivery_logs");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NotificationPartitionProperties properties;
+
+    public NotificationPartitionMaintenance(JdbcTemplate jdbcTemplate, NotificationPartitionProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        maintain();
+    }
+
+    @Scheduled(cron = "${notifications.partitions.maintenance-cron:0 15 3 * * *}")
+    public void maintain() {
+        try {
+            createUpcomingPartitions();
+            retireExpiredPartitions();
+        } catch (Exception e) {
+            // Next run retries; partitions are created months ahead so a missed run is harmless
+            logger.error("Notification partition maintenance failed", e);
+        }
+    }
+
+    public int createUpcomingPartitions() {
+        int created = 0;
+        for (String table : PARTITIONED_TABLES) {
+            Integer count = jdbcTemplate.queryForObject(
+                    "SELECT create_monthly_partitions(?, ?, ?)",
+                    Integer.class, table, LocalDate.now(), properties.getMonthsAhead());
+            created += count != null ? count : 0;
+        }
+        if (created > 0) {
+            logger.info("Created {} notification partitions", created);
+        }
+        return created;
+    }
+
+    public List<String> retireExpiredPartitions() {
+        List<String> retired = new ArrayList<>();
+        for (String table : PARTITIONED_TABLES) {
+            retired.addAll(jdbcTemplate.queryForList(
+                    "SELECT drop_expired_partitions(?, ?, ?)",
+                    String.class, table, properties.getRetentionMonths(), properties.isDetachOnly()));
+        }
+        if (!retired.isEmpty()) {
+            logger.info("{} expired notification partitions: {}",
+                    properties.isDetachOnly() ? "Detached" : "Dropped", retired);
+        }
+        return retired;
+    }
+}
@@ -0,0 +1,152 @@
+package com.etalente.backend.service;
+
+import com.etalente.backend.event.ClusterEvent;
+import com.etalente.backend.event.ClusterEventType;
+import com.etalente.backend.model.NotificationPreference;
+import com.etalente.backend.repository.NotificationPreferenceRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded per-user cache of the full notification preference matrix.
+ * <p>
+ * A user's preferences are loaded once (all types in one query) and answered from
+ * memory afterwards; users without a row for a type get {@link ChannelPreference#DEFAULT}.
+ * Bulk lookups resolve every cache miss of a fan-out with a single {@code IN} query.
+ * Entries are evicted on preference writes, locally and on other nodes via
+ * {@link ClusterEventType#USER_CHANGED}.
+ */
+@Component
+public class NotificationPreferenceCache {
+
+    public static final String CACHE_NAME = "notification-preferences";
+
+    private final NotificationPreferenceRepository preferenceRepository;
+    private final LoadingCache<String, PreferenceMatrix> cache;
+
+    public NotificationPreferenceCache(NotificationPreferenceRepository preferenceRepository,
+                                       @Value("${notifications.preferences.cache.max-users:10000}") long maxUsers,
+                                       @Value("${notifications.preferences.cache.ttl-minutes:30}") long ttlMinutes) {
+        this.preferenceRepository = preferenceRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterWrite(ttlMinutes, TimeUnit.MINUTES)
+                .recordStats()
+                .build(new MatrixLoader());
+    }
+
+    public PreferenceMatrix getMatrix(String userId) {
+        return cache.get(userId);
+    }
+
+    public ChannelPreference getPreference(String userId, String notificationType) {
+        return getMatrix(userId).forType(notificationType);
+    }
+
+    public boolean isAllowed(String userId, String notificationType) {
+        return getPreference(userId, notificationType).inAppEnabled();
+    }
+
+    /**
+     * Resolve in-app permission for a whole fan-out. Users not yet cached are loaded
+     * together with one query.
+     *
+     * @return recipient id to allowed flag, in the order of {@code userIds}
+     */
+    public Map<String, Boolean> isAllowed(List<String> userIds, String notificationType) {
+        Map<String, PreferenceMatrix> matrices = cache.getAll(userIds);
+        Map<String, Boolean> allowed = new LinkedHashMap<>();
+        for (String userId : userIds) {
+            allowed.put(userId, matrices.get(userId).forType(notificationType).inAppEnabled());
+        }
+        return allowed;
+    }
+
+    public void invalidate(String userId) {
+        cache.invalidate(userId);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public Cache<String, PreferenceMatrix> getNativeCache() {
+        return cache;
+    }
+
+    @EventListener
+    public void onClusterEvent(ClusterEvent event) {
+        if (event.type() == ClusterEventType.USER_CHANGED && event.subject() != null) {
+            invalidate(event.subject());
+        } else if (event.type() == ClusterEventType.CACHE_INVALIDATION
+                && (ClusterEvent.ALL.equals(event.subject()) || CACHE_NAME.equals(event.subject()))) {
+            invalidateAll();
+        }
+    }
+
+    private class MatrixLoader implements CacheLoader<String, PreferenceMatrix> {
+
+        @Override
+        public PreferenceMatrix load(String userId) {
+            return PreferenceMatrix.of(preferenceRepository.findByUserId(userId));
+        }
+
+        @Override
+        public Map<String, PreferenceMatrix> loadAll(Set<? extends String> userIds) {
+            Map<String, List<NotificationPreference>> rowsByUser = new HashMap<>();
+            for (NotificationPreference preference : preferenceRepository.findByUserIdIn(List.copyOf(userIds))) {
+                rowsByUser.computeIfAbsent(preference.getUserId(), id -> new ArrayList<>()).add(preference);
+            }
+
+            // Users without any row still get an (empty) matrix so they are cached too
+            Map<String, PreferenceMatrix> matrices = new HashMap<>();
+            for (String userId : userIds) {
+                matrices.put(userId, PreferenceMatrix.of(rowsByUser.getOrDefault(userId, List.of())));
+            }
+            return matrices;
+        }
+    }
+
+    public record ChannelPreference(boolean inAppEnabled, boolean emailEnabled,
+                                    boolean pushEnabled, boolean smsEnabled) {
+
+        /** Matches the column defaults of {@code notification_preferences}. */
+        public static final ChannelPreference DEFAULT = new ChannelPreference(true, true, false, false);
+
+        static ChannelPreference of(NotificationPreference preference) {
+            return new ChannelPreference(
+                    preference.isInAppEnabled(),
+                    preference.isEmailEnabled(),
+                    preference.isPushEnabled(),
+                    preference.isSmsEnabled()
+            );
+        }
+    }
+
+    public record PreferenceMatrix(Map<String, ChannelPreference> byType) {
+
+        static PreferenceMatrix of(Collection<NotificationPreference> preferences) {
+            Map<String, ChannelPreference> byType = new HashMap<>();
+            preferences.forEach(p -> byType.put(p.getNotificationType(), ChannelPreference.of(p)));
+            return new PreferenceMatrix(Map.copyOf(byType));
+        }
+
+        public ChannelPreference forType(String notificationType) {
+            return byType.getOrDefault(notificationType, ChannelPreference.DEFAULT);
+        }
+    }
+}
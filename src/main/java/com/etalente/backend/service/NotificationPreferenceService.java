@@ -1,5 +1,7 @@
 package com.etalente.backend.service;
 
+import com.etalente.backend.event.ClusterEventBus;
+import com.etalente.backend.event.ClusterEventType;
 import com.etalente.backend.model.NotificationPreference;
 import com.etalente.backend.repository.NotificationPreferenceRepository;
 import org.slf4j.Logger;
@@ -17,9 +19,15 @@ public class NotificationPreferenceService {
     private static final Logger logger = LoggerFactory.getLogger(NotificationPreferenceService.class);
 
     private final NotificationPreferenceRepository preferenceRepository;
+    private final NotificationPreferenceCache preferenceCache;
+    private final ClusterEventBus clusterEventBus;
 
-    public NotificationPreferenceService(NotificationPreferenceRepository preferenceRepository) {
+    public NotificationPreferenceService(NotificationPreferenceRepository preferenceRepository,
+                                         NotificationPreferenceCache preferenceCache,
+                                         ClusterEventBus clusterEventBus) {
         this.preferenceRepository = preferenceRepository;
+        this.preferenceCache = preferenceCache;
+        this.clusterEventBus = clusterEventBus;
     }
 
     public NotificationPreference updatePreference(String userId, String notificationType,
@@ -40,7 +48,14 @@ public class NotificationPreferenceService {
         preference.setPushEnabled(push);
         preference.setSmsEnabled(sms);
 
-        return preferenceRepository.save(preference);
+        NotificationPreference saved = preferenceRepository.save(preference);
+
+        // Evict now, and again on every node once the write is committed
+        preferenceCache.invalidate(userId);
+        clusterEventBus.publish(ClusterEventType.USER_CHANGED, userId);
+        logger.debug("Notification preference {} updated for user {}", notificationType, userId);
+
+        return saved;
     }
 
     @Transactional(readOnly = true)
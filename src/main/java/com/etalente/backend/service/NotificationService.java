@@ -3,18 +3,19 @@ package com.etalente.backend.service;
 import com.etalente.backend.dto.NotificationRequest;
 import com.etalente.backend.dto.NotificationResponse;
 import com.etalente.backend.model.Notification;
-import com.etalente.backend.model.NotificationPreference;
 import com.etalente.backend.model.NotificationStatus;
-import com.etalente.backend.repository.NotificationPreferenceRepository;
 import com.etalente.backend.repository.NotificationRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 
 @Service
 @Transactional
@@ -23,12 +24,15 @@ public class NotificationService {
     private static final Logger logger = LoggerFactory.getLogger(NotificationService.class);
 
     private final NotificationRepository notificationRepository;
-    private final NotificationPreferenceRepository preferenceRepository;
+    private final NotificationPreferenceCache preferenceCache;
+    private final int inboxWindowDays;
 
     public NotificationService(NotificationRepository notificationRepository,
-                               NotificationPreferenceRepository preferenceRepository) {
+                               NotificationPreferenceCache preferenceCache,
+                               @Value("${notifications.inbox-window-days:90}") int inboxWindowDays) {
         this.notificationRepository = notificationRepository;
-        this.preferenceRepository = preferenceRepository;
+        this.preferenceCache = preferenceCache;
+        this.inboxWindowDays = inboxWindowDays;
     }
 
     public NotificationResponse createNotification(NotificationRequest request) {
@@ -58,38 +62,49 @@ public class NotificationService {
 
     @Transactional(readOnly = true)
     public Page<NotificationResponse> getUserNotifications(String userId, Pageable pageable) {
-        return notificationRepository.findByRecipientIdOrderByCreatedAtDesc(userId, pageable)
+        return notificationRepository.findRecentByRecipient(userId, inboxSince(), pageable)
             .map(NotificationResponse::fromEntity);
     }
 
     @Transactional(readOnly = true)
     public long getUnreadCount(String userId) {
-        return notificationRepository.countByRecipientIdAndStatus(userId, NotificationStatus.PENDING);
+        return notificationRepository.countByRecipientAndStatus(userId, NotificationStatus.PENDING);
     }
 
     public void markAsRead(Long notificationId) {
-        notificationRepository.findById(notificationId)
-            .ifPresent(notification -> {
-                notification.markAsRead();
-                notificationRepository.save(notification);
-                logger.info("Notification {} marked as read", notificationId);
-            });
+        // Only notifications the inbox can list can be opened, so the window bounds the update as well
+        if (notificationRepository.markAsRead(notificationId, inboxSince(), LocalDateTime.now(),
+                NotificationStatus.READ) > 0) {
+            logger.info("Notification {} marked as read", notificationId);
+        }
     }
 
     public void markAllAsRead(String userId) {
-        notificationRepository.findByRecipientIdAndStatus(userId, NotificationStatus.PENDING)
-            .forEach(notification -> {
-                notification.markAsRead();
-                notificationRepository.save(notification);
-            });
-        logger.info("All notifications marked as read for user {}", userId);
+        int updated = notificationRepository.markAllAsRead(userId, LocalDateTime.now(),
+                NotificationStatus.PENDING, NotificationStatus.READ);
+        logger.info("{} notifications marked as read for user {}", updated, userId);
     }
 
-    private boolean isNotificationAllowed(String userId, String notificationType) {
-        Optional<NotificationPreference> preference =
-            preferenceRepository.findByUserIdAndNotificationType(userId, notificationType);
+    /**
+     * Resolve in-app permission for every recipient of a fan-out; uncached users are
+     * loaded with a single query.
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Boolean> isAllowed(List<String> userIds, String notificationType) {
+        return preferenceCache.isAllowed(userIds, notificationType);
+    }
 
+    /**
+     * Lower {@code created_at} bound for inbox listings and single reads, which lets Postgres prune the
+     * monthly partitions outside the window. Unread counts and mark-all-as-read are not
+     * windowed, so an older unread notification is still counted and cleared.
+     */
+    private LocalDateTime inboxSince() {
+        return LocalDateTime.now().minusDays(inboxWindowDays);
+    }
+
+    private boolean isNotificationAllowed(String userId, String notificationType) {
         // Default to allowed if no preference is set
-        return preference.map(NotificationPreference::isInAppEnabled).orElse(true);
+        return preferenceCache.isAllowed(userId, notificationType);
     }
 }
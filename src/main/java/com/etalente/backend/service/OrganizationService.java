@@ -2,6 +2,8 @@ package com.etalente.backend.service;
 
 import com.etalente.backend.dto.OrganizationDto;
 import com.etalente.backend.dto.OrganizationMemberDto;
+import com.etalente.backend.event.ClusterEventBus;
+import com.etalente.backend.event.ClusterEventType;
 import com.etalente.backend.exception.ResourceNotFoundException;
 import com.etalente.backend.model.Organization;
 import com.etalente.backend.model.Role;
@@ -26,13 +28,16 @@ public class OrganizationService {
     private final OrganizationRepository organizationRepository;
     private final UserRepository userRepository;
     private final S3Service s3Service;
+    private final ClusterEventBus clusterEventBus;
 
     public OrganizationService(OrganizationRepository organizationRepository,
                               UserRepository userRepository,
-                              S3Service s3Service) {
+                              S3Service s3Service,
+                              ClusterEventBus clusterEventBus) {
         this.organizationRepository = organizationRepository;
         this.userRepository = userRepository;
         this.s3Service = s3Service;
+        this.clusterEventBus = clusterEventBus;
     }
 
     /**
@@ -80,7 +85,7 @@ public class OrganizationService {
             s3Service.deleteFile(organization.getCompanyLogoUrl());
             organization.setCompanyLogoUrl(null);
             organizationRepository.save(organization);
-
+    
             logger.info("Company logo deleted for organization: {}", organization.getId());
         }
     }
@@ -131,6 +136,7 @@ public class OrganizationService {
 
         member.setRole(newRole);
         userRepository.save(member);
+        clusterEventBus.publish(ClusterEventType.USER_CHANGED, member.getId().toString());
     }
 
     public void removeMember(UUID hiringManagerId, UUID memberId) {
@@ -146,5 +152,6 @@ public class OrganizationService {
 
         member.setAccountStatus(com.etalente.backend.model.UserAccountStatus.INACTIVE);
         userRepository.save(member);
+        clusterEventBus.publish(ClusterEventType.USER_CHANGED, member.getId().toString());
     }
 }
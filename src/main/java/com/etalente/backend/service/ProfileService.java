@@ -25,5 +25,9 @@ public interface ProfileService {
     void deleteResume(UUID userId, UUID resumeId);
     List<ResumeDto> getResumes(UUID userId);
 
-    JsonNode autofillProfileFromResume(UUID userId, String resumeS3Url);
+    /**
+     * Merge a document parser response into the user's profile. Runs in its own short
+     * transaction so callers can do the (slow) parse outside of any transaction.
+     */
+    JsonNode applyResumeExtraction(UUID userId, JsonNode documentParserResponse);
 }
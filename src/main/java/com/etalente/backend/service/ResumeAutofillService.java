@@ -0,0 +1,166 @@
+package com.etalente.backend.service;
+
+import com.etalente.backend.dto.ResumeAutofillJobDto;
+import com.etalente.backend.exception.BadRequestException;
+import com.etalente.backend.exception.IntegrationUnavailableException;
+import com.etalente.backend.exception.ResourceNotFoundException;
+import com.etalente.backend.integration.documentparser.DocumentParserClient;
+import com.etalente.backend.model.ResumeAutofillJob;
+import com.etalente.backend.model.ResumeAutofillStatus;
+import com.etalente.backend.model.Role;
+import com.etalente.backend.model.User;
+import com.etalente.backend.repository.ResumeAutofillJobRepository;
+import com.etalente.backend.repository.UserRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs resume autofill as a background job.
+ * <p>
+ * {@link #submit} records a QUEUED job and returns immediately. A bounded worker pool
+ * streams the resume from S3 to the document parser without any transaction or
+ * connection held, then merges the result into the profile in one short transaction.
+ * The pool size caps how many parses (and, at the end, profile writes) run at once;
+ * submissions beyond the queue capacity are rejected with 503 instead of piling up.
+ */
+@Service
+public class ResumeAutofillService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResumeAutofillService.class);
+
+    private final ResumeAutofillJobRepository jobRepository;
+    private final UserRepository userRepository;
+    private final DocumentParserClient documentParserClient;
+    private final ProfileService profileService;
+    private final ThreadPoolExecutor workers;
+    private final long staleAfterMinutes;
+
+    public ResumeAutofillService(ResumeAutofillJobRepository jobRepository,
+                                 UserRepository userRepository,
+                                 DocumentParserClient documentParserClient,
+                                 ProfileService profileService,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${resume-autofill.max-concurrent-jobs:4}") int maxConcurrentJobs,
+                                 @Value("${resume-autofill.queue-capacity:100}") int queueCapacity,
+                                 @Value("${resume-autofill.stale-after-minutes:15}") long staleAfterMinutes) {
+        this.jobRepository = jobRepository;
+        this.userRepository = userRepository;
+        this.documentParserClient = documentParserClient;
+        this.profileService = profileService;
+        this.staleAfterMinutes = staleAfterMinutes;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.workers = new ThreadPoolExecutor(maxConcurrentJobs, maxConcurrentJobs,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "resume-autofill-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        // executor.queued, executor.active, executor.pool.size etc. tagged name=resume-autofill
+        new ExecutorServiceMetrics(workers, "resume-autofill", Tags.empty()).bindTo(meterRegistry);
+    }
+
+    public ResumeAutofillJobDto submit(UUID userId, String resumeUrl) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+        if (user.getRole() != Role.CANDIDATE) {
+            throw new BadRequestException("Only candidates can autofill their profile from a resume");
+        }
+
+        ResumeAutofillJob job = jobRepository.save(new ResumeAutofillJob(userId, resumeUrl));
+        try {
+            workers.execute(() -> run(job.getId()));
+        } catch (RejectedExecutionException e) {
+            job.markFailed("Too many resume autofill jobs in progress");
+            jobRepository.save(job);
+            throw new IntegrationUnavailableException("Resume autofill is busy, please try again shortly");
+        }
+
+        logger.info("Queued resume autofill job {} for user {}", job.getId(), userId);
+        return ResumeAutofillJobDto.fromEntity(job);
+    }
+
+    @Transactional(readOnly = true)
+    public ResumeAutofillJobDto getJob(UUID userId, UUID jobId) {
+        return jobRepository.findByIdAndUserId(jobId, userId)
+                .map(ResumeAutofillJobDto::fromEntity)
+                .orElseThrow(() -> new ResourceNotFoundException("Autofill job not found"));
+    }
+
+    /** Fail jobs whose worker disappeared (e.g. node restart) so pollers do not wait forever. */
+    @Scheduled(fixedDelayString = "${resume-autofill.stale-sweep-interval-ms:60000}")
+    @Transactional
+    public void failStaleJobs() {
+        LocalDateTime now = LocalDateTime.now();
+        int failed = jobRepository.failStaleJobs(now.minusMinutes(staleAfterMinutes), now,
+                "Autofill job timed out", ResumeAutofillStatus.FAILED,
+                ResumeAutofillStatus.QUEUED, ResumeAutofillStatus.RUNNING);
+        if (failed > 0) {
+            logger.warn("Marked {} stale resume autofill jobs as failed", failed);
+        }
+    }
+
+    public int getQueueDepth() {
+        return workers.getQueue().size();
+    }
+
+    public int getActiveJobs() {
+        return workers.getActiveCount();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdown();
+    }
+
+    void run(UUID jobId) {
+        ResumeAutofillJob job = jobRepository.findById(jobId).orElse(null);
+        if (job == null || job.getStatus() != ResumeAutofillStatus.QUEUED) {
+            return;
+        }
+        // Loses to the sweeper if it already failed the job while it sat in the queue
+        if (jobRepository.markRunning(jobId, LocalDateTime.now(),
+                ResumeAutofillStatus.QUEUED, ResumeAutofillStatus.RUNNING) == 0) {
+            return;
+        }
+
+        ResumeAutofillStatus outcome;
+        String errorMessage = null;
+        try {
+            // Slow part: no transaction, no pooled connection held
+            JsonNode response = documentParserClient.extractResume(job.getResumeUrl());
+            profileService.applyResumeExtraction(job.getUserId(), response);
+            outcome = ResumeAutofillStatus.COMPLETED;
+            logger.info("Resume autofill job {} completed for user {}", jobId, job.getUserId());
+        } catch (Exception e) {
+            logger.error("Resume autofill job {} failed", jobId, e);
+            outcome = ResumeAutofillStatus.FAILED;
+            errorMessage = e.getMessage();
+        }
+
+        if (jobRepository.finishRunning(jobId, outcome, errorMessage, LocalDateTime.now(),
+                ResumeAutofillStatus.RUNNING) == 0) {
+            logger.warn("Resume autofill job {} finished as {} after it had been marked as timed out", jobId, outcome);
+        }
+    }
+}
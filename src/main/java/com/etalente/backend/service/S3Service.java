@@ -146,6 +146,30 @@ public class S3Service {
         }
     }
 
+    /**
+     * Content fingerprint of a file in S3, taken from its ETag with a HEAD request. For
+     * single-part uploads this is the MD5 of the content; multipart ETags are still
+     * stable for identical uploads. Returns {@code null} if it cannot be determined.
+     */
+    public String getContentHash(String fileUrl) {
+        try {
+            String key = extractKeyFromUrl(fileUrl);
+            if (key == null) return null;
+
+            HeadObjectRequest headRequest = HeadObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .build();
+
+            String eTag = s3Client.headObject(headRequest).eTag();
+            return eTag != null ? eTag.replace("\"", "") : null;
+
+        } catch (Exception e) {
+            logger.warn("Could not read ETag for file: {}", fileUrl, e);
+            return null;
+        }
+    }
+
     /**
      * Validate content type
      */
@@ -234,6 +258,25 @@ public class S3Service {
         }
     }
 
+    /**
+     * Open a streaming read of a file in S3. The caller must close the stream; the
+     * object metadata (content length, ETag) is available from {@code response()}.
+     *
+     * @param fileUrl The public URL of the file to read.
+     */
+    public ResponseInputStream<GetObjectResponse> openStream(String fileUrl) {
+        String key = extractKeyFromUrl(fileUrl);
+        if (key == null) {
+            throw new BadRequestException("Could not extract S3 key from URL: " + fileUrl);
+        }
+
+        GetObjectRequest getObjectRequest = GetObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .build();
+        return s3Client.getObject(getObjectRequest);
+    }
+
     /**
      * Download a file from S3 and return its content as a byte array.
      *
@@ -1,23 +1,36 @@
 package com.etalente.backend.service.impl;
 
+import com.etalente.backend.config.CacheConfig;
 import com.etalente.backend.constants.JsonFieldConstants;
 import com.etalente.backend.dto.ApplicantSummaryDto;
 import com.etalente.backend.dto.BulkActionResponse;
 import com.etalente.backend.dto.BulkStatusUpdateRequest;
+import com.etalente.backend.dto.NotificationRequest;
 import com.etalente.backend.exception.BadRequestException;
 import com.etalente.backend.exception.ResourceNotFoundException;
 import com.etalente.backend.exception.ServiceException;
 import com.etalente.backend.exception.UnauthorizedException;
 import com.etalente.backend.model.JobApplication;
+import com.etalente.backend.model.JobApplicationAudit;
 import com.etalente.backend.model.JobApplicationStatus;
 import com.etalente.backend.model.JobPost;
 import com.etalente.backend.model.User;
+import com.etalente.backend.observability.DbRequestStats;
+import com.etalente.backend.observability.RequestTimings;
+import com.etalente.backend.observability.jfr.ApplicantSearchEvent;
+import com.etalente.backend.observability.jfr.BulkOperationEvent;
+import com.etalente.backend.repository.JobApplicationAuditRepository;
 import com.etalente.backend.repository.JobApplicationRepository;
 import com.etalente.backend.service.ApplicantService;
 import com.etalente.backend.service.JobApplicationService;
+import com.etalente.backend.service.NotificationCoalescer;
+import com.etalente.backend.service.NotificationService;
 import com.etalente.backend.repository.UserRepository;
-import com.etalente.backend.integration.novu.NovuWorkflowService;
 import com.fasterxml.jackson.databind.JsonNode;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Meter.MeterProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.persistence.criteria.Join;
 import jakarta.persistence.criteria.JoinType;
 import jakarta.persistence.criteria.Predicate;
@@ -32,9 +45,13 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -47,19 +64,36 @@ public class ApplicantServiceImpl implements ApplicantService {
     private static final int MAX_EXPERIENCE = 50;
     private static final int MIN_AI_SCORE = 0;
     private static final int MAX_AI_SCORE = 100;
+    private static final String STATUS_CHANGED = "STATUS_CHANGED";
 
     private final JobApplicationRepository jobApplicationRepository;
+    private final JobApplicationAuditRepository jobApplicationAuditRepository;
     private final JobApplicationService jobApplicationService; // Reuse existing service
     private final UserRepository userRepository;
-    private final NovuWorkflowService notificationService;
+    private final NotificationService notificationService;
+    private final NotificationCoalescer notificationCoalescer;
+    private final MeterRegistry meterRegistry;
+    private final MeterProvider<Timer> searchTimer;
+    private final DistributionSummary bulkStatusUpdateSize;
 
     private static final int MAX_BULK_SIZE = 100;
 
-    public ApplicantServiceImpl(JobApplicationRepository jobApplicationRepository, JobApplicationService jobApplicationService, UserRepository userRepository, NovuWorkflowService notificationService) {
+    public ApplicantServiceImpl(JobApplicationRepository jobApplicationRepository, JobApplicationAuditRepository jobApplicationAuditRepository, JobApplicationService jobApplicationService, UserRepository userRepository, NotificationService notificationService, NotificationCoalescer notificationCoalescer, MeterRegistry meterRegistry) {
         this.jobApplicationRepository = jobApplicationRepository;
+        this.jobApplicationAuditRepository = jobApplicationAuditRepository;
         this.jobApplicationService = jobApplicationService;
         this.userRepository = userRepository;
         this.notificationService = notificationService;
+        this.notificationCoalescer = notificationCoalescer;
+        this.meterRegistry = meterRegistry;
+        this.searchTimer = Timer.builder("applicants.search")
+                .description("Applicant searches that missed the search cache")
+                .withRegistry(meterRegistry);
+        this.bulkStatusUpdateSize = DistributionSummary.builder("applicants.bulk.size")
+                .description("Applications per bulk operation")
+                .baseUnit("applications")
+                .tag("operation", "status_update")
+                .register(meterRegistry);
     }
 
     @Override
@@ -67,6 +101,8 @@ public class ApplicantServiceImpl implements ApplicantService {
     public BulkActionResponse bulkUpdateStatus(BulkStatusUpdateRequest request, UUID userId) {
         log.info("Bulk status update requested by user {} for {} applications",
                 userId, request.getApplicationIds().size());
+        BulkOperationEvent event = new BulkOperationEvent();
+        event.begin();
 
         // Validate request size
         if (request.getApplicationIds().size() > MAX_BULK_SIZE) {
@@ -79,22 +115,17 @@ public class ApplicantServiceImpl implements ApplicantService {
             .orElseThrow(() -> new ResourceNotFoundException("User not found"));
 
         List<BulkActionResponse.BulkActionError> errors = new ArrayList<>();
+        List<JobApplicationAudit> audits = new ArrayList<>();
         int successCount = 0;
 
         for (UUID applicationId : request.getApplicationIds()) {
             try {
                 // Use existing service method with proper authorization
-                jobApplicationService.transitionApplicationStatus(
+                audits.add(jobApplicationService.applyStatusTransition(
                     applicationId,
                     request.getTargetStatus(),
-                    userId
-                );
-
-                // Send notification if requested
-                if (request.isSendNotification()) {
-                    sendStatusChangeNotification(applicationId, request.getTargetStatus());
-                }
-
+                    currentUser
+                ));
                 successCount++;
 
             } catch (UnauthorizedException e) {
@@ -123,8 +154,24 @@ public class ApplicantServiceImpl implements ApplicantService {
             }
         }
 
+        // Persisted after the loop so nothing flushes them one by one; they go out as one JDBC batch
+        jobApplicationAuditRepository.saveAll(audits);
+
+        if (request.isSendNotification()) {
+            sendStatusChangeNotifications(audits, request.getTargetStatus());
+        }
+
         log.info("Bulk status update completed: {} succeeded, {} failed",
                 successCount, errors.size());
+        bulkStatusUpdateSize.record(request.getApplicationIds().size());
+        event.end();
+        if (event.shouldCommit()) {
+            event.operation = "status_update";
+            event.requested = request.getApplicationIds().size();
+            event.succeeded = successCount;
+            event.failed = errors.size();
+            event.commit();
+        }
 
         return BulkActionResponse.builder()
             .totalRequested(request.getApplicationIds().size())
@@ -135,24 +182,46 @@ public class ApplicantServiceImpl implements ApplicantService {
             .build();
     }
 
-    private void sendStatusChangeNotification(UUID applicationId, JobApplicationStatus newStatus) {
-        // Implementation for sending notification
-        try {
-            JobApplication application = jobApplicationRepository.findById(applicationId)
-                .orElseThrow();
-
-            // Trigger Novu workflow
-            // ... notification logic
+    /**
+     * Tell the candidates of a bulk update about their new status. Preferences for the whole batch are
+     * resolved up front, so candidates that are not cached yet cost one query together instead of one each.
+     * Repeated updates of the same application within a coalescing window reach the candidate as one digest.
+     */
+    private void sendStatusChangeNotifications(List<JobApplicationAudit> audits, JobApplicationStatus newStatus) {
+        Set<String> recipientIds = new LinkedHashSet<>();
+        for (JobApplicationAudit audit : audits) {
+            recipientIds.add(audit.getJobApplication().getCandidate().getId().toString());
+        }
+        Map<String, Boolean> allowed = notificationService.isAllowed(List.copyOf(recipientIds), STATUS_CHANGED);
 
-        } catch (Exception e) {
-            log.error("Failed to send notification for application {}", applicationId, e);
-            // Don't fail the bulk operation if notification fails
+        for (JobApplicationAudit audit : audits) {
+            JobApplication application = audit.getJobApplication();
+            String recipientId = application.getCandidate().getId().toString();
+            if (!allowed.get(recipientId)) {
+                continue;
+            }
+            try {
+                NotificationRequest notification = new NotificationRequest();
+                notification.setType(STATUS_CHANGED);
+                notification.setRecipientId(recipientId);
+                notification.setTitle("Application status updated");
+                notification.setContent(String.format("Your application for %s is now %s",
+                        application.getJobPost().getTitle(), newStatus));
+                notification.setMetadata(Map.of(
+                        "applicationId", application.getId().toString(),
+                        "status", newStatus.name()));
+                notificationCoalescer.submitNotification(notification, application.getId().toString(),
+                        count -> count + " status updates for " + application.getJobPost().getTitle());
+            } catch (Exception e) {
+                log.error("Failed to send notification for application {}", application.getId(), e);
+                // Don't fail the bulk operation if notification fails
+            }
         }
     }
 
     @Override
     @Cacheable(
-        value = "applicant-search",
+        value = CacheConfig.APPLICANT_SEARCH,
         key = "#organizationId + '-' + #pageable.pageNumber + '-' + #pageable.pageSize + '-' + " +
               "T(java.util.Objects).hash(#search, #skillSearch, #jobId, #statuses, #experienceMin, #education, #location)",
         unless = "#result.totalElements == 0"
@@ -173,32 +242,96 @@ public class ApplicantServiceImpl implements ApplicantService {
                   "statuses={}, experienceMin={}, education={}, location={}",
                   organizationId, search, skillSearch, jobId, statuses, experienceMin, education, location);
 
-        try {
-            // Validate inputs
-            validateInputs(search, skillSearch, experienceMin, aiMatchScoreMin, organizationId, jobId);
+        String filters = usedFilters(search, skillSearch, jobId, statuses, experienceMin, education, location);
+        return timedSearch(organizationId, filters, () -> {
+            try {
+                // Validate inputs
+                validateInputs(search, skillSearch, experienceMin, aiMatchScoreMin, organizationId, jobId);
 
-            // Build specification
-            Specification<JobApplication> spec = buildSpecification(
-                search, skillSearch, jobId, statuses, experienceMin, education, location, organizationId
-            );
+                // Build specification
+                Specification<JobApplication> spec = buildSpecification(
+                    search, skillSearch, jobId, statuses, experienceMin, education, location, organizationId
+                );
 
-            // Execute query
-            Page<ApplicantSummaryDto> result = jobApplicationRepository.findAll(spec, pageable)
-                .map(this::convertToDto);
+                // Execute query
+                Page<JobApplication> applications = jobApplicationRepository.findAll(spec, pageable);
+                Page<ApplicantSummaryDto> result;
+                try (RequestTimings.Span ignored = RequestTimings.start("mapping")) {
+                    result = applications.map(this::convertToDto);
+                }
 
-            log.info("Found {} applicants for organization {} (page {}/{})",
-                     result.getTotalElements(), organizationId,
-                     result.getNumber() + 1, result.getTotalPages());
+                log.info("Found {} applicants for organization {} (page {}/{})",
+                         result.getTotalElements(), organizationId,
+                         result.getNumber() + 1, result.getTotalPages());
+                return result;
 
+            } catch (BadRequestException e) {
+                log.warn("Validation error in getApplicants: {}", e.getMessage());
+                throw e;
+            } catch (Exception e) {
+                log.error("Error fetching applicants for organization: {}", organizationId, e);
+                throw new ServiceException("Failed to fetch applicants", e);
+            }
+        });
+    }
+
+    /**
+     * Runs an applicant search with its instrumentation: query context for the slow query log, the
+     * {@code applicants.search} timer and an {@link ApplicantSearchEvent}.
+     */
+    private Page<ApplicantSummaryDto> timedSearch(UUID organizationId, String filters,
+                                                  Supplier<Page<ApplicantSummaryDto>> search) {
+        DbRequestStats.describeQueries("applicants:" + filters);
+        ApplicantSearchEvent event = new ApplicantSearchEvent();
+        event.begin();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            Page<ApplicantSummaryDto> result = search.get();
+            outcome = "success";
+            event.rows = result.getNumberOfElements();
+            event.total = result.getTotalElements();
             return result;
+        } finally {
+            sample.stop(searchTimer.withTags("filters", filters, "outcome", outcome));
+            event.end();
+            if (event.shouldCommit()) {
+                event.organizationId = String.valueOf(organizationId);
+                event.filters = filters;
+                event.commit();
+            }
+        }
+    }
 
-        } catch (BadRequestException e) {
-            log.warn("Validation error in getApplicants: {}", e.getMessage());
-            throw e;
-        } catch (Exception e) {
-            log.error("Error fetching applicants for organization: {}", organizationId, e);
-            throw new ServiceException("Failed to fetch applicants", e);
+    /**
+     * Names of the filters a search used, in a fixed order, e.g. {@code "search,status"}. Bounded to the
+     * combinations of seven filters, so it is safe as a metric tag.
+     */
+    static String usedFilters(String search, String skillSearch, String jobId, List<String> statuses,
+                              Integer experienceMin, List<String> education, String location) {
+        List<String> used = new ArrayList<>(7);
+        if (search != null && !search.isBlank()) {
+            used.add("search");
+        }
+        if (skillSearch != null && !skillSearch.isBlank()) {
+            used.add("skills");
+        }
+        if (jobId != null && !jobId.isBlank()) {
+            used.add("job");
+        }
+        if (statuses != null && !statuses.isEmpty()) {
+            used.add("status");
+        }
+        if (experienceMin != null) {
+            used.add("experience");
+        }
+        if (education != null && !education.isEmpty()) {
+            used.add("education");
+        }
+        if (location != null && !location.isBlank()) {
+            used.add("location");
         }
+        return used.isEmpty() ? "none" : String.join(",", used);
     }
 
     /**
@@ -355,9 +488,9 @@ public class ApplicantServiceImpl implements ApplicantService {
     }
 
     /**
-     * Convert JobApplication entity to ApplicantSummaryDto
+     * Convert JobApplication entity to ApplicantSummaryDto (package-private for ApplicantConversionBenchmark)
      */
-    private ApplicantSummaryDto convertToDto(JobApplication jobApplication) {
+    ApplicantSummaryDto convertToDto(JobApplication jobApplication) {
         try {
             return new ApplicantSummaryDto(
                 jobApplication.getId().toString(),
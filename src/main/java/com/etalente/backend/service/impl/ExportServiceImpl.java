@@ -2,12 +2,16 @@ package com.etalente.backend.service.impl;
 
 import com.etalente.backend.dto.ApplicantSummaryDto;
 import com.etalente.backend.exception.ServiceException;
+import com.etalente.backend.observability.jfr.ExportEvent;
 import com.etalente.backend.service.ExportService;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.csv.CSVFormat;
 import org.apache.commons.csv.CSVPrinter;
 import org.springframework.stereotype.Service;
 
+import java.io.FilterOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
@@ -18,10 +22,27 @@ import java.util.List;
 @Service
 public class ExportServiceImpl implements ExportService {
 
+    private final DistributionSummary csvRows;
+    private final DistributionSummary csvBytes;
+
+    public ExportServiceImpl(MeterRegistry meterRegistry) {
+        this.csvRows = DistributionSummary.builder("applicants.export.rows")
+                .baseUnit("rows")
+                .tag("format", "csv")
+                .register(meterRegistry);
+        this.csvBytes = DistributionSummary.builder("applicants.export.bytes")
+                .baseUnit("bytes")
+                .tag("format", "csv")
+                .register(meterRegistry);
+    }
+
     @Override
     public void exportToCsv(List<ApplicantSummaryDto> applicants, OutputStream outputStream) {
+        ExportEvent event = new ExportEvent();
+        event.begin();
+        CountingOutputStream counted = new CountingOutputStream(outputStream);
         try (CSVPrinter csvPrinter = new CSVPrinter(
-                new OutputStreamWriter(outputStream, StandardCharsets.UTF_8),
+                new OutputStreamWriter(counted, StandardCharsets.UTF_8),
                 CSVFormat.DEFAULT.withHeader(
                     "ID", "Candidate Name", "Job Title", "Experience (Years)",
                     "Location", "Status", "Application Date"
@@ -40,7 +61,16 @@ public class ExportServiceImpl implements ExportService {
             }
 
             csvPrinter.flush();
-            log.info("Exported {} applicants to CSV", applicants.size());
+            csvRows.record(applicants.size());
+            csvBytes.record(counted.count);
+            log.info("Exported {} applicants to CSV ({} bytes)", applicants.size(), counted.count);
+            event.end();
+            if (event.shouldCommit()) {
+                event.format = "csv";
+                event.rows = applicants.size();
+                event.bytes = counted.count;
+                event.commit();
+            }
 
         } catch (IOException e) {
             log.error("Error exporting to CSV", e);
@@ -60,4 +90,25 @@ public class ExportServiceImpl implements ExportService {
         // Use iText or Apache PDFBox for PDF export
         throw new UnsupportedOperationException("PDF export not yet implemented");
     }
+
+    private static final class CountingOutputStream extends FilterOutputStream {
+
+        private long count;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
 }
@@ -1,24 +1,41 @@
 package com.etalente.backend.service.impl;
 
+import com.etalente.backend.config.CacheConfig;
 import com.etalente.backend.dto.*;
+import com.etalente.backend.event.ClusterEventBus;
 import com.etalente.backend.exception.BadRequestException;
+import com.etalente.backend.exception.ConflictException;
 import com.etalente.backend.exception.ResourceNotFoundException;
 import com.etalente.backend.exception.UnauthorizedException;
 import com.etalente.backend.model.*;
 import com.etalente.backend.repository.*;
+import com.etalente.backend.observability.jfr.ApplicationTransitionEvent;
 import com.etalente.backend.security.OrganizationContext;
+import com.etalente.backend.service.ApplicationIdempotencyCache;
 import com.etalente.backend.service.JobApplicationService;
-import com.etalente.backend.integration.novu.NovuWorkflowService;
 import com.etalente.backend.service.JobPostPermissionService;
+import com.etalente.backend.service.NotificationCoalescer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Meter.MeterProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityNotFoundException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
 import java.util.Collections;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
@@ -29,56 +46,143 @@ import org.slf4j.LoggerFactory;
 public class JobApplicationServiceImpl implements JobApplicationService {
 
     private static final Logger log = LoggerFactory.getLogger(JobApplicationServiceImpl.class);
+    private static final List<String> ALL_STATUSES = Arrays.stream(JobApplicationStatus.values()).map(Enum::name).toList();
 
     private final JobApplicationRepository jobApplicationRepository;
     private final JobPostRepository jobPostRepository;
     private final OrganizationContext organizationContext;
     private final JobApplicationAuditRepository jobApplicationAuditRepository;
-    private final NovuWorkflowService novuWorkflowService;
+    private final NotificationCoalescer notificationCoalescer;
     private final JobPostPermissionService permissionService;
     private final UserRepository userRepository;
+    private final ClusterEventBus clusterEventBus;
+    private final MeterProvider<Counter> transitionCounter;
+    private final StateTransitionWriter stateTransitionWriter;
+    private final ApplicationIdempotencyCache idempotencyCache;
 
     public JobApplicationServiceImpl(JobApplicationRepository jobApplicationRepository,
                                      JobPostRepository jobPostRepository,
                                      OrganizationContext organizationContext,
                                      JobApplicationAuditRepository jobApplicationAuditRepository,
-                                     NovuWorkflowService novuWorkflowService,
+                                     NotificationCoalescer notificationCoalescer,
                                      JobPostPermissionService permissionService,
-                                     UserRepository userRepository) {
+                                     UserRepository userRepository,
+                                     ClusterEventBus clusterEventBus,
+                                     MeterRegistry meterRegistry,
+                                     StateTransitionWriter stateTransitionWriter,
+                                     ApplicationIdempotencyCache idempotencyCache) {
         this.jobApplicationRepository = jobApplicationRepository;
         this.jobPostRepository = jobPostRepository;
         this.organizationContext = organizationContext;
         this.jobApplicationAuditRepository = jobApplicationAuditRepository;
-        this.novuWorkflowService = novuWorkflowService;
+        this.notificationCoalescer = notificationCoalescer;
         this.permissionService = permissionService;
         this.userRepository = userRepository;
+        this.clusterEventBus = clusterEventBus;
+        this.transitionCounter = Counter.builder("state_machine.transitions")
+                .tag("machine", "job_application")
+                .withRegistry(meterRegistry);
+        this.stateTransitionWriter = stateTransitionWriter;
+        this.idempotencyCache = idempotencyCache;
     }
 
     @Override
     public Page<ApplicationSummaryDto> getMyApplications(Pageable pageable, String search, String sort) {
-        User currentUser = organizationContext.getCurrentUser();
-        return jobApplicationRepository.findAll(JobApplicationSpecification.withFilters(currentUser.getId(), search, sort), pageable)
-                .map(this::toSummaryDto);
+        UUID candidateId = organizationContext.getCurrentUser().getId();
+        // Same orderings as the keyset listing, each ending with the newest application first
+        Sort order = switch (sortKey(sort)) {
+            case "date" -> Sort.by(Sort.Direction.DESC, "applicationDate", "id");
+            case "status" -> Sort.by("status").and(Sort.by(Sort.Direction.DESC, "applicationDate", "id"));
+            case "company" -> Sort.by("jobCompany").and(Sort.by(Sort.Direction.DESC, "applicationDate", "id"));
+            default -> throw unsupportedSort(sort);
+        };
+        return jobApplicationRepository.findCandidateSummaries(candidateId, searchPattern(search),
+                        PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), order))
+                .map(JobApplicationServiceImpl::toSummaryDto);
+    }
+
+    @Override
+    public CursorPage<ApplicationSummaryDto> getMyApplications(String cursor, Integer size, String search, String sort) {
+        CursorPage.Cursor position = CursorPage.Cursor.decode(cursor);
+        int pageSize = CursorPage.size(size);
+        UUID candidateId = organizationContext.getCurrentUser().getId();
+        String pattern = searchPattern(search);
+        int limit = pageSize + 1;
+
+        return switch (sortKey(sort)) {
+            case "date" -> CursorPage.of(position == null
+                            ? jobApplicationRepository.findCandidateSummariesByDate(candidateId, pattern, limit)
+                            : jobApplicationRepository.findCandidateSummariesByDateBefore(candidateId, pattern,
+                                    position.at(), position.id(), limit),
+                    pageSize, JobApplicationServiceImpl::toSummaryDto,
+                    row -> new CursorPage.Cursor(row.getApplicationDate(), row.getId()));
+            case "status" -> CursorPage.of(position == null
+                            ? jobApplicationRepository.findCandidateSummariesByStatus(candidateId, pattern, limit)
+                            : jobApplicationRepository.findCandidateSummariesByStatusAfter(candidateId, pattern,
+                                    position.requireKey(), position.at(), position.id(), limit),
+                    pageSize, JobApplicationServiceImpl::toSummaryDto,
+                    row -> new CursorPage.Cursor(row.getApplicationDate(), row.getId(), row.getStatus().name()));
+            case "company" -> CursorPage.of(position == null
+                            ? jobApplicationRepository.findCandidateSummariesByCompany(candidateId, pattern, limit)
+                            : jobApplicationRepository.findCandidateSummariesByCompanyAfter(candidateId, pattern,
+                                    position.requireKey(), position.at(), position.id(), limit),
+                    pageSize, JobApplicationServiceImpl::toSummaryDto,
+                    row -> new CursorPage.Cursor(row.getApplicationDate(), row.getId(),
+                            row.getJobCompany() != null ? row.getJobCompany() : ""));
+            default -> throw unsupportedSort(sort);
+        };
+    }
+
+    private static String searchPattern(String search) {
+        return search == null || search.isBlank() ? "%" : "%" + search.trim().toLowerCase() + "%";
+    }
+
+    // "status,asc" is accepted for clients still sending Spring Data sort parameters
+    private static String sortKey(String sort) {
+        return sort == null || sort.isBlank() ? "date" : sort.split(",")[0].trim();
+    }
+
+    private static BadRequestException unsupportedSort(String sort) {
+        return new BadRequestException("Unsupported sort: " + sortKey(sort) + ". Use date, company or status.");
     }
 
     @Override
     public ApplicationDetailsDto getApplicationDetails(UUID applicationId) {
         log.info("Attempting to retrieve application details for ID: {}", applicationId);
-        User currentUser = userRepository.findById(organizationContext.getCurrentUser().getId())
-                .orElseThrow(() -> new ResourceNotFoundException("Current user not found"));
-        JobApplication application = jobApplicationRepository.findById(applicationId)
+        return toDetailsDto(findViewableApplication(applicationId));
+    }
+
+    @Override
+    public CursorPage<ApplicationDetailsDto.CommunicationHistoryDto> getApplicationHistory(UUID applicationId,
+                                                                                          String cursor,
+                                                                                          Integer size) {
+        CursorPage.Cursor position = CursorPage.Cursor.decode(cursor);
+        int pageSize = CursorPage.size(size);
+        findViewableApplication(applicationId);
+
+        List<JobApplicationAudit> rows = position == null
+                ? jobApplicationAuditRepository.findHistory(applicationId, pageSize + 1)
+                : jobApplicationAuditRepository.findHistoryBefore(applicationId, position.at(), position.id(), pageSize + 1);
+        return CursorPage.of(rows, pageSize, JobApplicationServiceImpl::toHistoryDto,
+                audit -> new CursorPage.Cursor(audit.getDate(), audit.getId()));
+    }
+
+    /** Loads an application the current user may see: their own, or one for a job post of their organization. */
+    private JobApplication findViewableApplication(UUID applicationId) {
+        User currentUser = organizationContext.getCurrentUser();
+        JobApplication application = jobApplicationRepository.findDetailsById(applicationId)
                 .orElseThrow(() -> new ResourceNotFoundException("Application not found"));
 
         // Scenario 1: Candidate viewing their own application
         if (application.getCandidate().getId().equals(currentUser.getId())) {
-            return toDetailsDto(application);
+            return application;
         }
 
         // Scenario 2: Hiring Manager or Recruiter viewing applications for their organization's job posts
         JobPost jobPost = application.getJobPost();
         if (currentUser.getRole() == Role.HIRING_MANAGER || currentUser.getRole() == Role.RECRUITER) {
             if (permissionService.belongsToSameOrganization(currentUser, jobPost)) {
-                return toDetailsDto(application);
+                return application;
             }
         }
 
@@ -86,8 +190,18 @@ public class JobApplicationServiceImpl implements JobApplicationService {
     }
 
     @Override
-    public ApplicationSummaryDto applyForJob(UUID jobPostId) {
+    public ApplicationSummaryDto applyForJob(UUID jobPostId, String idempotencyKey) {
         User currentUser = organizationContext.getCurrentUser();
+        if (idempotencyKey != null) {
+            ApplicationSummaryDto previous = idempotencyCache.get(currentUser.getId(), idempotencyKey);
+            if (previous != null) {
+                if (!previous.job().id().equals(jobPostId)) {
+                    throw new BadRequestException("Idempotency-Key was already used to apply for a different job.");
+                }
+                return previous;
+            }
+        }
+
         JobPost jobPost = jobPostRepository.findById(jobPostId)
                 .orElseThrow(() -> new ResourceNotFoundException("Job post not found"));
 
@@ -95,19 +209,35 @@ public class JobApplicationServiceImpl implements JobApplicationService {
             throw new BadRequestException("Cannot apply for a job that is not OPEN.");
         }
 
-        if (jobApplicationRepository.existsByCandidateIdAndJobPostId(currentUser.getId(), jobPostId)) {
+        // The application and its audit entry are written by one statement; the unique index rejects duplicates
+        LocalDateTime appliedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        Optional<UUID> applicationId = jobApplicationRepository.insertIfAbsent(UUID.randomUUID(), UUID.randomUUID(),
+                jobPostId, currentUser.getId(), appliedAt, idempotencyKey, "Application submitted.");
+
+        ApplicationSummaryDto response;
+        if (applicationId.isPresent()) {
+            response = new ApplicationSummaryDto(applicationId.get(), appliedAt, JobApplicationStatus.APPLIED.name(),
+                    new ApplicationSummaryDto.JobSummaryDto(jobPost.getId(), jobPost.getTitle(), jobPost.getCompany()));
+            clusterEventBus.invalidateCache(CacheConfig.APPLICANT_SEARCH);
+            notifyHiringManagerAfterCommit(jobPost, currentUser, response);
+        } else if (idempotencyKey != null) {
+            // A retry whose first attempt was handled by another node or has left the cache; only the key the
+            // application was submitted with replays it
+            response = jobApplicationRepository.findByCandidateIdAndJobPostId(currentUser.getId(), jobPostId)
+                    .filter(existing -> idempotencyKey.equals(existing.getIdempotencyKey()))
+                    .map(this::toSummaryDto)
+                    .orElseThrow(() -> new BadRequestException("You have already applied for this job."));
+        } else {
             throw new BadRequestException("You have already applied for this job.");
         }
 
-        JobApplication application = new JobApplication();
-        application.setCandidate(currentUser);
-        application.setJobPost(jobPost);
-        application.setStatus(JobApplicationStatus.APPLIED);
-
-        JobApplication savedApplication = jobApplicationRepository.save(application);
-
-        jobApplicationAuditRepository.save(new JobApplicationAudit(savedApplication, JobApplicationStatus.APPLIED, "Application submitted."));
+        if (idempotencyKey != null) {
+            afterCommit(() -> idempotencyCache.put(currentUser.getId(), idempotencyKey, response));
+        }
+        return response;
+    }
 
+    private void notifyHiringManagerAfterCommit(JobPost jobPost, User candidate, ApplicationSummaryDto application) {
         // Construct WorkflowTriggerRequest
         WorkflowTriggerRequest workflowRequest = new WorkflowTriggerRequest();
         workflowRequest.setSubscriberId(jobPost.getCreatedBy().getId().toString());
@@ -115,21 +245,39 @@ public class JobApplicationServiceImpl implements JobApplicationService {
         workflowRequest.setFirstName(jobPost.getCreatedBy().getFirstName()); // Add first name
         workflowRequest.setLastName(jobPost.getCreatedBy().getLastName());   // Add last name
         workflowRequest.setPayload(Map.of(
-                "applicantName", currentUser.getFirstName() + " " + currentUser.getLastName(),
-                "applicantEmail", currentUser.getEmail(),
+                "applicantName", candidate.getFirstName() + " " + candidate.getLastName(),
+                "applicantEmail", candidate.getEmail(),
                 "jobTitle", jobPost.getTitle(),
                 "companyName", jobPost.getCompany(),
-                "applicationId", savedApplication.getId().toString(),
-                "applicationDate", savedApplication.getApplicationDate().toString()
+                "applicationId", application.id().toString(),
+                "applicationDate", application.applicationDate().toString()
         ));
+        String jobTitle = jobPost.getTitle();
 
-        // Trigger notification workflow asynchronously (fire and forget)
-        novuWorkflowService.triggerWorkflow(
+        // Trigger notification workflow asynchronously (fire and forget) once the application is committed,
+        // so a rolled back submission never notifies; bursts of applications to the same job are folded
+        // into one digest per window
+        afterCommit(() -> notificationCoalescer.submitWorkflow(
             "application-received", // Workflow ID in Novu
-            workflowRequest
-        );
+            "application-received-digest",
+            jobPost.getId().toString(),
+            workflowRequest,
+            count -> count + " new applicants for " + jobTitle
+        ));
+    }
 
-        return toSummaryDto(savedApplication);
+    /** Runs {@code action} once the surrounding transaction commits, or straight away outside one. */
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
     }
 
     @Override
@@ -145,9 +293,27 @@ public class JobApplicationServiceImpl implements JobApplicationService {
         if (application.getStatus() != JobApplicationStatus.APPLIED && application.getStatus() != JobApplicationStatus.UNDER_REVIEW) {
             throw new BadRequestException("Application can only be withdrawn if its status is APPLIED or UNDER_REVIEW.");
         }
-        application.setStatus(JobApplicationStatus.WITHDRAWN);
-        jobApplicationRepository.save(application);
+        changeStatus(application, application.getStatus(), JobApplicationStatus.WITHDRAWN);
         jobApplicationAuditRepository.save(new JobApplicationAudit(application, JobApplicationStatus.WITHDRAWN, "Application withdrawn by candidate."));
+        clusterEventBus.invalidateCache(CacheConfig.APPLICANT_SEARCH);
+    }
+
+    /** Compare-and-set status write; counted and recorded as an {@link ApplicationTransitionEvent}. */
+    private void changeStatus(JobApplication application, JobApplicationStatus from, JobApplicationStatus to) {
+        ApplicationTransitionEvent event = new ApplicationTransitionEvent();
+        event.begin();
+        stateTransitionWriter.write(application,
+                () -> jobApplicationRepository.compareAndSetStatus(application.getId(), from, to),
+                () -> application.setStatus(to),
+                "Application status was changed by someone else; reload it and try again.");
+        transitionCounter.withTags("from", from.name(), "to", to.name()).increment();
+        event.end();
+        if (event.shouldCommit()) {
+            event.applicationId = application.getId().toString();
+            event.fromStatus = from.name();
+            event.toStatus = to.name();
+            event.commit();
+        }
     }
 
     private ApplicationSummaryDto toSummaryDto(JobApplication application) {
@@ -164,14 +330,28 @@ public class JobApplicationServiceImpl implements JobApplicationService {
         );
     }
 
+    private static ApplicationSummaryDto toSummaryDto(JobApplicationRepository.CandidateApplicationSummary row) {
+        return new ApplicationSummaryDto(
+                row.getId(),
+                row.getApplicationDate(),
+                row.getStatus().name(),
+                new ApplicationSummaryDto.JobSummaryDto(row.getJobId(), row.getJobTitle(), row.getJobCompany())
+        );
+    }
+
+    private static ApplicationDetailsDto.CommunicationHistoryDto toHistoryDto(JobApplicationAudit audit) {
+        return new ApplicationDetailsDto.CommunicationHistoryDto(
+                audit.getStatus().name(),
+                audit.getDate(),
+                audit.getMessage()
+        );
+    }
+
+    /** Expects {@code application} to come from {@code findDetailsById}; reads the audit trail in one more query. */
     private ApplicationDetailsDto toDetailsDto(JobApplication application) {
         List<JobApplicationAudit> auditHistory = jobApplicationAuditRepository.findByJobApplicationId(application.getId());
         List<ApplicationDetailsDto.CommunicationHistoryDto> communicationHistory = auditHistory.stream()
-                .map(audit -> new ApplicationDetailsDto.CommunicationHistoryDto(
-                        audit.getStatus().name(),
-                        audit.getDate(),
-                        audit.getMessage()
-                ))
+                .map(JobApplicationServiceImpl::toHistoryDto)
                 .collect(Collectors.toList());
 
         User candidate = application.getCandidate();
@@ -215,6 +395,39 @@ public class JobApplicationServiceImpl implements JobApplicationService {
 
     @Override
     public Page<EmployerApplicationSummaryDto> getApplicationsForJob(UUID jobId, UUID userId, Pageable pageable) {
+        requireApplicantsViewable(jobId);
+        return jobApplicationRepository.findApplicantSummaries(jobId, pageable)
+                .map(JobApplicationServiceImpl::toEmployerSummaryDto);
+    }
+
+    @Override
+    public CursorPage<EmployerApplicationSummaryDto> getApplicationsForJob(UUID jobId, UUID userId, List<String> statuses,
+                                                                         String cursor, Integer size) {
+        CursorPage.Cursor position = CursorPage.Cursor.decode(cursor);
+        int pageSize = CursorPage.size(size);
+        requireApplicantsViewable(jobId);
+
+        List<String> statusFilter = statuses == null || statuses.isEmpty() ? ALL_STATUSES : statusNames(statuses);
+        List<JobApplicationRepository.JobApplicantSummary> rows = position == null
+                ? jobApplicationRepository.findApplicantSummaries(jobId, statusFilter, pageSize + 1)
+                : jobApplicationRepository.findApplicantSummariesBefore(jobId, statusFilter,
+                        position.at(), position.id(), pageSize + 1);
+        return CursorPage.of(rows, pageSize, JobApplicationServiceImpl::toEmployerSummaryDto,
+                row -> new CursorPage.Cursor(row.getApplicationDate(), row.getId()));
+    }
+
+    // The filter is bound straight into a native IN list, so unknown names are rejected rather than matching nothing
+    private static List<String> statusNames(List<String> statuses) {
+        return statuses.stream().map(status -> {
+            try {
+                return JobApplicationStatus.valueOf(status.trim().toUpperCase()).name();
+            } catch (IllegalArgumentException e) {
+                throw new BadRequestException("Unknown application status: " + status);
+            }
+        }).toList();
+    }
+
+        private void requireApplicantsViewable(UUID jobId) {
         User user = organizationContext.getCurrentUser();
         JobPost jobPost = jobPostRepository.findById(jobId)
                 .orElseThrow(() -> new ResourceNotFoundException("Job post not found"));
@@ -228,40 +441,58 @@ public class JobApplicationServiceImpl implements JobApplicationService {
         if (user.getRole() != Role.HIRING_MANAGER && user.getRole() != Role.RECRUITER) {
             throw new UnauthorizedException("Only hiring managers and recruiters can view applications.");
         }
+    }
 
-        Page<JobApplication> applications = jobApplicationRepository.findByJobPostId(jobId, pageable);
-
-        return applications.map(application -> {
-            User candidate = application.getCandidate();
-            EmployerApplicationSummaryDto.CandidateDto candidateDto = new EmployerApplicationSummaryDto.CandidateDto(
-                    candidate.getId(),
-                    candidate.getFirstName() + " " + candidate.getLastName(),
-                    candidate.getEmail(),
-                    candidate.getProfileImageUrl()
-            );
-            return new EmployerApplicationSummaryDto(
-                    application.getId(),
-                    application.getApplicationDate(),
-                    application.getStatus().name(),
-                    candidateDto
-            );
-        });
+    private static EmployerApplicationSummaryDto toEmployerSummaryDto(JobApplicationRepository.JobApplicantSummary row) {
+        EmployerApplicationSummaryDto.CandidateDto candidateDto = new EmployerApplicationSummaryDto.CandidateDto(
+                row.getCandidateId(),
+                row.getCandidateFirstName() + " " + row.getCandidateLastName(),
+                row.getCandidateEmail(),
+                row.getCandidateProfileImageUrl()
+        );
+        return new EmployerApplicationSummaryDto(
+                row.getId(),
+                row.getApplicationDate(),
+                row.getStatus().name(),
+                candidateDto
+        );
     }
 
     @Override
     public ApplicationDetailsDto transitionApplicationStatus(UUID applicationId, JobApplicationStatus targetStatus, UUID userId) {
-        User currentUser = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+        // Not loaded up front: the details query fetches the job post's creator, who is usually the one moving
+        // the application along, and only another actor costs a SELECT when the checks first read them
+        User currentUser = userRepository.getReferenceById(userId);
+
+        JobApplicationAudit audit;
+        try {
+            audit = applyStatusTransition(applicationId, targetStatus, currentUser);
+        } catch (EntityNotFoundException e) {
+            throw new ResourceNotFoundException("User not found");
+        }
+        jobApplicationAuditRepository.save(audit);
 
-        JobApplication application = jobApplicationRepository.findById(applicationId)
+        // TODO: Trigger Novu notification for candidate about status change
+
+        return toDetailsDto(audit.getJobApplication());
+    }
+
+    @Override
+    // Every rejection below happens before anything is written, so none of them dooms a bulk caller's transaction
+    @Transactional(noRollbackFor = {ResourceNotFoundException.class, UnauthorizedException.class,
+            BadRequestException.class, ConflictException.class})
+    public JobApplicationAudit applyStatusTransition(UUID applicationId, JobApplicationStatus targetStatus, User actor) {
+        // Fetched with its job post, creator and candidate so the caller can build the details response
+        // without further lazy loads
+        JobApplication application = jobApplicationRepository.findDetailsById(applicationId)
                 .orElseThrow(() -> new ResourceNotFoundException("Job application not found"));
 
         // Authorization: Only Hiring Managers or Recruiters of the job post's organization can transition status
         JobPost jobPost = application.getJobPost();
-        if (currentUser.getRole() != Role.HIRING_MANAGER && currentUser.getRole() != Role.RECRUITER) {
+        if (actor.getRole() != Role.HIRING_MANAGER && actor.getRole() != Role.RECRUITER) {
             throw new UnauthorizedException("Only Hiring Managers and Recruiters can transition application status.");
         }
-        if (!permissionService.belongsToSameOrganization(currentUser, jobPost)) {
+        if (!permissionService.belongsToSameOrganization(actor, jobPost)) {
             throw new UnauthorizedException("You are not authorized to transition this application.");
         }
 
@@ -272,16 +503,13 @@ public class JobApplicationServiceImpl implements JobApplicationService {
         }
 
         // Update status
-        application.setStatus(targetStatus);
-        JobApplication updatedApplication = jobApplicationRepository.save(application);
+        JobApplicationStatus fromStatus = application.getStatus();
+        changeStatus(application, fromStatus, targetStatus);
+        clusterEventBus.invalidateCache(CacheConfig.APPLICANT_SEARCH);
 
         // Audit the transition
         String auditMessage = String.format("Application status transitioned from %s to %s by user %s.",
-                application.getStatus(), targetStatus, currentUser.getEmail());
-        jobApplicationAuditRepository.save(new JobApplicationAudit(updatedApplication, targetStatus, auditMessage));
-
-        // TODO: Trigger Novu notification for candidate about status change
-
-        return toDetailsDto(updatedApplication);
+                fromStatus, targetStatus, actor.getEmail());
+        return new JobApplicationAudit(application, targetStatus, auditMessage);
     }
 }
@@ -1,5 +1,6 @@
 package com.etalente.backend.service.impl;
 
+import com.etalente.backend.dto.CursorPage;
 import com.etalente.backend.dto.JobPostRequest;
 import com.etalente.backend.dto.JobPostResponse;
 import com.etalente.backend.dto.StateAuditResponse;
@@ -8,15 +9,18 @@ import com.etalente.backend.exception.BadRequestException;
 import com.etalente.backend.exception.ResourceNotFoundException;
 import com.etalente.backend.exception.UnauthorizedException;
 import com.etalente.backend.model.JobPost;
-import com.etalente.backend.model.JobPostStateAudit;
 import com.etalente.backend.model.JobPostStatus;
 import com.etalente.backend.model.Organization;
 import com.etalente.backend.model.Role;
 import com.etalente.backend.model.StateTransition;
 import com.etalente.backend.model.User;
+import com.etalente.backend.observability.DbRequestStats;
+import com.etalente.backend.observability.RequestTimings;
+import com.etalente.backend.observability.jfr.JobPostListEvent;
 import com.etalente.backend.repository.JobApplicationRepository;
 import com.etalente.backend.repository.JobPostRepository;
 import com.etalente.backend.repository.JobPostSpecification;
+import com.etalente.backend.repository.JobPostStateAuditRepository;
 import com.etalente.backend.repository.UserRepository;
 import com.etalente.backend.security.OrganizationContext;
 import com.etalente.backend.service.JobPostPermissionService;
@@ -25,6 +29,10 @@ import com.etalente.backend.service.JobPostStateMachine;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.micrometer.core.instrument.Meter.MeterProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
@@ -32,8 +40,12 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Service
@@ -47,6 +59,9 @@ public class JobPostServiceImpl implements JobPostService {
     private final OrganizationContext organizationContext;
     private final JobPostPermissionService permissionService;
     private final JobPostStateMachine stateMachine;
+    private final JobPostStateAuditRepository stateAuditRepository;
+    private final MeterRegistry meterRegistry;
+    private final MeterProvider<Timer> listTimer;
 
     public JobPostServiceImpl(JobPostRepository jobPostRepository,
                               UserRepository userRepository,
@@ -54,7 +69,9 @@ public class JobPostServiceImpl implements JobPostService {
                               ObjectMapper objectMapper,
                               OrganizationContext organizationContext,
                               JobPostPermissionService permissionService,
-                              JobPostStateMachine stateMachine) {
+                              JobPostStateMachine stateMachine,
+                              JobPostStateAuditRepository stateAuditRepository,
+                              MeterRegistry meterRegistry) {
         this.jobPostRepository = jobPostRepository;
         this.userRepository = userRepository;
         this.jobApplicationRepository = jobApplicationRepository;
@@ -62,6 +79,11 @@ public class JobPostServiceImpl implements JobPostService {
         this.organizationContext = organizationContext;
         this.permissionService = permissionService;
         this.stateMachine = stateMachine;
+        this.stateAuditRepository = stateAuditRepository;
+        this.meterRegistry = meterRegistry;
+        this.listTimer = Timer.builder("job_posts.list")
+                .description("Job post listings, including application counts and mapping")
+                .withRegistry(meterRegistry);
     }
 
     @Override
@@ -91,7 +113,7 @@ public class JobPostServiceImpl implements JobPostService {
 
     @Override
     public JobPostResponse getJobPost(UUID id) {
-        JobPost jobPost = jobPostRepository.findById(id)
+        JobPost jobPost = jobPostRepository.findDetailsById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Job post not found"));
 
         // If the job is public, anyone can view it (including unauthenticated users)
@@ -120,27 +142,65 @@ public class JobPostServiceImpl implements JobPostService {
                                               List<String> jobTypes,
                                               List<String> workTypes) {
         User currentUser = organizationContext.getCurrentUserOrNull();
+        Specification<JobPost> filterSpec = JobPostSpecification.withFilters(search, skillSearch, experienceLevels, jobTypes, workTypes);
+        Specification<JobPost> spec;
+        String scope;
 
-        // Unauthenticated users or candidates see only public jobs
-        if (currentUser == null || currentUser.getRole() == Role.CANDIDATE) {
-            return jobPostRepository.findAll(JobPostSpecification.withFilters(search, skillSearch, experienceLevels, jobTypes, workTypes)
-                            .and(JobPostSpecification.isPublic()), pageable)
-                    .map(this::mapToResponseWithCounts);
+        if (currentUser != null && currentUser.getRole() != Role.CANDIDATE && currentUser.getOrganization() != null) {
+            // For hiring managers and recruiters with organization, show all org jobs, applying filters if present
+            Specification<JobPost> orgSpec = (root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get("organization").get("id"), currentUser.getOrganization().getId());
+            spec = orgSpec.and(filterSpec);
+            scope = "organization";
+        } else {
+            // Unauthenticated users, candidates and users without an organization see only public jobs
+            spec = filterSpec.and(JobPostSpecification.isPublic());
+            scope = "public";
         }
+        DbRequestStats.describeQueries("job_posts." + scope + ":"
+                + usedFilters(search, skillSearch, experienceLevels, jobTypes, workTypes));
 
-        // For hiring managers and recruiters with organization, show all org jobs, applying filters if present
-        if (currentUser.getOrganization() != null) {
-            Specification<JobPost> orgSpec = (root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get("organization").get("id"), currentUser.getOrganization().getId());
-            Specification<JobPost> filterSpec = JobPostSpecification.withFilters(search, skillSearch, experienceLevels, jobTypes, workTypes);
-            Specification<JobPost> combinedSpec = orgSpec.and(filterSpec);
-            return jobPostRepository.findAll(combinedSpec, pageable)
-                    .map(this::mapToResponseWithCounts);
+        return timedList(scope, () -> mapPageWithCounts(jobPostRepository.findAll(spec, pageable)));
+    }
+
+    private Page<JobPostResponse> timedList(String scope, Supplier<Page<JobPostResponse>> list) {
+        JobPostListEvent event = new JobPostListEvent();
+        event.begin();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            Page<JobPostResponse> page = list.get();
+            event.rows = page.getNumberOfElements();
+            event.total = page.getTotalElements();
+            return page;
+        } finally {
+            sample.stop(listTimer.withTags("scope", scope));
+            event.end();
+            if (event.shouldCommit()) {
+                event.scope = scope;
+                event.commit();
+            }
         }
+    }
 
-        // Fallback: show public jobs (should not be reached for authenticated users with organization)
-        return jobPostRepository.findAll(JobPostSpecification.withFilters(search, skillSearch, experienceLevels, jobTypes, workTypes)
-                        .and(JobPostSpecification.isPublic()), pageable)
-                .map(this::mapToResponseWithCounts);
+    /** Names of the listing filters in use, e.g. {@code "search,jobType"}, or {@code "none"}. */
+    private static String usedFilters(String search, String skillSearch, List<String> experienceLevels,
+                                      List<String> jobTypes, List<String> workTypes) {
+        List<String> used = new ArrayList<>(5);
+        if (search != null && !search.isBlank()) {
+            used.add("search");
+        }
+        if (skillSearch != null && !skillSearch.isBlank()) {
+            used.add("skills");
+        }
+        if (experienceLevels != null && !experienceLevels.isEmpty()) {
+            used.add("experience");
+        }
+        if (jobTypes != null && !jobTypes.isEmpty()) {
+            used.add("jobType");
+        }
+        if (workTypes != null && !workTypes.isEmpty()) {
+            used.add("workType");
+        }
+        return used.isEmpty() ? "none" : String.join(",", used);
     }
 
     @Override
@@ -156,8 +216,7 @@ public class JobPostServiceImpl implements JobPostService {
             throw new UnauthorizedException("You can only view job posts from users in your organization");
         }
 
-        return jobPostRepository.findByCreatedByIdAndOrganization(userId, organization, pageable)
-                .map(this::mapToResponseWithCounts);
+        return mapPageWithCounts(jobPostRepository.findByCreatedByIdAndOrganization(userId, organization, pageable));
     }
 
     @Override
@@ -266,6 +325,25 @@ public class JobPostServiceImpl implements JobPostService {
 
     @Override
     public List<StateAuditResponse> getStateHistory(UUID jobPostId, UUID userId) {
+        requireViewableJobPost(jobPostId, userId);
+        return stateAuditRepository.findHistory(jobPostId, Limit.unlimited());
+    }
+
+    @Override
+    public CursorPage<StateAuditResponse> getStateHistory(UUID jobPostId, UUID userId, String cursor, Integer size) {
+        CursorPage.Cursor position = CursorPage.Cursor.decode(cursor);
+        int pageSize = CursorPage.size(size);
+        requireViewableJobPost(jobPostId, userId);
+
+        Limit limit = Limit.of(pageSize + 1);
+        List<StateAuditResponse> rows = position == null
+                ? stateAuditRepository.findHistory(jobPostId, limit)
+                : stateAuditRepository.findHistoryBefore(jobPostId, position.at(), position.id(), limit);
+        return CursorPage.of(rows, pageSize, Function.identity(),
+                audit -> new CursorPage.Cursor(audit.changedAt(), audit.id()));
+    }
+
+    private void requireViewableJobPost(UUID jobPostId, UUID userId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
 
@@ -278,19 +356,6 @@ public class JobPostServiceImpl implements JobPostService {
         if (!permissionService.canView(user, jobPost)) {
             throw new UnauthorizedException("You don't have access to this job post");
         }
-
-        List<JobPostStateAudit> auditTrail = stateMachine.getStateHistory(jobPost);
-
-        return auditTrail.stream()
-                .map(audit -> new StateAuditResponse(
-                        audit.getId(),
-                        audit.getFromStatus(),
-                        audit.getToStatus(),
-                        audit.getChangedBy().getEmail(),
-                        audit.getReason(),
-                        audit.getChangedAt()
-                ))
-                .collect(Collectors.toList());
     }
 
     @Override
@@ -393,4 +458,22 @@ public class JobPostServiceImpl implements JobPostService {
         int newApplicantsCount = jobApplicationRepository.countByJobPostIdAndViewedByEmployerFalse(jobPost.getId());
         return mapToResponse(jobPost, applicantsCount, newApplicantsCount);
     }
+
+    private Page<JobPostResponse> mapPageWithCounts(Page<JobPost> page) {
+        if (page.isEmpty()) {
+            return page.map(jobPost -> mapToResponse(jobPost, 0, 0));
+        }
+        List<UUID> jobPostIds = page.getContent().stream().map(JobPost::getId).toList();
+        Map<UUID, JobApplicationRepository.ApplicationCounts> counts = jobApplicationRepository.countByJobPostIds(jobPostIds)
+                .stream()
+                .collect(Collectors.toMap(JobApplicationRepository.ApplicationCounts::getJobPostId, Function.identity()));
+        try (RequestTimings.Span ignored = RequestTimings.start("mapping")) {
+            return page.map(jobPost -> {
+                JobApplicationRepository.ApplicationCounts count = counts.get(jobPost.getId());
+                return count == null
+                        ? mapToResponse(jobPost, 0, 0)
+                        : mapToResponse(jobPost, (int) count.getTotal(), (int) count.getUnviewed());
+            });
+        }
+    }
 }
\ No newline at end of file
@@ -1,13 +1,18 @@
 package com.etalente.backend.service.impl;
 
 import com.etalente.backend.exception.BadRequestException;
+import com.etalente.backend.exception.ConflictException;
 import com.etalente.backend.model.*;
 import com.etalente.backend.repository.JobPostRepository;
 import com.etalente.backend.repository.JobPostStateAuditRepository;
 import com.etalente.backend.service.JobPostStateMachine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Meter.MeterProvider;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -17,11 +22,19 @@ public class JobPostStateMachineImpl implements JobPostStateMachine {
 
     private final JobPostRepository jobPostRepository;
     private final JobPostStateAuditRepository stateAuditRepository;
+    private final MeterProvider<Counter> transitionCounter;
+    private final StateTransitionWriter stateTransitionWriter;
 
     public JobPostStateMachineImpl(JobPostRepository jobPostRepository,
-                                   JobPostStateAuditRepository stateAuditRepository) {
+                                   JobPostStateAuditRepository stateAuditRepository,
+                                   MeterRegistry meterRegistry,
+                                   StateTransitionWriter stateTransitionWriter) {
         this.jobPostRepository = jobPostRepository;
         this.stateAuditRepository = stateAuditRepository;
+        this.transitionCounter = Counter.builder("state_machine.transitions")
+                .tag("machine", "job_post")
+                .withRegistry(meterRegistry);
+        this.stateTransitionWriter = stateTransitionWriter;
     }
 
     @Override
@@ -45,19 +58,26 @@ public class JobPostStateMachineImpl implements JobPostStateMachine {
     }
 
     @Override
+    @Transactional(noRollbackFor = ConflictException.class)
     public JobPost transitionState(JobPost jobPost, JobPostStatus targetStatus, User user, String reason) {
         // Validate the transition first
         validateTransition(jobPost, targetStatus, user);
 
         JobPostStatus fromStatus = jobPost.getStatus();
 
-        // Update the job post status
-        jobPost.setStatus(targetStatus);
-        JobPost updatedJobPost = jobPostRepository.save(jobPost);
+        // Update the job post status, failing if another user moved it out of fromStatus meanwhile
+        LocalDateTime now = LocalDateTime.now();
+        stateTransitionWriter.write(jobPost,
+                () -> jobPostRepository.compareAndSetStatus(jobPost.getId(), fromStatus, targetStatus, now),
+                () -> {
+                    jobPost.setStatus(targetStatus);
+                    jobPost.setUpdatedAt(now);
+                },
+                "Job post status was changed by someone else; reload it and try again.");
 
         // Create audit record
         JobPostStateAudit audit = new JobPostStateAudit(
-                updatedJobPost,
+                jobPost,
                 fromStatus,
                 targetStatus,
                 user,
@@ -65,12 +85,9 @@ public class JobPostStateMachineImpl implements JobPostStateMachine {
         );
         stateAuditRepository.save(audit);
 
-        return updatedJobPost;
-    }
+        transitionCounter.withTags("from", fromStatus.name(), "to", targetStatus.name()).increment();
 
-    @Override
-    public List<JobPostStateAudit> getStateHistory(JobPost jobPost) {
-        return stateAuditRepository.findByJobPostOrderByChangedAtDesc(jobPost);
+        return jobPost;
     }
 
     @Override
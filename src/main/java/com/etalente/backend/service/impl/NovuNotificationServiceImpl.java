@@ -3,7 +3,8 @@ package com.etalente.backend.service.impl;
 import co.novu.api.events.requests.TriggerEventRequest;
 import co.novu.api.events.pojos.SubscriberRequest;
 import co.novu.common.base.Novu;
-import co.novu.common.rest.NovuNetworkException;
+import com.etalente.backend.exception.ServiceException;
+import com.etalente.backend.integration.http.HttpIntegrations;
 import com.etalente.backend.model.User;
 import com.etalente.backend.service.NovuNotificationService;
 import lombok.RequiredArgsConstructor;
@@ -11,7 +12,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.stereotype.Service;
 
-import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -21,6 +21,7 @@ import java.util.Map;
 public class NovuNotificationServiceImpl implements NovuNotificationService {
 
     private final Novu novu;
+    private final HttpIntegrations httpIntegrations;
 
     @Override
     public void sendWelcomeNotification(User user) {
@@ -32,9 +33,10 @@ public class NovuNotificationServiceImpl implements NovuNotificationService {
         try {
             TriggerEventRequest triggerRequest = getTriggerEventRequest(user);
 
-            novu.triggerEvent(triggerRequest);
+            httpIntegrations.executor(HttpIntegrations.NOVU)
+                    .execute("trigger-event", false, () -> novu.triggerEvent(triggerRequest));
             log.info("Successfully triggered welcome email for user {}", user.getEmail());
-        } catch (IOException | NovuNetworkException e) {
+        } catch (ServiceException e) {
             log.error("Failed to trigger welcome email for user {}: {}", user.getEmail(), e.getMessage(), e);
             // Depending on criticality, you might rethrow a custom application exception
             // throw new NotificationException("Failed to send welcome email", e);
@@ -0,0 +1,207 @@
+package com.etalente.backend.service.impl;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Merges an extracted JSON Resume document into an existing profile in a single pass per section.
+ * <p>
+ * Array sections are deduplicated through a hash lookup on an identity key (for example {@code work}
+ * by company, position and start date) instead of comparing serialized items. Items without a usable
+ * identity fall back to structural equality of the {@link JsonNode} tree, which Jackson hashes
+ * without serializing. When an incoming item matches an existing one, the existing values win and the
+ * incoming item only fills in missing fields.
+ * <p>
+ * Nodes from the source document are moved into the target rather than copied, so callers must pass a
+ * source tree they own and will not reuse.
+ */
+public final class ProfileMergeEngine {
+
+    private static final char KEY_SEPARATOR = '\u001F';
+
+    /** Fields that are owned by the user entity and never taken from an extracted document. */
+    private static final Set<String> PROTECTED_FIELDS = Set.of("name", "email");
+
+    /** Identity fields per array section; each entry lists alternative field names for one key part. */
+    private static final Map<String, String[][]> SECTION_IDENTITIES = Map.ofEntries(
+            Map.entry("work", new String[][]{{"name", "company"}, {"position"}, {"startDate"}}),
+            Map.entry("volunteer", new String[][]{{"organization"}, {"position"}, {"startDate"}}),
+            Map.entry("education", new String[][]{{"institution"}, {"area"}, {"studyType"}, {"startDate"}}),
+            Map.entry("awards", new String[][]{{"title"}, {"awarder"}, {"date"}}),
+            Map.entry("certificates", new String[][]{{"name"}, {"issuer"}, {"date"}}),
+            Map.entry("publications", new String[][]{{"name"}, {"publisher"}, {"releaseDate"}}),
+            Map.entry("skills", new String[][]{{"name"}}),
+            Map.entry("languages", new String[][]{{"language"}}),
+            Map.entry("interests", new String[][]{{"name"}}),
+            Map.entry("references", new String[][]{{"name"}}),
+            Map.entry("projects", new String[][]{{"name"}, {"startDate"}}),
+            Map.entry("profiles", new String[][]{{"network"}, {"username", "url"}})
+    );
+
+    /**
+     * Merges {@code source} into {@code target}. Top-level array sections are merged by identity,
+     * objects are merged recursively and other values are replaced by the incoming value.
+     */
+    public void merge(ObjectNode target, JsonNode source) {
+        if (source == null || !source.isObject()) {
+            return;
+        }
+        mergeObject(target, source, null);
+    }
+
+    private void mergeObject(ObjectNode target, JsonNode source, String parentField) {
+        Iterator<Map.Entry<String, JsonNode>> fields = source.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> entry = fields.next();
+            String fieldName = entry.getKey();
+            JsonNode incoming = entry.getValue();
+
+            if (PROTECTED_FIELDS.contains(fieldName) || incoming == null || incoming.isNull()) {
+                continue;
+            }
+
+            JsonNode existing = target.get(fieldName);
+            if (existing == null || existing.isNull()) {
+                target.set(fieldName, incoming);
+            } else if (existing.isObject() && incoming.isObject()) {
+                mergeObject((ObjectNode) existing, incoming, fieldName);
+            } else if (existing.isArray() && incoming.isArray()) {
+                mergeArray((ArrayNode) existing, (ArrayNode) incoming, identityFor(parentField, fieldName));
+            } else {
+                target.set(fieldName, incoming);
+            }
+        }
+    }
+
+    private static String[][] identityFor(String parentField, String fieldName) {
+        if (parentField == null) {
+            return SECTION_IDENTITIES.get(fieldName);
+        }
+        // basics.profiles is the only nested array with a known identity.
+        return "basics".equals(parentField) && "profiles".equals(fieldName)
+                ? SECTION_IDENTITIES.get(fieldName) : null;
+    }
+
+    /**
+     * Rebuilds {@code target} as the union of its own items and {@code incoming}, keeping the first
+     * occurrence of every identity and folding later duplicates into it.
+     */
+    private void mergeArray(ArrayNode target, ArrayNode incoming, String[][] identity) {
+        int expected = target.size() + incoming.size();
+        Map<Object, JsonNode> byKey = new HashMap<>(expected * 4 / 3 + 1);
+        List<JsonNode> merged = new ArrayList<>(expected);
+
+        for (JsonNode item : target) {
+            accumulate(item, identity, byKey, merged);
+        }
+        for (JsonNode item : incoming) {
+            accumulate(item, identity, byKey, merged);
+        }
+
+        target.removeAll();
+        target.addAll(merged);
+    }
+
+    private void accumulate(JsonNode item, String[][] identity, Map<Object, JsonNode> byKey, List<JsonNode> merged) {
+        if (item == null || item.isNull()) {
+            return;
+        }
+        Object key = identityKey(item, identity);
+        JsonNode first = byKey.putIfAbsent(key, item);
+        if (first == null) {
+            merged.add(item);
+        } else if (first != item && first.isObject() && item.isObject()) {
+            fillMissing((ObjectNode) first, item);
+        }
+    }
+
+    /**
+     * Copies fields that are absent or empty in {@code existing} from {@code incoming}; nested arrays
+     * such as {@code highlights} or {@code keywords} are unioned by value.
+     */
+    private void fillMissing(ObjectNode existing, JsonNode incoming) {
+        Iterator<Map.Entry<String, JsonNode>> fields = incoming.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> entry = fields.next();
+            JsonNode current = existing.get(entry.getKey());
+            JsonNode value = entry.getValue();
+            if (isEmpty(current)) {
+                existing.set(entry.getKey(), value);
+            } else if (current.isArray() && value.isArray()) {
+                mergeArray((ArrayNode) current, (ArrayNode) value, null);
+            } else if (current.isObject() && value.isObject()) {
+                fillMissing((ObjectNode) current, value);
+            }
+        }
+    }
+
+    /**
+     * Returns a normalized string key built from the section's identity fields, or the node itself
+     * (compared structurally) when the section has no identity or the item carries none of its fields.
+     */
+    static Object identityKey(JsonNode item, String[][] identity) {
+        if (identity == null) {
+            return item;
+        }
+        if (item.isTextual()) {
+            // Some parsers emit skills or interests as plain strings.
+            String normalized = normalize(item.asText());
+            return normalized.isEmpty() ? item : normalized + KEY_SEPARATOR;
+        }
+        if (!item.isObject()) {
+            return item;
+        }
+
+        StringBuilder key = new StringBuilder(64);
+        boolean anyPart = false;
+        for (String[] alternatives : identity) {
+            String part = "";
+            for (String field : alternatives) {
+                JsonNode value = item.get(field);
+                if (value != null && value.isValueNode()) {
+                    part = normalize(value.asText());
+                    if (!part.isEmpty()) {
+                        break;
+                    }
+                }
+            }
+            anyPart |= !part.isEmpty();
+            key.append(part).append(KEY_SEPARATOR);
+        }
+        return anyPart ? key.toString() : item;
+    }
+
+    static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        StringBuilder out = new StringBuilder(value.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (Character.isWhitespace(c)) {
+                pendingSpace = out.length() > 0;
+            } else {
+                if (pendingSpace) {
+                    out.append(' ');
+                    pendingSpace = false;
+                }
+                out.append(Character.toLowerCase(c));
+            }
+        }
+        return out.toString();
+    }
+
+    private static boolean isEmpty(JsonNode node) {
+        return node == null || node.isNull() || (node.isTextual() && node.asText().isBlank())
+                || (node.isContainerNode() && node.isEmpty());
+    }
+}
@@ -7,16 +7,15 @@ import com.etalente.backend.dto.UserDto;
 import com.etalente.backend.dto.VerifyTokenResponse;
 import com.etalente.backend.exception.BadRequestException;
 import com.etalente.backend.exception.ResourceNotFoundException;
-import com.etalente.backend.integration.documentparser.DocumentParserClient;
 import com.etalente.backend.model.Role;
 import com.etalente.backend.model.User;
+import com.etalente.backend.observability.jfr.ProfileMergeEvent;
 import com.etalente.backend.repository.UserRepository;
 import com.etalente.backend.security.JwtService;
 import com.etalente.backend.service.ProfileService;
 import com.etalente.backend.service.S3Service;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -43,14 +42,13 @@ public class ProfileServiceImpl implements ProfileService {
     private final JwtService jwtService;
     private final S3Service s3Service;
     private final ObjectMapper objectMapper;
-    private final DocumentParserClient documentParserClient;
+    private final ProfileMergeEngine mergeEngine = new ProfileMergeEngine();
 
-    public ProfileServiceImpl(UserRepository userRepository, JwtService jwtService, S3Service s3Service, ObjectMapper objectMapper, DocumentParserClient documentParserClient) {
+    public ProfileServiceImpl(UserRepository userRepository, JwtService jwtService, S3Service s3Service, ObjectMapper objectMapper) {
         this.userRepository = userRepository;
         this.jwtService = jwtService;
         this.s3Service = s3Service;
         this.objectMapper = objectMapper;
-        this.documentParserClient = documentParserClient;
     }
 
     @Override
@@ -274,7 +272,7 @@ public class ProfileServiceImpl implements ProfileService {
     }
 
     @Override
-    public JsonNode autofillProfileFromResume(UUID userId, String resumeS3Url) {
+    public JsonNode applyResumeExtraction(UUID userId, JsonNode documentParserResponse) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
 
@@ -282,11 +280,8 @@ public class ProfileServiceImpl implements ProfileService {
             throw new BadRequestException("Only candidates can autofill their profile from a resume");
         }
 
-        // Call document parser to extract resume data
-        JsonNode documentParserResponse = documentParserClient.extractResume(resumeS3Url);
-
         if (documentParserResponse == null || documentParserResponse.isNull() || documentParserResponse.isEmpty()) {
-            logger.warn("Document parser returned no extracted profile data for resume: {}", resumeS3Url);
+            logger.warn("Document parser returned no extracted profile data for user: {}", userId);
             return (user.getProfile() != null && !user.getProfile().isNull())
                     ? user.getProfile() : objectMapper.createObjectNode();
         }
@@ -303,22 +298,19 @@ public class ProfileServiceImpl implements ProfileService {
         ObjectNode currentProfile = (user.getProfile() != null && !user.getProfile().isNull())
                 ? (ObjectNode) user.getProfile().deepCopy() : objectMapper.createObjectNode();
 
-        // Merge root fields
-        mergeJsonNodes(currentProfile, extractedData);
-
-        // Merge each section with deduplication
-        mergeSection(currentProfile, extractedData, "basics");
-        mergeArraySection(currentProfile, extractedData, "work");
-        mergeArraySection(currentProfile, extractedData, "education");
-        mergeArraySection(currentProfile, extractedData, "skills");
-        mergeArraySection(currentProfile, extractedData, "projects");
-        mergeArraySection(currentProfile, extractedData, "awards");
-        mergeArraySection(currentProfile, extractedData, "certificates");
-        mergeArraySection(currentProfile, extractedData, "interests");
-        mergeArraySection(currentProfile, extractedData, "languages");
-        mergeArraySection(currentProfile, extractedData, "publications");
-        mergeArraySection(currentProfile, extractedData, "references");
-        mergeArraySection(currentProfile, extractedData, "volunteer");
+        // Merge root fields and every section in one pass; array sections are deduplicated by identity.
+        // The parser response is owned by this call, so its nodes are moved rather than copied.
+        ProfileMergeEvent event = new ProfileMergeEvent();
+        event.begin();
+        int extractedFields = extractedData.size();
+        mergeEngine.merge(currentProfile, extractedData);
+        event.end();
+        if (event.shouldCommit()) {
+            event.userId = userId.toString();
+            event.extractedFields = extractedFields;
+            event.profileFields = currentProfile.size();
+            event.commit();
+        }
 
         // Preserve firstName and lastName from user entity in basics
         if (currentProfile.has("basics") && currentProfile.get("basics").isObject()) {
@@ -336,105 +328,6 @@ public class ProfileServiceImpl implements ProfileService {
         user.setProfileComplete(true);
         userRepository.save(user);
 
-        logger.info("Profile autofilled for user {} from resume: {}", userId, resumeS3Url);
         return currentProfile; // Return the full profile, not just basics
     }
-
-    // Helper method to merge a single section (like basics)
-    private void mergeSection(ObjectNode target, JsonNode source, String sectionName) {
-        JsonNode sourceSection = source.get(sectionName);
-        if (sourceSection == null || sourceSection.isNull()) {
-            return;
-        }
-
-        if (target.has(sectionName) && target.get(sectionName).isObject() && sourceSection.isObject()) {
-            mergeJsonNodes((ObjectNode) target.get(sectionName), sourceSection);
-        } else {
-            target.set(sectionName, sourceSection.deepCopy());
-        }
-    }
-
-    // Helper method to merge and deduplicate array sections
-    private void mergeArraySection(ObjectNode target, JsonNode source, String sectionName) {
-        JsonNode sourceArray = source.get(sectionName);
-        if (sourceArray == null || !sourceArray.isArray() || sourceArray.isEmpty()) {
-            return;
-        }
-
-        ArrayNode targetArray;
-        if (target.has(sectionName) && target.get(sectionName).isArray()) {
-            targetArray = (ArrayNode) target.get(sectionName);
-        } else {
-            targetArray = objectMapper.createArrayNode();
-            target.set(sectionName, targetArray);
-        }
-
-        // Deduplicate by converting to Set using JSON string representation
-        List<JsonNode> uniqueItems = new ArrayList<>();
-        List<String> seenItems = new ArrayList<>();
-
-        // Add existing items
-        for (JsonNode item : targetArray) {
-            String itemStr = item.toString();
-            if (!seenItems.contains(itemStr)) {
-                uniqueItems.add(item);
-                seenItems.add(itemStr);
-            }
-        }
-
-        // Add new items from source, skipping duplicates
-        for (JsonNode item : sourceArray) {
-            String itemStr = item.toString();
-            if (!seenItems.contains(itemStr)) {
-                uniqueItems.add(item);
-                seenItems.add(itemStr);
-            }
-        }
-
-        // Rebuild array with unique items
-        targetArray.removeAll();
-        uniqueItems.forEach(targetArray::add);
-    }
-
-    // Update the existing mergeJsonNodes to handle profiles properly
-    private void mergeJsonNodes(ObjectNode mainNode, JsonNode updateNode) {
-        updateNode.fields().forEachRemaining(entry -> {
-            String fieldName = entry.getKey();
-            JsonNode updateValue = entry.getValue();
-
-            // Skip these fields as they come from user entity
-            if ("name".equals(fieldName) || "email".equals(fieldName)) {
-                return;
-            }
-
-            if (mainNode.has(fieldName)) {
-                JsonNode mainValue = mainNode.get(fieldName);
-
-                if (mainValue.isObject() && updateValue.isObject()) {
-                    mergeJsonNodes((ObjectNode) mainValue, updateValue);
-                } else if (mainValue.isArray() && updateValue.isArray()) {
-                    // For arrays in basics (like profiles), deduplicate
-                    ArrayNode mainArray = (ArrayNode) mainValue;
-                    ArrayNode updateArray = (ArrayNode) updateValue;
-
-                    List<String> seenItems = new ArrayList<>();
-                    for (JsonNode item : mainArray) {
-                        seenItems.add(item.toString());
-                    }
-
-                    for (JsonNode item : updateArray) {
-                        String itemStr = item.toString();
-                        if (!seenItems.contains(itemStr)) {
-                            mainArray.add(item);
-                            seenItems.add(itemStr);
-                        }
-                    }
-                } else {
-                    mainNode.set(fieldName, updateValue);
-                }
-            } else {
-                mainNode.set(fieldName, updateValue.deepCopy());
-            }
-        });
-    }
-}
\ No newline at end of file
+}
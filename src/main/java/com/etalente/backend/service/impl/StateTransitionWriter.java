@@ -0,0 +1,55 @@
+package com.etalente.backend.service.impl;
+
+import com.etalente.backend.exception.ConflictException;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.springframework.stereotype.Component;
+
+import java.util.function.IntSupplier;
+
+/**
+ * Persists state machine transitions as a single compare-and-set
+ * {@code UPDATE ... SET status = :to WHERE id = :id AND status = :from}, so of two concurrent transitions
+ * out of the same state exactly one wins and the other fails with a {@link ConflictException} instead of
+ * silently overwriting it.
+ * <p>
+ * A lost race writes nothing, so transactional callers declare {@code noRollbackFor = ConflictException.class}:
+ * a caller that catches the conflict, such as a bulk loop, can still commit its other changes.
+ * <p>
+ * The loaded entity is then brought up to date without reading the row back, and without the next flush
+ * writing the same change a second time.
+ */
+@Component
+public class StateTransitionWriter {
+
+    private final EntityManager entityManager;
+
+    public StateTransitionWriter(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Runs {@code compareAndSet}, which returns the number of rows it updated, then applies the same change
+     * to {@code entity} in memory with {@code applyToEntity}.
+     *
+     * @throws ConflictException if no row was updated because the status changed since it was read
+     */
+    public void write(Object entity, IntSupplier compareAndSet, Runnable applyToEntity, String conflictMessage) {
+        if (compareAndSet.getAsInt() == 0) {
+            throw new ConflictException(conflictMessage);
+        }
+        if (!entityManager.contains(entity)) {
+            applyToEntity.run();
+            return;
+        }
+        // Changes made while an entity is read-only are taken as its database state when it becomes
+        // modifiable again, which is true here because the UPDATE already wrote them
+        Session session = entityManager.unwrap(Session.class);
+        session.setReadOnly(entity, true);
+        try {
+            applyToEntity.run();
+        } finally {
+            session.setReadOnly(entity, false);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+-- Durable log of cross-node domain events. Each insert is fanned out to every
+-- node through NOTIFY; the table itself is only used to catch up after a
+-- listener reconnects and is pruned on a short retention window.
+CREATE TABLE cluster_events (
+    id BIGSERIAL PRIMARY KEY,
+    event_type VARCHAR(50) NOT NULL,
+    subject VARCHAR(255),
+    origin_node VARCHAR(100) NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_cluster_events_created_at ON cluster_events (created_at);
+
+-- NOTIFY is transactional: listeners only see the event once the publishing
+-- transaction commits, so a rolled back change never invalidates remote caches.
+CREATE OR REPLACE FUNCTION notify_cluster_event() RETURNS trigger AS $$
+BEGIN
+    PERFORM pg_notify('etalente_cluster_events', json_build_object(
+        'id', NEW.id,
+        'type', NEW.event_type,
+        'subject', NEW.subject,
+        'origin', NEW.origin_node
+    )::text);
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_cluster_events_notify
+    AFTER INSERT ON cluster_events
+    FOR EACH ROW EXECUTE FUNCTION notify_cluster_event();
+
+COMMENT ON TABLE cluster_events IS 'Short-lived log of domain events broadcast to all nodes via LISTEN/NOTIFY';
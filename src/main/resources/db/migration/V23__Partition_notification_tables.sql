@@ -0,0 +1,117 @@
+-- Monthly range partitioning for notifications (created_at) and delivery logs (sent_at).
+-- Every unique constraint on a partitioned table must include the partition key, so the
+-- primary keys become (id, created_at) / (id, sent_at) and the delivery log foreign key
+-- to notifications is dropped. Both tables are aged out on the same retention schedule.
+
+-- Creates one partition per month from from_month up to months_ahead months past the
+-- current month. Partitions that already exist are left alone.
+CREATE OR REPLACE FUNCTION create_monthly_partitions(parent_table TEXT, from_month DATE, months_ahead INT)
+RETURNS INT AS $$
+DECLARE
+    month_start DATE := date_trunc('month', from_month)::date;
+    last_month DATE := (date_trunc('month', CURRENT_DATE) + make_interval(months => months_ahead))::date;
+    partition_name TEXT;
+    created INT := 0;
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('monthly_partitions:' || parent_table));
+
+    WHILE month_start <= last_month LOOP
+        partition_name := format('%s_p%s', parent_table, to_char(month_start, 'YYYY_MM'));
+        IF to_regclass(partition_name) IS NULL THEN
+            EXECUTE format('CREATE TABLE %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+                           partition_name, parent_table, month_start, (month_start + INTERVAL '1 month')::date);
+            created := created + 1;
+        END IF;
+        month_start := (month_start + INTERVAL '1 month')::date;
+    END LOOP;
+
+    RETURN created;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Detaches (and unless detach_only, drops) every monthly partition that ends before the
+-- start of the month retain_months back from the current one. Returns the affected names.
+CREATE OR REPLACE FUNCTION drop_expired_partitions(parent_table TEXT, retain_months INT, detach_only BOOLEAN)
+RETURNS SETOF TEXT AS $$
+DECLARE
+    cutoff DATE := (date_trunc('month', CURRENT_DATE) - make_interval(months => retain_months))::date;
+    partition_name TEXT;
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('monthly_partitions:' || parent_table));
+
+    FOR partition_name IN
+        SELECT child.relname
+        FROM pg_inherits i
+        JOIN pg_class child ON child.oid = i.inhrelid
+        JOIN pg_class parent ON parent.oid = i.inhparent
+        WHERE parent.relname = parent_table
+          AND child.relname ~ '_p[0-9]{4}_[0-9]{2}$'
+          AND to_date(right(child.relname, 7), 'YYYY_MM') < cutoff
+        ORDER BY child.relname
+    LOOP
+        EXECUTE format('ALTER TABLE %I DETACH PARTITION %I', parent_table, partition_name);
+        IF NOT detach_only THEN
+            EXECUTE format('DROP TABLE %I', partition_name);
+        END IF;
+        RETURN NEXT partition_name;
+    END LOOP;
+END;
+$$ LANGUAGE plpgsql;
+
+ALTER TABLE notification_delivery_logs RENAME TO notification_delivery_logs_legacy;
+ALTER TABLE notifications RENAME TO notifications_legacy;
+
+-- Keep the existing sequences (and their current values) for the new tables
+ALTER SEQUENCE notifications_id_seq OWNED BY NONE;
+ALTER SEQUENCE notification_delivery_logs_id_seq OWNED BY NONE;
+
+CREATE TABLE notifications (
+    id BIGINT NOT NULL DEFAULT nextval('notifications_id_seq'),
+    type VARCHAR(100) NOT NULL,
+    title VARCHAR(255) NOT NULL,
+    content TEXT NOT NULL,
+    recipient_id VARCHAR(255) NOT NULL,
+    status VARCHAR(50) NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    read_at TIMESTAMP,
+    metadata JSONB,
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+CREATE TABLE notification_delivery_logs (
+    id BIGINT NOT NULL DEFAULT nextval('notification_delivery_logs_id_seq'),
+    notification_id BIGINT NOT NULL,
+    channel VARCHAR(50) NOT NULL,
+    provider VARCHAR(50),
+    status VARCHAR(50) NOT NULL,
+    sent_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    error_message TEXT,
+    external_id VARCHAR(255),
+    PRIMARY KEY (id, sent_at)
+) PARTITION BY RANGE (sent_at);
+
+ALTER SEQUENCE notifications_id_seq OWNED BY notifications.id;
+ALTER SEQUENCE notification_delivery_logs_id_seq OWNED BY notification_delivery_logs.id;
+
+SELECT create_monthly_partitions('notifications',
+       LEAST(COALESCE((SELECT min(created_at) FROM notifications_legacy)::date, CURRENT_DATE), CURRENT_DATE), 3);
+SELECT create_monthly_partitions('notification_delivery_logs',
+       LEAST(COALESCE((SELECT min(sent_at) FROM notification_delivery_logs_legacy)::date, CURRENT_DATE), CURRENT_DATE), 3);
+
+INSERT INTO notifications (id, type, title, content, recipient_id, status, created_at, read_at, metadata)
+SELECT id, type, title, content, recipient_id, status, created_at, read_at, metadata
+FROM notifications_legacy;
+
+INSERT INTO notification_delivery_logs (id, notification_id, channel, provider, status, sent_at, error_message, external_id)
+SELECT id, notification_id, channel, provider, status, sent_at, error_message, external_id
+FROM notification_delivery_logs_legacy;
+
+DROP TABLE notification_delivery_logs_legacy;
+DROP TABLE notifications_legacy;
+
+-- Inbox reads are always per recipient and bounded by created_at
+CREATE INDEX idx_notifications_recipient_created ON notifications (recipient_id, created_at DESC);
+CREATE INDEX idx_notifications_recipient_status ON notifications (recipient_id, status, created_at);
+
+CREATE INDEX idx_delivery_logs_notification_id ON notification_delivery_logs (notification_id);
+CREATE INDEX idx_delivery_logs_channel ON notification_delivery_logs (channel);
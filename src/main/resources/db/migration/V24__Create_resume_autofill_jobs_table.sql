@@ -0,0 +1,14 @@
+CREATE TABLE resume_autofill_jobs (
+    id UUID PRIMARY KEY,
+    user_id UUID NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    resume_url TEXT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    error_message TEXT,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    started_at TIMESTAMP,
+    completed_at TIMESTAMP
+);
+
+CREATE INDEX idx_resume_autofill_jobs_user ON resume_autofill_jobs (user_id, created_at DESC);
+CREATE INDEX idx_resume_autofill_jobs_active ON resume_autofill_jobs (status, created_at)
+    WHERE status IN ('QUEUED', 'RUNNING');
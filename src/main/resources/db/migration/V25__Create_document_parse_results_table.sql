@@ -0,0 +1,11 @@
+-- Parser output keyed by document content, so identical files are parsed once
+CREATE TABLE document_parse_results (
+    content_hash VARCHAR(128) NOT NULL,
+    document_kind VARCHAR(20) NOT NULL,
+    parser_version VARCHAR(50) NOT NULL,
+    result JSONB NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (content_hash, document_kind, parser_version)
+);
+
+CREATE INDEX idx_document_parse_results_created_at ON document_parse_results (created_at);
@@ -0,0 +1,6 @@
+-- V26__Add_job_post_listing_index.sql
+
+-- The public job board filters on status and pages by newest first; without this index every page
+-- sorts all OPEN posts. Found by SearchQueryPlanIntegrationTest.
+CREATE INDEX IF NOT EXISTS idx_job_posts_status_created
+    ON job_posts (status, created_at DESC);
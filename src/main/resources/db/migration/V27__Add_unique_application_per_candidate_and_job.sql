@@ -0,0 +1,25 @@
+-- V27__Add_unique_application_per_candidate_and_job.sql
+
+-- Double-clicked or retried submissions could store the same application twice. Keep each candidate's
+-- earliest application per job, moving the duplicates' audit history onto it, before enforcing uniqueness.
+CREATE TEMPORARY TABLE duplicate_applications ON COMMIT DROP AS
+SELECT id, kept_id
+FROM (
+    SELECT id,
+           FIRST_VALUE(id) OVER (PARTITION BY candidate_id, job_post_id ORDER BY application_date, id) AS kept_id
+    FROM job_applications
+) ranked
+WHERE id <> kept_id;
+
+UPDATE job_application_audit a
+SET job_application_id = d.kept_id
+FROM duplicate_applications d
+WHERE a.job_application_id = d.id;
+
+DELETE FROM job_applications ja
+USING duplicate_applications d
+WHERE ja.id = d.id;
+
+-- Also the arbiter for INSERT ... ON CONFLICT when applying
+CREATE UNIQUE INDEX IF NOT EXISTS uq_job_applications_candidate_job
+    ON job_applications (candidate_id, job_post_id);
@@ -0,0 +1,7 @@
+-- V28__Add_job_application_audit_history_index.sql
+
+-- Application details and the history endpoint read one application's audit trail newest first; without
+-- this index every read scans the whole table. id breaks ties between entries written in the same instant
+-- and is part of the history cursor.
+CREATE INDEX IF NOT EXISTS idx_job_application_audit_application_date
+    ON job_application_audit (job_application_id, date DESC, id DESC);
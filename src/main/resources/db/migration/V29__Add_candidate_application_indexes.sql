@@ -0,0 +1,9 @@
+-- Candidate dashboard ("my applications"): keyset pages newest first, or grouped by status.
+-- INCLUDE keeps the columns the listing reads in the index, so the join to job_posts is the only heap access.
+CREATE INDEX IF NOT EXISTS idx_job_applications_candidate_date
+    ON job_applications (candidate_id, application_date DESC, id DESC)
+    INCLUDE (status, job_post_id);
+
+CREATE INDEX IF NOT EXISTS idx_job_applications_candidate_status
+    ON job_applications (candidate_id, status, application_date DESC, id DESC)
+    INCLUDE (job_post_id);
@@ -0,0 +1,6 @@
+-- Recruiter listing of a job's applicants, newest first, paged by (application_date, id).
+-- idx_job_application_covering puts candidate_id second, so it cannot return a job's applications in date
+-- order; this index can, and carries the status filter and the candidate join key with it.
+CREATE INDEX IF NOT EXISTS idx_job_applications_job_date
+    ON job_applications (job_post_id, application_date DESC, id DESC)
+    INCLUDE (status, candidate_id);
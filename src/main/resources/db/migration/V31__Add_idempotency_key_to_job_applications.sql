@@ -0,0 +1,3 @@
+-- Idempotency-Key the application was first submitted with, so a retry that misses the per-node cache
+-- is only answered from the stored application when it carries the same key.
+ALTER TABLE job_applications ADD COLUMN IF NOT EXISTS idempotency_key VARCHAR(255);
@@ -0,0 +1,54 @@
+-- Catch-all partitions so an insert outside the monthly partitions (maintenance behind schedule, a
+-- skewed clock) is stored instead of failing the transaction that created the notification.
+CREATE TABLE IF NOT EXISTS notifications_default PARTITION OF notifications DEFAULT;
+CREATE TABLE IF NOT EXISTS notification_delivery_logs_default PARTITION OF notification_delivery_logs DEFAULT;
+
+-- Same as V23, except that rows already sitting in the default partition for a month being created are
+-- moved into the new partition; Postgres refuses to create it while the default holds rows in its range.
+CREATE OR REPLACE FUNCTION create_monthly_partitions(parent_table TEXT, from_month DATE, months_ahead INT)
+RETURNS INT AS $$
+DECLARE
+    month_start DATE := date_trunc('month', from_month)::date;
+    last_month DATE := (date_trunc('month', CURRENT_DATE) + make_interval(months => months_ahead))::date;
+    default_partition TEXT := parent_table || '_default';
+    partition_key TEXT;
+    partition_name TEXT;
+    moved INT;
+    created INT := 0;
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('monthly_partitions:' || parent_table));
+
+    SELECT a.attname INTO partition_key
+    FROM pg_partitioned_table pt
+    JOIN pg_attribute a ON a.attrelid = pt.partrelid AND a.attnum = pt.partattrs[0]
+    WHERE pt.partrelid = parent_table::regclass;
+
+    WHILE month_start <= last_month LOOP
+        partition_name := format('%s_p%s', parent_table, to_char(month_start, 'YYYY_MM'));
+        IF to_regclass(partition_name) IS NULL THEN
+            moved := 0;
+            IF to_regclass(default_partition) IS NOT NULL THEN
+                EXECUTE format('CREATE TEMP TABLE monthly_partition_rows ON COMMIT DROP AS '
+                               'WITH d AS (DELETE FROM %I WHERE %I >= %L AND %I < %L RETURNING *) SELECT * FROM d',
+                               default_partition, partition_key, month_start,
+                               partition_key, (month_start + INTERVAL '1 month')::date);
+                GET DIAGNOSTICS moved = ROW_COUNT;
+            END IF;
+
+            EXECUTE format('CREATE TABLE %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+                           partition_name, parent_table, month_start, (month_start + INTERVAL '1 month')::date);
+            created := created + 1;
+
+            IF to_regclass('pg_temp.monthly_partition_rows') IS NOT NULL THEN
+                IF moved > 0 THEN
+                    EXECUTE format('INSERT INTO %I SELECT * FROM monthly_partition_rows', parent_table);
+                END IF;
+                DROP TABLE monthly_partition_rows;
+            END IF;
+        END IF;
+        month_start := (month_start + INTERVAL '1 month')::date;
+    END LOOP;
+
+    RETURN created;
+END;
+$$ LANGUAGE plpgsql;
@@ -0,0 +1,2 @@
+-- Novu workflow dispatches are logged too, and they have no in-app notification row to point at.
+ALTER TABLE notification_delivery_logs ALTER COLUMN notification_id DROP NOT NULL;
@@ -0,0 +1,42 @@
+-- Same as V23, with two fixes now that the tables have a default partition (V32):
+--  * Postgres does not promise to evaluate the name pattern before to_date(), which fails on names such as
+--    notifications_default; the CASE only parses names that end in a month.
+--  * Rows of expired months that ended up in the default partition are deleted with the partitions,
+--    unless detach_only is set: those partitions are kept for archiving, so their rows are left alone too.
+CREATE OR REPLACE FUNCTION drop_expired_partitions(parent_table TEXT, retain_months INT, detach_only BOOLEAN)
+RETURNS SETOF TEXT AS $$
+DECLARE
+    cutoff DATE := (date_trunc('month', CURRENT_DATE) - make_interval(months => retain_months))::date;
+    default_partition TEXT := parent_table || '_default';
+    partition_key TEXT;
+    partition_name TEXT;
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('monthly_partitions:' || parent_table));
+
+    FOR partition_name IN
+        SELECT child.relname
+        FROM pg_inherits i
+        JOIN pg_class child ON child.oid = i.inhrelid
+        JOIN pg_class parent ON parent.oid = i.inhparent
+        WHERE parent.relname = parent_table
+          AND CASE WHEN child.relname ~ '_p[0-9]{4}_[0-9]{2}$'
+                   THEN to_date(right(child.relname, 7), 'YYYY_MM') END < cutoff
+        ORDER BY child.relname
+    LOOP
+        EXECUTE format('ALTER TABLE %I DETACH PARTITION %I', parent_table, partition_name);
+        IF NOT detach_only THEN
+            EXECUTE format('DROP TABLE %I', partition_name);
+        END IF;
+        RETURN NEXT partition_name;
+    END LOOP;
+
+    IF NOT detach_only AND to_regclass(default_partition) IS NOT NULL THEN
+        SELECT a.attname INTO partition_key
+        FROM pg_partitioned_table pt
+        JOIN pg_attribute a ON a.attrelid = pt.partrelid AND a.attnum = pt.partattrs[0]
+        WHERE pt.partrelid = parent_table::regclass;
+
+        EXECUTE format('DELETE FROM %I WHERE %I < %L', default_partition, partition_key, cutoff);
+    END IF;
+END;
+$$ LANGUAGE plpgsql;
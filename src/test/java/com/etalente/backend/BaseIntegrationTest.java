@@ -4,6 +4,7 @@ import com.etalente.backend.config.TestAwsConfig;
 import jakarta.persistence.EntityManager;
 import jakarta.transaction.Transactional;
 import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -18,8 +19,11 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 
+import java.util.List;
 import java.util.UUID;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.MOCK)
 @AutoConfigureMockMvc
 @ActiveProfiles("test")
@@ -37,6 +41,31 @@ public abstract class BaseIntegrationTest {
     @Autowired
     protected EntityManager entityManager;
 
+    @Autowired
+    protected QueryCounter queryCounter;
+
+    @BeforeEach
+    void discardQueryBudgetViolations() {
+        queryCounter.drainViolations();
+    }
+
+    @AfterEach
+    void assertQueryBudgets() {
+        List<String> violations = queryCounter.drainViolations();
+        assertThat(violations)
+                .as("Endpoints exceeded their @QueryBudget")
+                .isEmpty();
+    }
+
+    /**
+     * Flushes pending writes and detaches everything, so the next request loads what it needs from the
+     * database instead of the test's persistence context and its statement count reflects production.
+     */
+    protected void resetPersistenceContext() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+
     protected void authenticateAs(UUID userId) {
         UsernamePasswordAuthenticationToken auth = new UsernamePasswordAuthenticationToken(
                 userId.toString(), null, null);
@@ -0,0 +1,67 @@
+package com.etalente.backend;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Records the SQL Hibernate prepares on the current thread while recording is active.
+ * <p>
+ * Registered as the session factory's {@link StatementInspector} by {@code QueryBudgetTestConfig}.
+ * MockMvc requests run on the test thread, so statements issued by async executors are not attributed
+ * to the request under test.
+ */
+public class QueryCounter implements StatementInspector {
+
+    private final ThreadLocal<List<String>> recording = new ThreadLocal<>();
+    private final ThreadLocal<List<String>> lastRecording = ThreadLocal.withInitial(List::of);
+    private final List<String> violations = Collections.synchronizedList(new ArrayList<>());
+
+    @Override
+    public String inspect(String sql) {
+        List<String> statements = recording.get();
+        if (statements != null) {
+            statements.add(sql);
+        }
+        return sql;
+    }
+
+    public void start() {
+        recording.set(new ArrayList<>());
+    }
+
+    /** Stops recording on this thread and returns the statements seen since {@link #start()}. */
+    public List<String> stop() {
+        List<String> statements = recording.get();
+        recording.remove();
+        List<String> result = statements == null ? List.of() : List.copyOf(statements);
+        lastRecording.set(result);
+        return result;
+    }
+
+    /** Statements recorded by the most recent {@link #stop()} on this thread. */
+    public List<String> lastStatements() {
+        return lastRecording.get();
+    }
+
+    public void recordViolation(String endpoint, int budget, List<String> statements) {
+        StringBuilder message = new StringBuilder()
+                .append(endpoint).append(" issued ").append(statements.size())
+                .append(" statements, budget is ").append(budget).append(':');
+        for (int i = 0; i < statements.size(); i++) {
+            message.append(System.lineSeparator()).append("  ").append(i + 1).append(". ").append(statements.get(i));
+        }
+        violations.add(message.toString());
+    }
+
+    /** Returns and clears the budget violations recorded so far. */
+    public List<String> drainViolations() {
+        synchronized (violations) {
+            List<String> drained = List.copyOf(violations);
+            violations.clear();
+            return drained;
+        }
+    }
+}
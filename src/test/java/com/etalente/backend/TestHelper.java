@@ -39,6 +39,7 @@ public class TestHelper {
         // Use native queries to delete with proper cascade handling
         entityManager.createNativeQuery("DELETE FROM recruiter_invitations").executeUpdate();
         entityManager.createNativeQuery("DELETE FROM job_post_state_audit").executeUpdate();
+        entityManager.createNativeQuery("DELETE FROM job_application_audit").executeUpdate();
         entityManager.createNativeQuery("DELETE FROM job_applications").executeUpdate();
         entityManager.createNativeQuery("DELETE FROM job_posts").executeUpdate();
         entityManager.createNativeQuery("UPDATE organizations SET created_by_id = NULL").executeUpdate();
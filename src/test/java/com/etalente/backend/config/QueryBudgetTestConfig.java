@@ -0,0 +1,74 @@
+package com.etalente.backend.config;
+
+import com.etalente.backend.QueryCounter;
+import com.etalente.backend.controller.QueryBudget;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Counts the statements each controller request issues and records a violation when the handler's
+ * {@link QueryBudget} is exceeded. {@code BaseIntegrationTest} fails the test on any violation.
+ */
+@Configuration
+@Profile("test")
+public class QueryBudgetTestConfig implements WebMvcConfigurer {
+
+    private final QueryCounter queryCounter = new QueryCounter();
+
+    @Bean
+    public QueryCounter queryCounter() {
+        return queryCounter;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer queryCounterCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, queryCounter);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new QueryBudgetInterceptor(queryCounter));
+    }
+
+    static class QueryBudgetInterceptor implements HandlerInterceptor {
+
+        private final QueryCounter queryCounter;
+
+        QueryBudgetInterceptor(QueryCounter queryCounter) {
+            this.queryCounter = queryCounter;
+        }
+
+        @Override
+        public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+            if (handler instanceof HandlerMethod) {
+                queryCounter.start();
+            }
+            return true;
+        }
+
+        @Override
+        public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+            if (!(handler instanceof HandlerMethod handlerMethod)) {
+                return;
+            }
+            List<String> statements = queryCounter.stop();
+            QueryBudget budget = handlerMethod.getMethodAnnotation(QueryBudget.class);
+            if (budget != null && statements.size() > budget.value()) {
+                queryCounter.recordViolation(
+                        request.getMethod() + " " + request.getRequestURI() + " (" + handlerMethod.getShortLogMessage() + ")",
+                        budget.value(), statements);
+            }
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.etalente.backend.BaseIntegrationTest;
 import com.etalente.backend.TestHelper;
 import com.etalente.backend.dto.BulkStatusUpdateRequest;
 import com.etalente.backend.model.*;
+import com.etalente.backend.repository.JobApplicationAuditRepository;
 import com.etalente.backend.repository.JobApplicationRepository;
 import com.etalente.backend.repository.JobPostRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -15,6 +16,8 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -41,6 +44,9 @@ class ApplicantBulkActionsIntegrationTest extends BaseIntegrationTest {
     @Autowired
     private JobApplicationRepository jobApplicationRepository;
 
+    @Autowired
+    private JobApplicationAuditRepository jobApplicationAuditRepository;
+
     @Autowired
     private JobPostRepository jobPostRepository;
 
@@ -104,6 +110,38 @@ class ApplicantBulkActionsIntegrationTest extends BaseIntegrationTest {
         );
     }
 
+    @Test
+    // Runs without the test transaction so the bulk update commits, or fails to, exactly as in production
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void bulkUpdateStatus_withSomeInvalidApplications_shouldCommitTheOthers() throws Exception {
+        try {
+            authenticateAsWithRoles(hiringManager);
+            JobApplication rejected = createApplication(
+                    testHelper.createUser("rejected@test.com", Role.CANDIDATE),
+                    createJobPost("Closed job", organization), JobApplicationStatus.REJECTED);
+            List<UUID> validIds = List.of(applications.get(0).getId(), applications.get(1).getId());
+
+            BulkStatusUpdateRequest request = new BulkStatusUpdateRequest();
+            request.setApplicationIds(List.of(validIds.get(0), rejected.getId(), UUID.randomUUID(), validIds.get(1)));
+            request.setTargetStatus(JobApplicationStatus.UNDER_REVIEW);
+
+            mockMvc.perform(post("/api/applicants/bulk-update-status")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.successCount").value(2))
+                    .andExpect(jsonPath("$.failureCount").value(2));
+
+            assertThat(jobApplicationRepository.findAllById(validIds))
+                    .allMatch(app -> app.getStatus() == JobApplicationStatus.UNDER_REVIEW);
+            assertThat(jobApplicationRepository.findById(rejected.getId()).orElseThrow().getStatus())
+                    .isEqualTo(JobApplicationStatus.REJECTED);
+            assertThat(jobApplicationAuditRepository.count()).isEqualTo(2);
+        } finally {
+            testHelper.cleanupDatabase();
+        }
+    }
+
     // Helper methods
     private JobPost createJobPost(String title, Organization org) {
         JobPost post = new JobPost();
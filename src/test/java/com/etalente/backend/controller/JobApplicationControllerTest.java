@@ -7,16 +7,21 @@ import com.etalente.backend.dto.WorkflowTriggerResponse;
 import com.etalente.backend.integration.novu.NovuWorkflowService;
 import com.etalente.backend.model.*;
 import com.etalente.backend.repository.*;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
@@ -25,6 +30,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Transactional
 public class JobApplicationControllerTest extends BaseIntegrationTest {
@@ -174,8 +181,108 @@ public class JobApplicationControllerTest extends BaseIntegrationTest {
                         .param("sort", "status,asc"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.content.length()", is(2)))
+                .andExpect(jsonPath("$.totalElements", is(2)))
                 .andExpect(jsonPath("$.content[0].status", is("APPLIED")));
     }
+    @Test
+    void getMyApplications_shouldPageByCompanyWithCursor() throws Exception {
+        User candidate = testHelper.createUser("candidate-company-pages@test.com", Role.CANDIDATE);
+        String candidateToken = testHelper.generateJwtForUser(candidate);
+        User hiringManager = testHelper.createUser("hm@test.com", Role.HIRING_MANAGER);
+
+        for (String company : new String[]{"Gamma Ltd.", "Acme Inc.", "Beta Corp."}) {
+            JobPost jobPost = new JobPost();
+            jobPost.setTitle("Developer at " + company);
+            jobPost.setCompany(company);
+            jobPost.setCreatedBy(hiringManager);
+            jobPostRepository.save(jobPost);
+
+            JobApplication application = new JobApplication();
+            application.setCandidate(candidate);
+            application.setJobPost(jobPost);
+            application.setStatus(JobApplicationStatus.APPLIED);
+            jobApplicationRepository.save(application);
+        }
+
+        String firstPage = mockMvc.perform(get("/api/applications/me/cursor")
+                        .header("Authorization", "Bearer " + candidateToken)
+                        .param("sort", "company")
+                        .param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()", is(2)))
+                .andExpect(jsonPath("$.content[0].job.company", is("Acme Inc.")))
+                .andExpect(jsonPath("$.content[1].job.company", is("Beta Corp.")))
+                .andReturn().getResponse().getContentAsString();
+
+        mockMvc.perform(get("/api/applications/me/cursor")
+                        .header("Authorization", "Bearer " + candidateToken)
+                        .param("sort", "company")
+                        .param("size", "2")
+                        .param("cursor", objectMapper.readTree(firstPage).get("nextCursor").asText()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()", is(1)))
+                .andExpect(jsonPath("$.content[0].job.company", is("Gamma Ltd.")))
+                .andExpect(jsonPath("$.nextCursor", nullValue()));
+    }
+
+    @Test
+    void getApplicationHistory_shouldPageThroughAuditTrailWithCursor() throws Exception {
+        User candidate = testHelper.createUser("candidate-history@test.com", Role.CANDIDATE);
+        String candidateToken = testHelper.generateJwtForUser(candidate);
+        JobPost jobPost = openJobPost(testHelper.createUser("hm@test.com", Role.HIRING_MANAGER));
+
+        JobApplication application = new JobApplication();
+        application.setCandidate(candidate);
+        application.setJobPost(jobPost);
+        application.setStatus(JobApplicationStatus.INTERVIEW_SCHEDULED);
+        application = jobApplicationRepository.save(application);
+        jobApplicationAuditRepository.save(new JobApplicationAudit(application, JobApplicationStatus.APPLIED, "Application submitted."));
+        jobApplicationAuditRepository.save(new JobApplicationAudit(application, JobApplicationStatus.UNDER_REVIEW, "Under review."));
+        jobApplicationAuditRepository.save(new JobApplicationAudit(application, JobApplicationStatus.INTERVIEW_SCHEDULED, "Interview scheduled."));
+
+        String firstPage = mockMvc.perform(get("/api/applications/{id}/history", application.getId())
+                        .param("size", "2")
+                        .header("Authorization", "Bearer " + candidateToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()", is(2)))
+                .andReturn().getResponse().getContentAsString();
+        JsonNode first = objectMapper.readTree(firstPage);
+        assertThat(first.get("nextCursor").isNull()).isFalse();
+
+        String secondPage = mockMvc.perform(get("/api/applications/{id}/history", application.getId())
+                        .param("size", "2")
+                        .param("cursor", first.get("nextCursor").asText())
+                        .header("Authorization", "Bearer " + candidateToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()", is(1)))
+                .andReturn().getResponse().getContentAsString();
+        JsonNode second = objectMapper.readTree(secondPage);
+        assertThat(second.get("nextCursor").isNull()).isTrue();
+
+        List<String> messages = new ArrayList<>();
+        first.get("content").forEach(entry -> messages.add(entry.get("message").asText()));
+        second.get("content").forEach(entry -> messages.add(entry.get("message").asText()));
+        assertThat(messages).containsExactlyInAnyOrder("Application submitted.", "Under review.", "Interview scheduled.");
+    }
+
+    @Test
+    void getApplicationHistory_shouldRejectMalformedCursor() throws Exception {
+        User candidate = testHelper.createUser("candidate-history-cursor@test.com", Role.CANDIDATE);
+        String candidateToken = testHelper.generateJwtForUser(candidate);
+        JobPost jobPost = openJobPost(testHelper.createUser("hm@test.com", Role.HIRING_MANAGER));
+
+        JobApplication application = new JobApplication();
+        application.setCandidate(candidate);
+        application.setJobPost(jobPost);
+        application.setStatus(JobApplicationStatus.APPLIED);
+        application = jobApplicationRepository.save(application);
+
+        mockMvc.perform(get("/api/applications/{id}/history", application.getId())
+                        .param("cursor", "not-a-cursor")
+                        .header("Authorization", "Bearer " + candidateToken))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void applyForJob_shouldCreateApplicationAndTriggerNotification() throws Exception {
         // Given
@@ -201,9 +308,83 @@ public class JobApplicationControllerTest extends BaseIntegrationTest {
 
         // Then
         assertThat(jobApplicationRepository.count()).isEqualTo(1L);
+        assertThat(jobApplicationAuditRepository.count()).isEqualTo(1L);
+        // The hiring manager is only notified once the application is committed
+        verify(novuWorkflowService, never()).triggerWorkflow(any(String.class), any(WorkflowTriggerRequest.class));
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCommit();
+        }
         verify(novuWorkflowService, times(1)).triggerWorkflow(eq("application-received"), any(WorkflowTriggerRequest.class));
     }
 
+    @Test
+    void applyForJob_shouldRejectSecondApplication() throws Exception {
+        String candidateToken = testHelper.createUserAndGetJwt("candidate-apply-twice@test.com", Role.CANDIDATE);
+        JobPost jobPost = openJobPost(testHelper.createUser("hm@test.com", Role.HIRING_MANAGER));
+
+        mockMvc.perform(post("/api/job-posts/{id}/apply", jobPost.getId())
+                        .header("Authorization", "Bearer " + candidateToken))
+                .andExpect(status().isCreated());
+        mockMvc.perform(post("/api/job-posts/{id}/apply", jobPost.getId())
+                        .header("Authorization", "Bearer " + candidateToken))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is("You have already applied for this job.")));
+
+        assertThat(jobApplicationRepository.count()).isEqualTo(1L);
+        assertThat(jobApplicationAuditRepository.count()).isEqualTo(1L);
+    }
+
+    @Test
+    void applyForJob_retryWithSameIdempotencyKey_shouldReturnOriginalApplication() throws Exception {
+        String candidateToken = testHelper.createUserAndGetJwt("candidate-apply-retry@test.com", Role.CANDIDATE);
+        JobPost jobPost = openJobPost(testHelper.createUser("hm@test.com", Role.HIRING_MANAGER));
+        String idempotencyKey = UUID.randomUUID().toString();
+
+        String first = mockMvc.perform(post("/api/job-posts/{id}/apply", jobPost.getId())
+                        .header("Authorization", "Bearer " + candidateToken)
+                        .header("Idempotency-Key", idempotencyKey))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        String applicationId = objectMapper.readTree(first).get("id").asText();
+
+        mockMvc.perform(post("/api/job-posts/{id}/apply", jobPost.getId())
+                        .header("Authorization", "Bearer " + candidateToken)
+                        .header("Idempotency-Key", idempotencyKey))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id", is(applicationId)))
+                .andExpect(jsonPath("$.status", is("APPLIED")));
+
+        assertThat(jobApplicationRepository.count()).isEqualTo(1L);
+    }
+
+    @Test
+    void applyForJob_againWithDifferentIdempotencyKey_shouldBeRejected() throws Exception {
+        String candidateToken = testHelper.createUserAndGetJwt("candidate-apply-rekey@test.com", Role.CANDIDATE);
+        JobPost jobPost = openJobPost(testHelper.createUser("hm@test.com", Role.HIRING_MANAGER));
+
+        mockMvc.perform(post("/api/job-posts/{id}/apply", jobPost.getId())
+                        .header("Authorization", "Bearer " + candidateToken)
+                        .header("Idempotency-Key", UUID.randomUUID().toString()))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(post("/api/job-posts/{id}/apply", jobPost.getId())
+                        .header("Authorization", "Bearer " + candidateToken)
+                        .header("Idempotency-Key", UUID.randomUUID().toString()))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is("You have already applied for this job.")));
+
+        assertThat(jobApplicationRepository.count()).isEqualTo(1L);
+    }
+
+    private JobPost openJobPost(User hiringManager) {
+        JobPost jobPost = new JobPost();
+        jobPost.setTitle("Popular Job");
+        jobPost.setCompany("Shared Widely Corp.");
+        jobPost.setCreatedBy(hiringManager);
+        jobPost.setStatus(JobPostStatus.OPEN);
+        return jobPostRepository.save(jobPost);
+    }
+
     @Test
     void applyForJob_shouldFail_whenJobPostIsNotOpen() throws Exception {
         // Given
@@ -343,7 +524,59 @@ public class JobApplicationControllerTest extends BaseIntegrationTest {
         mockMvc.perform(get("/api/job-posts/{jobId}/applications", jobPost.getId())
                         .header("Authorization", "Bearer " + hiringManagerJwt))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.content.length()").value(2));
+                .andExpect(jsonPath("$.content.length()").value(2))
+                .andExpect(jsonPath("$.totalElements").value(2));
+    }
+
+    @Test
+    void getApplicationsForJob_shouldFilterByStatusAndPageWithCursor() throws Exception {
+        User hiringManager = testHelper.createUser("hm-pages@test.com", Role.HIRING_MANAGER);
+        String hiringManagerJwt = testHelper.generateJwtForUser(hiringManager);
+        JobPost jobPost = openJobPost(hiringManager);
+        jobPost.setOrganization(hiringManager.getOrganization());
+        jobPost = jobPostRepository.save(jobPost);
+
+        JobApplicationStatus[] statuses = {JobApplicationStatus.APPLIED, JobApplicationStatus.UNDER_REVIEW,
+                JobApplicationStatus.APPLIED, JobApplicationStatus.REJECTED};
+        for (int i = 0; i < statuses.length; i++) {
+            JobApplication application = new JobApplication();
+            application.setJobPost(jobPost);
+            application.setCandidate(testHelper.createUser("paged-candidate" + i + "@example.com", Role.CANDIDATE));
+            application.setStatus(statuses[i]);
+            jobApplicationRepository.save(application);
+        }
+
+        String firstPage = mockMvc.perform(get("/api/job-posts/{jobId}/applications/cursor", jobPost.getId())
+                        .header("Authorization", "Bearer " + hiringManagerJwt)
+                        .param("statuses", "APPLIED", "UNDER_REVIEW")
+                        .param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()", is(2)))
+                .andExpect(jsonPath("$.content[0].candidate.email").exists())
+                .andReturn().getResponse().getContentAsString();
+
+        mockMvc.perform(get("/api/job-posts/{jobId}/applications/cursor", jobPost.getId())
+                        .header("Authorization", "Bearer " + hiringManagerJwt)
+                        .param("statuses", "APPLIED", "UNDER_REVIEW")
+                        .param("size", "2")
+                        .param("cursor", objectMapper.readTree(firstPage).get("nextCursor").asText()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()", is(1)))
+                .andExpect(jsonPath("$.nextCursor", nullValue()));
+    }
+
+    @Test
+    void getApplicationsForJob_shouldRejectUnknownStatus() throws Exception {
+        User hiringManager = testHelper.createUser("hm-bad-status@test.com", Role.HIRING_MANAGER);
+        String hiringManagerJwt = testHelper.generateJwtForUser(hiringManager);
+        JobPost jobPost = openJobPost(hiringManager);
+        jobPost.setOrganization(hiringManager.getOrganization());
+        jobPost = jobPostRepository.save(jobPost);
+
+        mockMvc.perform(get("/api/job-posts/{jobId}/applications/cursor", jobPost.getId())
+                        .header("Authorization", "Bearer " + hiringManagerJwt)
+                        .param("statuses", "APPLIED", "HIRED_MAYBE"))
+                .andExpect(status().isBadRequest());
     }
 
     @Test
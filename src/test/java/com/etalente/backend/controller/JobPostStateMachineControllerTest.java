@@ -194,6 +194,52 @@ class JobPostStateMachineControllerTest {
                 .andExpect(status().isForbidden()); // Changed from isUnauthorized to isForbidden
     }
 
+    @Test
+    void testStateHistory_PagesWithCursor() throws Exception {
+        for (String action : new String[]{"close", "reopen", "close"}) {
+            mockMvc.perform(patch("/api/job-posts/{id}/" + action, openJobPost.getId())
+                            .header("Authorization", "Bearer " + hmToken)
+                            .param("reason", action))
+                    .andExpect(status().isOk());
+        }
+
+        String firstPage = mockMvc.perform(get("/api/job-posts/{id}/history/cursor", openJobPost.getId())
+                        .header("Authorization", "Bearer " + hmToken)
+                        .param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(2)))
+                .andExpect(jsonPath("$.content[*].changedByEmail", everyItem(is(hm.getEmail()))))
+                .andExpect(jsonPath("$.nextCursor", notNullValue()))
+                .andReturn().getResponse().getContentAsString();
+        String cursor = objectMapper.readTree(firstPage).get("nextCursor").asText();
+
+        mockMvc.perform(get("/api/job-posts/{id}/history/cursor", openJobPost.getId())
+                        .header("Authorization", "Bearer " + hmToken)
+                        .param("size", "2")
+                        .param("cursor", cursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.content[0].changedByEmail", is(hm.getEmail())))
+                .andExpect(jsonPath("$.nextCursor", nullValue()));
+    }
+
+    @Test
+    void testStateHistory_UnpagedEndpointReturnsWholeList() throws Exception {
+        for (String action : new String[]{"close", "reopen"}) {
+            mockMvc.perform(patch("/api/job-posts/{id}/" + action, openJobPost.getId())
+                            .header("Authorization", "Bearer " + hmToken)
+                            .param("reason", action))
+                    .andExpect(status().isOk());
+        }
+
+        mockMvc.perform(get("/api/job-posts/{id}/history", openJobPost.getId())
+                        .header("Authorization", "Bearer " + hmToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].toStatus", is("OPEN")))
+                .andExpect(jsonPath("$[*].changedByEmail", everyItem(is(hm.getEmail()))));
+    }
+
     @Test
     void testBeansExist() {
         assertNotNull(jobPostService, "JobPostService should be injected");
@@ -0,0 +1,257 @@
+package com.etalente.backend.controller;
+
+import com.etalente.backend.BaseIntegrationTest;
+import com.etalente.backend.TestHelper;
+import com.etalente.backend.model.*;
+import com.etalente.backend.repository.JobApplicationRepository;
+import com.etalente.backend.repository.JobPostRepository;
+import com.etalente.backend.repository.RecruiterInvitationRepository;
+import com.etalente.backend.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Exercises the read endpoints that walk associations per row against a cleared persistence context,
+ * so lazy loads hit the database and count against the endpoint's {@link QueryBudget}.
+ */
+class QueryBudgetIntegrationTest extends BaseIntegrationTest {
+
+    private static final int ROWS = 5;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TestHelper testHelper;
+
+    @Autowired
+    private JobPostRepository jobPostRepository;
+
+    @Autowired
+    private JobApplicationRepository jobApplicationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RecruiterInvitationRepository invitationRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    @Qualifier("requestMappingHandlerMapping")
+    private RequestMappingHandlerMapping handlerMapping;
+
+    private User hiringManager;
+    private User candidate;
+    private List<JobPost> jobPosts;
+
+    @BeforeEach
+    void setUp() {
+        testHelper.cleanupDatabase();
+
+        hiringManager = testHelper.createUser("budget-hm@test.com", Role.HIRING_MANAGER);
+        candidate = testHelper.createUser("budget-candidate@test.com", Role.CANDIDATE);
+
+        jobPosts = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            JobPost post = new JobPost();
+            post.setTitle("Budget Engineer " + i);
+            post.setCompany(hiringManager.getOrganization().getName());
+            post.setJobType("Full-time");
+            post.setDescription("Query budget fixture");
+            post.setRemote("Remote");
+            post.setExperienceLevel("Senior");
+            post.setStatus(JobPostStatus.OPEN);
+            post.setCreatedBy(hiringManager);
+            post.setOrganization(hiringManager.getOrganization());
+            post.setLocation(objectMapper.createObjectNode().put("city", "Cape Town"));
+            jobPosts.add(jobPostRepository.save(post));
+        }
+
+        for (int i = 0; i < ROWS; i++) {
+            User applicant = i == 0 ? candidate
+                    : testHelper.createUser("budget-applicant" + i + "@test.com", Role.CANDIDATE);
+            JobApplication application = new JobApplication();
+            application.setCandidate(applicant);
+            application.setJobPost(jobPosts.get(0));
+            application.setStatus(JobApplicationStatus.APPLIED);
+            application.setApplicationDate(LocalDateTime.now().minusHours(i));
+            jobApplicationRepository.save(application);
+
+            if (i > 0) {
+                JobApplication own = new JobApplication();
+                own.setCandidate(candidate);
+                own.setJobPost(jobPosts.get(i));
+                own.setStatus(JobApplicationStatus.APPLIED);
+                own.setApplicationDate(LocalDateTime.now().minusDays(i));
+                jobApplicationRepository.save(own);
+            }
+        }
+
+        // Each member and invitation has a different inviter, so loading inviters per row would show up
+        User inviter = hiringManager;
+        for (int i = 0; i < ROWS; i++) {
+            User recruiter = testHelper.createUser("budget-recruiter" + i + "@test.com", Role.RECRUITER,
+                    hiringManager.getOrganization());
+            recruiter.setInvitedBy(inviter);
+            userRepository.save(recruiter);
+
+            RecruiterInvitation invitation = new RecruiterInvitation();
+            invitation.setEmail("budget-invitee" + i + "@test.com");
+            invitation.setToken(UUID.randomUUID().toString());
+            invitation.setOrganization(hiringManager.getOrganization());
+            invitation.setInvitedBy(recruiter);
+            invitation.setExpiresAt(LocalDateTime.now().plusDays(1));
+            invitationRepository.save(invitation);
+            inviter = recruiter;
+        }
+
+        resetPersistenceContext();
+    }
+
+    @Test
+    void everyControllerEndpointDeclaresAQueryBudget() {
+        List<String> missing = handlerMapping.getHandlerMethods().entrySet().stream()
+                .filter(entry -> isApplicationEndpoint(entry.getValue()))
+                .filter(entry -> !entry.getValue().hasMethodAnnotation(QueryBudget.class))
+                .map(entry -> entry.getValue().getShortLogMessage() + " " + entry.getKey())
+                .sorted()
+                .toList();
+
+        assertThat(missing)
+                .as("Controller endpoints without a @QueryBudget")
+                .isEmpty();
+    }
+
+    @Test
+    void listJobPosts_staysWithinBudget() throws Exception {
+        authenticateAsWithRoles(candidate);
+
+        mockMvc.perform(get("/api/job-posts")).andExpect(status().isOk());
+
+        assertThat(queryCounter.lastStatements()).isNotEmpty();
+    }
+
+    @Test
+    void getJobPost_staysWithinBudget() throws Exception {
+        authenticateAsWithRoles(candidate);
+
+        mockMvc.perform(get("/api/job-posts/{id}", jobPosts.get(0).getId())).andExpect(status().isOk());
+    }
+
+    @Test
+    void getApplicants_staysWithinBudget() throws Exception {
+        authenticateAsWithRoles(hiringManager);
+
+        mockMvc.perform(get("/api/applicants")).andExpect(status().isOk());
+    }
+
+    @Test
+    void getMyApplications_staysWithinBudget() throws Exception {
+        authenticateAsWithRoles(candidate);
+
+        mockMvc.perform(get("/api/applications/me")).andExpect(status().isOk());
+        mockMvc.perform(get("/api/applications/me/cursor")).andExpect(status().isOk());
+    }
+
+    @Test
+    void getApplicationsForJob_staysWithinBudget() throws Exception {
+        authenticateAsWithRoles(hiringManager);
+
+        mockMvc.perform(get("/api/job-posts/{jobId}/applications", jobPosts.get(0).getId()))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/job-posts/{jobId}/applications/cursor", jobPosts.get(0).getId()))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void transitionApplication_byJobPostCreator_doesNotLoadTheActorSeparately() throws Exception {
+        authenticateAsWithRoles(hiringManager);
+        UUID applicationId = jobApplicationRepository
+                .findByCandidateIdAndJobPostId(candidate.getId(), jobPosts.get(0).getId()).orElseThrow().getId();
+        resetPersistenceContext();
+
+        mockMvc.perform(post("/api/applications/{id}/transition", applicationId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"targetStatus\":\"UNDER_REVIEW\"}"))
+                .andExpect(status().isOk());
+
+        assertThat(queryCounter.lastStatements())
+                .as("The actor comes with the job post's creator in the details query")
+                .noneMatch(sql -> sql.startsWith("select") && sql.contains(" from users "));
+    }
+
+    @Test
+    void getJobPostHistory_staysWithinBudget() throws Exception {
+        authenticateAsWithRoles(hiringManager);
+
+        mockMvc.perform(get("/api/job-posts/{id}/history", jobPosts.get(0).getId()))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/job-posts/{id}/history/cursor", jobPosts.get(0).getId()))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void getOrganizationMembers_staysWithinBudget() throws Exception {
+        authenticateAsWithRoles(hiringManager);
+
+        mockMvc.perform(get("/api/organization/members")).andExpect(status().isOk());
+    }
+
+    @Test
+    void listOrganizationInvitations_staysWithinBudget() throws Exception {
+        authenticateAsWithRoles(hiringManager);
+
+        mockMvc.perform(get("/api/invitations")).andExpect(status().isOk());
+    }
+
+    @Test
+    void lazyAssociationsOfAPageLoadInOneBatch() {
+        queryCounter.start();
+        List<JobApplication> applications = jobApplicationRepository.findAll();
+        applications.forEach(application -> application.getCandidate().getEmail());
+        List<String> statements = queryCounter.stop();
+
+        assertThat(applications).hasSizeGreaterThan(ROWS);
+        assertThat(statements)
+                .as("One query for the applications and one for all of their candidates")
+                .hasSize(2);
+    }
+
+    private static boolean isApplicationEndpoint(HandlerMethod handlerMethod) {
+        Class<?> beanType = handlerMethod.getBeanType();
+        return beanType.getPackageName().equals(QueryBudget.class.getPackageName())
+                && beanType != TestHelperController.class;
+    }
+
+    private void authenticateAsWithRoles(User user) {
+        UsernamePasswordAuthenticationToken auth = new UsernamePasswordAuthenticationToken(
+                user.getId().toString(),
+                null,
+                List.of(new SimpleGrantedAuthority("ROLE_" + user.getRole().name()))
+        );
+        SecurityContextHolder.getContext().setAuthentication(auth);
+    }
+}
@@ -0,0 +1,38 @@
+package com.etalente.backend.dataset;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * A dataset loaded by {@link SyntheticDatasetGenerator}. Ids are derived from the seed and the row's index,
+ * so callers can address generated rows, e.g. the hiring manager of the largest organization, without
+ * querying for them.
+ *
+ * @param spec         the spec the dataset was generated from
+ * @param applications the number of applications actually written
+ */
+public record Dataset(DatasetSpec spec, long applications) {
+
+    /** Organization 0 owns the most job posts. */
+    public UUID organizationId(int index) {
+        return id(spec.seed(), "organization", index);
+    }
+
+    /** The hiring manager who created organization {@code index} and all of its job posts. */
+    public UUID hiringManagerId(int index) {
+        return id(spec.seed(), "hiring-manager", index);
+    }
+
+    public UUID candidateId(int index) {
+        return id(spec.seed(), "candidate", index);
+    }
+
+    /** Job post 0 is the most recently created. */
+    public UUID jobPostId(int index) {
+        return id(spec.seed(), "job-post", index);
+    }
+
+    static UUID id(long seed, String kind, long index) {
+        return UUID.nameUUIDFromBytes((kind + ':' + seed + ':' + index).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,61 @@
+package com.etalente.backend.dataset;
+
+import java.time.Instant;
+import java.util.Locale;
+
+/**
+ * Size and seed of a synthetic dataset. Two runs with the same spec produce identical rows, including ids,
+ * so a dataset can be regenerated rather than shipped.
+ *
+ * @param seed          drives every random choice and id
+ * @param organizations organizations, each with one hiring manager
+ * @param candidates    candidate users with a JSON Resume {@code profile}
+ * @param jobPosts      job posts, skewed towards a few large organizations
+ * @param applications  approximate number of applications, skewed towards a few popular posts
+ * @param anchor        the newest timestamp in the dataset; older rows are spread over the preceding year
+ */
+public record DatasetSpec(long seed,
+                          int organizations,
+                          int candidates,
+                          int jobPosts,
+                          int applications,
+                          Instant anchor) {
+
+    public static final long DEFAULT_SEED = 20240701L;
+    public static final Instant DEFAULT_ANCHOR = Instant.parse("2025-01-01T00:00:00Z");
+
+    public DatasetSpec {
+        if (organizations < 1 || candidates < 1 || jobPosts < 1 || applications < 0) {
+            throw new IllegalArgumentException("Dataset needs at least one organization, candidate and job post");
+        }
+    }
+
+    /** A few thousand rows; fast enough to build per test. */
+    public static DatasetSpec small() {
+        return new DatasetSpec(DEFAULT_SEED, 20, 2_000, 1_000, 4_000, DEFAULT_ANCHOR);
+    }
+
+    /** A tenth of production; loads in well under a minute on a laptop. */
+    public static DatasetSpec medium() {
+        return new DatasetSpec(DEFAULT_SEED, 200, 50_000, 5_000, 200_000, DEFAULT_ANCHOR);
+    }
+
+    /** The volumes of our largest tenants: 50k job posts, 500k candidates and about 2M applications. */
+    public static DatasetSpec production() {
+        return new DatasetSpec(DEFAULT_SEED, 2_000, 500_000, 50_000, 2_000_000, DEFAULT_ANCHOR);
+    }
+
+    public static DatasetSpec named(String name) {
+        return switch (name.toLowerCase(Locale.ROOT)) {
+            case "small" -> small();
+            case "medium" -> medium();
+            case "production" -> production();
+            default -> throw new IllegalArgumentException(
+                    "Unknown dataset size '" + name + "', expected small, medium or production");
+        };
+    }
+
+    public DatasetSpec withSeed(long seed) {
+        return new DatasetSpec(seed, organizations, candidates, jobPosts, applications, anchor);
+    }
+}
@@ -0,0 +1,54 @@
+package com.etalente.backend.dataset;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Command-line entry point for {@link SyntheticDatasetGenerator}, run through {@code ./gradlew generateDataset}.
+ * <p>
+ * Loads into the database configured by the {@code dataset.url}, {@code dataset.username} and
+ * {@code dataset.password} system properties, which default to the {@code local} profile's database. The schema
+ * must already be migrated, e.g. by starting the application once. Everything is loaded in one transaction,
+ * so a failed run leaves nothing behind.
+ */
+public final class GenerateDataset {
+
+    private GenerateDataset() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        String url = System.getProperty("dataset.url", "jdbc:postgresql://localhost:5432/etalente");
+        String username = System.getProperty("dataset.username", "user");
+        String password = System.getProperty("dataset.password", "password");
+        DatasetSpec spec = DatasetSpec.named(System.getProperty("dataset.size", "medium"));
+        if (System.getProperty("dataset.seed") != null) {
+            spec = spec.withSeed(Long.parseLong(System.getProperty("dataset.seed")));
+        }
+
+        try (Connection connection = DriverManager.getConnection(url, username, password)) {
+            connection.setAutoCommit(false);
+            if (alreadyLoaded(connection, spec)) {
+                System.out.println("Dataset with seed " + spec.seed() + " is already loaded into " + url);
+                return;
+            }
+            Dataset dataset = new SyntheticDatasetGenerator(new ObjectMapper()).generate(connection, spec);
+            connection.commit();
+            System.out.printf("Loaded %d organizations, %d candidates, %d job posts and %d applications (seed %d) into %s%n",
+                    spec.organizations(), spec.candidates(), spec.jobPosts(), dataset.applications(), spec.seed(), url);
+        }
+    }
+
+    private static boolean alreadyLoaded(Connection connection, DatasetSpec spec) throws SQLException {
+        try (PreparedStatement query = connection.prepareStatement("SELECT 1 FROM organizations WHERE id = ?")) {
+            query.setObject(1, new Dataset(spec, 0).organizationId(0));
+            try (ResultSet result = query.executeQuery()) {
+                return result.next();
+            }
+        }
+    }
+}
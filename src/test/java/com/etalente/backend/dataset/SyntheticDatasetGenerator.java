@@ -0,0 +1,582 @@
+package com.etalente.backend.dataset;
+
+import com.etalente.backend.constants.JsonFieldConstants;
+import com.fasterxml.jackson.core.json.JsonReadFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.javafaker.Faker;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVPrinter;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Bulk-loads a deterministic synthetic tenant population through {@code COPY}: organizations with one
+ * hiring manager each, candidates with JSON Resume profiles, job posts shaped like {@code job_schema.json}
+ * and applications.
+ * <p>
+ * Volumes are skewed the way production is: a few organizations own most job posts, a few posts receive
+ * most applications and most candidates apply only a handful of times. Text is drawn from vocabularies
+ * built once per run with javafaker and the seed job JSONs, so a production-sized load is bound by COPY
+ * rather than by faker.
+ * <p>
+ * The caller owns the connection and its transaction. Tables must already be migrated and must not hold
+ * rows from an earlier run with the same seed.
+ */
+public class SyntheticDatasetGenerator {
+
+    private static final Logger log = LoggerFactory.getLogger(SyntheticDatasetGenerator.class);
+
+    private static final String JOB_TEMPLATE = "job_schema.json";
+    private static final String SEED_JOBS = "classpath:job_seed_jsons/*.json";
+    private static final int VOCABULARY_SIZE = 1_000;
+    private static final int COPY_BUFFER_BYTES = 1 << 16;
+    private static final int MAX_APPLICATIONS_PER_CANDIDATE = 60;
+    private static final long YEAR_SECONDS = Duration.ofDays(365).toSeconds();
+    private static final long MONTH_SECONDS = Duration.ofDays(30).toSeconds();
+
+    // Repeated entries weight the draw
+    private static final String[] JOB_TYPES = {"Full-time", "Full-time", "Full-time", "Full-time", "Contract", "Part-time", "Internship"};
+    private static final String[] WORK_TYPES = {"On-site", "On-site", "Hybrid", "Hybrid", "Remote"};
+    private static final String[] EXPERIENCE_LEVELS = {"Entry-level", "Junior", "Mid-level", "Mid-level", "Senior", "Senior", "Lead"};
+    private static final String[] SKILL_LEVELS = {"Beginner", "Intermediate", "Intermediate", "Advanced", "Master"};
+    private static final String[] JOB_POST_STATUSES = {
+            "OPEN", "OPEN", "OPEN", "OPEN", "OPEN", "OPEN", "OPEN", "CLOSED", "CLOSED", "DRAFT", "ARCHIVED"};
+    private static final String[] APPLICATION_STATUSES = {
+            "APPLIED", "APPLIED", "APPLIED", "APPLIED", "APPLIED", "APPLIED", "APPLIED", "APPLIED", "APPLIED",
+            "UNDER_REVIEW", "UNDER_REVIEW", "UNDER_REVIEW", "UNDER_REVIEW", "INTERVIEW_SCHEDULED",
+            "INTERVIEW_SCHEDULED", "OFFER_EXTENDED", "HIRED", "REJECTED", "REJECTED", "REJECTED", "WITHDRAWN"};
+    private static final String[] STUDY_TYPES = {"Diploma", "Bachelor", "Bachelor", "Bachelor", "Honours", "Master", "PhD"};
+    private static final String[] FLUENCIES = {"Native speaker", "Fluent", "Conversational", "Elementary"};
+
+    private final ObjectMapper objectMapper;
+    // job_schema.json and some seed JSONs carry trailing commas
+    private final ObjectMapper lenientMapper = JsonMapper.builder()
+            .enable(JsonReadFeature.ALLOW_TRAILING_COMMA)
+            .build();
+
+    public SyntheticDatasetGenerator(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public Dataset generate(Connection connection, DatasetSpec spec) throws SQLException, IOException {
+        PGConnection copyConnection = connection.unwrap(PGConnection.class);
+        ObjectNode jobTemplate;
+        try (InputStream in = readJobTemplate()) {
+            jobTemplate = (ObjectNode) lenientMapper.readTree(in);
+        }
+        Vocabulary vocabulary = Vocabulary.build(spec, jobTemplate, seedJobs());
+
+        long started = System.nanoTime();
+        copyOrganizations(copyConnection, spec, vocabulary);
+        copyHiringManagers(copyConnection, spec, vocabulary);
+        linkOrganizationCreators(connection, spec);
+        copyCandidates(copyConnection, spec, vocabulary);
+        JobPostIndex jobPosts = copyJobPosts(copyConnection, spec, vocabulary, jobTemplate);
+        long applications = copyApplications(copyConnection, spec, jobPosts);
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ANALYZE organizations, users, job_posts, job_applications");
+        }
+        log.info("Loaded {} organizations, {} candidates, {} job posts and {} applications (seed {}) in {} ms",
+                spec.organizations(), spec.candidates(), spec.jobPosts(), applications, spec.seed(),
+                Duration.ofNanos(System.nanoTime() - started).toMillis());
+        return new Dataset(spec, applications);
+    }
+
+    private void copyOrganizations(PGConnection connection, DatasetSpec spec, Vocabulary vocabulary)
+            throws SQLException, IOException {
+        Random random = random(spec, "organizations");
+        try (CSVPrinter rows = copy(connection, "organizations",
+                "id", "name", "industry", "description", "website", "created_at", "updated_at")) {
+            for (int i = 0; i < spec.organizations(); i++) {
+                String name = vocabulary.organizationNames.get(i);
+                OffsetDateTime createdAt = timestamp(spec.anchor().minusSeconds(YEAR_SECONDS + random.nextLong(YEAR_SECONDS)));
+                rows.printRecord(Dataset.id(spec.seed(), "organization", i), name,
+                        pick(random, vocabulary.industries), pick(random, vocabulary.catchPhrases),
+                        "https://www." + slug(name) + ".example.com", createdAt, createdAt);
+            }
+        }
+    }
+
+    private void copyHiringManagers(PGConnection connection, DatasetSpec spec, Vocabulary vocabulary)
+            throws SQLException, IOException {
+        Random random = random(spec, "hiring-managers");
+        try (CSVPrinter rows = copyUsers(connection)) {
+            for (int i = 0; i < spec.organizations(); i++) {
+                String firstName = pick(random, vocabulary.firstNames);
+                String lastName = pick(random, vocabulary.lastNames);
+                OffsetDateTime createdAt = timestamp(spec.anchor().minusSeconds(YEAR_SECONDS + random.nextLong(YEAR_SECONDS)));
+                rows.printRecord(Dataset.id(spec.seed(), "hiring-manager", i),
+                        "hm" + i + "@" + slug(vocabulary.organizationNames.get(i)) + ".example.com",
+                        "HIRING_MANAGER", username(spec, "hm", i), firstName, lastName,
+                        true, true, false, "ACTIVE", Dataset.id(spec.seed(), "organization", i), null,
+                        createdAt, createdAt);
+            }
+        }
+    }
+
+    private void linkOrganizationCreators(Connection connection, DatasetSpec spec) throws SQLException {
+        UUID[] organizationIds = new UUID[spec.organizations()];
+        for (int i = 0; i < organizationIds.length; i++) {
+            organizationIds[i] = Dataset.id(spec.seed(), "organization", i);
+        }
+        try (PreparedStatement update = connection.prepareStatement(
+                "UPDATE organizations o SET created_by_id = u.id FROM users u " +
+                        "WHERE u.organization_id = o.id AND u.role = 'HIRING_MANAGER' AND o.id = ANY (?)")) {
+            Array ids = connection.createArrayOf("uuid", organizationIds);
+            update.setArray(1, ids);
+            update.executeUpdate();
+            ids.free();
+        }
+    }
+
+    private void copyCandidates(PGConnection connection, DatasetSpec spec, Vocabulary vocabulary)
+            throws SQLException, IOException {
+        Random random = random(spec, "candidates");
+        try (CSVPrinter rows = copyUsers(connection)) {
+            for (int i = 0; i < spec.candidates(); i++) {
+                String firstName = pick(random, vocabulary.firstNames);
+                String lastName = pick(random, vocabulary.lastNames);
+                String email = slug(firstName) + "." + slug(lastName) + "." + i + "@example.com";
+                OffsetDateTime createdAt = timestamp(spec.anchor().minusSeconds(random.nextLong(2 * YEAR_SECONDS)));
+                ObjectNode profile = profile(random, spec, vocabulary, firstName, lastName, email);
+                rows.printRecord(Dataset.id(spec.seed(), "candidate", i), email, "CANDIDATE",
+                        username(spec, "candidate", i), firstName, lastName,
+                        true, true, false, "ACTIVE", null, objectMapper.writeValueAsString(profile),
+                        createdAt, createdAt);
+            }
+        }
+    }
+
+    private ObjectNode profile(Random random, DatasetSpec spec, Vocabulary vocabulary,
+                               String firstName, String lastName, String email) {
+        // Exponential with a mean of six years: most candidates are early in their careers
+        int experienceYears = (int) Math.min(40, -Math.log(1 - random.nextDouble()) * 6);
+        LocalDate today = LocalDate.ofInstant(spec.anchor(), ZoneOffset.UTC);
+
+        ObjectNode profile = objectMapper.createObjectNode();
+        ObjectNode basics = profile.putObject("basics");
+        basics.put("name", firstName + " " + lastName);
+        basics.put("label", pick(random, vocabulary.titles));
+        basics.put("email", email);
+        basics.put("summary", pick(random, vocabulary.catchPhrases));
+        City city = pick(random, vocabulary.cities);
+        basics.putObject(JsonFieldConstants.PROFILE_LOCATION)
+                .put("city", city.name())
+                .put("region", city.region())
+                .put("countryCode", city.countryCode());
+        profile.put(JsonFieldConstants.PROFILE_EXPERIENCE_YEARS, experienceYears);
+
+        ArrayNode work = profile.putArray("work");
+        LocalDate end = today;
+        int positions = experienceYears == 0 ? 0 : 1 + Math.min(5, random.nextInt(1 + experienceYears / 3));
+        for (int p = 0; p < positions; p++) {
+            LocalDate start = end.minusMonths(6 + random.nextInt(12 * Math.max(1, experienceYears / positions)));
+            ObjectNode position = work.addObject()
+                    .put("name", pick(random, vocabulary.organizationNames))
+                    .put("position", pick(random, vocabulary.titles))
+                    .put("startDate", start.toString())
+                    .put("summary", pick(random, vocabulary.responsibilities));
+            if (p > 0) {
+                position.put("endDate", end.toString());
+            }
+            end = start.minusMonths(random.nextInt(6));
+        }
+
+        ArrayNode education = profile.putArray(JsonFieldConstants.PROFILE_EDUCATION);
+        LocalDate graduated = today.minusYears(experienceYears).minusMonths(random.nextInt(12));
+        for (int e = 0, degrees = 1 + random.nextInt(2); e < degrees; e++) {
+            LocalDate start = graduated.minusYears(3 + random.nextInt(2));
+            education.addObject()
+                    .put("institution", pick(random, vocabulary.universities))
+                    .put("area", pick(random, vocabulary.courses))
+                    .put("studyType", pick(random, STUDY_TYPES))
+                    .put("startDate", start.toString())
+                    .put("endDate", graduated.toString());
+            graduated = start;
+        }
+
+        skills(random, vocabulary, profile.putArray(JsonFieldConstants.PROFILE_SKILLS), 3 + random.nextInt(8));
+
+        ArrayNode languages = profile.putArray("languages");
+        for (String language : distinct(random, vocabulary.languages, 1 + random.nextInt(3))) {
+            languages.addObject().put("language", language).put("fluency", pick(random, FLUENCIES));
+        }
+        return profile;
+    }
+
+    private JobPostIndex copyJobPosts(PGConnection connection, DatasetSpec spec, Vocabulary vocabulary,
+                                      ObjectNode template) throws SQLException, IOException {
+        Random random = random(spec, "job-posts");
+        JobPostIndex index = new JobPostIndex(spec.jobPosts());
+        try (CSVPrinter rows = copy(connection, "job_posts",
+                "id", "title", "company", "job_type", "date_posted", "description", "location", "remote", "salary",
+                "experience_level", "responsibilities", "qualifications", "skills", "status", "created_by_id",
+                "organization_id", "created_at", "updated_at")) {
+            for (int i = 0; i < spec.jobPosts(); i++) {
+                // Quadratic skew: the first few organizations own most posts
+                int organization = skewed(random, spec.organizations(), 2);
+                Instant created = spec.anchor().minusSeconds(i * YEAR_SECONDS / spec.jobPosts() + random.nextInt(3_600));
+                ObjectNode job = jobPost(random, vocabulary, template, vocabulary.organizationNames.get(organization), created);
+                String status = pick(random, JOB_POST_STATUSES);
+                index.add(i, created.getEpochSecond(), !"DRAFT".equals(status));
+
+                OffsetDateTime createdAt = timestamp(created);
+                rows.printRecord(Dataset.id(spec.seed(), "job-post", i), job.path("title").asText(),
+                        job.path("company").asText(), job.path("type").asText(), job.path("date").asText(),
+                        job.path("description").asText(), json(job.get("location")), job.path("remote").asText(),
+                        job.path("salary").asText(), job.path("experience").asText(),
+                        json(job.get("responsibilities")), json(job.get("qualifications")), json(job.get("skills")),
+                        status, Dataset.id(spec.seed(), "hiring-manager", organization),
+                        Dataset.id(spec.seed(), "organization", organization), createdAt, createdAt);
+            }
+        }
+        return index;
+    }
+
+    /** Fills a copy of {@code job_schema.json}, keeping its field names and nesting. */
+    private ObjectNode jobPost(Random random, Vocabulary vocabulary, ObjectNode template, String company, Instant created) {
+        ObjectNode job = template.deepCopy();
+        String title = pick(random, vocabulary.titles);
+        job.put("title", title);
+        job.put("company", company);
+        job.put("type", pick(random, JOB_TYPES));
+        job.put("date", YearMonth.from(created.atOffset(ZoneOffset.UTC)).toString());
+        job.put("description", company + " is hiring a " + title + ". " + pick(random, vocabulary.catchPhrases) + ".");
+        job.put("remote", pick(random, WORK_TYPES));
+        job.put("salary", String.valueOf(20_000 + 5_000 * random.nextInt(37)));
+        job.put("experience", pick(random, EXPERIENCE_LEVELS));
+
+        City city = pick(random, vocabulary.cities);
+        ObjectNode location = job.putObject("location");
+        template.path("location").fieldNames().forEachRemaining(field -> {
+            switch (field) {
+                case "address" -> location.put(field, pick(random, vocabulary.streets));
+                case "postalCode" -> location.put(field, city.postalCode());
+                case "city" -> location.put(field, city.name());
+                case "countryCode" -> location.put(field, city.countryCode());
+                case "region" -> location.put(field, city.region());
+                default -> location.set(field, template.path("location").get(field));
+            }
+        });
+
+        ArrayNode responsibilities = job.putArray("responsibilities");
+        distinct(random, vocabulary.responsibilities, 3 + random.nextInt(4)).forEach(responsibilities::add);
+        ArrayNode qualifications = job.putArray("qualifications");
+        distinct(random, vocabulary.qualifications, 2 + random.nextInt(3)).forEach(qualifications::add);
+        skills(random, vocabulary, job.putArray("skills"), 2 + random.nextInt(4));
+        return job;
+    }
+
+    private long copyApplications(PGConnection connection, DatasetSpec spec, JobPostIndex jobPosts)
+            throws SQLException, IOException {
+        Random random = random(spec, "applications");
+        int[] openPosts = jobPosts.applicable();
+        if (openPosts.length == 0 || spec.applications() == 0) {
+            return 0;
+        }
+        // Popularity is independent of recency: rank posts in a seeded random order
+        for (int i = openPosts.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = openPosts[i];
+            openPosts[i] = openPosts[j];
+            openPosts[j] = swap;
+        }
+
+        // Applications per candidate are geometric with the requested mean, so most apply a handful of times
+        double mean = (double) spec.applications() / spec.candidates();
+        double another = mean / (1 + mean);
+        int cap = Math.min(MAX_APPLICATIONS_PER_CANDIDATE, openPosts.length);
+        long written = 0;
+        long anchorSeconds = spec.anchor().getEpochSecond();
+        Set<Integer> appliedTo = new HashSet<>();
+
+        try (CSVPrinter rows = copy(connection, "job_applications",
+                "id", "job_post_id", "candidate_id", "status", "application_date", "viewed_by_employer")) {
+            for (int candidate = 0; candidate < spec.candidates(); candidate++) {
+                int count = 0;
+                while (count < cap && random.nextDouble() < another) {
+                    count++;
+                }
+                appliedTo.clear();
+                for (int attempt = 0; appliedTo.size() < count && attempt < count * 4; attempt++) {
+                    // Cubic skew: a few posts draw most of the applications
+                    int jobPost = openPosts[skewed(random, openPosts.length, 3)];
+                    if (!appliedTo.add(jobPost)) {
+                        continue;
+                    }
+                    long appliedAt = Math.min(anchorSeconds, jobPosts.createdAt(jobPost) + random.nextLong(MONTH_SECONDS));
+                    String status = pick(random, APPLICATION_STATUSES);
+                    rows.printRecord(Dataset.id(spec.seed(), "application", written),
+                            Dataset.id(spec.seed(), "job-post", jobPost),
+                            Dataset.id(spec.seed(), "candidate", candidate), status,
+                            LocalDateTime.ofEpochSecond(appliedAt, 0, ZoneOffset.UTC),
+                            !"APPLIED".equals(status) || random.nextInt(10) < 3);
+                    written++;
+                }
+            }
+        }
+        return written;
+    }
+
+    private static void skills(Random random, Vocabulary vocabulary, ArrayNode target, int count) {
+        for (Skill skill : distinct(random, vocabulary.skills, count)) {
+            ObjectNode node = target.addObject()
+                    .put(JsonFieldConstants.SKILL_NAME, skill.name())
+                    .put(JsonFieldConstants.SKILL_LEVEL, pick(random, SKILL_LEVELS));
+            ArrayNode keywords = node.putArray("keywords");
+            distinct(random, skill.keywords(), Math.min(skill.keywords().size(), 2 + random.nextInt(3)))
+                    .forEach(keywords::add);
+        }
+    }
+
+    private static CSVPrinter copyUsers(PGConnection connection) throws SQLException, IOException {
+        return copy(connection, "users",
+                "id", "email", "role", "username", "first_name", "last_name", "email_verified", "profile_complete",
+                "is_new_user", "account_status", "organization_id", "profile", "created_at", "updated_at");
+    }
+
+    private static CSVPrinter copy(PGConnection connection, String table, String... columns)
+            throws SQLException, IOException {
+        String sql = "COPY " + table + " (" + String.join(", ", columns) + ") FROM STDIN WITH (FORMAT csv)";
+        PGCopyOutputStream stream = new PGCopyOutputStream(connection, sql, COPY_BUFFER_BYTES);
+        return new CSVPrinter(new BufferedWriter(new OutputStreamWriter(stream, StandardCharsets.UTF_8)),
+                CSVFormat.POSTGRESQL_CSV);
+    }
+
+    private String json(JsonNode node) throws IOException {
+        return node == null ? null : objectMapper.writeValueAsString(node);
+    }
+
+    private InputStream readJobTemplate() throws IOException {
+        Path template = Path.of(JOB_TEMPLATE);
+        if (!Files.isReadable(template)) {
+            throw new IllegalStateException(JOB_TEMPLATE + " not found in " + Path.of("").toAbsolutePath()
+                    + "; run the generator from the project directory");
+        }
+        return Files.newInputStream(template);
+    }
+
+    private List<JsonNode> seedJobs() throws IOException {
+        List<JsonNode> jobs = new ArrayList<>();
+        for (Resource resource : new PathMatchingResourcePatternResolver().getResources(SEED_JOBS)) {
+            try (InputStream in = resource.getInputStream()) {
+                jobs.add(lenientMapper.readTree(in));
+            }
+        }
+        return jobs;
+    }
+
+    private static Random random(DatasetSpec spec, String table) {
+        // Independent stream per table, so changing one table's volume leaves the others' rows unchanged
+        return new Random(spec.seed() * 31 + table.hashCode());
+    }
+
+    /** Index in {@code [0, bound)} drawn with density falling off as a power of the index. */
+    private static int skewed(Random random, int bound, double exponent) {
+        return Math.min(bound - 1, (int) (bound * Math.pow(random.nextDouble(), exponent)));
+    }
+
+    private static <T> T pick(Random random, List<T> values) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    private static String pick(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static <T> List<T> distinct(Random random, List<T> values, int count) {
+        Set<T> chosen = new LinkedHashSet<>();
+        for (int attempt = 0; chosen.size() < Math.min(count, values.size()) && attempt < count * 4; attempt++) {
+            chosen.add(pick(random, values));
+        }
+        return new ArrayList<>(chosen);
+    }
+
+    private static String username(DatasetSpec spec, String kind, int index) {
+        return "ds" + spec.seed() + "-" + kind + "-" + index;
+    }
+
+    private static OffsetDateTime timestamp(Instant instant) {
+        return instant.atOffset(ZoneOffset.UTC);
+    }
+
+    private static String slug(String value) {
+        return value.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]", "");
+    }
+
+    private record City(String name, String region, String countryCode, String postalCode) {
+    }
+
+    private record Skill(String name, List<String> keywords) {
+    }
+
+    /** Creation time and applicability of every generated job post, by index. */
+    private static final class JobPostIndex {
+
+        private final long[] createdAt;
+        private final int[] applicable;
+        private int applicableCount;
+
+        JobPostIndex(int size) {
+            this.createdAt = new long[size];
+            this.applicable = new int[size];
+        }
+
+        void add(int index, long createdAtSeconds, boolean acceptsApplications) {
+            createdAt[index] = createdAtSeconds;
+            if (acceptsApplications) {
+                applicable[applicableCount++] = index;
+            }
+        }
+
+        long createdAt(int index) {
+            return createdAt[index];
+        }
+
+        int[] applicable() {
+            return Arrays.copyOf(applicable, applicableCount);
+        }
+    }
+
+    /**
+     * Word pools drawn once per run. Job titles, responsibilities, qualifications and skills start from the
+     * seed job JSONs and are padded with faker values; names, places and companies come from faker alone.
+     */
+    private static final class Vocabulary {
+
+        final List<String> organizationNames;
+        final List<String> firstNames;
+        final List<String> lastNames;
+        final List<String> industries;
+        final List<String> catchPhrases;
+        final List<String> titles;
+        final List<String> responsibilities;
+        final List<String> qualifications;
+        final List<Skill> skills;
+        final List<City> cities;
+        final List<String> streets;
+        final List<String> universities;
+        final List<String> courses;
+        final List<String> languages;
+
+        private Vocabulary(DatasetSpec spec, ObjectNode template, List<JsonNode> seedJobs) {
+            Faker faker = new Faker(Locale.ENGLISH, new Random(spec.seed()));
+            List<JsonNode> jobs = new ArrayList<>(seedJobs);
+            jobs.add(template);
+
+            Set<String> names = new LinkedHashSet<>();
+            while (names.size() < spec.organizations()) {
+                String name = faker.company().name();
+                // organizations.name is unique; number the repeats
+                names.add(names.contains(name) ? name + " " + (names.size() + 1) : name);
+            }
+            organizationNames = List.copyOf(names);
+            firstNames = pool(() -> faker.name().firstName());
+            lastNames = pool(() -> faker.name().lastName());
+            industries = pool(() -> faker.company().industry());
+            catchPhrases = pool(() -> faker.company().catchPhrase());
+            titles = padded(texts(jobs, "title"), () -> faker.job().title());
+            responsibilities = padded(texts(jobs, "responsibilities"), () -> faker.company().bs());
+            qualifications = padded(texts(jobs, "qualifications"),
+                    () -> "Experience with " + faker.job().keySkills().toLowerCase(Locale.ROOT));
+            streets = pool(() -> faker.address().streetAddress());
+            universities = pool(() -> faker.university().name());
+            courses = pool(() -> faker.educator().course());
+            languages = pool(() -> faker.nation().language());
+            cities = pool(() -> new City(faker.address().city(), faker.address().state(),
+                    faker.address().countryCode(), faker.address().zipCode()));
+
+            Map<String, Skill> skillsByName = new LinkedHashMap<>();
+            List<String> keywords = new ArrayList<>();
+            for (JsonNode job : jobs) {
+                for (JsonNode skill : job.path("skills")) {
+                    List<String> skillKeywords = new ArrayList<>();
+                    skill.path("keywords").forEach(keyword -> skillKeywords.add(keyword.asText()));
+                    keywords.addAll(skillKeywords);
+                    if (!skillKeywords.isEmpty()) {
+                        skillsByName.putIfAbsent(skill.path("name").asText(), new Skill(skill.path("name").asText(), skillKeywords));
+                    }
+                }
+            }
+            List<String> keywordPool = padded(keywords, () -> faker.job().keySkills());
+            Random random = new Random(spec.seed() ^ 0x5DEECE66DL);
+            for (String name : pool(() -> faker.job().keySkills())) {
+                skillsByName.putIfAbsent(name, new Skill(name, distinct(random, keywordPool, 5)));
+            }
+            skills = List.copyOf(skillsByName.values());
+        }
+
+        static Vocabulary build(DatasetSpec spec, ObjectNode template, List<JsonNode> seedJobs) {
+            return new Vocabulary(spec, template, seedJobs);
+        }
+
+        private static List<String> texts(List<JsonNode> jobs, String field) {
+            List<String> values = new ArrayList<>();
+            for (JsonNode job : jobs) {
+                JsonNode value = job.path(field);
+                if (value.isArray()) {
+                    value.forEach(item -> values.add(item.asText()));
+                } else if (value.isTextual()) {
+                    values.add(value.asText());
+                }
+            }
+            return values;
+        }
+
+        private static List<String> padded(List<String> seeded, Supplier<String> faker) {
+            Set<String> values = new LinkedHashSet<>(seeded);
+            values.addAll(pool(faker));
+            return List.copyOf(values);
+        }
+
+        /** Distinct values from {@code supplier}; faker's smaller categories run dry well before the limit. */
+        private static <T> List<T> pool(Supplier<T> supplier) {
+            Set<T> values = new LinkedHashSet<>();
+            for (int i = 0; i < VOCABULARY_SIZE; i++) {
+                values.add(supplier.get());
+            }
+            return List.copyOf(values);
+        }
+    }
+}
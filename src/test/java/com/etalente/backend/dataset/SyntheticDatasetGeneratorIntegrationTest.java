@@ -0,0 +1,96 @@
+package com.etalente.backend.dataset;
+
+import com.etalente.backend.BaseIntegrationTest;
+import com.etalente.backend.TestHelper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SyntheticDatasetGeneratorIntegrationTest extends BaseIntegrationTest {
+
+    private static final DatasetSpec SPEC =
+            new DatasetSpec(42L, 5, 300, 150, 900, DatasetSpec.DEFAULT_ANCHOR);
+
+    @Autowired
+    private TestHelper testHelper;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        testHelper.cleanupDatabase();
+    }
+
+    @Test
+    void generate_loadsRequestedVolumes() throws Exception {
+        Dataset dataset = generate(SPEC);
+
+        assertThat(count("SELECT count(*) FROM organizations WHERE created_by_id IS NOT NULL")).isEqualTo(5);
+        assertThat(count("SELECT count(*) FROM users WHERE role = 'HIRING_MANAGER'")).isEqualTo(5);
+        assertThat(count("SELECT count(*) FROM users WHERE role = 'CANDIDATE' AND profile ->> 'experienceYears' IS NOT NULL"))
+                .isEqualTo(300);
+        assertThat(count("SELECT count(*) FROM job_posts")).isEqualTo(150);
+        assertThat(count("SELECT count(*) FROM job_applications")).isEqualTo(dataset.applications());
+        assertThat(dataset.applications()).isBetween(600L, 1_200L);
+        assertThat(count("SELECT count(*) FROM (SELECT DISTINCT candidate_id, job_post_id FROM job_applications) pairs"))
+                .isEqualTo(dataset.applications());
+    }
+
+    @Test
+    void generate_skewsJobPostsAndApplications() throws Exception {
+        Dataset dataset = generate(SPEC);
+
+        long largestOrganization = count("SELECT count(*) FROM job_posts WHERE organization_id = ?",
+                dataset.organizationId(0));
+        assertThat(largestOrganization).isGreaterThan(150 / 5);
+
+        List<Long> perPost = jdbcTemplate.queryForList(
+                "SELECT count(*) FROM job_applications GROUP BY job_post_id ORDER BY count(*) DESC", Long.class);
+        assertThat(perPost.get(0)).isGreaterThan(5 * perPost.get(perPost.size() / 2));
+    }
+
+    @Test
+    void generate_isDeterministicForASeed() throws Exception {
+        generate(SPEC);
+        String first = fingerprint();
+
+        testHelper.cleanupDatabase();
+        generate(SPEC);
+
+        assertThat(fingerprint()).isEqualTo(first);
+    }
+
+    private Dataset generate(DatasetSpec spec) throws Exception {
+        return new SyntheticDatasetGenerator(objectMapper)
+                .generate(DataSourceUtils.getConnection(dataSource), spec);
+    }
+
+    private String fingerprint() {
+        return jdbcTemplate.queryForObject("""
+                SELECT md5(string_agg(line, '|' ORDER BY line)) FROM (
+                    SELECT id::text || email || coalesce(profile::text, '') AS line FROM users
+                    UNION ALL SELECT id::text || title || skills::text || status || created_at FROM job_posts
+                    UNION ALL SELECT id::text || job_post_id || candidate_id || status || application_date FROM job_applications
+                ) lines
+                """, String.class);
+    }
+
+    private long count(String sql, Object... args) {
+        return jdbcTemplate.queryForObject(sql, Long.class, args);
+    }
+}
@@ -0,0 +1,91 @@
+package com.etalente.backend.event;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@Tag("unit")
+class ClusterEventBusTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    private ClusterEventProperties properties;
+    private ClusterEventBus eventBus;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ClusterEventProperties();
+        eventBus = new ClusterEventBus(jdbcTemplate, applicationEventPublisher, properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.unbindResourceIfPossible(eventBus);
+    }
+
+    @Test
+    void publish_withoutTransaction_broadcastsAndDispatchesImmediately() {
+        eventBus.publish(ClusterEventType.USER_CHANGED, "user-1");
+
+        verify(jdbcTemplate).update(anyString(), eq("USER_CHANGED"), eq("user-1"), eq(eventBus.getNodeId()));
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(applicationEventPublisher).publishEvent(captor.capture());
+        ClusterEvent event = (ClusterEvent) captor.getValue();
+        assertThat(event.type()).isEqualTo(ClusterEventType.USER_CHANGED);
+        assertThat(event.subject()).isEqualTo("user-1");
+        assertThat(event.origin()).isEqualTo(eventBus.getNodeId());
+    }
+
+    @Test
+    void publish_inTransaction_coalescesAndDispatchesAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        eventBus.invalidateCache("applicant-search");
+        eventBus.invalidateCache("applicant-search");
+        eventBus.publish(ClusterEventType.USER_CHANGED, "user-1");
+
+        verify(jdbcTemplate, times(2)).update(anyString(), any(), any(), any());
+        verify(applicationEventPublisher, never()).publishEvent(any(Object.class));
+
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCommit();
+            synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        }
+
+        verify(applicationEventPublisher, times(2)).publishEvent(any(Object.class));
+        assertThat(TransactionSynchronizationManager.getResource(eventBus)).isNull();
+    }
+
+    @Test
+    void publish_whenDisabled_onlyDispatchesLocally() {
+        properties.setEnabled(false);
+
+        eventBus.publish(ClusterEventType.USER_CHANGED, "user-2");
+
+        verifyNoInteractions(jdbcTemplate);
+        verify(applicationEventPublisher).publishEvent(any(Object.class));
+    }
+}
@@ -0,0 +1,63 @@
+package com.etalente.backend.event;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("unit")
+class SeenEventIdsTest {
+
+    @Test
+    void eventsCommittedOutOfIdOrder_areBothAccepted() {
+        SeenEventIds seenIds = new SeenEventIds(100);
+        seenIds.reset(9);
+
+        // Transaction holding id 10 commits after the one holding id 11
+        assertThat(seenIds.markSeen(11)).isTrue();
+        assertThat(seenIds.markSeen(10)).isTrue();
+    }
+
+    @Test
+    void duplicates_areDropped() {
+        SeenEventIds seenIds = new SeenEventIds(100);
+        seenIds.reset(0);
+
+        assertThat(seenIds.markSeen(5)).isTrue();
+        assertThat(seenIds.markSeen(5)).isFalse();
+    }
+
+    @Test
+    void catchUpFloor_lagsBehindNewestIdSoLateCommitsAreRescanned() {
+        SeenEventIds seenIds = new SeenEventIds(100);
+        seenIds.reset(0);
+        seenIds.markSeen(250);
+
+        assertThat(seenIds.floor()).isEqualTo(150);
+        // A replayed row that was already dispatched is skipped, a late one is not
+        assertThat(seenIds.markSeen(250)).isFalse();
+        assertThat(seenIds.markSeen(151)).isTrue();
+    }
+
+    @Test
+    void idsBelowTheWindow_areTreatedAsSettled() {
+        SeenEventIds seenIds = new SeenEventIds(100);
+        seenIds.reset(0);
+        seenIds.markSeen(500);
+
+        assertThat(seenIds.markSeen(400)).isFalse();
+        assertThat(seenIds.markSeen(401)).isTrue();
+    }
+
+    @Test
+    void reset_keepsIdsInsideTheWindowAcceptable() {
+        SeenEventIds seenIds = new SeenEventIds(100);
+        assertThat(seenIds.isInitialized()).isFalse();
+
+        seenIds.reset(1000);
+
+        assertThat(seenIds.isInitialized()).isTrue();
+        assertThat(seenIds.markSeen(999)).isTrue();
+        assertThat(seenIds.markSeen(900)).isFalse();
+    }
+}
@@ -0,0 +1,112 @@
+package com.etalente.backend.integration.documentparser;
+
+import com.etalente.backend.integration.http.HttpIntegrationProperties;
+import com.etalente.backend.integration.http.HttpIntegrations;
+import com.etalente.backend.integration.http.StubHttpServer;
+import com.etalente.backend.service.S3Service;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.jdbc.core.JdbcTemplate;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static com.etalente.backend.integration.http.StubHttpServer.StubResponse.json;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@Tag("unit")
+class DocumentParserClientTest {
+
+    private static final String RESUME_URL = "https://bucket.s3.amazonaws.com/resumes/cv.pdf";
+    private static final String JOB_URL = "https://bucket.s3.amazonaws.com/jobs/job.pdf";
+
+    @Mock
+    private S3Service s3Service;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private StubHttpServer server;
+    private DocumentParserClient client;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = new StubHttpServer();
+        ObjectMapper objectMapper = new ObjectMapper();
+        HttpIntegrations integrations = new HttpIntegrations(new HttpIntegrationProperties(), new SimpleMeterRegistry());
+        ParseResultCache cache = new ParseResultCache(jdbcTemplate, objectMapper, "1", 100, 90);
+        client = new DocumentParserClient(server.baseUrl(), objectMapper, s3Service, integrations, cache);
+
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), any(Object[].class))).thenReturn(List.of());
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    @Test
+    void extractResume_shouldStreamFileAndCacheByContentHash() {
+        server.enqueue("/extract/", json(200, "{\"extracted_data\":{\"basics\":{\"name\":\"Jane\"}}}"));
+        when(s3Service.openStream(RESUME_URL)).thenAnswer(invocation -> s3Stream("%PDF-1.4 resume", "\"etag-1\""));
+
+        JsonNode first = client.extractResume(RESUME_URL);
+        JsonNode second = client.extractResume(RESUME_URL);
+
+        assertThat(first.at("/extracted_data/basics/name").asText()).isEqualTo("Jane");
+        assertThat(second).isEqualTo(first);
+        assertThat(server.hits("/extract/")).isEqualTo(1);
+        verify(s3Service, never()).getContentHash(any());
+        verify(s3Service, never()).downloadFile(any());
+        verify(jdbcTemplate).update(contains("INSERT INTO document_parse_results"),
+                eq("etag-1"), eq("RESUME"), eq("1"), anyString());
+    }
+
+    @Test
+    void extractJobPost_shouldReuseResultForIdenticalContent() {
+        server.enqueue("/job-post-extract", json(200, "{\"title\":\"Backend Engineer\"}"));
+        when(s3Service.getContentHash(anyString())).thenReturn("same-etag");
+
+        client.extractJobPost(JOB_URL);
+        JsonNode reupload = client.extractJobPost("https://bucket.s3.amazonaws.com/jobs/job-copy.pdf");
+
+        assertThat(reupload.get("title").asText()).isEqualTo("Backend Engineer");
+        assertThat(server.hits("/job-post-extract")).isEqualTo(1);
+    }
+
+    @Test
+    void extractJobPost_shouldAlwaysCallParserWithoutContentHash() {
+        server.enqueue("/job-post-extract", json(200, "{\"title\":\"Backend Engineer\"}"));
+        when(s3Service.getContentHash(anyString())).thenReturn(null);
+
+        client.extractJobPost(JOB_URL);
+        client.extractJobPost(JOB_URL);
+
+        assertThat(server.hits("/job-post-extract")).isEqualTo(2);
+    }
+
+    private ResponseInputStream<GetObjectResponse> s3Stream(String content, String eTag) {
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        return new ResponseInputStream<>(
+                GetObjectResponse.builder().contentLength((long) bytes.length).eTag(eTag).build(),
+                AbortableInputStream.create(new ByteArrayInputStream(bytes)));
+    }
+}
@@ -0,0 +1,179 @@
+package com.etalente.backend.integration.http;
+
+import co.novu.common.rest.NovuNetworkException;
+import com.etalente.backend.exception.IntegrationUnavailableException;
+import com.etalente.backend.exception.ServiceException;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClient;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.etalente.backend.integration.http.StubHttpServer.StubResponse.delayed;
+import static com.etalente.backend.integration.http.StubHttpServer.StubResponse.json;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Tag("unit")
+class ResilientCallExecutorTest {
+
+    private static final String INTEGRATION = "stub";
+
+    private StubHttpServer server;
+    private HttpIntegrationProperties.Settings settings;
+    private SimpleMeterRegistry meterRegistry;
+    private RestClient restClient;
+    private ResilientCallExecutor executor;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = new StubHttpServer();
+        settings = new HttpIntegrationProperties.Settings();
+        settings.setReadTimeoutMs(300);
+        settings.setRetryBaseDelayMs(1);
+        settings.setRetryMaxDelayMs(5);
+        settings.setMinimumCalls(4);
+        settings.setSlidingWindowSize(4);
+        settings.setOpenStateMs(60000);
+        init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    private void init() {
+        HttpIntegrationProperties properties = new HttpIntegrationProperties();
+        properties.getClients().put(INTEGRATION, settings);
+        meterRegistry = new SimpleMeterRegistry();
+        HttpIntegrations integrations = new HttpIntegrations(properties, meterRegistry);
+        restClient = integrations.restClientBuilder(INTEGRATION).baseUrl(server.baseUrl()).build();
+        executor = integrations.executor(INTEGRATION);
+    }
+
+    private JsonNode get(String path) {
+        return restClient.get().uri(path).retrieve().body(JsonNode.class);
+    }
+
+    @Test
+    void idempotentCallIsRetriedOnServiceUnavailable() {
+        server.enqueue("/parse", json(503, "{}"), json(200, "{\"ok\":true}"));
+
+        JsonNode result = executor.execute("parse", true, () -> get("/parse"));
+
+        assertThat(result.get("ok").asBoolean()).isTrue();
+        assertThat(server.hits("/parse")).isEqualTo(2);
+        assertThat(meterRegistry.counter("integration.http.retries", "integration", INTEGRATION).count()).isEqualTo(1);
+    }
+
+    @Test
+    void nonIdempotentCallIsNotRetried() {
+        server.enqueue("/trigger", json(503, "{}"), json(200, "{}"));
+
+        assertThatThrownBy(() -> executor.execute("trigger", false, () -> get("/trigger")))
+                .isInstanceOf(HttpServerErrorException.class);
+        assertThat(server.hits("/trigger")).isEqualTo(1);
+    }
+
+    @Test
+    void clientErrorsAreNotRetriedAndDoNotTripTheBreaker() {
+        server.enqueue("/bad", json(400, "{}"));
+
+        for (int i = 0; i < 6; i++) {
+            assertThatThrownBy(() -> executor.execute("bad", true, () -> get("/bad")))
+                    .isInstanceOf(HttpClientErrorException.class);
+        }
+
+        assertThat(server.hits("/bad")).isEqualTo(6);
+        assertThat(executor.getCircuitState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void novuClientErrorsAreNotRetriedAndDoNotTripTheBreaker() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        for (int i = 0; i < 6; i++) {
+            assertThatThrownBy(() -> executor.execute("trigger", true, () -> {
+                attempts.incrementAndGet();
+                throw new NovuNetworkException("{\"statusCode\":422,\"message\":\"subscriberId is required\"}");
+            })).isInstanceOf(ServiceException.class).hasCauseInstanceOf(NovuNetworkException.class);
+        }
+
+        assertThat(attempts.get()).isEqualTo(6);
+        assertThat(executor.getCircuitState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void novuServerErrorsAreRetried() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = executor.execute("trigger", true, () -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new NovuNetworkException("{\"statusCode\":503,\"message\":\"Service Unavailable\"}");
+            }
+            return "ok";
+        });
+
+        assertThat(result).isEqualTo("ok");
+        assertThat(attempts.get()).isEqualTo(2);
+        assertThat(meterRegistry.counter("integration.http.retries", "integration", INTEGRATION).count()).isEqualTo(1);
+    }
+
+    @Test
+    void readTimeoutFailsFast() {
+        server.enqueue("/slow", delayed(2000, "{}"));
+        settings.setMaxRetries(0);
+        init();
+
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> executor.execute("slow", true, () -> get("/slow")))
+                .isInstanceOf(ResourceAccessException.class);
+
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(1500);
+    }
+
+    @Test
+    void openBreakerShortCircuitsWithoutCallingTheServer() {
+        server.enqueue("/down", json(500, "{}"));
+        settings.setMaxRetries(0);
+        init();
+
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> executor.execute("down", true, () -> get("/down")))
+                    .isInstanceOf(HttpServerErrorException.class);
+        }
+        assertThat(executor.getCircuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        assertThatThrownBy(() -> executor.execute("down", true, () -> get("/down")))
+                .isInstanceOf(IntegrationUnavailableException.class);
+        assertThat(server.hits("/down")).isEqualTo(4);
+    }
+
+    @Test
+    void saturatedBulkheadRejectsCalls() throws Exception {
+        server.enqueue("/busy", delayed(250, "{}"));
+        settings.setMaxConcurrentCalls(1);
+        settings.setMaxWaitMs(0);
+        init();
+
+        CompletableFuture<JsonNode> inFlight = CompletableFuture.supplyAsync(
+                () -> executor.execute("busy", true, () -> get("/busy")));
+        while (server.hits("/busy") == 0) {
+            Thread.sleep(5);
+        }
+
+        assertThatThrownBy(() -> executor.execute("busy", true, () -> get("/busy")))
+                .isInstanceOf(IntegrationUnavailableException.class);
+        inFlight.get(5, TimeUnit.SECONDS);
+    }
+}
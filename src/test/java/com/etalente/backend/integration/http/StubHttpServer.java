@@ -0,0 +1,100 @@
+package com.etalente.backend.integration.http;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Local stand-in for HTTP integrations. Responses are queued per path and served in
+ * order; once a queue runs dry the last response keeps being served.
+ */
+public class StubHttpServer implements AutoCloseable {
+
+    public record StubResponse(int status, String body, long delayMs) {
+
+        public static StubResponse json(int status, String body) {
+            return new StubResponse(status, body, 0);
+        }
+
+        public static StubResponse delayed(long delayMs, String body) {
+            return new StubResponse(200, body, delayMs);
+        }
+    }
+
+    private final HttpServer server;
+    private final Map<String, Queue<StubResponse>> responses = new ConcurrentHashMap<>();
+    private final Map<String, StubResponse> lastResponses = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> hits = new ConcurrentHashMap<>();
+
+    public StubHttpServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/", this::handle);
+        server.start();
+    }
+
+    public String baseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    public StubHttpServer enqueue(String path, StubResponse... stubResponses) {
+        Queue<StubResponse> queue = responses.computeIfAbsent(path, p -> new ConcurrentLinkedQueue<>());
+        for (StubResponse response : stubResponses) {
+            queue.add(response);
+        }
+        return this;
+    }
+
+    public int hits(String path) {
+        AtomicInteger count = hits.get(path);
+        return count != null ? count.get() : 0;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        hits.computeIfAbsent(path, p -> new AtomicInteger()).incrementAndGet();
+        exchange.getRequestBody().readAllBytes();
+
+        Queue<StubResponse> queue = responses.get(path);
+        StubResponse response = queue != null ? queue.poll() : null;
+        if (response != null) {
+            lastResponses.put(path, response);
+        } else {
+            response = lastResponses.getOrDefault(path, StubResponse.json(404, "{}"));
+        }
+
+        if (response.delayMs() > 0) {
+            try {
+                Thread.sleep(response.delayMs());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        byte[] body = response.body().getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        try {
+            exchange.sendResponseHeaders(response.status(), body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } catch (IOException e) {
+            // Client gave up (read timeout)
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
@@ -0,0 +1,87 @@
+package com.etalente.backend.integration.novu;
+
+import co.novu.api.events.requests.TriggerEventRequest;
+import co.novu.api.events.responses.TriggerEventResponse;
+import co.novu.common.base.Novu;
+import co.novu.common.rest.NovuNetworkException;
+import com.etalente.backend.dto.WorkflowTriggerRequest;
+import com.etalente.backend.dto.WorkflowTriggerResponse;
+import com.etalente.backend.integration.http.HttpIntegrationProperties;
+import com.etalente.backend.integration.http.HttpIntegrations;
+import com.etalente.backend.model.NotificationDeliveryLog;
+import com.etalente.backend.service.NotificationDeliveryLogWriter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@Tag("unit")
+class NovuWorkflowServiceTest {
+
+    @Mock
+    private Novu novuClient;
+
+    @Mock
+    private NotificationDeliveryLogWriter deliveryLogWriter;
+
+    private NovuWorkflowService service;
+
+    @BeforeEach
+    void setUp() {
+        HttpIntegrations integrations = new HttpIntegrations(new HttpIntegrationProperties(), new SimpleMeterRegistry());
+        service = new NovuWorkflowService(novuClient, integrations, deliveryLogWriter);
+    }
+
+    @Test
+    void triggerWorkflow_logsSuccessfulDispatchWithNovuTransactionId() throws Exception {
+        TriggerEventResponse response = mock(TriggerEventResponse.class, RETURNS_DEEP_STUBS);
+        when(response.getData().getTransactionId()).thenReturn("txn-1");
+        when(novuClient.triggerEvent(any(TriggerEventRequest.class))).thenReturn(response);
+
+        WorkflowTriggerResponse result = service.triggerWorkflow("application-received", request()).join();
+
+        assertThat(result.getStatus()).isEqualTo("SUCCESS");
+        NotificationDeliveryLog log = recordedLog();
+        assertThat(log.getNotificationId()).isNull();
+        assertThat(log.getChannel()).isEqualTo(NovuWorkflowService.CHANNEL);
+        assertThat(log.getProvider()).isEqualTo(NovuWorkflowService.PROVIDER);
+        assertThat(log.getStatus()).isEqualTo("SENT");
+        assertThat(log.getExternalId()).isEqualTo("txn-1");
+    }
+
+    @Test
+    void triggerWorkflow_logsFailedDispatch() throws Exception {
+        when(novuClient.triggerEvent(any(TriggerEventRequest.class)))
+                .thenThrow(new NovuNetworkException("{\"statusCode\":422,\"message\":\"workflow not found\"}"));
+
+        WorkflowTriggerResponse result = service.triggerWorkflow("application-received", request()).join();
+
+        assertThat(result.getStatus()).isEqualTo("FAILED");
+        NotificationDeliveryLog log = recordedLog();
+        assertThat(log.getStatus()).isEqualTo("FAILED");
+        assertThat(log.getErrorMessage()).startsWith("application-received: ");
+        assertThat(log.getExternalId()).isNull();
+    }
+
+    private NotificationDeliveryLog recordedLog() {
+        ArgumentCaptor<NotificationDeliveryLog> captor = ArgumentCaptor.forClass(NotificationDeliveryLog.class);
+        verify(deliveryLogWriter).record(captor.capture());
+        return captor.getValue();
+    }
+
+    private static WorkflowTriggerRequest request() {
+        WorkflowTriggerRequest request = new WorkflowTriggerRequest();
+        request.setSubscriberId("subscriber-1");
+        request.setEmail("hm@test.com");
+        return request;
+    }
+}
@@ -0,0 +1,56 @@
+package com.etalente.backend.model;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Tag("unit")
+class TransitionTableTest {
+
+    @Test
+    void agreesWithTheTransitionEnumsForEveryPair() {
+        for (JobPostStatus from : JobPostStatus.values()) {
+            for (JobPostStatus to : JobPostStatus.values()) {
+                boolean listed = Arrays.stream(StateTransition.values())
+                        .anyMatch(t -> t.getFromStatus() == from && t.getToStatus() == to);
+                assertThat(StateTransition.isValidTransition(from, to)).isEqualTo(listed);
+                assertThat(StateTransition.getTransition(from, to) != null).isEqualTo(listed);
+            }
+        }
+        for (JobApplicationStatus from : JobApplicationStatus.values()) {
+            for (JobApplicationStatus to : JobApplicationStatus.values()) {
+                boolean listed = Arrays.stream(JobApplicationStateTransition.values())
+                        .anyMatch(t -> t.getFromStatus() == from && t.getToStatus() == to);
+                assertThat(JobApplicationStateTransition.isValidTransition(from, to)).isEqualTo(listed);
+            }
+        }
+    }
+
+    @Test
+    void terminalAndUnknownStatesHaveNoTransitions() {
+        assertThat(StateTransition.getValidTransitionsFrom(JobPostStatus.ARCHIVED)).isEmpty();
+        assertThat(StateTransition.getValidTransitionsFrom(null)).isEmpty();
+        assertThat(StateTransition.isValidTransition(null, JobPostStatus.OPEN)).isFalse();
+        assertThat(JobApplicationStateTransition.getValidTransitionsFrom(JobApplicationStatus.HIRED)).isEmpty();
+    }
+
+    @Test
+    void sharedSetsCannotBeModified() {
+        assertThat(StateTransition.getValidTransitionsFrom(JobPostStatus.OPEN))
+                .containsExactlyInAnyOrder(StateTransition.OPEN_TO_CLOSED, StateTransition.OPEN_TO_DRAFT,
+                        StateTransition.OPEN_TO_ARCHIVED);
+        assertThatThrownBy(() -> StateTransition.getValidTransitionsFrom(JobPostStatus.OPEN).clear())
+                .isInstanceOf(UnsupportedOperationException.class);
+
+        TransitionTable<JobPostStatus, StateTransition> table =
+                TransitionTable.of(JobPostStatus.class, StateTransition.class, StateTransition.values());
+        assertThat(table.targetsFrom(JobPostStatus.DRAFT))
+                .containsExactlyInAnyOrder(JobPostStatus.OPEN, JobPostStatus.ARCHIVED);
+        assertThatThrownBy(() -> table.targetsFrom(JobPostStatus.DRAFT).add(JobPostStatus.CLOSED))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+}
@@ -0,0 +1,114 @@
+package com.etalente.backend.observability;
+
+import com.etalente.backend.BaseIntegrationTest;
+import com.etalente.backend.TestHelper;
+import com.etalente.backend.model.JobPost;
+import com.etalente.backend.model.JobPostStatus;
+import com.etalente.backend.model.Role;
+import com.etalente.backend.model.User;
+import com.etalente.backend.repository.JobPostRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class DbRequestMetricsIntegrationTest extends BaseIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TestHelper testHelper;
+
+    @Autowired
+    private JobPostRepository jobPostRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private User candidate;
+
+    @BeforeEach
+    void setUp() {
+        testHelper.cleanupDatabase();
+        User hiringManager = testHelper.createUser("metrics-hm@test.com", Role.HIRING_MANAGER);
+        candidate = testHelper.createUser("metrics-candidate@test.com", Role.CANDIDATE);
+
+        for (int i = 0; i < 3; i++) {
+            JobPost post = new JobPost();
+            post.setTitle("Metrics Engineer " + i);
+            post.setCompany(hiringManager.getOrganization().getName());
+            post.setJobType("Full-time");
+            post.setDescription("Metrics fixture");
+            post.setStatus(JobPostStatus.OPEN);
+            post.setCreatedBy(hiringManager);
+            post.setOrganization(hiringManager.getOrganization());
+            jobPostRepository.save(post);
+        }
+        resetPersistenceContext();
+    }
+
+    @Test
+    void dataSourceIsInstrumented() {
+        assertThat(dataSource).isInstanceOf(InstrumentedDataSource.class);
+    }
+
+    @Test
+    void publishesStatementsRowsAndTimeForTheMatchedEndpoint() throws Exception {
+        authenticateAsWithRoles(candidate);
+        // Let the filter register the meters with its own bucket configuration
+        mockMvc.perform(get("/api/job-posts")).andExpect(status().isOk());
+        DistributionSummary statements = summary("db.request.statements");
+        DistributionSummary rows = summary("db.request.rows");
+        Timer dbTime = meterRegistry.get("db.request.time").tags("method", "GET", "uri", "/api/job-posts").timer();
+        long requestsBefore = statements.count();
+        double statementsBefore = statements.totalAmount();
+        double rowsBefore = rows.totalAmount();
+
+        mockMvc.perform(get("/api/job-posts")).andExpect(status().isOk());
+
+        assertThat(statements.count()).isEqualTo(requestsBefore + 1);
+        assertThat(statements.totalAmount() - statementsBefore).isGreaterThanOrEqualTo(2);
+        assertThat(rows.totalAmount() - rowsBefore).isGreaterThanOrEqualTo(3);
+        assertThat(dbTime.count()).isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    void publishesOnlyTheFixedBucketsPerEndpoint() throws Exception {
+        authenticateAsWithRoles(candidate);
+        mockMvc.perform(get("/api/job-posts")).andExpect(status().isOk());
+
+        Timer dbTime = meterRegistry.get("db.request.time").tags("method", "GET", "uri", "/api/job-posts").timer();
+        assertThat(dbTime.takeSnapshot().histogramCounts()).hasSize(5);
+        assertThat(summary("db.request.rows").takeSnapshot().histogramCounts()).hasSize(4);
+    }
+
+    private DistributionSummary summary(String name) {
+        return meterRegistry.get(name).tags("method", "GET", "uri", "/api/job-posts").summary();
+    }
+
+    private void authenticateAsWithRoles(User user) {
+        UsernamePasswordAuthenticationToken auth = new UsernamePasswordAuthenticationToken(
+                user.getId().toString(),
+                null,
+                List.of(new SimpleGrantedAuthority("ROLE_" + user.getRole().name()))
+        );
+        SecurityContextHolder.getContext().setAuthentication(auth);
+    }
+}
@@ -0,0 +1,134 @@
+package com.etalente.backend.observability;
+
+import com.etalente.backend.BaseIntegrationTest;
+import com.etalente.backend.TestHelper;
+import com.etalente.backend.config.CacheConfig;
+import com.etalente.backend.dto.ApplicationTransitionRequest;
+import com.etalente.backend.model.JobApplication;
+import com.etalente.backend.model.JobApplicationStatus;
+import com.etalente.backend.model.JobPost;
+import com.etalente.backend.model.JobPostStatus;
+import com.etalente.backend.model.Role;
+import com.etalente.backend.model.User;
+import com.etalente.backend.repository.JobApplicationRepository;
+import com.etalente.backend.repository.JobPostRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class DomainMetricsIntegrationTest extends BaseIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TestHelper testHelper;
+
+    @Autowired
+    private JobPostRepository jobPostRepository;
+
+    @Autowired
+    private JobApplicationRepository jobApplicationRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private User hiringManager;
+    private JobApplication application;
+
+    @BeforeEach
+    void setUp() {
+        testHelper.cleanupDatabase();
+        cacheManager.getCache(CacheConfig.APPLICANT_SEARCH).clear();
+        hiringManager = testHelper.createUser("domain-metrics-hm@test.com", Role.HIRING_MANAGER);
+        User candidate = testHelper.createUser("domain-metrics-candidate@test.com", Role.CANDIDATE);
+
+        JobPost post = new JobPost();
+        post.setTitle("Metrics Engineer");
+        post.setCompany(hiringManager.getOrganization().getName());
+        post.setJobType("Full-time");
+        post.setDescription("Metrics fixture");
+        post.setStatus(JobPostStatus.OPEN);
+        post.setCreatedBy(hiringManager);
+        post.setOrganization(hiringManager.getOrganization());
+        post = jobPostRepository.save(post);
+
+        application = new JobApplication();
+        application.setCandidate(candidate);
+        application.setJobPost(post);
+        application.setStatus(JobApplicationStatus.APPLIED);
+        application.setApplicationDate(LocalDateTime.now());
+        application = jobApplicationRepository.save(application);
+        resetPersistenceContext();
+    }
+
+    @Test
+    void applicantSearchesAreTimedByTheFiltersUsed() throws Exception {
+        Timer timer = meterRegistry.timer("applicants.search", "filters", "status", "outcome", "success");
+        long before = timer.count();
+
+        authenticateAs(hiringManager);
+        mockMvc.perform(get("/api/applicants").param("statuses", "APPLIED")).andExpect(status().isOk());
+        // Served from the search cache, so not timed again
+        mockMvc.perform(get("/api/applicants").param("statuses", "APPLIED")).andExpect(status().isOk());
+
+        assertThat(timer.count()).isEqualTo(before + 1);
+        assertThat(meterRegistry.get("cache.hit.ratio").tag("cache", CacheConfig.APPLICANT_SEARCH).gauge().value())
+                .isGreaterThan(0.0);
+    }
+
+    @Test
+    void applicationTransitionsAreCountedByFromAndTo() throws Exception {
+        Counter counter = meterRegistry.counter("state_machine.transitions",
+                "machine", "job_application", "from", "APPLIED", "to", "UNDER_REVIEW");
+        double before = counter.count();
+
+        authenticateAs(hiringManager);
+        mockMvc.perform(post("/api/applications/{applicationId}/transition", application.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new ApplicationTransitionRequest(JobApplicationStatus.UNDER_REVIEW))))
+                .andExpect(status().isOk());
+
+        assertThat(counter.count()).isEqualTo(before + 1);
+    }
+
+    @Test
+    void prometheusScrapeIsRestrictedToAdmins() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus")).andExpect(status().isForbidden());
+
+        authenticateAs(hiringManager);
+        mockMvc.perform(get("/actuator/prometheus")).andExpect(status().isForbidden());
+    }
+
+    private void authenticateAs(User user) {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                user.getId().toString(),
+                null,
+                List.of(new SimpleGrantedAuthority("ROLE_" + user.getRole().name()))
+        ));
+    }
+}
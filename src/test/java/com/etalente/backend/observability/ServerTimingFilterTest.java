@@ -0,0 +1,89 @@
+package com.etalente.backend.observability;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("unit")
+class ServerTimingFilterTest {
+
+    @Test
+    void addsPhasesAndTotalToSampledAllowlistedRequests() throws Exception {
+        ServerTimingFilter filter = filter(1.0, "/api/job-posts/{id}");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/job-posts/42"), response, (req, res) -> {
+            try (RequestTimings.Span ignored = RequestTimings.start("auth")) {
+                RequestTimings.markAuthenticated();
+            }
+            RequestTimings.current().record("mapping", 1_500_000);
+            RequestTimings.current().record("mapping", 500_000);
+            RequestTimings.current().serializationStarted();
+            res.getOutputStream().write("{}".getBytes(StandardCharsets.UTF_8));
+        });
+
+        String header = response.getHeader(ServerTimingFilter.SERVER_TIMING_HEADER);
+        assertThat(header)
+                .startsWith("auth;dur=")
+                .contains("mapping;dur=2.0;desc=\"2 calls\"")
+                .contains("serialize;dur=")
+                .contains("total;dur=");
+        assertThat(response.getContentAsString()).isEqualTo("{}");
+        assertThat(RequestTimings.current()).isNull();
+    }
+
+    @Test
+    void omitsHeaderForAnonymousRequests() throws Exception {
+        ServerTimingFilter filter = filter(1.0, "/api/job-posts");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/job-posts"), response,
+                (req, res) -> res.getOutputStream().write("[]".getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(response.getHeader(ServerTimingFilter.SERVER_TIMING_HEADER)).isNull();
+        assertThat(response.getContentAsString()).isEqualTo("[]");
+    }
+
+    @Test
+    void skipsPathsOutsideTheAllowlist() throws Exception {
+        ServerTimingFilter filter = filter(1.0, "/api/job-posts");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/applicants/export"), response,
+                (req, res) -> assertThat(RequestTimings.current()).isNull());
+
+        assertThat(response.getHeader(ServerTimingFilter.SERVER_TIMING_HEADER)).isNull();
+    }
+
+    @Test
+    void skipsRequestsThatAreNotSampled() throws Exception {
+        ServerTimingFilter filter = filter(0.0, "/api/job-posts");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/job-posts"), response,
+                (req, res) -> ((HttpServletResponse) res).setStatus(200));
+
+        assertThat(response.getHeader(ServerTimingFilter.SERVER_TIMING_HEADER)).isNull();
+    }
+
+    @Test
+    void spansAreNoOpsWithoutARecorder() {
+        try (RequestTimings.Span ignored = RequestTimings.start("auth")) {
+            assertThat(RequestTimings.current()).isNull();
+        }
+    }
+
+    private static ServerTimingFilter filter(double sampleRate, String... paths) {
+        ServerTimingProperties properties = new ServerTimingProperties();
+        properties.setSampleRate(sampleRate);
+        properties.setPaths(List.of(paths));
+        return new ServerTimingFilter(properties);
+    }
+}
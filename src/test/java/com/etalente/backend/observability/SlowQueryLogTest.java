@@ -0,0 +1,75 @@
+package com.etalente.backend.observability;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("unit")
+class SlowQueryLogTest {
+
+    @Test
+    void keepsTheMostRecentSamplesNewestFirst() {
+        SlowQueryLog log = new SlowQueryLog(2, 10);
+
+        log.add(sample("select ?"));
+        log.add(sample("select ? from users"));
+        log.add(sample("select ? from job_posts"));
+
+        assertThat(log.samples()).extracting(SlowQueryLog.Sample::fingerprint)
+                .containsExactly("select ? from job_posts", "select ? from users");
+    }
+
+    @Test
+    void ranksOffendersByTotalTimePerFingerprintAndContext() {
+        SlowQueryLog log = new SlowQueryLog(10, 10);
+
+        log.recordOccurrence("select a", "applicants:search", millis(300));
+        log.recordOccurrence("select a", "applicants:search", millis(400));
+        log.recordOccurrence("select a", "applicants:status", millis(500));
+        log.recordOccurrence("select b", null, millis(250));
+
+        assertThat(log.topOffenders(2)).satisfiesExactly(
+                first -> {
+                    assertThat(first.context()).isEqualTo("applicants:search");
+                    assertThat(first.count()).isEqualTo(2);
+                    assertThat(first.totalMs()).isEqualTo(700);
+                    assertThat(first.maxMs()).isEqualTo(400);
+                },
+                second -> assertThat(second.context()).isEqualTo("applicants:status"));
+    }
+
+    @Test
+    void countsQueriesBeyondTheTrackingLimitAsUntracked() {
+        SlowQueryLog log = new SlowQueryLog(10, 1);
+
+        log.recordOccurrence("select a", null, millis(300));
+        log.recordOccurrence("select b", null, millis(300));
+        log.recordOccurrence("select a", null, millis(300));
+
+        assertThat(log.topOffenders(10)).singleElement().satisfies(offender -> assertThat(offender.count()).isEqualTo(2));
+        assertThat(log.untracked()).isEqualTo(1);
+    }
+
+    @Test
+    void explainsOnlyQueries() {
+        assertThat(SlowQuerySampler.isQuery("  select * from users")).isTrue();
+        assertThat(SlowQuerySampler.isQuery("WITH recent AS (select 1) select * from recent")).isTrue();
+        assertThat(SlowQuerySampler.isQuery("update users set email = ?")).isFalse();
+        assertThat(SlowQuerySampler.isQuery(
+                "WITH gone AS (DELETE FROM notifications WHERE id = ? RETURNING id) SELECT count(*) FROM gone")).isFalse();
+        assertThat(SlowQuerySampler.isQuery("select * from job_applications where id = ? for update")).isFalse();
+        assertThat(SlowQuerySampler.isQuery("select updated_at from users")).isTrue();
+    }
+
+    private static SlowQueryLog.Sample sample(String fingerprint) {
+        return new SlowQueryLog.Sample(Instant.now(), fingerprint, null, 300, null, null);
+    }
+
+    private static long millis(long millis) {
+        return TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+}
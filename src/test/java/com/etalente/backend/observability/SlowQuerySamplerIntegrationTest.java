@@ -0,0 +1,96 @@
+package com.etalente.backend.observability;
+
+import com.etalente.backend.BaseIntegrationTest;
+import com.etalente.backend.TestHelper;
+import com.etalente.backend.config.CacheConfig;
+import com.etalente.backend.model.Role;
+import com.etalente.backend.model.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class SlowQuerySamplerIntegrationTest extends BaseIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TestHelper testHelper;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private DbObservabilityProperties properties;
+
+    @Autowired
+    private SlowQuerySampler sampler;
+
+    private long thresholdMs;
+    private double sampleRate;
+    private User hiringManager;
+
+    @BeforeEach
+    void setUp() {
+        testHelper.cleanupDatabase();
+        cacheManager.getCache(CacheConfig.APPLICANT_SEARCH).clear();
+        hiringManager = testHelper.createUser("slow-query-hm@test.com", Role.HIRING_MANAGER);
+
+        // Treat every statement as slow and explain all of them
+        DbObservabilityProperties.SlowQuery slowQuery = properties.getSlowQuery();
+        thresholdMs = slowQuery.getThresholdMs();
+        sampleRate = slowQuery.getSampleRate();
+        slowQuery.setThresholdMs(0);
+        slowQuery.setSampleRate(1.0);
+        sampler.slowQueries().clear();
+    }
+
+    @AfterEach
+    void restoreSettings() {
+        properties.getSlowQuery().setThresholdMs(thresholdMs);
+        properties.getSlowQuery().setSampleRate(sampleRate);
+        sampler.slowQueries().clear();
+    }
+
+    @Test
+    void explainsApplicantSearchUnderItsFilterCombination() throws Exception {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                hiringManager.getId().toString(), null, List.of(new SimpleGrantedAuthority("ROLE_HIRING_MANAGER"))));
+
+        mockMvc.perform(get("/api/applicants").param("statuses", "APPLIED").param("search", "engineer"))
+                .andExpect(status().isOk());
+
+        SlowQueryLog.Sample sample = awaitSample("applicants:search,status");
+        assertThat(sample.error()).isNull();
+        assertThat(sample.plan().path(0).path("Plan").path("Node Type").asText()).isNotEmpty();
+        assertThat(sample.fingerprint()).containsIgnoringCase("job_applications");
+        assertThat(sampler.slowQueries().topOffenders(50))
+                .anySatisfy(offender -> assertThat(offender.context()).isEqualTo("applicants:search,status"));
+    }
+
+    private SlowQueryLog.Sample awaitSample(String context) throws InterruptedException {
+        for (int attempt = 0; attempt < 100; attempt++) {
+            Optional<SlowQueryLog.Sample> sample = sampler.slowQueries().samples().stream()
+                    .filter(candidate -> context.equals(candidate.context()) && candidate.fingerprint().contains("job_applications"))
+                    .findFirst();
+            if (sample.isPresent()) {
+                return sample.get();
+            }
+            Thread.sleep(50);
+        }
+        throw new AssertionError("No explained statement for " + context + ": " + sampler.slowQueries().samples());
+    }
+}
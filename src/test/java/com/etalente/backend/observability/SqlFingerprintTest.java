@@ -0,0 +1,41 @@
+package com.etalente.backend.observability;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("unit")
+class SqlFingerprintTest {
+
+    @Test
+    void replacesLiteralsWithPlaceholders() {
+        assertThat(SqlFingerprint.of("select * from users where email = 'a@b.com' and age > 21"))
+                .isEqualTo("select * from users where email = ? and age > ?");
+    }
+
+    @Test
+    void handlesEscapedQuotesInStringLiterals() {
+        assertThat(SqlFingerprint.of("select 1 from organizations where name = 'O''Reilly'"))
+                .isEqualTo("select ? from organizations where name = ?");
+    }
+
+    @Test
+    void keepsDigitsInsideIdentifiers() {
+        assertThat(SqlFingerprint.of("select jp1_0.id from job_posts jp1_0 where jp1_0.id=?"))
+                .isEqualTo("select jp1_0.id from job_posts jp1_0 where jp1_0.id=?");
+    }
+
+    @Test
+    void collapsesInListsAndWhitespace() {
+        assertThat(SqlFingerprint.of("select *\n  from job_applications\n where job_post_id in (?, ?,?)"))
+                .isEqualTo(SqlFingerprint.of("select * from job_applications where job_post_id in (?)"));
+    }
+
+    @Test
+    void truncatesVeryLongStatements() {
+        String sql = "select " + "a, ".repeat(500) + "b from t";
+
+        assertThat(SqlFingerprint.of(sql)).hasSize(403).endsWith("...");
+    }
+}
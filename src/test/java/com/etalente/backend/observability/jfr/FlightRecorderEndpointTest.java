@@ -0,0 +1,71 @@
+package com.etalente.backend.observability.jfr;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.io.Resource;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("unit")
+class FlightRecorderEndpointTest {
+
+    private final FlightRecorderEndpoint endpoint = new FlightRecorderEndpoint(new FlightRecorderProperties());
+
+    @AfterEach
+    void stopRecording() {
+        endpoint.stop();
+    }
+
+    @Test
+    void dumpsApplicationEventsFromTheRunningRecording() throws Exception {
+        Map<String, Object> started = endpoint.start(null);
+        assertThat(started).containsEntry("name", FlightRecorderEndpoint.RECORDING_NAME).containsEntry("state", "RUNNING");
+
+        ApplicantSearchEvent event = new ApplicantSearchEvent();
+        event.begin();
+        event.end();
+        event.filters = "status";
+        event.rows = 3;
+        event.commit();
+
+        WebEndpointResponse<Resource> response = endpoint.dump(FlightRecorderEndpoint.RECORDING_NAME);
+        assertThat(response.getStatus()).isEqualTo(WebEndpointResponse.STATUS_OK);
+
+        Path file = Files.createTempFile("flightrecorder-test", ".jfr");
+        try (InputStream body = response.getBody().getInputStream()) {
+            Files.copy(body, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+        List<RecordedEvent> searches = RecordingFile.readAllEvents(file).stream()
+                .filter(recorded -> recorded.getEventType().getName().equals("etalente.ApplicantSearch"))
+                .toList();
+        Files.delete(file);
+
+        assertThat(searches).singleElement().satisfies(recorded -> {
+            assertThat(recorded.getString("filters")).isEqualTo("status");
+            assertThat(recorded.getInt("rows")).isEqualTo(3);
+        });
+        assertThat(endpoint.recordings()).extracting(recording -> recording.get("state")).contains("RUNNING");
+    }
+
+    @Test
+    void startIsIdempotentWhileRunning() {
+        Object firstId = endpoint.start(null).get("id");
+        assertThat(endpoint.start("profile").get("id")).isEqualTo(firstId);
+    }
+
+    @Test
+    void unknownRecordingIsNotFound() {
+        assertThat(endpoint.dump("missing").getStatus()).isEqualTo(WebEndpointResponse.STATUS_NOT_FOUND);
+    }
+}
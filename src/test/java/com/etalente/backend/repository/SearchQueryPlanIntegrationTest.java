@@ -0,0 +1,196 @@
+package com.etalente.backend.repository;
+
+import com.etalente.backend.BaseIntegrationTest;
+import com.etalente.backend.TestHelper;
+import com.etalente.backend.config.CacheConfig;
+import com.etalente.backend.dataset.Dataset;
+import com.etalente.backend.dataset.DatasetSpec;
+import com.etalente.backend.dataset.SyntheticDatasetGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Captures the SQL behind the applicant and job-post search endpoints on a synthetic dataset and fails
+ * when a page query plans a sequential scan over one of the large tables.
+ * <p>
+ * Hibernate binds every filter as a parameter, so each statement is prepared and explained with
+ * {@code plan_cache_mode = force_generic_plan}: the plan shown is the one used for arbitrary values
+ * rather than one specialised for the NULLs passed to EXECUTE. Count queries are excluded because
+ * counting an unselective filter legitimately scans.
+ */
+class SearchQueryPlanIntegrationTest extends BaseIntegrationTest {
+
+    private static final Set<String> LARGE_TABLES = Set.of("users", "job_posts", "job_applications");
+
+    private static final DatasetSpec SPEC =
+            new DatasetSpec(DatasetSpec.DEFAULT_SEED, 40, 30_000, 20_000, 40_000, DatasetSpec.DEFAULT_ANCHOR);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TestHelper testHelper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private UUID hiringManagerId;
+    private UUID candidateId;
+    private UUID jobPostId;
+
+    @BeforeEach
+    void seed() throws Exception {
+        testHelper.cleanupDatabase();
+
+        Dataset dataset = new SyntheticDatasetGenerator(objectMapper)
+                .generate(DataSourceUtils.getConnection(dataSource), SPEC);
+
+        // Organization 0 owns the most job posts, making its hiring manager the largest tenant
+        hiringManagerId = dataset.hiringManagerId(0);
+        candidateId = dataset.candidateId(0);
+        jobPostId = jdbcTemplate.queryForObject(
+                "SELECT id FROM job_posts WHERE organization_id = ? ORDER BY created_at DESC LIMIT 1",
+                UUID.class, dataset.organizationId(0));
+        entityManager.clear();
+
+        // Seeded ids are deterministic, so a search cached by an earlier test would issue no SQL
+        Cache applicantSearch = cacheManager.getCache(CacheConfig.APPLICANT_SEARCH);
+        if (applicantSearch != null) {
+            applicantSearch.clear();
+        }
+    }
+
+    @Test
+    void applicantSearch_usesIndexes() throws Exception {
+        authenticate(hiringManagerId, "HIRING_MANAGER");
+
+        assertNoSequentialScans(get("/api/applicants"));
+    }
+
+    @Test
+    void applicantSearchByJobAndStatus_usesIndexes() throws Exception {
+        authenticate(hiringManagerId, "HIRING_MANAGER");
+
+        assertNoSequentialScans(get("/api/applicants")
+                .param("jobId", jobPostId.toString())
+                .param("statuses", "APPLIED", "UNDER_REVIEW"));
+    }
+
+    @Test
+    void publicJobPostListing_usesIndexes() throws Exception {
+        authenticate(candidateId, "CANDIDATE");
+
+        assertNoSequentialScans(get("/api/job-posts"));
+    }
+
+    @Test
+    void jobPostSearch_usesIndexes() throws Exception {
+        authenticate(candidateId, "CANDIDATE");
+
+        assertNoSequentialScans(get("/api/job-posts").param("search", "engineer"));
+    }
+
+    private void assertNoSequentialScans(RequestBuilder request) throws Exception {
+        mockMvc.perform(request).andExpect(status().isOk());
+
+        List<String> pageQueries = queryCounter.lastStatements().stream()
+                .filter(sql -> sql.contains("job_applications") || sql.contains("job_posts"))
+                .filter(sql -> !sql.toLowerCase(Locale.ROOT).startsWith("select count("))
+                .toList();
+        assertThat(pageQueries).as("search statements captured").isNotEmpty();
+
+        List<String> findings = new ArrayList<>();
+        for (String sql : pageQueries) {
+            JsonNode plan = explainGenericPlan(sql);
+            List<String> scans = new ArrayList<>();
+            collectSequentialScans(plan.get(0).get("Plan"), scans);
+            if (!scans.isEmpty()) {
+                findings.add("Seq Scan on " + scans + " for:" + System.lineSeparator() + sql
+                        + System.lineSeparator() + plan.toPrettyString());
+            }
+        }
+        assertThat(findings).as("sequential scans on large tables").isEmpty();
+    }
+
+    private JsonNode explainGenericPlan(String sql) throws Exception {
+        int parameters = 0;
+        StringBuilder prepared = new StringBuilder(sql.length() + 16);
+        boolean quoted = false;
+        for (char c : sql.toCharArray()) {
+            if (c == '\'') {
+                quoted = !quoted;
+            }
+            if (c == '?' && !quoted) {
+                prepared.append('$').append(++parameters);
+            } else {
+                prepared.append(c);
+            }
+        }
+        StringJoiner arguments = new StringJoiner(", ", "(", ")");
+        for (int i = 0; i < parameters; i++) {
+            arguments.add("NULL");
+        }
+
+        jdbcTemplate.execute("SET LOCAL plan_cache_mode = force_generic_plan");
+        jdbcTemplate.execute("PREPARE plan_check AS " + prepared);
+        try {
+            String explain = jdbcTemplate.queryForObject(
+                    "EXPLAIN (FORMAT JSON) EXECUTE plan_check" + (parameters > 0 ? arguments : ""), String.class);
+            return objectMapper.readTree(explain);
+        } finally {
+            jdbcTemplate.execute("DEALLOCATE plan_check");
+        }
+    }
+
+    private static void collectSequentialScans(JsonNode node, List<String> scans) {
+        if (node == null) {
+            return;
+        }
+        String relation = node.path("Relation Name").asText();
+        if ("Seq Scan".equals(node.path("Node Type").asText()) && LARGE_TABLES.contains(relation)) {
+            scans.add(relation);
+        }
+        for (JsonNode child : node.path("Plans")) {
+            collectSequentialScans(child, scans);
+        }
+    }
+
+    private static void authenticate(UUID userId, String role) {
+        UsernamePasswordAuthenticationToken auth = new UsernamePasswordAuthenticationToken(
+                userId.toString(), null, List.of(new SimpleGrantedAuthority("ROLE_" + role)));
+        SecurityContextHolder.getContext().setAuthentication(auth);
+    }
+}
@@ -1,12 +1,14 @@
 package com.etalente.backend.service;
 
 import com.etalente.backend.exception.BadRequestException;
+import com.etalente.backend.exception.ConflictException;
 import com.etalente.backend.model.*;
 import com.etalente.backend.repository.JobPostRepository;
 import com.etalente.backend.repository.OrganizationRepository;
 import com.etalente.backend.repository.UserRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -14,6 +16,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -38,6 +41,9 @@ class JobPostStateMachineEdgeCasesTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private EntityManager entityManager;
+
     private User testUser;
     private Organization testOrganization;
     private JobPost testJobPost;
@@ -137,6 +143,35 @@ class JobPostStateMachineEdgeCasesTest {
         assertTrue(exception.getMessage().contains("already in DRAFT status"));
     }
 
+    @Test
+    void testTransitionFromStaleStatus_Conflicts() {
+        // Another user archives the draft after this one loaded it
+        jobPostRepository.compareAndSetStatus(testJobPost.getId(), JobPostStatus.DRAFT, JobPostStatus.ARCHIVED, LocalDateTime.now());
+
+        assertThrows(
+                ConflictException.class,
+                () -> stateMachine.transitionState(testJobPost, JobPostStatus.OPEN, testUser, "Publishing")
+        );
+
+        entityManager.clear();
+        assertEquals(JobPostStatus.ARCHIVED, jobPostRepository.findById(testJobPost.getId()).orElseThrow().getStatus());
+    }
+
+    @Test
+    void testTransitionIsPersistedAndEntityKeptInSync() {
+        stateMachine.transitionState(testJobPost, JobPostStatus.OPEN, testUser, "Publishing");
+        assertEquals(JobPostStatus.OPEN, testJobPost.getStatus());
+
+        // Later edits to the same entity are still flushed
+        testJobPost.setTitle("Senior Software Engineer");
+        entityManager.flush();
+        entityManager.clear();
+
+        JobPost reloaded = jobPostRepository.findById(testJobPost.getId()).orElseThrow();
+        assertEquals(JobPostStatus.OPEN, reloaded.getStatus());
+        assertEquals("Senior Software Engineer", reloaded.getTitle());
+    }
+
     private JobPost createCompleteJobPost() {
         JobPost jobPost = new JobPost();
         jobPost.setTitle("Software Engineer");
@@ -2,6 +2,7 @@ package com.etalente.backend.service;
 
 import com.etalente.backend.dto.LocationDto;
 import com.etalente.backend.exception.BadRequestException;
+import com.etalente.backend.exception.ConflictException;
 import com.etalente.backend.model.JobPost;
 import com.etalente.backend.model.JobPostStateAudit;
 import com.etalente.backend.model.JobPostStatus;
@@ -12,19 +13,25 @@ import com.etalente.backend.model.User;
 import com.etalente.backend.repository.JobPostRepository;
 import com.etalente.backend.repository.JobPostStateAuditRepository;
 import com.etalente.backend.service.impl.JobPostStateMachineImpl;
+import com.etalente.backend.service.impl.StateTransitionWriter;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -36,6 +43,12 @@ class JobPostStateMachineTest {
     @Mock
     private JobPostStateAuditRepository stateAuditRepository;
 
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private StateTransitionWriter stateTransitionWriter = new StateTransitionWriter(mock(EntityManager.class));
+
     @InjectMocks
     private JobPostStateMachineImpl stateMachine;
 
@@ -65,7 +78,7 @@ class JobPostStateMachineTest {
     void testValidTransition_DraftToOpen() {
         testJobPost.setStatus(JobPostStatus.DRAFT);
 
-        when(jobPostRepository.save(any(JobPost.class))).thenReturn(testJobPost);
+        when(jobPostRepository.compareAndSetStatus(any(), any(), any(), any())).thenReturn(1);
 
         JobPost result = stateMachine.transitionState(
                 testJobPost,
@@ -75,7 +88,8 @@ class JobPostStateMachineTest {
         );
 
         assertEquals(JobPostStatus.OPEN, result.getStatus());
-        verify(jobPostRepository).save(testJobPost);
+        verify(jobPostRepository).compareAndSetStatus(eq(testJobPost.getId()), eq(JobPostStatus.DRAFT), eq(JobPostStatus.OPEN), any());
+        verify(jobPostRepository, never()).save(any());
         verify(stateAuditRepository).save(any(JobPostStateAudit.class));
     }
 
@@ -83,7 +97,7 @@ class JobPostStateMachineTest {
     void testValidTransition_OpenToClosed() {
         testJobPost.setStatus(JobPostStatus.OPEN);
 
-        when(jobPostRepository.save(any(JobPost.class))).thenReturn(testJobPost);
+        when(jobPostRepository.compareAndSetStatus(any(), any(), any(), any())).thenReturn(1);
 
         JobPost result = stateMachine.transitionState(
                 testJobPost,
@@ -100,7 +114,7 @@ class JobPostStateMachineTest {
     void testValidTransition_ClosedToOpen() {
         testJobPost.setStatus(JobPostStatus.CLOSED);
 
-        when(jobPostRepository.save(any(JobPost.class))).thenReturn(testJobPost);
+        when(jobPostRepository.compareAndSetStatus(any(), any(), any(), any())).thenReturn(1);
 
         JobPost result = stateMachine.transitionState(
                 testJobPost,
@@ -128,7 +142,26 @@ class JobPostStateMachineTest {
         );
 
         assertTrue(exception.getMessage().contains("Invalid state transition"));
-        verify(jobPostRepository, never()).save(any());
+        verify(jobPostRepository, never()).compareAndSetStatus(any(), any(), any(), any());
+        verify(stateAuditRepository, never()).save(any());
+    }
+
+    @Test
+    void testConcurrentTransition_LosesCompareAndSet() {
+        testJobPost.setStatus(JobPostStatus.OPEN);
+        when(jobPostRepository.compareAndSetStatus(any(), any(), any(), any())).thenReturn(0);
+
+        assertThrows(
+                ConflictException.class,
+                () -> stateMachine.transitionState(
+                        testJobPost,
+                        JobPostStatus.CLOSED,
+                        testUser,
+                        "Closed by someone else first"
+                )
+        );
+
+        assertEquals(JobPostStatus.OPEN, testJobPost.getStatus());
         verify(stateAuditRepository, never()).save(any());
     }
 
@@ -204,7 +237,7 @@ class JobPostStateMachineTest {
     @Test
     void testAuditRecordCreation() {
         testJobPost.setStatus(JobPostStatus.DRAFT);
-        when(jobPostRepository.save(any(JobPost.class))).thenReturn(testJobPost);
+        when(jobPostRepository.compareAndSetStatus(any(), any(), any(), any())).thenReturn(1);
 
         stateMachine.transitionState(
                 testJobPost,
@@ -0,0 +1,169 @@
+package com.etalente.backend.service;
+
+import com.etalente.backend.config.NotificationCoalescingProperties;
+import com.etalente.backend.dto.NotificationRequest;
+import com.etalente.backend.dto.WorkflowTriggerRequest;
+import com.etalente.backend.integration.novu.NovuWorkflowService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@Tag("unit")
+class NotificationCoalescerTest {
+
+    @Mock
+    private NovuWorkflowService novuWorkflowService;
+
+    @Mock
+    private NotificationService notificationService;
+
+    private NotificationCoalescingProperties properties;
+    private MutableClock clock;
+    private NotificationCoalescer coalescer;
+
+    @BeforeEach
+    void setUp() {
+        properties = new NotificationCoalescingProperties();
+        properties.setWindowSeconds(60);
+        clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+        coalescer = new NotificationCoalescer(novuWorkflowService, notificationService, properties, clock);
+    }
+
+    @Test
+    void firstEventIsDeliveredImmediatelyAndBurstBecomesOneDigest() {
+        for (int i = 0; i < 37; i++) {
+            coalescer.submitWorkflow("application-received", "application-received-digest", "job-1",
+                    workflowRequest("hm-1", i), count -> count + " new applicants for Backend Engineer");
+        }
+        verify(novuWorkflowService, times(1)).triggerWorkflow(eq("application-received"), any());
+
+        clock.advance(Duration.ofSeconds(61));
+        coalescer.flushExpired();
+
+        ArgumentCaptor<WorkflowTriggerRequest> captor = ArgumentCaptor.forClass(WorkflowTriggerRequest.class);
+        verify(novuWorkflowService, times(1)).triggerWorkflow(eq("application-received-digest"), captor.capture());
+        Map<String, Object> payload = captor.getValue().getPayload();
+        assertThat(payload.get(NotificationCoalescer.DIGEST_COUNT)).isEqualTo(36);
+        assertThat(payload.get(NotificationCoalescer.DIGEST_SUMMARY)).isEqualTo("36 new applicants for Backend Engineer");
+        assertThat((List<?>) payload.get(NotificationCoalescer.DIGEST_ITEMS)).hasSize(properties.getMaxDigestItems());
+        assertThat(coalescer.openWindowCount()).isZero();
+    }
+
+    @Test
+    void windowWithSingleEventEmitsNoDigest() {
+        coalescer.submitWorkflow("application-received", "application-received-digest", "job-1", workflowRequest("hm-1", 0), count -> "digest");
+
+        clock.advance(Duration.ofSeconds(61));
+        coalescer.flushExpired();
+
+        verify(novuWorkflowService, times(1)).triggerWorkflow(any(), any());
+    }
+
+    @Test
+    void groupsAreKeptApartByRecipientAndGroupKey() {
+        coalescer.submitWorkflow("application-received", "application-received-digest", "job-1", workflowRequest("hm-1", 0), count -> "digest");
+        coalescer.submitWorkflow("application-received", "application-received-digest", "job-2", workflowRequest("hm-1", 1), count -> "digest");
+        coalescer.submitWorkflow("application-received", "application-received-digest", "job-1", workflowRequest("hm-2", 2), count -> "digest");
+
+        verify(novuWorkflowService, times(3)).triggerWorkflow(any(), any());
+    }
+
+    @Test
+    void immediateTypesBypassTheWindow() {
+        properties.setImmediateTypes(Set.of("application-received"));
+
+        coalescer.submitWorkflow("application-received", "application-received-digest", "job-1", workflowRequest("hm-1", 0), count -> "digest");
+        coalescer.submitWorkflow("application-received", "application-received-digest", "job-1", workflowRequest("hm-1", 1), count -> "digest");
+
+        verify(novuWorkflowService, times(2)).triggerWorkflow(any(), any());
+        assertThat(coalescer.openWindowCount()).isZero();
+    }
+
+    @Test
+    void notificationDigestUsesSummaryAsTitle() {
+        coalescer.submitNotification(notificationRequest("user-1"), "job-1", count -> count + " status updates");
+        coalescer.submitNotification(notificationRequest("user-1"), "job-1", count -> count + " status updates");
+        coalescer.submitNotification(notificationRequest("user-1"), "job-1", count -> count + " status updates");
+
+        coalescer.flushAll();
+
+        ArgumentCaptor<NotificationRequest> captor = ArgumentCaptor.forClass(NotificationRequest.class);
+        verify(notificationService, times(2)).createNotification(captor.capture());
+        assertThat(captor.getAllValues().get(1).getTitle()).isEqualTo("2 status updates");
+    }
+
+    @Test
+    void expiredWindowIsFlushedWhenNextEventArrives() {
+        coalescer.submitWorkflow("application-received", "application-received-digest", "job-1", workflowRequest("hm-1", 0), count -> "digest");
+        coalescer.submitWorkflow("application-received", "application-received-digest", "job-1", workflowRequest("hm-1", 1), count -> "digest");
+        clock.advance(Duration.ofSeconds(61));
+
+        coalescer.submitWorkflow("application-received", "application-received-digest", "job-1", workflowRequest("hm-1", 2), count -> "digest");
+
+        // first event, digest of the old window, first event of the new window
+        verify(novuWorkflowService, times(3)).triggerWorkflow(any(), any());
+    }
+
+    private WorkflowTriggerRequest workflowRequest(String subscriberId, int index) {
+        WorkflowTriggerRequest request = new WorkflowTriggerRequest();
+        request.setSubscriberId(subscriberId);
+        request.setPayload(Map.of("applicationId", "app-" + index));
+        return request;
+    }
+
+    private NotificationRequest notificationRequest(String recipientId) {
+        NotificationRequest request = new NotificationRequest();
+        request.setType("STATUS_CHANGED");
+        request.setTitle("Status changed");
+        request.setContent("An application changed status");
+        request.setRecipientId(recipientId);
+        return request;
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
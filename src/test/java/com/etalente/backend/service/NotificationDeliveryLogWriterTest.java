@@ -0,0 +1,97 @@
+package com.etalente.backend.service;
+
+import com.etalente.backend.config.NotificationDeliveryLogProperties;
+import com.etalente.backend.model.NotificationDeliveryLog;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import java.util.Collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@Tag("unit")
+class NotificationDeliveryLogWriterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private NotificationDeliveryLogProperties properties;
+    private MeterRegistry meterRegistry;
+    private NotificationDeliveryLogWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        properties = new NotificationDeliveryLogProperties();
+        properties.setQueueCapacity(5);
+        properties.setBatchSize(2);
+        meterRegistry = new SimpleMeterRegistry();
+        writer = new NotificationDeliveryLogWriter(jdbcTemplate, properties, meterRegistry);
+    }
+
+    @Test
+    void flushAll_shouldWriteQueuedRecordsInBatches() {
+        for (long i = 0; i < 5; i++) {
+            assertThat(writer.record(outcome(i))).isTrue();
+        }
+
+        assertThat(writer.flushAll()).isEqualTo(5);
+
+        verify(jdbcTemplate, times(3)).batchUpdate(eq(NotificationDeliveryLogWriter.INSERT_SQL),
+                anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+        assertThat(writer.getQueueDepth()).isZero();
+        assertThat(meterRegistry.counter("notifications.delivery_log.written").count()).isEqualTo(5);
+    }
+
+    @Test
+    void record_shouldDropWhenQueueIsFull() {
+        for (long i = 0; i < 7; i++) {
+            writer.record(outcome(i));
+        }
+
+        assertThat(writer.getQueueDepth()).isEqualTo(5);
+        assertThat(meterRegistry.counter("notifications.delivery_log.dropped").count()).isEqualTo(2);
+        assertThat(meterRegistry.get("notifications.delivery_log.queue.depth").gauge().value()).isEqualTo(5);
+    }
+
+    @Test
+    void flushAll_shouldCountFailedBatchesAndKeepGoing() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenThrow(new RuntimeException("db down"))
+                .thenReturn(new int[0][]);
+        writer.record(outcome(1L));
+        writer.record(outcome(2L));
+        writer.record(outcome(3L));
+
+        writer.flushAll();
+
+        assertThat(meterRegistry.counter("notifications.delivery_log.failed").count()).isEqualTo(2);
+        assertThat(meterRegistry.counter("notifications.delivery_log.written").count()).isEqualTo(1);
+    }
+
+    @Test
+    void stop_shouldFlushPendingRecords() {
+        writer.start();
+        writer.record(outcome(1L));
+
+        writer.stop();
+
+        assertThat(writer.getQueueDepth()).isZero();
+        verify(jdbcTemplate, atLeastOnce()).batchUpdate(eq(NotificationDeliveryLogWriter.INSERT_SQL),
+                argThat((Collection<?> rows) -> !rows.isEmpty()), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+    }
+
+    private NotificationDeliveryLog outcome(long notificationId) {
+        return NotificationDeliveryLogWriter.outcome(notificationId, "IN_APP", "internal", "SENT", null, null);
+    }
+}
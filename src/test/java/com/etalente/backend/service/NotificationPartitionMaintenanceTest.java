@@ -0,0 +1,137 @@
+package com.etalente.backend.service;
+
+import com.etalente.backend.BaseIntegrationTest;
+import com.etalente.backend.dto.NotificationRequest;
+import com.etalente.backend.dto.NotificationResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NotificationPartitionMaintenanceTest extends BaseIntegrationTest {
+
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+
+    @Autowired
+    private NotificationPartitionMaintenance maintenance;
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void createUpcomingPartitions_shouldCoverCurrentAndFutureMonths() {
+        maintenance.createUpcomingPartitions();
+
+        List<String> partitions = partitionsOf("notifications");
+        LocalDate now = LocalDate.now();
+        assertThat(partitions).contains(
+                "notifications_p" + now.format(PARTITION_SUFFIX),
+                "notifications_p" + now.plusMonths(3).format(PARTITION_SUFFIX));
+        assertThat(partitionsOf("notification_delivery_logs"))
+                .contains("notification_delivery_logs_p" + now.format(PARTITION_SUFFIX));
+
+        // Idempotent
+        assertThat(maintenance.createUpcomingPartitions()).isZero();
+    }
+
+    @Test
+    void retireExpiredPartitions_shouldDropPartitionsPastRetention() {
+        LocalDate old = LocalDate.now().minusYears(3).withDayOfMonth(1);
+        jdbcTemplate.queryForObject("SELECT create_monthly_partitions('notifications', ?, 0)", Integer.class, old);
+        String oldPartition = "notifications_p" + old.format(PARTITION_SUFFIX);
+        assertThat(partitionsOf("notifications")).contains(oldPartition);
+
+        List<String> retired = maintenance.retireExpiredPartitions();
+
+        assertThat(retired).contains(oldPartition);
+        assertThat(partitionsOf("notifications"))
+                .doesNotContain(oldPartition)
+                .contains("notifications_p" + LocalDate.now().format(PARTITION_SUFFIX));
+    }
+
+    @Test
+    void retireExpiredPartitions_shouldPurgeExpiredRowsFromDefaultPartition() {
+        LocalDateTime expired = LocalDate.now().minusYears(5).withDayOfMonth(1).atStartOfDay();
+        jdbcTemplate.update("INSERT INTO notifications (type, title, content, recipient_id, status, created_at) " +
+                "VALUES ('APPLICATION_RECEIVED', 'Old', 'Skewed clock', 'expired-user', 'PENDING', ?)", expired);
+        assertThat(countIn("notifications_default", "expired-user")).isEqualTo(1);
+
+        List<String> retired = maintenance.retireExpiredPartitions();
+
+        assertThat(retired).doesNotContain("notifications_default");
+        assertThat(partitionsOf("notifications")).contains("notifications_default");
+        assertThat(countIn("notifications_default", "expired-user")).isZero();
+    }
+
+    @Test
+    void inboxQueries_shouldReadFromPartitionedTable() {
+        NotificationRequest request = new NotificationRequest();
+        request.setType("APPLICATION_RECEIVED");
+        request.setTitle("New application");
+        request.setContent("Someone applied");
+        request.setRecipientId("partition-user");
+        NotificationResponse created = notificationService.createNotification(request);
+
+        assertThat(created.getId()).isNotNull();
+        assertThat(notificationService.getUnreadCount("partition-user")).isEqualTo(1);
+        assertThat(notificationService.getUserNotifications("partition-user", PageRequest.of(0, 10)))
+                .extracting(NotificationResponse::getId)
+                .containsExactly(created.getId());
+
+        notificationService.markAsRead(created.getId());
+        assertThat(notificationService.getUnreadCount("partition-user")).isZero();
+    }
+
+    @Test
+    void unreadState_shouldIncludeNotificationsOlderThanTheInboxWindow() {
+        LocalDate old = LocalDate.now().minusDays(120);
+        jdbcTemplate.queryForObject("SELECT create_monthly_partitions('notifications', ?, 0)", Integer.class, old);
+        jdbcTemplate.update("INSERT INTO notifications (type, title, content, recipient_id, status, created_at) " +
+                "VALUES ('APPLICATION_RECEIVED', 'Old', 'Still unread', 'window-user', 'PENDING', ?)", old.atStartOfDay());
+
+        assertThat(notificationService.getUserNotifications("window-user", PageRequest.of(0, 10))).isEmpty();
+        assertThat(notificationService.getUnreadCount("window-user")).isEqualTo(1);
+
+        notificationService.markAllAsRead("window-user");
+        assertThat(notificationService.getUnreadCount("window-user")).isZero();
+    }
+
+    @Test
+    void rowsOutsideMonthlyPartitions_shouldLandInDefaultAndMoveOnceTheirMonthExists() {
+        LocalDate future = LocalDate.now().plusMonths(60).withDayOfMonth(1);
+        jdbcTemplate.update("INSERT INTO notifications (type, title, content, recipient_id, status, created_at) " +
+                "VALUES ('APPLICATION_RECEIVED', 'Future', 'Skewed clock', 'default-user', 'PENDING', ?)",
+                future.atStartOfDay());
+        assertThat(countIn("notifications_default", "default-user")).isEqualTo(1);
+
+        jdbcTemplate.queryForObject("SELECT create_monthly_partitions('notifications', ?, 60)", Integer.class, future);
+        String futurePartition = "notifications_p" + future.format(PARTITION_SUFFIX);
+
+        assertThat(partitionsOf("notifications")).contains(futurePartition);
+        assertThat(countIn("notifications_default", "default-user")).isZero();
+        assertThat(countIn(futurePartition, "default-user")).isEqualTo(1);
+    }
+
+    private int countIn(String table, String recipientId) {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM " + table + " WHERE recipient_id = ?",
+                Integer.class, recipientId);
+    }
+
+    private List<String> partitionsOf(String table) {
+        return jdbcTemplate.queryForList(
+                "SELECT child.relname FROM pg_inherits i " +
+                "JOIN pg_class child ON child.oid = i.inhrelid " +
+                "JOIN pg_class parent ON parent.oid = i.inhparent " +
+                "WHERE parent.relname = ?", String.class, table);
+    }
+}
@@ -0,0 +1,118 @@
+package com.etalente.backend.service;
+
+import com.etalente.backend.event.ClusterEvent;
+import com.etalente.backend.event.ClusterEventType;
+import com.etalente.backend.model.NotificationPreference;
+import com.etalente.backend.repository.NotificationPreferenceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@Tag("unit")
+class NotificationPreferenceCacheTest {
+
+    @Mock
+    private NotificationPreferenceRepository preferenceRepository;
+
+    private NotificationPreferenceCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new NotificationPreferenceCache(preferenceRepository, 100, 30);
+    }
+
+    @Test
+    void isAllowed_shouldDefaultToAllowedWhenNoPreference() {
+        when(preferenceRepository.findByUserId("user-1")).thenReturn(List.of());
+
+        assertThat(cache.isAllowed("user-1", "APPLICATION_RECEIVED")).isTrue();
+        assertThat(cache.getPreference("user-1", "APPLICATION_RECEIVED"))
+                .isEqualTo(NotificationPreferenceCache.ChannelPreference.DEFAULT);
+    }
+
+    @Test
+    void isAllowed_shouldLoadMatrixOncePerUser() {
+        when(preferenceRepository.findByUserId("user-1"))
+                .thenReturn(List.of(preference("user-1", "APPLICATION_RECEIVED", false)));
+
+        assertThat(cache.isAllowed("user-1", "APPLICATION_RECEIVED")).isFalse();
+        assertThat(cache.isAllowed("user-1", "JOB_POST_PUBLISHED")).isTrue();
+        assertThat(cache.isAllowed("user-1", "APPLICATION_RECEIVED")).isFalse();
+
+        verify(preferenceRepository, times(1)).findByUserId("user-1");
+    }
+
+    @Test
+    void bulkIsAllowed_shouldResolveMissesWithSingleQuery() {
+        when(preferenceRepository.findByUserIdIn(anyCollection()))
+                .thenReturn(List.of(preference("user-2", "STATUS_CHANGED", false)));
+
+        Map<String, Boolean> allowed = cache.isAllowed(List.of("user-1", "user-2", "user-3"), "STATUS_CHANGED");
+
+        assertThat(allowed).containsExactly(
+                Map.entry("user-1", true),
+                Map.entry("user-2", false),
+                Map.entry("user-3", true));
+        verify(preferenceRepository, times(1)).findByUserIdIn(anyCollection());
+
+        // Second fan-out is fully cached, including users without rows
+        cache.isAllowed(List.of("user-1", "user-2", "user-3"), "STATUS_CHANGED");
+        verify(preferenceRepository, times(1)).findByUserIdIn(anyCollection());
+        verify(preferenceRepository, never()).findByUserId(any());
+    }
+
+    @Test
+    void bulkIsAllowed_shouldOnlyQueryUncachedUsers() {
+        when(preferenceRepository.findByUserId("user-1")).thenReturn(List.of());
+        when(preferenceRepository.findByUserIdIn(anyCollection())).thenReturn(List.of());
+        cache.isAllowed("user-1", "STATUS_CHANGED");
+
+        cache.isAllowed(List.of("user-1", "user-2"), "STATUS_CHANGED");
+
+        verify(preferenceRepository).findByUserIdIn(argThat((Collection<String> ids) ->
+                ids.size() == 1 && ids.contains("user-2")));
+    }
+
+    @Test
+    void userChangedEvent_shouldEvictUser() {
+        when(preferenceRepository.findByUserId("user-1")).thenReturn(List.of());
+        cache.isAllowed("user-1", "STATUS_CHANGED");
+
+        cache.onClusterEvent(new ClusterEvent(1L, ClusterEventType.USER_CHANGED, "user-1", "other-node"));
+        cache.isAllowed("user-1", "STATUS_CHANGED");
+
+        verify(preferenceRepository, times(2)).findByUserId("user-1");
+    }
+
+    @Test
+    void cacheInvalidationEvent_shouldClearAll() {
+        when(preferenceRepository.findByUserId(any())).thenReturn(List.of());
+        cache.isAllowed("user-1", "STATUS_CHANGED");
+
+        cache.onClusterEvent(new ClusterEvent(1L, ClusterEventType.CACHE_INVALIDATION,
+                NotificationPreferenceCache.CACHE_NAME, "other-node"));
+
+        assertThat(cache.getNativeCache().estimatedSize()).isZero();
+    }
+
+    private NotificationPreference preference(String userId, String type, boolean inApp) {
+        NotificationPreference preference = new NotificationPreference();
+        preference.setUserId(userId);
+        preference.setNotificationType(type);
+        preference.setInAppEnabled(inApp);
+        return preference;
+    }
+}
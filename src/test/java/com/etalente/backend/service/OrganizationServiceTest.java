@@ -1,6 +1,7 @@
 package com.etalente.backend.service;
 
 import com.etalente.backend.dto.OrganizationMemberDto;
+import com.etalente.backend.event.ClusterEventBus;
 import com.etalente.backend.exception.ResourceNotFoundException;
 import com.etalente.backend.model.Organization;
 import com.etalente.backend.model.Role;
@@ -37,6 +38,9 @@ class OrganizationServiceTest {
     @Mock
     private S3Service s3Service;
 
+    @Mock
+    private ClusterEventBus clusterEventBus;
+
     @InjectMocks
     private OrganizationService organizationService;
 
@@ -0,0 +1,153 @@
+package com.etalente.backend.service;
+
+import com.etalente.backend.dto.ResumeAutofillJobDto;
+import com.etalente.backend.exception.BadRequestException;
+import com.etalente.backend.integration.documentparser.DocumentParserClient;
+import com.etalente.backend.model.ResumeAutofillJob;
+import com.etalente.backend.model.ResumeAutofillStatus;
+import com.etalente.backend.model.Role;
+import com.etalente.backend.model.User;
+import com.etalente.backend.repository.ResumeAutofillJobRepository;
+import com.etalente.backend.repository.UserRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@Tag("unit")
+class ResumeAutofillServiceTest {
+
+    private static final String RESUME_URL = "https://bucket.s3.amazonaws.com/resumes/cv.pdf";
+
+    @Mock
+    private ResumeAutofillJobRepository jobRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private DocumentParserClient documentParserClient;
+
+    @Mock
+    private ProfileService profileService;
+
+    private ResumeAutofillService service;
+    private User candidate;
+
+    @BeforeEach
+    void setUp() {
+        service = new ResumeAutofillService(jobRepository, userRepository, documentParserClient, profileService,
+                new SimpleMeterRegistry(), 1, 1, 15);
+
+        candidate = new User();
+        candidate.setId(UUID.randomUUID());
+        candidate.setRole(Role.CANDIDATE);
+        when(userRepository.findById(candidate.getId())).thenReturn(Optional.of(candidate));
+        when(jobRepository.save(any(ResumeAutofillJob.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(jobRepository.markRunning(any(), any(), eq(ResumeAutofillStatus.QUEUED), eq(ResumeAutofillStatus.RUNNING)))
+                .thenReturn(1);
+        when(jobRepository.finishRunning(any(), any(), any(), any(), eq(ResumeAutofillStatus.RUNNING))).thenReturn(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void submit_shouldReturnQueuedJobAndProcessInBackground() {
+        JsonNode parsed = new ObjectMapper().createObjectNode().put("extracted_data", "x");
+        when(documentParserClient.extractResume(RESUME_URL)).thenReturn(parsed);
+        when(jobRepository.findById(any())).thenAnswer(invocation -> Optional.of(savedJob(invocation.getArgument(0))));
+
+        ResumeAutofillJobDto job = service.submit(candidate.getId(), RESUME_URL);
+
+        assertThat(job.jobId()).isNotNull();
+        assertThat(job.status()).isEqualTo(ResumeAutofillStatus.QUEUED);
+        verify(profileService, timeout(2000)).applyResumeExtraction(candidate.getId(), parsed);
+    }
+
+    @Test
+    void submit_shouldRejectNonCandidates() {
+        candidate.setRole(Role.HIRING_MANAGER);
+
+        assertThatThrownBy(() -> service.submit(candidate.getId(), RESUME_URL))
+                .isInstanceOf(BadRequestException.class);
+        verify(jobRepository, never()).save(any());
+    }
+
+    @Test
+    void run_shouldMarkJobCompleted() {
+        ResumeAutofillJob job = new ResumeAutofillJob(candidate.getId(), RESUME_URL);
+        when(jobRepository.findById(job.getId())).thenReturn(Optional.of(job));
+
+        service.run(job.getId());
+
+        verify(jobRepository).markRunning(eq(job.getId()), any(), eq(ResumeAutofillStatus.QUEUED),
+                eq(ResumeAutofillStatus.RUNNING));
+        verify(jobRepository).finishRunning(eq(job.getId()), eq(ResumeAutofillStatus.COMPLETED), isNull(), any(),
+                eq(ResumeAutofillStatus.RUNNING));
+    }
+
+    @Test
+    void run_shouldMarkJobFailedWhenParserFails() {
+        ResumeAutofillJob job = new ResumeAutofillJob(candidate.getId(), RESUME_URL);
+        when(jobRepository.findById(job.getId())).thenReturn(Optional.of(job));
+        when(documentParserClient.extractResume(RESUME_URL)).thenThrow(new RuntimeException("parser down"));
+
+        service.run(job.getId());
+
+        verify(jobRepository).finishRunning(eq(job.getId()), eq(ResumeAutofillStatus.FAILED), eq("parser down"), any(),
+                eq(ResumeAutofillStatus.RUNNING));
+        verify(profileService, never()).applyResumeExtraction(any(), any());
+    }
+
+    @Test
+    void run_shouldSkipJobsThatAreNoLongerQueued() {
+        ResumeAutofillJob job = new ResumeAutofillJob(candidate.getId(), RESUME_URL);
+        job.markFailed("Autofill job timed out");
+        when(jobRepository.findById(job.getId())).thenReturn(Optional.of(job));
+
+        service.run(job.getId());
+
+        verifyNoInteractions(documentParserClient);
+    }
+
+    @Test
+    void run_shouldNotStartJobTheSweeperFailedMeanwhile() {
+        ResumeAutofillJob job = new ResumeAutofillJob(candidate.getId(), RESUME_URL);
+        when(jobRepository.findById(job.getId())).thenReturn(Optional.of(job));
+        when(jobRepository.markRunning(eq(job.getId()), any(), any(), any())).thenReturn(0);
+
+        service.run(job.getId());
+
+        verifyNoInteractions(documentParserClient);
+        verify(jobRepository, never()).finishRunning(any(), any(), any(), any(), any());
+    }
+
+    private ResumeAutofillJob savedJob(UUID id) {
+        ResumeAutofillJob job = new ResumeAutofillJob(candidate.getId(), RESUME_URL);
+        job.setId(id);
+        return job;
+    }
+}
@@ -2,25 +2,39 @@ package com.etalente.backend.service.impl;
 
 import com.etalente.backend.dto.BulkActionResponse;
 import com.etalente.backend.dto.BulkStatusUpdateRequest;
+import com.etalente.backend.dto.NotificationRequest;
 import com.etalente.backend.exception.BadRequestException;
+import com.etalente.backend.model.JobApplication;
+import com.etalente.backend.model.JobApplicationAudit;
 import com.etalente.backend.model.JobApplicationStatus;
+import com.etalente.backend.model.JobPost;
 import com.etalente.backend.model.User;
+import com.etalente.backend.repository.JobApplicationAuditRepository;
 import com.etalente.backend.repository.UserRepository;
 import com.etalente.backend.service.JobApplicationService;
+import com.etalente.backend.service.NotificationCoalescer;
+import com.etalente.backend.service.NotificationService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -32,6 +46,18 @@ class ApplicantBulkActionsTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private JobApplicationAuditRepository jobApplicationAuditRepository;
+
+    @Mock
+    private NotificationService notificationService;
+
+    @Mock
+    private NotificationCoalescer notificationCoalescer;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @InjectMocks
     private ApplicantServiceImpl applicantService;
 
@@ -44,6 +70,7 @@ class ApplicantBulkActionsTest {
         request.setTargetStatus(JobApplicationStatus.UNDER_REVIEW);
 
         when(userRepository.findById(any())).thenReturn(Optional.of(new User()));
+        when(jobApplicationService.applyStatusTransition(any(), any(), any())).thenAnswer(invocation -> new JobApplicationAudit());
 
         // When
         BulkActionResponse response = applicantService.bulkUpdateStatus(request, UUID.randomUUID());
@@ -51,7 +78,59 @@ class ApplicantBulkActionsTest {
         // Then
         assertThat(response.getSuccessCount()).isEqualTo(2);
         assertThat(response.getFailureCount()).isEqualTo(0);
-        verify(jobApplicationService, times(2)).transitionApplicationStatus(any(), any(), any());
+        verify(jobApplicationService, times(2)).applyStatusTransition(any(), any(), any());
+        verify(jobApplicationService, never()).transitionApplicationStatus(any(), any(), any());
+    }
+
+    @Test
+    void bulkUpdateStatus_shouldSaveAuditsOfSuccessfulTransitionsTogether() {
+        UUID invalid = UUID.randomUUID();
+        List<UUID> appIds = List.of(UUID.randomUUID(), invalid, UUID.randomUUID());
+        BulkStatusUpdateRequest request = new BulkStatusUpdateRequest();
+        request.setApplicationIds(appIds);
+        request.setTargetStatus(JobApplicationStatus.UNDER_REVIEW);
+
+        when(userRepository.findById(any())).thenReturn(Optional.of(new User()));
+        when(jobApplicationService.applyStatusTransition(any(), any(), any())).thenAnswer(invocation -> new JobApplicationAudit());
+        when(jobApplicationService.applyStatusTransition(eq(invalid), any(), any()))
+                .thenThrow(new BadRequestException("Invalid application status transition from HIRED to UNDER_REVIEW"));
+
+        BulkActionResponse response = applicantService.bulkUpdateStatus(request, UUID.randomUUID());
+
+        assertThat(response.getSuccessCount()).isEqualTo(2);
+        assertThat(response.getFailureCount()).isEqualTo(1);
+        ArgumentCaptor<List<JobApplicationAudit>> audits = ArgumentCaptor.forClass(List.class);
+        verify(jobApplicationAuditRepository, times(1)).saveAll(audits.capture());
+        assertThat(audits.getValue()).hasSize(2);
+        verify(jobApplicationAuditRepository, never()).save(any());
+    }
+
+    @Test
+    void bulkUpdateStatus_shouldResolvePreferencesOfTheWholeBatchAtOnce() {
+        User alice = candidate();
+        User bob = candidate();
+        JobApplicationAudit first = auditFor(alice);
+        JobApplicationAudit second = auditFor(bob);
+        JobApplicationAudit third = auditFor(alice);
+        BulkStatusUpdateRequest request = new BulkStatusUpdateRequest();
+        request.setApplicationIds(List.of(first.getJobApplication().getId(), second.getJobApplication().getId(),
+                third.getJobApplication().getId()));
+        request.setTargetStatus(JobApplicationStatus.UNDER_REVIEW);
+        request.setSendNotification(true);
+
+        String aliceId = alice.getId().toString();
+        String bobId = bob.getId().toString();
+        when(userRepository.findById(any())).thenReturn(Optional.of(new User()));
+        when(jobApplicationService.applyStatusTransition(any(), any(), any())).thenReturn(first, second, third);
+        when(notificationService.isAllowed(List.of(aliceId, bobId), "STATUS_CHANGED"))
+                .thenReturn(Map.of(aliceId, true, bobId, false));
+
+        applicantService.bulkUpdateStatus(request, UUID.randomUUID());
+
+        verify(notificationService, times(1)).isAllowed(anyList(), eq("STATUS_CHANGED"));
+        ArgumentCaptor<NotificationRequest> sent = ArgumentCaptor.forClass(NotificationRequest.class);
+        verify(notificationCoalescer, times(2)).submitNotification(sent.capture(), any(), any());
+        assertThat(sent.getAllValues()).extracting(NotificationRequest::getRecipientId).containsOnly(aliceId);
     }
 
     @Test
@@ -70,4 +149,20 @@ class ApplicantBulkActionsTest {
         ).isInstanceOf(BadRequestException.class)
          .hasMessageContaining("Cannot update more than 100 applications");
     }
+
+    private static User candidate() {
+        User candidate = new User();
+        candidate.setId(UUID.randomUUID());
+        return candidate;
+    }
+
+    private static JobApplicationAudit auditFor(User candidate) {
+        JobPost jobPost = new JobPost();
+        jobPost.setTitle("Backend Engineer");
+        JobApplication application = new JobApplication();
+        application.setId(UUID.randomUUID());
+        application.setCandidate(candidate);
+        application.setJobPost(jobPost);
+        return new JobApplicationAudit(application, JobApplicationStatus.UNDER_REVIEW, "Status changed");
+    }
 }
@@ -9,6 +9,8 @@ import com.etalente.backend.repository.JobApplicationRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -16,6 +18,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.*;
 import org.springframework.data.jpa.domain.Specification;
@@ -34,6 +37,9 @@ class ApplicantServiceImplTest {
     @Mock
     private JobApplicationRepository jobApplicationRepository;
 
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @InjectMocks
     private ApplicantServiceImpl applicantService;
 
@@ -147,6 +153,7 @@ class ApplicantServiceImplTest {
             // Then
             assertThat(result).isNotNull();
             verify(jobApplicationRepository).findAll(any(Specification.class), eq(pageable));
+            assertThat(meterRegistry.get("applicants.search").tag("filters", "search").timer().count()).isEqualTo(1);
         }
 
         @Test
@@ -171,6 +178,13 @@ class ApplicantServiceImplTest {
         }
     }
 
+    @Test
+    void usedFilters_listsNonBlankFiltersInFixedOrder() {
+        assertThat(ApplicantServiceImpl.usedFilters(null, " ", null, List.of(), null, null, null)).isEqualTo("none");
+        assertThat(ApplicantServiceImpl.usedFilters("java", null, null, List.of("APPLIED"), 3, null, "Cape Town"))
+            .isEqualTo("search,status,experience,location");
+    }
+
     // Helper methods
     private List<JobApplication> createMockApplications(int count) {
         List<JobApplication> applications = new ArrayList<>();
@@ -15,6 +15,8 @@ import com.etalente.backend.security.OrganizationContext;
 import com.etalente.backend.service.JobPostPermissionService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.javafaker.Faker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
@@ -60,6 +62,9 @@ class JobPostServiceImplTest {
     @Spy
     private ObjectMapper objectMapper = new ObjectMapper();
 
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @InjectMocks
     private JobPostServiceImpl jobPostService;
 
@@ -118,7 +123,7 @@ class JobPostServiceImplTest {
     void getJobPost_shouldReturnJobPost_whenFound() {
         // Given
         testJobPost.setStatus(JobPostStatus.OPEN);
-        when(jobPostRepository.findById(jobPostId)).thenReturn(Optional.of(testJobPost));
+        when(jobPostRepository.findDetailsById(jobPostId)).thenReturn(Optional.of(testJobPost));
         when(jobApplicationRepository.countByJobPostId(any(UUID.class))).thenReturn(5); // Example count
         when(jobApplicationRepository.countByJobPostIdAndViewedByEmployerFalse(any(UUID.class))).thenReturn(2); // Example count
 
@@ -135,7 +140,7 @@ class JobPostServiceImplTest {
     @Test
     void getJobPost_shouldThrowResourceNotFound_whenNotFound() {
         // Given
-        when(jobPostRepository.findById(jobPostId)).thenReturn(Optional.empty());
+        when(jobPostRepository.findDetailsById(jobPostId)).thenReturn(Optional.empty());
 
         // When & Then
         assertThrows(ResourceNotFoundException.class, () -> jobPostService.getJobPost(jobPostId));
@@ -225,8 +230,7 @@ class JobPostServiceImplTest {
         candidateUser.setRole(Role.CANDIDATE);
         when(organizationContext.getCurrentUserOrNull()).thenReturn(candidateUser);
         when(jobPostRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(page);
-        when(jobApplicationRepository.countByJobPostId(any(UUID.class))).thenReturn(0);
-        when(jobApplicationRepository.countByJobPostIdAndViewedByEmployerFalse(any(UUID.class))).thenReturn(0);
+        when(jobApplicationRepository.countByJobPostIds(anyCollection())).thenReturn(Collections.emptyList());
 
         // When
         var result = jobPostService.listJobPosts(pageable, null, null, null, null, null);
@@ -244,8 +248,7 @@ class JobPostServiceImplTest {
         when(organizationContext.requireOrganization()).thenReturn(organization);
         when(userRepository.findById(userId)).thenReturn(Optional.of(testUser));
         when(jobPostRepository.findByCreatedByIdAndOrganization(userId, organization, pageable)).thenReturn(page);
-        when(jobApplicationRepository.countByJobPostId(any(UUID.class))).thenReturn(0);
-        when(jobApplicationRepository.countByJobPostIdAndViewedByEmployerFalse(any(UUID.class))).thenReturn(0);
+        when(jobApplicationRepository.countByJobPostIds(anyCollection())).thenReturn(Collections.emptyList());
 
         // When
         var result = jobPostService.listJobPostsByUser(userId, pageable);
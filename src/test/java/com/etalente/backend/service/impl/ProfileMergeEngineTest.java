@@ -0,0 +1,106 @@
+package com.etalente.backend.service.impl;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("unit")
+class ProfileMergeEngineTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ProfileMergeEngine engine = new ProfileMergeEngine();
+
+    private ObjectNode json(String value) throws Exception {
+        return (ObjectNode) objectMapper.readTree(value);
+    }
+
+    @Test
+    void merge_shouldDeduplicateWorkByCompanyPositionAndStartDate() throws Exception {
+        ObjectNode target = json("""
+                {"work": [{"name": "Acme", "position": "Engineer", "startDate": "2020-01", "summary": "Built things"}]}
+                """);
+        JsonNode source = json("""
+                {"work": [
+                  {"name": " ACME ", "position": "engineer", "startDate": "2020-01", "summary": "Other", "url": "https://acme.io"},
+                  {"name": "Globex", "position": "Lead", "startDate": "2022-03"}
+                ]}
+                """);
+
+        engine.merge(target, source);
+
+        JsonNode work = target.get("work");
+        assertThat(work).hasSize(2);
+        assertThat(work.get(0).get("summary").asText()).isEqualTo("Built things");
+        assertThat(work.get(0).get("url").asText()).isEqualTo("https://acme.io");
+        assertThat(work.get(1).get("name").asText()).isEqualTo("Globex");
+    }
+
+    @Test
+    void merge_shouldDeduplicateSkillsByNormalizedNameAndUnionKeywords() throws Exception {
+        ObjectNode target = json("""
+                {"skills": [{"name": "Java", "keywords": ["Spring"]}]}
+                """);
+        JsonNode source = json("""
+                {"skills": [{"name": "java", "keywords": ["Spring", "Hibernate"]}, "Kotlin", {"name": "kotlin"}]}
+                """);
+
+        engine.merge(target, source);
+
+        JsonNode skills = target.get("skills");
+        assertThat(skills).hasSize(2);
+        assertThat(skills.get(0).get("keywords")).hasSize(2);
+        assertThat(skills.get(1).asText()).isEqualTo("Kotlin");
+    }
+
+    @Test
+    void merge_shouldFallBackToStructuralEqualityWithoutIdentityFields() throws Exception {
+        ObjectNode target = json("""
+                {"awards": [{"summary": "Top performer", "extra": 1}]}
+                """);
+        JsonNode source = json("""
+                {"awards": [{"extra": 1, "summary": "Top performer"}, {"summary": "Mentor"}]}
+                """);
+
+        engine.merge(target, source);
+
+        assertThat(target.get("awards")).hasSize(2);
+    }
+
+    @Test
+    void merge_shouldKeepProtectedFieldsAndKeyBasicsProfiles() throws Exception {
+        ObjectNode target = json("""
+                {"basics": {"name": "Jane Doe", "email": "jane@example.com",
+                  "profiles": [{"network": "GitHub", "username": "jane"}]}}
+                """);
+        JsonNode source = json("""
+                {"basics": {"name": "J. Doe", "email": "other@example.com", "label": "Engineer",
+                  "profiles": [{"network": "github", "username": "Jane", "url": "https://github.com/jane"},
+                               {"network": "LinkedIn", "username": "jane-doe"}]}}
+                """);
+
+        engine.merge(target, source);
+
+        JsonNode basics = target.get("basics");
+        assertThat(basics.get("name").asText()).isEqualTo("Jane Doe");
+        assertThat(basics.get("email").asText()).isEqualTo("jane@example.com");
+        assertThat(basics.get("label").asText()).isEqualTo("Engineer");
+        assertThat(basics.get("profiles")).hasSize(2);
+        assertThat(basics.get("profiles").get(0).get("url").asText()).isEqualTo("https://github.com/jane");
+    }
+
+    @Test
+    void merge_shouldCollapseDuplicatesAlreadyInTarget() throws Exception {
+        ObjectNode target = json("""
+                {"languages": [{"language": "English"}, {"language": "english", "fluency": "Native"}]}
+                """);
+
+        engine.merge(target, json("{\"languages\": []}"));
+
+        assertThat(target.get("languages")).hasSize(1);
+        assertThat(target.get("languages").get(0).get("fluency").asText()).isEqualTo("Native");
+    }
+}
@@ -4,7 +4,6 @@ import com.etalente.backend.dto.ResumeDto;
 import com.etalente.backend.dto.UploadUrlResponse;
 import com.etalente.backend.exception.BadRequestException;
 import com.etalente.backend.exception.ResourceNotFoundException;
-import com.etalente.backend.integration.documentparser.DocumentParserClient;
 import com.etalente.backend.model.Role;
 import com.etalente.backend.model.User;
 import com.etalente.backend.repository.UserRepository;
@@ -13,7 +12,6 @@ import com.etalente.backend.service.S3Service;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
-import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -49,8 +47,6 @@ class ProfileServiceImplTest {
     private S3Service s3Service;
     @Spy
     private ObjectMapper objectMapper = new ObjectMapper();
-    @Mock
-    private DocumentParserClient documentParserClient;
 
     @InjectMocks
     private ProfileServiceImpl profileService;
@@ -271,58 +267,25 @@ class ProfileServiceImplTest {
     @DisplayName("Autofill Profile from Resume")
     class AutofillProfileFromResumeTests {
 
-//        @Test
-//        void autofillProfileFromResume_shouldUpdateProfile_forCandidate() {
-//            // Given
-//            String resumeS3Url = "http://s3.url/resume.pdf";
-//            ObjectNode extractedData = new ObjectMapper().createObjectNode();
-//            extractedData.put("education", "BSc Computer Science");
-//            extractedData.put("experienceYears", 5);
-//            extractedData.put("firstName", "Extracted"); // Should be ignored
-//            extractedData.put("lastName", "User"); // Should be ignored
-//
-//            ObjectNode documentParserResponse = new ObjectMapper().createObjectNode();
-//            documentParserResponse.set("extracted_data", extractedData);
-//
-//            when(userRepository.findById(userId)).thenReturn(Optional.of(candidateUser));
-//            when(documentParserClient.extractResume(resumeS3Url)).thenReturn(documentParserResponse);
-//            when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
-//
-//            // When
-//            JsonNode updatedProfile = profileService.autofillProfileFromResume(userId, resumeS3Url);
-//
-//            // Then
-//            assertThat(updatedProfile).isNotNull();
-//            assertThat(updatedProfile.has("education")).isTrue();
-//            assertThat(updatedProfile.get("education").asText()).isEqualTo("BSc Computer Science");
-//            assertThat(updatedProfile.has("experienceYears")).isTrue();
-////            assertThat(updatedProfile.get("experienceYears").asInt()).isEqualTo(5);
-//            assertThat(updatedProfile.has("firstName")).isFalse(); // Should not be merged
-//            assertThat(updatedProfile.has("lastName")).isFalse(); // Should not be merged
-//            verify(userRepository, times(1)).save(candidateUser);
-//            assertThat(candidateUser.isProfileComplete()).isTrue();
-//        }
-
         @Test
-        void autofillProfileFromResume_shouldThrowBadRequest_forNonCandidate() {
+        void applyResumeExtraction_shouldThrowBadRequest_forNonCandidate() {
             // Given
             when(userRepository.findById(nonCandidateUser.getId())).thenReturn(Optional.of(nonCandidateUser));
 
             // When & Then
-            assertThatThrownBy(() -> profileService.autofillProfileFromResume(nonCandidateUser.getId(), "http://url"))
+            assertThatThrownBy(() -> profileService.applyResumeExtraction(nonCandidateUser.getId(),
+                    new ObjectMapper().createObjectNode()))
                     .isInstanceOf(BadRequestException.class)
                     .hasMessageContaining("Only candidates can autofill their profile");
         }
 
         @Test
-        void autofillProfileFromResume_shouldHandleEmptyExtractedData() {
+        void applyResumeExtraction_shouldHandleEmptyExtractedData() {
             // Given
-            String resumeS3Url = "http://s3.url/empty.pdf";
             when(userRepository.findById(userId)).thenReturn(Optional.of(candidateUser));
-            when(documentParserClient.extractResume(resumeS3Url)).thenReturn(new ObjectMapper().createObjectNode());
 
             // When
-            JsonNode updatedProfile = profileService.autofillProfileFromResume(userId, resumeS3Url);
+            JsonNode updatedProfile = profileService.applyResumeExtraction(userId, new ObjectMapper().createObjectNode());
 
             // Then
             assertThat(updatedProfile).isNotNull();